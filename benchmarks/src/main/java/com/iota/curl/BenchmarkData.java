@@ -0,0 +1,47 @@
+package com.iota.curl;
+
+import java.util.Random;
+
+/**
+ * Shared inputs for the benchmarks.
+ *
+ * Transactions are generated from a fixed seed, so every run (and every fork)
+ * mines and hashes exactly the same data and results stay comparable.
+ */
+final class BenchmarkData {
+
+    static final int TX_LENGTH = 2673;
+
+    static final String TRYTES = "9ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+    static final long SEED = 0x107AC0DEL;
+
+    private BenchmarkData() {
+    }
+
+    static String randomTransaction(final Random random) {
+        final char[] tx = new char[TX_LENGTH];
+        for (int i = 0; i < TX_LENGTH; i++) {
+            tx[i] = TRYTES.charAt(random.nextInt(TRYTES.length()));
+        }
+        return new String(tx);
+    }
+
+    static String[] randomTransactions(final int count) {
+        final Random random = new Random(SEED);
+        final String[] txs = new String[count];
+        for (int i = 0; i < count; i++) {
+            txs[i] = randomTransaction(random);
+        }
+        return txs;
+    }
+
+    static int[] randomTrits(final int count) {
+        final Random random = new Random(SEED);
+        final int[] trits = new int[count];
+        for (int i = 0; i < count; i++) {
+            trits[i] = random.nextInt(3) - 1;
+        }
+        return trits;
+    }
+}
@@ -0,0 +1,74 @@
+package com.iota.curl;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the scalar Curl sponge, {@link IotaCurlHash}.
+ *
+ * doHashTransform reports transforms/s, iotaCurlHash, iotaCurlHashBatch and sponge
+ * whole transactions hashed/s, iotaCurlVerifyBatch transactions verified/s.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class IotaCurlHashBenchmark {
+
+    private final IotaCurlHash ctx = new IotaCurlHash();
+
+    private final char[] hash = new char[IotaCurlHash.IOTACURL_HASH_SZ];
+
+    private int[] state;
+    private String[] txs;
+    private String[] verified;
+    private char[][] trytes;
+    private int next;
+
+    @Setup
+    public void setup() {
+        state = BenchmarkData.randomTrits(IotaCurlHash.IOTACURL_3STATE);
+        txs = BenchmarkData.randomTransactions(16);
+        verified = BenchmarkData.randomTransactions(64);
+        trytes = new char[txs.length][];
+        for (int i = 0; i < txs.length; i++) {
+            trytes[i] = txs[i].toCharArray();
+        }
+    }
+
+    @Benchmark
+    public int[] doHashTransform() {
+        ctx.doHashTransform(state);
+        return state;
+    }
+
+    @Benchmark
+    public String iotaCurlHash() {
+        final String tx = txs[next++ & (txs.length - 1)];
+        return IotaCurlHash.iotaCurlHash(tx, BenchmarkData.TX_LENGTH);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(16)
+    public String[] iotaCurlHashBatch() {
+        return IotaCurlHash.iotaCurlHashBatch(txs, BenchmarkData.TX_LENGTH);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(64)
+    public BitSet iotaCurlVerifyBatch() {
+        return IotaCurlHash.iotaCurlVerifyBatch(verified, 14);
+    }
+
+    @Benchmark
+    public char[] sponge() {
+        ctx.reset();
+        ctx.absorb(trytes[next++ & (trytes.length - 1)], 0, BenchmarkData.TX_LENGTH);
+        ctx.squeeze(hash, 0, hash.length);
+        return hash;
+    }
+}
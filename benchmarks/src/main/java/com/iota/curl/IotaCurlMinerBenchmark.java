@@ -0,0 +1,84 @@
+package com.iota.curl;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the bit-sliced building blocks of {@link IotaCurlMiner}.
+ *
+ * doPowTransform reports transforms/s (each one hashes 32 lanes at once),
+ * doWork reports nonces/s: one batch tries 32 nonces (64 for the two-plane
+ * IotaCurlMiner64), hence the {@link OperationsPerInvocation} below.
+ * doWorkWidest runs IotaCurlMiner.newWidestMiner(): to get the Vector API
+ * engine pass "-jvmArgsAppend --add-modules=jdk.incubator.vector".
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class IotaCurlMinerBenchmark {
+
+    private static final int PARALLEL = 32;
+    private static final int PARALLEL64 = 64;
+    // A multiple of the batch of every engine up to 512 bit vectors.
+    private static final int NONCES = 512;
+
+    // The mainnet difficulty. The last transform is pruned to its dependency cone,
+    // so the cost of a batch depends on it.
+    private static final int MIN_WEIGHT_MAGNITUDE = 14;
+
+    private final IotaCurlMiner miner = new IotaCurlMiner();
+    private final IotaCurlMiner miner64 = new IotaCurlMiner64();
+    private final IotaCurlMiner widest = IotaCurlMiner.newWidestMiner();
+
+    private long[] state;
+    private long offset;
+
+    @Setup
+    public void setup() {
+        final int[] trits = BenchmarkData.randomTrits(IotaCurlHash.IOTACURL_3STATE);
+        state = new long[trits.length];
+        for (int i = 0; i < trits.length; i++) {
+            state[i] = IotaCurlMiner.MAP_EX[trits[i] + 1];
+        }
+        miner.powInit(BenchmarkData.randomTransactions(1)[0]);
+        miner64.powInit(BenchmarkData.randomTransactions(1)[0]);
+        widest.powInit(BenchmarkData.randomTransactions(1)[0]);
+    }
+
+    @Benchmark
+    public long[] doPowTransform() {
+        miner.doPowTransform(state);
+        return state;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PARALLEL)
+    public long doWork() {
+        final long result = miner.doWork(MIN_WEIGHT_MAGNITUDE, offset);
+        offset += PARALLEL;
+        return result;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PARALLEL64)
+    public long doWork64() {
+        final long result = miner64.doWork(MIN_WEIGHT_MAGNITUDE, offset);
+        offset += PARALLEL64;
+        return result;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NONCES)
+    public long doWorkWidest() {
+        long result = 0;
+        for (int n = 0; n < NONCES; n += widest.getParallel()) {
+            result |= widest.doWork(MIN_WEIGHT_MAGNITUDE, offset);
+            offset += widest.getParallel();
+        }
+        return result;
+    }
+}
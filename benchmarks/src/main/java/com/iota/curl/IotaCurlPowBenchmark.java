@@ -0,0 +1,48 @@
+package com.iota.curl;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End to end proof of work, single thread against multi thread.
+ *
+ * The time to solution is geometrically distributed, so every invocation mines
+ * the next transaction of a fixed, seeded set: the average converges to the
+ * expected cost of a PoW at the given minWeightMagnitude rather than to the
+ * cost of one lucky (or unlucky) nonce.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class IotaCurlPowBenchmark {
+
+    @Param({"5", "9", "11", "13"})
+    public int minWeightMagnitude;
+
+    private String[] txs;
+    private int next;
+
+    @Setup
+    public void setup() {
+        txs = BenchmarkData.randomTransactions(64);
+    }
+
+    private String nextTransaction() {
+        return txs[next++ & (txs.length - 1)];
+    }
+
+    @Benchmark
+    public String doCurlPowSingleThread() {
+        return new IotaCurlMiner().doCurlPowSingleThread(nextTransaction(), minWeightMagnitude);
+    }
+
+    @Benchmark
+    public String doCurlPowMultiThread() throws ExecutionException, InterruptedException {
+        return new IotaCurlMiner().doCurlPowMultiThread(nextTransaction(), minWeightMagnitude);
+    }
+}
@@ -0,0 +1,319 @@
+package com.iota.curl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * End to end load on an IotaCurlPowService, reporting the latencies users see.
+ *
+ * Random transactions arrive as a Poisson process at the given rate, their
+ * minWeightMagnitude drawn from the given mix. The load is open: a job arrives
+ * on schedule whether or not the previous ones are done, and its latencies are
+ * taken from its scheduled arrival, so a stall of the harness counts against
+ * the service instead of hiding its tail. Per job:
+ *
+ * queue: from the arrival to the first worker picking the job up, including
+ *        the wait for a slot when concurrency is bounded;
+ * solve: from there to the solution;
+ * total: from the arrival to the solution.
+ *
+ * Each is reported, per minWeightMagnitude and over all jobs, as exact p50/p99/p999
+ * of the jobs completed after the warm up, with the sustained throughput.
+ * The results can be saved and compared with a previous run, the baseline:
+ *
+ * java -cp benchmarks/target/benchmarks.jar com.iota.curl.IotaCurlPowLoad \
+ *     rate=2 duration=120 mwm=9:6,11:3,13:1 save=baseline.properties
+ * java -cp benchmarks/target/benchmarks.jar com.iota.curl.IotaCurlPowLoad \
+ *     rate=2 duration=120 mwm=9:6,11:3,13:1 baseline=baseline.properties
+ *
+ * Against a baseline, the exit code is 1 if a latency grew, or the throughput
+ * dropped, by more than the tolerance. With a geometric time to solution the
+ * p999 needs thousands of jobs to settle, so compare runs of the same length
+ * and seed, and trust the p50 and the throughput of short runs first.
+ */
+public final class IotaCurlPowLoad {
+
+    private static final double[] PERCENTILES = {50.0, 99.0, 99.9};
+
+    private final Map<String, String> options = new LinkedHashMap<>();
+
+    private final double rate;
+    private final long durationNanos;
+    private final long warmUpNanos;
+    private final long timeoutMillis;
+    private final int concurrency;
+    private final long seed;
+    // The minWeightMagnitudes of the mix, with their cumulated probabilities.
+    private int[] mixMwm;
+    private double[] mixWeight;
+
+    // Completed after the warm up: minWeightMagnitude, queue, solve, total nanos.
+    private final ConcurrentLinkedQueue<long[]> samples = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<String> errors = new ConcurrentLinkedQueue<>();
+
+    private IotaCurlPowLoad(final String... args) {
+        for (final String arg : args) {
+            final int eq = arg.indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("Expected name=value, got " + arg + ".");
+            }
+            options.put(arg.substring(0, eq), arg.substring(eq + 1));
+        }
+        rate = Double.parseDouble(option("rate", "1"));
+        durationNanos = TimeUnit.MILLISECONDS.toNanos((long) (1000 * Double.parseDouble(option("duration", "60"))));
+        warmUpNanos = TimeUnit.MILLISECONDS.toNanos((long) (1000 * Double.parseDouble(option("warmup", "10"))));
+        timeoutMillis = (long) (1000 * Double.parseDouble(option("timeout", "0")));
+        concurrency = Integer.parseInt(option("concurrency", "0"));
+        seed = Long.parseLong(option("seed", String.valueOf(BenchmarkData.SEED)));
+        parseMix(option("mwm", "9"));
+        if (rate <= 0) {
+            throw new IllegalArgumentException("rate (" + rate + ") should be greater than zero.");
+        }
+    }
+
+    private String option(final String name, final String defaultValue) {
+        final String value = options.get(name);
+        return (value == null) ? defaultValue : value;
+    }
+
+    // mwm=9:6,11:3,13:1 mines 60% of the jobs at 9, 30% at 11 and 10% at 13.
+    private void parseMix(final String mix) {
+        final String[] entries = mix.split(",");
+        mixMwm = new int[entries.length];
+        mixWeight = new double[entries.length];
+        double sum = 0;
+        for (int i = 0; i < entries.length; i++) {
+            final String[] entry = entries[i].split(":");
+            mixMwm[i] = Integer.parseInt(entry[0]);
+            sum += (entry.length > 1) ? Double.parseDouble(entry[1]) : 1.0;
+            mixWeight[i] = sum;
+        }
+        for (int i = 0; i < entries.length; i++) {
+            mixWeight[i] /= sum;
+        }
+    }
+
+    private int nextMwm(final Random random) {
+        final double x = random.nextDouble();
+        for (int i = 0; i < mixMwm.length; i++) {
+            if (x < mixWeight[i]) {
+                return mixMwm[i];
+            }
+        }
+        return mixMwm[mixMwm.length - 1];
+    }
+
+    private IotaCurlPowService service() {
+        final String engine = options.get("engine");
+        final String threads = options.get("threads");
+        if (engine == null && threads == null) {
+            return new IotaCurlPowService();
+        }
+        final IotaCurlPowEngines.Calibration calibration = IotaCurlPowEngines.calibrated();
+        return new IotaCurlPowService((threads == null) ? calibration.getThreads() : Integer.parseInt(threads),
+                (engine == null) ? calibration.getEngine() : IotaCurlPowEngines.forName(engine));
+    }
+
+    /**
+     * Runs the load until the end of the duration, then waits for the jobs still running.
+     */
+    private Map<String, Double> run() throws InterruptedException {
+        final Random random = new Random(seed);
+        final Semaphore slots = (concurrency > 0) ? new Semaphore(concurrency) : null;
+        // One party per job running, plus the harness.
+        final Phaser running = new Phaser(1);
+
+        try (final IotaCurlPowService pow = service()) {
+            System.err.println(String.format(Locale.ENGLISH, "I: %s on %d threads, %.2f jobs/s, mwm %s, %d s after %d s of warm up.",
+                    pow.getMetrics().getEngine(), pow.getThreads(), rate, option("mwm", "9"),
+                    TimeUnit.NANOSECONDS.toSeconds(durationNanos), TimeUnit.NANOSECONDS.toSeconds(warmUpNanos)));
+
+            final long start = System.nanoTime();
+            final long measureFrom = start + warmUpNanos;
+            final long end = measureFrom + durationNanos;
+            long arrival = start;
+            int submitted = 0;
+            while (true) {
+                // Exponential inter-arrival times make a Poisson process.
+                arrival += (long) (-Math.log(1.0 - random.nextDouble()) / rate * 1e9);
+                if (arrival >= end) {
+                    break;
+                }
+                final String tx = BenchmarkData.randomTransaction(random);
+                final int mwm = nextMwm(random);
+                for (long now; (now = System.nanoTime()) < arrival; ) {
+                    LockSupport.parkNanos(arrival - now);
+                }
+                if (slots != null) {
+                    slots.acquire();
+                }
+                final long arrived = arrival;
+                final CompletableFuture<Long> started = new CompletableFuture<>();
+                final CompletableFuture<String> mined = pow.submit(tx, mwm, timeoutMillis, TimeUnit.MILLISECONDS, started);
+                running.register();
+                submitted++;
+                mined.whenComplete((r, t) -> {
+                    final long solved = System.nanoTime();
+                    running.arriveAndDeregister();
+                    if (slots != null) {
+                        slots.release();
+                    }
+                    if (t != null) {
+                        final Throwable cause = (t instanceof CompletionException) ? t.getCause() : t;
+                        errors.add((cause instanceof TimeoutException) ? "timeout" : String.valueOf(cause));
+                    } else if (arrived >= measureFrom) {
+                        final long picked = started.getNow(solved);
+                        samples.add(new long[] {mwm, picked - arrived, solved - picked, solved - arrived});
+                    }
+                });
+            }
+            running.arriveAndAwaitAdvance();
+            final double seconds = (System.nanoTime() - measureFrom) / 1e9;
+            System.err.println(String.format(Locale.ENGLISH, "I: %d jobs submitted, %d errors.", submitted, errors.size()));
+            return report(seconds, pow.getThreads());
+        }
+    }
+
+    /**
+     * Prints the percentiles and the throughput.
+     *
+     * @return the same figures, keyed as in a baseline file.
+     */
+    private Map<String, Double> report(final double seconds, final int threads) {
+        final Map<String, List<long[]>> groups = new TreeMap<>();
+        for (final long[] sample : samples) {
+            groups.computeIfAbsent(String.format(Locale.ENGLISH, "mwm%02d", sample[0]), k -> new ArrayList<>()).add(sample);
+        }
+        groups.put("all", new ArrayList<>(samples));
+
+        final Map<String, Double> results = new LinkedHashMap<>();
+        results.put("throughput", samples.size() / seconds);
+        results.put("errors", (double) errors.size());
+        System.out.println(String.format(Locale.ENGLISH, "%-6s %-6s %6s %10s %10s %10s %10s %10s",
+                "group", "metric", "jobs", "mean ms", "p50 ms", "p99 ms", "p999 ms", "max ms"));
+        final String[] metrics = {"queue", "solve", "total"};
+        for (final Map.Entry<String, List<long[]>> group : groups.entrySet()) {
+            for (int m = 0; m < metrics.length; m++) {
+                final long[] nanos = new long[group.getValue().size()];
+                for (int i = 0; i < nanos.length; i++) {
+                    nanos[i] = group.getValue().get(i)[m + 1];
+                }
+                Arrays.sort(nanos);
+                final String key = group.getKey() + "." + metrics[m];
+                results.put(key + ".mean", mean(nanos) / 1e6);
+                for (final double p : PERCENTILES) {
+                    results.put(key + ".p" + label(p), percentile(nanos, p) / 1e6);
+                }
+                System.out.println(String.format(Locale.ENGLISH, "%-6s %-6s %6d %10.1f %10.1f %10.1f %10.1f %10.1f",
+                        group.getKey(), metrics[m], nanos.length, mean(nanos) / 1e6, percentile(nanos, 50.0) / 1e6,
+                        percentile(nanos, 99.0) / 1e6, percentile(nanos, 99.9) / 1e6,
+                        (nanos.length == 0) ? 0.0 : nanos[nanos.length - 1] / 1e6));
+            }
+        }
+        System.out.println(String.format(Locale.ENGLISH, "throughput %.3f jobs/s over %.1f s on %d threads (offered %.3f jobs/s)",
+                samples.size() / seconds, seconds, threads, rate));
+        return results;
+    }
+
+    private static String label(final double percentile) {
+        return (percentile == Math.rint(percentile)) ? String.valueOf((long) percentile)
+                : String.valueOf(percentile).replace(".", "");
+    }
+
+    private static double mean(final long[] sorted) {
+        double sum = 0;
+        for (final long x : sorted) {
+            sum += x;
+        }
+        return (sorted.length == 0) ? 0.0 : sum / sorted.length;
+    }
+
+    // Nearest rank: the smallest value with at least percentile % of the values at or below it.
+    private static double percentile(final long[] sorted, final double percentile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        final int rank = (int) Math.ceil(sorted.length * percentile / 100.0);
+        return sorted[Math.max(0, Math.min(sorted.length, rank) - 1)];
+    }
+
+    /**
+     * Prints the change of every figure against the baseline.
+     *
+     * @return true if none regressed by more than tolerance.
+     */
+    private static boolean compare(final Map<String, Double> results, final Properties baseline, final double tolerance) {
+        boolean passed = true;
+        System.out.println(String.format(Locale.ENGLISH, "%-24s %12s %12s %8s", "figure", "baseline", "current", "change"));
+        for (final Map.Entry<String, Double> result : results.entrySet()) {
+            final String stored = baseline.getProperty(result.getKey());
+            if (stored == null || result.getKey().equals("errors")) {
+                continue;
+            }
+            final double before = Double.parseDouble(stored);
+            final double now = result.getValue();
+            final double change = (before == 0) ? 0.0 : (now - before) / before;
+            // Latencies regress up, the throughput down.
+            final boolean regressed = result.getKey().equals("throughput") ? change < -tolerance : change > tolerance;
+            passed &= !regressed;
+            System.out.println(String.format(Locale.ENGLISH, "%-24s %12.3f %12.3f %+7.1f%%%s",
+                    result.getKey(), before, now, 100 * change, regressed ? "  REGRESSED" : ""));
+        }
+        return passed;
+    }
+
+    public static void main(final String... args) throws IOException, InterruptedException {
+        if (args.length > 0 && (args[0].equals("-h") || args[0].equals("--help"))) {
+            System.err.println("usage: [rate=1 jobs/s] [duration=60 s] [warmup=10 s] [mwm=9[:weight],...] [concurrency=0]\n"
+                    + "       [timeout=0 s] [threads=N] [engine=NAME] [seed=N] [save=FILE] [baseline=FILE] [tolerance=0.10]");
+            return;
+        }
+        final IotaCurlPowLoad load = new IotaCurlPowLoad(args);
+        final Map<String, Double> results = load.run();
+
+        final String save = load.options.get("save");
+        if (save != null) {
+            final Properties properties = new Properties();
+            for (final Map.Entry<String, Double> result : results.entrySet()) {
+                properties.setProperty(result.getKey(), String.format(Locale.ENGLISH, "%.3f", result.getValue()));
+            }
+            try (final OutputStream out = Files.newOutputStream(Paths.get(save))) {
+                properties.store(out, "IotaCurlPowLoad " + String.join(" ", args));
+            }
+        }
+
+        final String baseline = load.options.get("baseline");
+        if (baseline != null) {
+            final Path path = Paths.get(baseline);
+            final Properties properties = new Properties();
+            try (final InputStream in = Files.newInputStream(path)) {
+                properties.load(in);
+            }
+            final double tolerance = Double.parseDouble(load.option("tolerance", "0.10"));
+            if (!compare(results, properties, tolerance)) {
+                System.exit(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,792 @@
+package com.iota.curl;
+
+/**
+ * The round of IotaCurlMiner64, unrolled as IotaCurlRounds unrolls the one of IotaCurlHash.
+ *
+ * Generated by IotaCurlPowRoundsGenerator, do not edit.
+ */
+final class IotaCurlPowRounds {
+
+    private IotaCurlPowRounds() {
+    }
+
+    /**
+     * One round of IotaCurlMiner64.doPowTransform, from the low and high bit planes.
+     */
+    static void powRound64(final long[] fromLow, final long[] fromHigh, final long[] toLow, final long[] toHigh) {
+        powRound64_0(fromLow, fromHigh, toLow, toHigh);
+        powRound64_1(fromLow, fromHigh, toLow, toHigh);
+        powRound64_2(fromLow, fromHigh, toLow, toHigh);
+        powRound64_3(fromLow, fromHigh, toLow, toHigh);
+        powRound64_4(fromLow, fromHigh, toLow, toHigh);
+        powRound64_5(fromLow, fromHigh, toLow, toHigh);
+        powRound64_6(fromLow, fromHigh, toLow, toHigh);
+        powRound64_7(fromLow, fromHigh, toLow, toHigh);
+        powRound64_8(fromLow, fromHigh, toLow, toHigh);
+    }
+
+    private static void powRound64_0(final long[] fromLow, final long[] fromHigh, final long[] toLow, final long[] toHigh) {
+        long al = fromLow[0], ah = fromHigh[0], bl, bh, cl;
+        bl = fromLow[364]; bh = fromHigh[364]; cl = al ^ ah; toLow[0] = cl ^ (~bl & bh & al); toHigh[0] = al ^ (bh & bl & cl);
+        al = fromLow[728]; ah = fromHigh[728]; cl = bl ^ bh; toLow[1] = cl ^ (~al & ah & bl); toHigh[1] = bl ^ (ah & al & cl);
+        bl = fromLow[363]; bh = fromHigh[363]; cl = al ^ ah; toLow[2] = cl ^ (~bl & bh & al); toHigh[2] = al ^ (bh & bl & cl);
+        al = fromLow[727]; ah = fromHigh[727]; cl = bl ^ bh; toLow[3] = cl ^ (~al & ah & bl); toHigh[3] = bl ^ (ah & al & cl);
+        bl = fromLow[362]; bh = fromHigh[362]; cl = al ^ ah; toLow[4] = cl ^ (~bl & bh & al); toHigh[4] = al ^ (bh & bl & cl);
+        al = fromLow[726]; ah = fromHigh[726]; cl = bl ^ bh; toLow[5] = cl ^ (~al & ah & bl); toHigh[5] = bl ^ (ah & al & cl);
+        bl = fromLow[361]; bh = fromHigh[361]; cl = al ^ ah; toLow[6] = cl ^ (~bl & bh & al); toHigh[6] = al ^ (bh & bl & cl);
+        al = fromLow[725]; ah = fromHigh[725]; cl = bl ^ bh; toLow[7] = cl ^ (~al & ah & bl); toHigh[7] = bl ^ (ah & al & cl);
+        bl = fromLow[360]; bh = fromHigh[360]; cl = al ^ ah; toLow[8] = cl ^ (~bl & bh & al); toHigh[8] = al ^ (bh & bl & cl);
+        al = fromLow[724]; ah = fromHigh[724]; cl = bl ^ bh; toLow[9] = cl ^ (~al & ah & bl); toHigh[9] = bl ^ (ah & al & cl);
+        bl = fromLow[359]; bh = fromHigh[359]; cl = al ^ ah; toLow[10] = cl ^ (~bl & bh & al); toHigh[10] = al ^ (bh & bl & cl);
+        al = fromLow[723]; ah = fromHigh[723]; cl = bl ^ bh; toLow[11] = cl ^ (~al & ah & bl); toHigh[11] = bl ^ (ah & al & cl);
+        bl = fromLow[358]; bh = fromHigh[358]; cl = al ^ ah; toLow[12] = cl ^ (~bl & bh & al); toHigh[12] = al ^ (bh & bl & cl);
+        al = fromLow[722]; ah = fromHigh[722]; cl = bl ^ bh; toLow[13] = cl ^ (~al & ah & bl); toHigh[13] = bl ^ (ah & al & cl);
+        bl = fromLow[357]; bh = fromHigh[357]; cl = al ^ ah; toLow[14] = cl ^ (~bl & bh & al); toHigh[14] = al ^ (bh & bl & cl);
+        al = fromLow[721]; ah = fromHigh[721]; cl = bl ^ bh; toLow[15] = cl ^ (~al & ah & bl); toHigh[15] = bl ^ (ah & al & cl);
+        bl = fromLow[356]; bh = fromHigh[356]; cl = al ^ ah; toLow[16] = cl ^ (~bl & bh & al); toHigh[16] = al ^ (bh & bl & cl);
+        al = fromLow[720]; ah = fromHigh[720]; cl = bl ^ bh; toLow[17] = cl ^ (~al & ah & bl); toHigh[17] = bl ^ (ah & al & cl);
+        bl = fromLow[355]; bh = fromHigh[355]; cl = al ^ ah; toLow[18] = cl ^ (~bl & bh & al); toHigh[18] = al ^ (bh & bl & cl);
+        al = fromLow[719]; ah = fromHigh[719]; cl = bl ^ bh; toLow[19] = cl ^ (~al & ah & bl); toHigh[19] = bl ^ (ah & al & cl);
+        bl = fromLow[354]; bh = fromHigh[354]; cl = al ^ ah; toLow[20] = cl ^ (~bl & bh & al); toHigh[20] = al ^ (bh & bl & cl);
+        al = fromLow[718]; ah = fromHigh[718]; cl = bl ^ bh; toLow[21] = cl ^ (~al & ah & bl); toHigh[21] = bl ^ (ah & al & cl);
+        bl = fromLow[353]; bh = fromHigh[353]; cl = al ^ ah; toLow[22] = cl ^ (~bl & bh & al); toHigh[22] = al ^ (bh & bl & cl);
+        al = fromLow[717]; ah = fromHigh[717]; cl = bl ^ bh; toLow[23] = cl ^ (~al & ah & bl); toHigh[23] = bl ^ (ah & al & cl);
+        bl = fromLow[352]; bh = fromHigh[352]; cl = al ^ ah; toLow[24] = cl ^ (~bl & bh & al); toHigh[24] = al ^ (bh & bl & cl);
+        al = fromLow[716]; ah = fromHigh[716]; cl = bl ^ bh; toLow[25] = cl ^ (~al & ah & bl); toHigh[25] = bl ^ (ah & al & cl);
+        bl = fromLow[351]; bh = fromHigh[351]; cl = al ^ ah; toLow[26] = cl ^ (~bl & bh & al); toHigh[26] = al ^ (bh & bl & cl);
+        al = fromLow[715]; ah = fromHigh[715]; cl = bl ^ bh; toLow[27] = cl ^ (~al & ah & bl); toHigh[27] = bl ^ (ah & al & cl);
+        bl = fromLow[350]; bh = fromHigh[350]; cl = al ^ ah; toLow[28] = cl ^ (~bl & bh & al); toHigh[28] = al ^ (bh & bl & cl);
+        al = fromLow[714]; ah = fromHigh[714]; cl = bl ^ bh; toLow[29] = cl ^ (~al & ah & bl); toHigh[29] = bl ^ (ah & al & cl);
+        bl = fromLow[349]; bh = fromHigh[349]; cl = al ^ ah; toLow[30] = cl ^ (~bl & bh & al); toHigh[30] = al ^ (bh & bl & cl);
+        al = fromLow[713]; ah = fromHigh[713]; cl = bl ^ bh; toLow[31] = cl ^ (~al & ah & bl); toHigh[31] = bl ^ (ah & al & cl);
+        bl = fromLow[348]; bh = fromHigh[348]; cl = al ^ ah; toLow[32] = cl ^ (~bl & bh & al); toHigh[32] = al ^ (bh & bl & cl);
+        al = fromLow[712]; ah = fromHigh[712]; cl = bl ^ bh; toLow[33] = cl ^ (~al & ah & bl); toHigh[33] = bl ^ (ah & al & cl);
+        bl = fromLow[347]; bh = fromHigh[347]; cl = al ^ ah; toLow[34] = cl ^ (~bl & bh & al); toHigh[34] = al ^ (bh & bl & cl);
+        al = fromLow[711]; ah = fromHigh[711]; cl = bl ^ bh; toLow[35] = cl ^ (~al & ah & bl); toHigh[35] = bl ^ (ah & al & cl);
+        bl = fromLow[346]; bh = fromHigh[346]; cl = al ^ ah; toLow[36] = cl ^ (~bl & bh & al); toHigh[36] = al ^ (bh & bl & cl);
+        al = fromLow[710]; ah = fromHigh[710]; cl = bl ^ bh; toLow[37] = cl ^ (~al & ah & bl); toHigh[37] = bl ^ (ah & al & cl);
+        bl = fromLow[345]; bh = fromHigh[345]; cl = al ^ ah; toLow[38] = cl ^ (~bl & bh & al); toHigh[38] = al ^ (bh & bl & cl);
+        al = fromLow[709]; ah = fromHigh[709]; cl = bl ^ bh; toLow[39] = cl ^ (~al & ah & bl); toHigh[39] = bl ^ (ah & al & cl);
+        bl = fromLow[344]; bh = fromHigh[344]; cl = al ^ ah; toLow[40] = cl ^ (~bl & bh & al); toHigh[40] = al ^ (bh & bl & cl);
+        al = fromLow[708]; ah = fromHigh[708]; cl = bl ^ bh; toLow[41] = cl ^ (~al & ah & bl); toHigh[41] = bl ^ (ah & al & cl);
+        bl = fromLow[343]; bh = fromHigh[343]; cl = al ^ ah; toLow[42] = cl ^ (~bl & bh & al); toHigh[42] = al ^ (bh & bl & cl);
+        al = fromLow[707]; ah = fromHigh[707]; cl = bl ^ bh; toLow[43] = cl ^ (~al & ah & bl); toHigh[43] = bl ^ (ah & al & cl);
+        bl = fromLow[342]; bh = fromHigh[342]; cl = al ^ ah; toLow[44] = cl ^ (~bl & bh & al); toHigh[44] = al ^ (bh & bl & cl);
+        al = fromLow[706]; ah = fromHigh[706]; cl = bl ^ bh; toLow[45] = cl ^ (~al & ah & bl); toHigh[45] = bl ^ (ah & al & cl);
+        bl = fromLow[341]; bh = fromHigh[341]; cl = al ^ ah; toLow[46] = cl ^ (~bl & bh & al); toHigh[46] = al ^ (bh & bl & cl);
+        al = fromLow[705]; ah = fromHigh[705]; cl = bl ^ bh; toLow[47] = cl ^ (~al & ah & bl); toHigh[47] = bl ^ (ah & al & cl);
+        bl = fromLow[340]; bh = fromHigh[340]; cl = al ^ ah; toLow[48] = cl ^ (~bl & bh & al); toHigh[48] = al ^ (bh & bl & cl);
+        al = fromLow[704]; ah = fromHigh[704]; cl = bl ^ bh; toLow[49] = cl ^ (~al & ah & bl); toHigh[49] = bl ^ (ah & al & cl);
+        bl = fromLow[339]; bh = fromHigh[339]; cl = al ^ ah; toLow[50] = cl ^ (~bl & bh & al); toHigh[50] = al ^ (bh & bl & cl);
+        al = fromLow[703]; ah = fromHigh[703]; cl = bl ^ bh; toLow[51] = cl ^ (~al & ah & bl); toHigh[51] = bl ^ (ah & al & cl);
+        bl = fromLow[338]; bh = fromHigh[338]; cl = al ^ ah; toLow[52] = cl ^ (~bl & bh & al); toHigh[52] = al ^ (bh & bl & cl);
+        al = fromLow[702]; ah = fromHigh[702]; cl = bl ^ bh; toLow[53] = cl ^ (~al & ah & bl); toHigh[53] = bl ^ (ah & al & cl);
+        bl = fromLow[337]; bh = fromHigh[337]; cl = al ^ ah; toLow[54] = cl ^ (~bl & bh & al); toHigh[54] = al ^ (bh & bl & cl);
+        al = fromLow[701]; ah = fromHigh[701]; cl = bl ^ bh; toLow[55] = cl ^ (~al & ah & bl); toHigh[55] = bl ^ (ah & al & cl);
+        bl = fromLow[336]; bh = fromHigh[336]; cl = al ^ ah; toLow[56] = cl ^ (~bl & bh & al); toHigh[56] = al ^ (bh & bl & cl);
+        al = fromLow[700]; ah = fromHigh[700]; cl = bl ^ bh; toLow[57] = cl ^ (~al & ah & bl); toHigh[57] = bl ^ (ah & al & cl);
+        bl = fromLow[335]; bh = fromHigh[335]; cl = al ^ ah; toLow[58] = cl ^ (~bl & bh & al); toHigh[58] = al ^ (bh & bl & cl);
+        al = fromLow[699]; ah = fromHigh[699]; cl = bl ^ bh; toLow[59] = cl ^ (~al & ah & bl); toHigh[59] = bl ^ (ah & al & cl);
+        bl = fromLow[334]; bh = fromHigh[334]; cl = al ^ ah; toLow[60] = cl ^ (~bl & bh & al); toHigh[60] = al ^ (bh & bl & cl);
+        al = fromLow[698]; ah = fromHigh[698]; cl = bl ^ bh; toLow[61] = cl ^ (~al & ah & bl); toHigh[61] = bl ^ (ah & al & cl);
+        bl = fromLow[333]; bh = fromHigh[333]; cl = al ^ ah; toLow[62] = cl ^ (~bl & bh & al); toHigh[62] = al ^ (bh & bl & cl);
+        al = fromLow[697]; ah = fromHigh[697]; cl = bl ^ bh; toLow[63] = cl ^ (~al & ah & bl); toHigh[63] = bl ^ (ah & al & cl);
+        bl = fromLow[332]; bh = fromHigh[332]; cl = al ^ ah; toLow[64] = cl ^ (~bl & bh & al); toHigh[64] = al ^ (bh & bl & cl);
+        al = fromLow[696]; ah = fromHigh[696]; cl = bl ^ bh; toLow[65] = cl ^ (~al & ah & bl); toHigh[65] = bl ^ (ah & al & cl);
+        bl = fromLow[331]; bh = fromHigh[331]; cl = al ^ ah; toLow[66] = cl ^ (~bl & bh & al); toHigh[66] = al ^ (bh & bl & cl);
+        al = fromLow[695]; ah = fromHigh[695]; cl = bl ^ bh; toLow[67] = cl ^ (~al & ah & bl); toHigh[67] = bl ^ (ah & al & cl);
+        bl = fromLow[330]; bh = fromHigh[330]; cl = al ^ ah; toLow[68] = cl ^ (~bl & bh & al); toHigh[68] = al ^ (bh & bl & cl);
+        al = fromLow[694]; ah = fromHigh[694]; cl = bl ^ bh; toLow[69] = cl ^ (~al & ah & bl); toHigh[69] = bl ^ (ah & al & cl);
+        bl = fromLow[329]; bh = fromHigh[329]; cl = al ^ ah; toLow[70] = cl ^ (~bl & bh & al); toHigh[70] = al ^ (bh & bl & cl);
+        al = fromLow[693]; ah = fromHigh[693]; cl = bl ^ bh; toLow[71] = cl ^ (~al & ah & bl); toHigh[71] = bl ^ (ah & al & cl);
+        bl = fromLow[328]; bh = fromHigh[328]; cl = al ^ ah; toLow[72] = cl ^ (~bl & bh & al); toHigh[72] = al ^ (bh & bl & cl);
+        al = fromLow[692]; ah = fromHigh[692]; cl = bl ^ bh; toLow[73] = cl ^ (~al & ah & bl); toHigh[73] = bl ^ (ah & al & cl);
+        bl = fromLow[327]; bh = fromHigh[327]; cl = al ^ ah; toLow[74] = cl ^ (~bl & bh & al); toHigh[74] = al ^ (bh & bl & cl);
+        al = fromLow[691]; ah = fromHigh[691]; cl = bl ^ bh; toLow[75] = cl ^ (~al & ah & bl); toHigh[75] = bl ^ (ah & al & cl);
+        bl = fromLow[326]; bh = fromHigh[326]; cl = al ^ ah; toLow[76] = cl ^ (~bl & bh & al); toHigh[76] = al ^ (bh & bl & cl);
+        al = fromLow[690]; ah = fromHigh[690]; cl = bl ^ bh; toLow[77] = cl ^ (~al & ah & bl); toHigh[77] = bl ^ (ah & al & cl);
+        bl = fromLow[325]; bh = fromHigh[325]; cl = al ^ ah; toLow[78] = cl ^ (~bl & bh & al); toHigh[78] = al ^ (bh & bl & cl);
+        al = fromLow[689]; ah = fromHigh[689]; cl = bl ^ bh; toLow[79] = cl ^ (~al & ah & bl); toHigh[79] = bl ^ (ah & al & cl);
+        bl = fromLow[324]; bh = fromHigh[324]; cl = al ^ ah; toLow[80] = cl ^ (~bl & bh & al); toHigh[80] = al ^ (bh & bl & cl);
+    }
+
+    private static void powRound64_1(final long[] fromLow, final long[] fromHigh, final long[] toLow, final long[] toHigh) {
+        long al = fromLow[324], ah = fromHigh[324], bl, bh, cl;
+        bl = fromLow[688]; bh = fromHigh[688]; cl = al ^ ah; toLow[81] = cl ^ (~bl & bh & al); toHigh[81] = al ^ (bh & bl & cl);
+        al = fromLow[323]; ah = fromHigh[323]; cl = bl ^ bh; toLow[82] = cl ^ (~al & ah & bl); toHigh[82] = bl ^ (ah & al & cl);
+        bl = fromLow[687]; bh = fromHigh[687]; cl = al ^ ah; toLow[83] = cl ^ (~bl & bh & al); toHigh[83] = al ^ (bh & bl & cl);
+        al = fromLow[322]; ah = fromHigh[322]; cl = bl ^ bh; toLow[84] = cl ^ (~al & ah & bl); toHigh[84] = bl ^ (ah & al & cl);
+        bl = fromLow[686]; bh = fromHigh[686]; cl = al ^ ah; toLow[85] = cl ^ (~bl & bh & al); toHigh[85] = al ^ (bh & bl & cl);
+        al = fromLow[321]; ah = fromHigh[321]; cl = bl ^ bh; toLow[86] = cl ^ (~al & ah & bl); toHigh[86] = bl ^ (ah & al & cl);
+        bl = fromLow[685]; bh = fromHigh[685]; cl = al ^ ah; toLow[87] = cl ^ (~bl & bh & al); toHigh[87] = al ^ (bh & bl & cl);
+        al = fromLow[320]; ah = fromHigh[320]; cl = bl ^ bh; toLow[88] = cl ^ (~al & ah & bl); toHigh[88] = bl ^ (ah & al & cl);
+        bl = fromLow[684]; bh = fromHigh[684]; cl = al ^ ah; toLow[89] = cl ^ (~bl & bh & al); toHigh[89] = al ^ (bh & bl & cl);
+        al = fromLow[319]; ah = fromHigh[319]; cl = bl ^ bh; toLow[90] = cl ^ (~al & ah & bl); toHigh[90] = bl ^ (ah & al & cl);
+        bl = fromLow[683]; bh = fromHigh[683]; cl = al ^ ah; toLow[91] = cl ^ (~bl & bh & al); toHigh[91] = al ^ (bh & bl & cl);
+        al = fromLow[318]; ah = fromHigh[318]; cl = bl ^ bh; toLow[92] = cl ^ (~al & ah & bl); toHigh[92] = bl ^ (ah & al & cl);
+        bl = fromLow[682]; bh = fromHigh[682]; cl = al ^ ah; toLow[93] = cl ^ (~bl & bh & al); toHigh[93] = al ^ (bh & bl & cl);
+        al = fromLow[317]; ah = fromHigh[317]; cl = bl ^ bh; toLow[94] = cl ^ (~al & ah & bl); toHigh[94] = bl ^ (ah & al & cl);
+        bl = fromLow[681]; bh = fromHigh[681]; cl = al ^ ah; toLow[95] = cl ^ (~bl & bh & al); toHigh[95] = al ^ (bh & bl & cl);
+        al = fromLow[316]; ah = fromHigh[316]; cl = bl ^ bh; toLow[96] = cl ^ (~al & ah & bl); toHigh[96] = bl ^ (ah & al & cl);
+        bl = fromLow[680]; bh = fromHigh[680]; cl = al ^ ah; toLow[97] = cl ^ (~bl & bh & al); toHigh[97] = al ^ (bh & bl & cl);
+        al = fromLow[315]; ah = fromHigh[315]; cl = bl ^ bh; toLow[98] = cl ^ (~al & ah & bl); toHigh[98] = bl ^ (ah & al & cl);
+        bl = fromLow[679]; bh = fromHigh[679]; cl = al ^ ah; toLow[99] = cl ^ (~bl & bh & al); toHigh[99] = al ^ (bh & bl & cl);
+        al = fromLow[314]; ah = fromHigh[314]; cl = bl ^ bh; toLow[100] = cl ^ (~al & ah & bl); toHigh[100] = bl ^ (ah & al & cl);
+        bl = fromLow[678]; bh = fromHigh[678]; cl = al ^ ah; toLow[101] = cl ^ (~bl & bh & al); toHigh[101] = al ^ (bh & bl & cl);
+        al = fromLow[313]; ah = fromHigh[313]; cl = bl ^ bh; toLow[102] = cl ^ (~al & ah & bl); toHigh[102] = bl ^ (ah & al & cl);
+        bl = fromLow[677]; bh = fromHigh[677]; cl = al ^ ah; toLow[103] = cl ^ (~bl & bh & al); toHigh[103] = al ^ (bh & bl & cl);
+        al = fromLow[312]; ah = fromHigh[312]; cl = bl ^ bh; toLow[104] = cl ^ (~al & ah & bl); toHigh[104] = bl ^ (ah & al & cl);
+        bl = fromLow[676]; bh = fromHigh[676]; cl = al ^ ah; toLow[105] = cl ^ (~bl & bh & al); toHigh[105] = al ^ (bh & bl & cl);
+        al = fromLow[311]; ah = fromHigh[311]; cl = bl ^ bh; toLow[106] = cl ^ (~al & ah & bl); toHigh[106] = bl ^ (ah & al & cl);
+        bl = fromLow[675]; bh = fromHigh[675]; cl = al ^ ah; toLow[107] = cl ^ (~bl & bh & al); toHigh[107] = al ^ (bh & bl & cl);
+        al = fromLow[310]; ah = fromHigh[310]; cl = bl ^ bh; toLow[108] = cl ^ (~al & ah & bl); toHigh[108] = bl ^ (ah & al & cl);
+        bl = fromLow[674]; bh = fromHigh[674]; cl = al ^ ah; toLow[109] = cl ^ (~bl & bh & al); toHigh[109] = al ^ (bh & bl & cl);
+        al = fromLow[309]; ah = fromHigh[309]; cl = bl ^ bh; toLow[110] = cl ^ (~al & ah & bl); toHigh[110] = bl ^ (ah & al & cl);
+        bl = fromLow[673]; bh = fromHigh[673]; cl = al ^ ah; toLow[111] = cl ^ (~bl & bh & al); toHigh[111] = al ^ (bh & bl & cl);
+        al = fromLow[308]; ah = fromHigh[308]; cl = bl ^ bh; toLow[112] = cl ^ (~al & ah & bl); toHigh[112] = bl ^ (ah & al & cl);
+        bl = fromLow[672]; bh = fromHigh[672]; cl = al ^ ah; toLow[113] = cl ^ (~bl & bh & al); toHigh[113] = al ^ (bh & bl & cl);
+        al = fromLow[307]; ah = fromHigh[307]; cl = bl ^ bh; toLow[114] = cl ^ (~al & ah & bl); toHigh[114] = bl ^ (ah & al & cl);
+        bl = fromLow[671]; bh = fromHigh[671]; cl = al ^ ah; toLow[115] = cl ^ (~bl & bh & al); toHigh[115] = al ^ (bh & bl & cl);
+        al = fromLow[306]; ah = fromHigh[306]; cl = bl ^ bh; toLow[116] = cl ^ (~al & ah & bl); toHigh[116] = bl ^ (ah & al & cl);
+        bl = fromLow[670]; bh = fromHigh[670]; cl = al ^ ah; toLow[117] = cl ^ (~bl & bh & al); toHigh[117] = al ^ (bh & bl & cl);
+        al = fromLow[305]; ah = fromHigh[305]; cl = bl ^ bh; toLow[118] = cl ^ (~al & ah & bl); toHigh[118] = bl ^ (ah & al & cl);
+        bl = fromLow[669]; bh = fromHigh[669]; cl = al ^ ah; toLow[119] = cl ^ (~bl & bh & al); toHigh[119] = al ^ (bh & bl & cl);
+        al = fromLow[304]; ah = fromHigh[304]; cl = bl ^ bh; toLow[120] = cl ^ (~al & ah & bl); toHigh[120] = bl ^ (ah & al & cl);
+        bl = fromLow[668]; bh = fromHigh[668]; cl = al ^ ah; toLow[121] = cl ^ (~bl & bh & al); toHigh[121] = al ^ (bh & bl & cl);
+        al = fromLow[303]; ah = fromHigh[303]; cl = bl ^ bh; toLow[122] = cl ^ (~al & ah & bl); toHigh[122] = bl ^ (ah & al & cl);
+        bl = fromLow[667]; bh = fromHigh[667]; cl = al ^ ah; toLow[123] = cl ^ (~bl & bh & al); toHigh[123] = al ^ (bh & bl & cl);
+        al = fromLow[302]; ah = fromHigh[302]; cl = bl ^ bh; toLow[124] = cl ^ (~al & ah & bl); toHigh[124] = bl ^ (ah & al & cl);
+        bl = fromLow[666]; bh = fromHigh[666]; cl = al ^ ah; toLow[125] = cl ^ (~bl & bh & al); toHigh[125] = al ^ (bh & bl & cl);
+        al = fromLow[301]; ah = fromHigh[301]; cl = bl ^ bh; toLow[126] = cl ^ (~al & ah & bl); toHigh[126] = bl ^ (ah & al & cl);
+        bl = fromLow[665]; bh = fromHigh[665]; cl = al ^ ah; toLow[127] = cl ^ (~bl & bh & al); toHigh[127] = al ^ (bh & bl & cl);
+        al = fromLow[300]; ah = fromHigh[300]; cl = bl ^ bh; toLow[128] = cl ^ (~al & ah & bl); toHigh[128] = bl ^ (ah & al & cl);
+        bl = fromLow[664]; bh = fromHigh[664]; cl = al ^ ah; toLow[129] = cl ^ (~bl & bh & al); toHigh[129] = al ^ (bh & bl & cl);
+        al = fromLow[299]; ah = fromHigh[299]; cl = bl ^ bh; toLow[130] = cl ^ (~al & ah & bl); toHigh[130] = bl ^ (ah & al & cl);
+        bl = fromLow[663]; bh = fromHigh[663]; cl = al ^ ah; toLow[131] = cl ^ (~bl & bh & al); toHigh[131] = al ^ (bh & bl & cl);
+        al = fromLow[298]; ah = fromHigh[298]; cl = bl ^ bh; toLow[132] = cl ^ (~al & ah & bl); toHigh[132] = bl ^ (ah & al & cl);
+        bl = fromLow[662]; bh = fromHigh[662]; cl = al ^ ah; toLow[133] = cl ^ (~bl & bh & al); toHigh[133] = al ^ (bh & bl & cl);
+        al = fromLow[297]; ah = fromHigh[297]; cl = bl ^ bh; toLow[134] = cl ^ (~al & ah & bl); toHigh[134] = bl ^ (ah & al & cl);
+        bl = fromLow[661]; bh = fromHigh[661]; cl = al ^ ah; toLow[135] = cl ^ (~bl & bh & al); toHigh[135] = al ^ (bh & bl & cl);
+        al = fromLow[296]; ah = fromHigh[296]; cl = bl ^ bh; toLow[136] = cl ^ (~al & ah & bl); toHigh[136] = bl ^ (ah & al & cl);
+        bl = fromLow[660]; bh = fromHigh[660]; cl = al ^ ah; toLow[137] = cl ^ (~bl & bh & al); toHigh[137] = al ^ (bh & bl & cl);
+        al = fromLow[295]; ah = fromHigh[295]; cl = bl ^ bh; toLow[138] = cl ^ (~al & ah & bl); toHigh[138] = bl ^ (ah & al & cl);
+        bl = fromLow[659]; bh = fromHigh[659]; cl = al ^ ah; toLow[139] = cl ^ (~bl & bh & al); toHigh[139] = al ^ (bh & bl & cl);
+        al = fromLow[294]; ah = fromHigh[294]; cl = bl ^ bh; toLow[140] = cl ^ (~al & ah & bl); toHigh[140] = bl ^ (ah & al & cl);
+        bl = fromLow[658]; bh = fromHigh[658]; cl = al ^ ah; toLow[141] = cl ^ (~bl & bh & al); toHigh[141] = al ^ (bh & bl & cl);
+        al = fromLow[293]; ah = fromHigh[293]; cl = bl ^ bh; toLow[142] = cl ^ (~al & ah & bl); toHigh[142] = bl ^ (ah & al & cl);
+        bl = fromLow[657]; bh = fromHigh[657]; cl = al ^ ah; toLow[143] = cl ^ (~bl & bh & al); toHigh[143] = al ^ (bh & bl & cl);
+        al = fromLow[292]; ah = fromHigh[292]; cl = bl ^ bh; toLow[144] = cl ^ (~al & ah & bl); toHigh[144] = bl ^ (ah & al & cl);
+        bl = fromLow[656]; bh = fromHigh[656]; cl = al ^ ah; toLow[145] = cl ^ (~bl & bh & al); toHigh[145] = al ^ (bh & bl & cl);
+        al = fromLow[291]; ah = fromHigh[291]; cl = bl ^ bh; toLow[146] = cl ^ (~al & ah & bl); toHigh[146] = bl ^ (ah & al & cl);
+        bl = fromLow[655]; bh = fromHigh[655]; cl = al ^ ah; toLow[147] = cl ^ (~bl & bh & al); toHigh[147] = al ^ (bh & bl & cl);
+        al = fromLow[290]; ah = fromHigh[290]; cl = bl ^ bh; toLow[148] = cl ^ (~al & ah & bl); toHigh[148] = bl ^ (ah & al & cl);
+        bl = fromLow[654]; bh = fromHigh[654]; cl = al ^ ah; toLow[149] = cl ^ (~bl & bh & al); toHigh[149] = al ^ (bh & bl & cl);
+        al = fromLow[289]; ah = fromHigh[289]; cl = bl ^ bh; toLow[150] = cl ^ (~al & ah & bl); toHigh[150] = bl ^ (ah & al & cl);
+        bl = fromLow[653]; bh = fromHigh[653]; cl = al ^ ah; toLow[151] = cl ^ (~bl & bh & al); toHigh[151] = al ^ (bh & bl & cl);
+        al = fromLow[288]; ah = fromHigh[288]; cl = bl ^ bh; toLow[152] = cl ^ (~al & ah & bl); toHigh[152] = bl ^ (ah & al & cl);
+        bl = fromLow[652]; bh = fromHigh[652]; cl = al ^ ah; toLow[153] = cl ^ (~bl & bh & al); toHigh[153] = al ^ (bh & bl & cl);
+        al = fromLow[287]; ah = fromHigh[287]; cl = bl ^ bh; toLow[154] = cl ^ (~al & ah & bl); toHigh[154] = bl ^ (ah & al & cl);
+        bl = fromLow[651]; bh = fromHigh[651]; cl = al ^ ah; toLow[155] = cl ^ (~bl & bh & al); toHigh[155] = al ^ (bh & bl & cl);
+        al = fromLow[286]; ah = fromHigh[286]; cl = bl ^ bh; toLow[156] = cl ^ (~al & ah & bl); toHigh[156] = bl ^ (ah & al & cl);
+        bl = fromLow[650]; bh = fromHigh[650]; cl = al ^ ah; toLow[157] = cl ^ (~bl & bh & al); toHigh[157] = al ^ (bh & bl & cl);
+        al = fromLow[285]; ah = fromHigh[285]; cl = bl ^ bh; toLow[158] = cl ^ (~al & ah & bl); toHigh[158] = bl ^ (ah & al & cl);
+        bl = fromLow[649]; bh = fromHigh[649]; cl = al ^ ah; toLow[159] = cl ^ (~bl & bh & al); toHigh[159] = al ^ (bh & bl & cl);
+        al = fromLow[284]; ah = fromHigh[284]; cl = bl ^ bh; toLow[160] = cl ^ (~al & ah & bl); toHigh[160] = bl ^ (ah & al & cl);
+        bl = fromLow[648]; bh = fromHigh[648]; cl = al ^ ah; toLow[161] = cl ^ (~bl & bh & al); toHigh[161] = al ^ (bh & bl & cl);
+    }
+
+    private static void powRound64_2(final long[] fromLow, final long[] fromHigh, final long[] toLow, final long[] toHigh) {
+        long al = fromLow[648], ah = fromHigh[648], bl, bh, cl;
+        bl = fromLow[283]; bh = fromHigh[283]; cl = al ^ ah; toLow[162] = cl ^ (~bl & bh & al); toHigh[162] = al ^ (bh & bl & cl);
+        al = fromLow[647]; ah = fromHigh[647]; cl = bl ^ bh; toLow[163] = cl ^ (~al & ah & bl); toHigh[163] = bl ^ (ah & al & cl);
+        bl = fromLow[282]; bh = fromHigh[282]; cl = al ^ ah; toLow[164] = cl ^ (~bl & bh & al); toHigh[164] = al ^ (bh & bl & cl);
+        al = fromLow[646]; ah = fromHigh[646]; cl = bl ^ bh; toLow[165] = cl ^ (~al & ah & bl); toHigh[165] = bl ^ (ah & al & cl);
+        bl = fromLow[281]; bh = fromHigh[281]; cl = al ^ ah; toLow[166] = cl ^ (~bl & bh & al); toHigh[166] = al ^ (bh & bl & cl);
+        al = fromLow[645]; ah = fromHigh[645]; cl = bl ^ bh; toLow[167] = cl ^ (~al & ah & bl); toHigh[167] = bl ^ (ah & al & cl);
+        bl = fromLow[280]; bh = fromHigh[280]; cl = al ^ ah; toLow[168] = cl ^ (~bl & bh & al); toHigh[168] = al ^ (bh & bl & cl);
+        al = fromLow[644]; ah = fromHigh[644]; cl = bl ^ bh; toLow[169] = cl ^ (~al & ah & bl); toHigh[169] = bl ^ (ah & al & cl);
+        bl = fromLow[279]; bh = fromHigh[279]; cl = al ^ ah; toLow[170] = cl ^ (~bl & bh & al); toHigh[170] = al ^ (bh & bl & cl);
+        al = fromLow[643]; ah = fromHigh[643]; cl = bl ^ bh; toLow[171] = cl ^ (~al & ah & bl); toHigh[171] = bl ^ (ah & al & cl);
+        bl = fromLow[278]; bh = fromHigh[278]; cl = al ^ ah; toLow[172] = cl ^ (~bl & bh & al); toHigh[172] = al ^ (bh & bl & cl);
+        al = fromLow[642]; ah = fromHigh[642]; cl = bl ^ bh; toLow[173] = cl ^ (~al & ah & bl); toHigh[173] = bl ^ (ah & al & cl);
+        bl = fromLow[277]; bh = fromHigh[277]; cl = al ^ ah; toLow[174] = cl ^ (~bl & bh & al); toHigh[174] = al ^ (bh & bl & cl);
+        al = fromLow[641]; ah = fromHigh[641]; cl = bl ^ bh; toLow[175] = cl ^ (~al & ah & bl); toHigh[175] = bl ^ (ah & al & cl);
+        bl = fromLow[276]; bh = fromHigh[276]; cl = al ^ ah; toLow[176] = cl ^ (~bl & bh & al); toHigh[176] = al ^ (bh & bl & cl);
+        al = fromLow[640]; ah = fromHigh[640]; cl = bl ^ bh; toLow[177] = cl ^ (~al & ah & bl); toHigh[177] = bl ^ (ah & al & cl);
+        bl = fromLow[275]; bh = fromHigh[275]; cl = al ^ ah; toLow[178] = cl ^ (~bl & bh & al); toHigh[178] = al ^ (bh & bl & cl);
+        al = fromLow[639]; ah = fromHigh[639]; cl = bl ^ bh; toLow[179] = cl ^ (~al & ah & bl); toHigh[179] = bl ^ (ah & al & cl);
+        bl = fromLow[274]; bh = fromHigh[274]; cl = al ^ ah; toLow[180] = cl ^ (~bl & bh & al); toHigh[180] = al ^ (bh & bl & cl);
+        al = fromLow[638]; ah = fromHigh[638]; cl = bl ^ bh; toLow[181] = cl ^ (~al & ah & bl); toHigh[181] = bl ^ (ah & al & cl);
+        bl = fromLow[273]; bh = fromHigh[273]; cl = al ^ ah; toLow[182] = cl ^ (~bl & bh & al); toHigh[182] = al ^ (bh & bl & cl);
+        al = fromLow[637]; ah = fromHigh[637]; cl = bl ^ bh; toLow[183] = cl ^ (~al & ah & bl); toHigh[183] = bl ^ (ah & al & cl);
+        bl = fromLow[272]; bh = fromHigh[272]; cl = al ^ ah; toLow[184] = cl ^ (~bl & bh & al); toHigh[184] = al ^ (bh & bl & cl);
+        al = fromLow[636]; ah = fromHigh[636]; cl = bl ^ bh; toLow[185] = cl ^ (~al & ah & bl); toHigh[185] = bl ^ (ah & al & cl);
+        bl = fromLow[271]; bh = fromHigh[271]; cl = al ^ ah; toLow[186] = cl ^ (~bl & bh & al); toHigh[186] = al ^ (bh & bl & cl);
+        al = fromLow[635]; ah = fromHigh[635]; cl = bl ^ bh; toLow[187] = cl ^ (~al & ah & bl); toHigh[187] = bl ^ (ah & al & cl);
+        bl = fromLow[270]; bh = fromHigh[270]; cl = al ^ ah; toLow[188] = cl ^ (~bl & bh & al); toHigh[188] = al ^ (bh & bl & cl);
+        al = fromLow[634]; ah = fromHigh[634]; cl = bl ^ bh; toLow[189] = cl ^ (~al & ah & bl); toHigh[189] = bl ^ (ah & al & cl);
+        bl = fromLow[269]; bh = fromHigh[269]; cl = al ^ ah; toLow[190] = cl ^ (~bl & bh & al); toHigh[190] = al ^ (bh & bl & cl);
+        al = fromLow[633]; ah = fromHigh[633]; cl = bl ^ bh; toLow[191] = cl ^ (~al & ah & bl); toHigh[191] = bl ^ (ah & al & cl);
+        bl = fromLow[268]; bh = fromHigh[268]; cl = al ^ ah; toLow[192] = cl ^ (~bl & bh & al); toHigh[192] = al ^ (bh & bl & cl);
+        al = fromLow[632]; ah = fromHigh[632]; cl = bl ^ bh; toLow[193] = cl ^ (~al & ah & bl); toHigh[193] = bl ^ (ah & al & cl);
+        bl = fromLow[267]; bh = fromHigh[267]; cl = al ^ ah; toLow[194] = cl ^ (~bl & bh & al); toHigh[194] = al ^ (bh & bl & cl);
+        al = fromLow[631]; ah = fromHigh[631]; cl = bl ^ bh; toLow[195] = cl ^ (~al & ah & bl); toHigh[195] = bl ^ (ah & al & cl);
+        bl = fromLow[266]; bh = fromHigh[266]; cl = al ^ ah; toLow[196] = cl ^ (~bl & bh & al); toHigh[196] = al ^ (bh & bl & cl);
+        al = fromLow[630]; ah = fromHigh[630]; cl = bl ^ bh; toLow[197] = cl ^ (~al & ah & bl); toHigh[197] = bl ^ (ah & al & cl);
+        bl = fromLow[265]; bh = fromHigh[265]; cl = al ^ ah; toLow[198] = cl ^ (~bl & bh & al); toHigh[198] = al ^ (bh & bl & cl);
+        al = fromLow[629]; ah = fromHigh[629]; cl = bl ^ bh; toLow[199] = cl ^ (~al & ah & bl); toHigh[199] = bl ^ (ah & al & cl);
+        bl = fromLow[264]; bh = fromHigh[264]; cl = al ^ ah; toLow[200] = cl ^ (~bl & bh & al); toHigh[200] = al ^ (bh & bl & cl);
+        al = fromLow[628]; ah = fromHigh[628]; cl = bl ^ bh; toLow[201] = cl ^ (~al & ah & bl); toHigh[201] = bl ^ (ah & al & cl);
+        bl = fromLow[263]; bh = fromHigh[263]; cl = al ^ ah; toLow[202] = cl ^ (~bl & bh & al); toHigh[202] = al ^ (bh & bl & cl);
+        al = fromLow[627]; ah = fromHigh[627]; cl = bl ^ bh; toLow[203] = cl ^ (~al & ah & bl); toHigh[203] = bl ^ (ah & al & cl);
+        bl = fromLow[262]; bh = fromHigh[262]; cl = al ^ ah; toLow[204] = cl ^ (~bl & bh & al); toHigh[204] = al ^ (bh & bl & cl);
+        al = fromLow[626]; ah = fromHigh[626]; cl = bl ^ bh; toLow[205] = cl ^ (~al & ah & bl); toHigh[205] = bl ^ (ah & al & cl);
+        bl = fromLow[261]; bh = fromHigh[261]; cl = al ^ ah; toLow[206] = cl ^ (~bl & bh & al); toHigh[206] = al ^ (bh & bl & cl);
+        al = fromLow[625]; ah = fromHigh[625]; cl = bl ^ bh; toLow[207] = cl ^ (~al & ah & bl); toHigh[207] = bl ^ (ah & al & cl);
+        bl = fromLow[260]; bh = fromHigh[260]; cl = al ^ ah; toLow[208] = cl ^ (~bl & bh & al); toHigh[208] = al ^ (bh & bl & cl);
+        al = fromLow[624]; ah = fromHigh[624]; cl = bl ^ bh; toLow[209] = cl ^ (~al & ah & bl); toHigh[209] = bl ^ (ah & al & cl);
+        bl = fromLow[259]; bh = fromHigh[259]; cl = al ^ ah; toLow[210] = cl ^ (~bl & bh & al); toHigh[210] = al ^ (bh & bl & cl);
+        al = fromLow[623]; ah = fromHigh[623]; cl = bl ^ bh; toLow[211] = cl ^ (~al & ah & bl); toHigh[211] = bl ^ (ah & al & cl);
+        bl = fromLow[258]; bh = fromHigh[258]; cl = al ^ ah; toLow[212] = cl ^ (~bl & bh & al); toHigh[212] = al ^ (bh & bl & cl);
+        al = fromLow[622]; ah = fromHigh[622]; cl = bl ^ bh; toLow[213] = cl ^ (~al & ah & bl); toHigh[213] = bl ^ (ah & al & cl);
+        bl = fromLow[257]; bh = fromHigh[257]; cl = al ^ ah; toLow[214] = cl ^ (~bl & bh & al); toHigh[214] = al ^ (bh & bl & cl);
+        al = fromLow[621]; ah = fromHigh[621]; cl = bl ^ bh; toLow[215] = cl ^ (~al & ah & bl); toHigh[215] = bl ^ (ah & al & cl);
+        bl = fromLow[256]; bh = fromHigh[256]; cl = al ^ ah; toLow[216] = cl ^ (~bl & bh & al); toHigh[216] = al ^ (bh & bl & cl);
+        al = fromLow[620]; ah = fromHigh[620]; cl = bl ^ bh; toLow[217] = cl ^ (~al & ah & bl); toHigh[217] = bl ^ (ah & al & cl);
+        bl = fromLow[255]; bh = fromHigh[255]; cl = al ^ ah; toLow[218] = cl ^ (~bl & bh & al); toHigh[218] = al ^ (bh & bl & cl);
+        al = fromLow[619]; ah = fromHigh[619]; cl = bl ^ bh; toLow[219] = cl ^ (~al & ah & bl); toHigh[219] = bl ^ (ah & al & cl);
+        bl = fromLow[254]; bh = fromHigh[254]; cl = al ^ ah; toLow[220] = cl ^ (~bl & bh & al); toHigh[220] = al ^ (bh & bl & cl);
+        al = fromLow[618]; ah = fromHigh[618]; cl = bl ^ bh; toLow[221] = cl ^ (~al & ah & bl); toHigh[221] = bl ^ (ah & al & cl);
+        bl = fromLow[253]; bh = fromHigh[253]; cl = al ^ ah; toLow[222] = cl ^ (~bl & bh & al); toHigh[222] = al ^ (bh & bl & cl);
+        al = fromLow[617]; ah = fromHigh[617]; cl = bl ^ bh; toLow[223] = cl ^ (~al & ah & bl); toHigh[223] = bl ^ (ah & al & cl);
+        bl = fromLow[252]; bh = fromHigh[252]; cl = al ^ ah; toLow[224] = cl ^ (~bl & bh & al); toHigh[224] = al ^ (bh & bl & cl);
+        al = fromLow[616]; ah = fromHigh[616]; cl = bl ^ bh; toLow[225] = cl ^ (~al & ah & bl); toHigh[225] = bl ^ (ah & al & cl);
+        bl = fromLow[251]; bh = fromHigh[251]; cl = al ^ ah; toLow[226] = cl ^ (~bl & bh & al); toHigh[226] = al ^ (bh & bl & cl);
+        al = fromLow[615]; ah = fromHigh[615]; cl = bl ^ bh; toLow[227] = cl ^ (~al & ah & bl); toHigh[227] = bl ^ (ah & al & cl);
+        bl = fromLow[250]; bh = fromHigh[250]; cl = al ^ ah; toLow[228] = cl ^ (~bl & bh & al); toHigh[228] = al ^ (bh & bl & cl);
+        al = fromLow[614]; ah = fromHigh[614]; cl = bl ^ bh; toLow[229] = cl ^ (~al & ah & bl); toHigh[229] = bl ^ (ah & al & cl);
+        bl = fromLow[249]; bh = fromHigh[249]; cl = al ^ ah; toLow[230] = cl ^ (~bl & bh & al); toHigh[230] = al ^ (bh & bl & cl);
+        al = fromLow[613]; ah = fromHigh[613]; cl = bl ^ bh; toLow[231] = cl ^ (~al & ah & bl); toHigh[231] = bl ^ (ah & al & cl);
+        bl = fromLow[248]; bh = fromHigh[248]; cl = al ^ ah; toLow[232] = cl ^ (~bl & bh & al); toHigh[232] = al ^ (bh & bl & cl);
+        al = fromLow[612]; ah = fromHigh[612]; cl = bl ^ bh; toLow[233] = cl ^ (~al & ah & bl); toHigh[233] = bl ^ (ah & al & cl);
+        bl = fromLow[247]; bh = fromHigh[247]; cl = al ^ ah; toLow[234] = cl ^ (~bl & bh & al); toHigh[234] = al ^ (bh & bl & cl);
+        al = fromLow[611]; ah = fromHigh[611]; cl = bl ^ bh; toLow[235] = cl ^ (~al & ah & bl); toHigh[235] = bl ^ (ah & al & cl);
+        bl = fromLow[246]; bh = fromHigh[246]; cl = al ^ ah; toLow[236] = cl ^ (~bl & bh & al); toHigh[236] = al ^ (bh & bl & cl);
+        al = fromLow[610]; ah = fromHigh[610]; cl = bl ^ bh; toLow[237] = cl ^ (~al & ah & bl); toHigh[237] = bl ^ (ah & al & cl);
+        bl = fromLow[245]; bh = fromHigh[245]; cl = al ^ ah; toLow[238] = cl ^ (~bl & bh & al); toHigh[238] = al ^ (bh & bl & cl);
+        al = fromLow[609]; ah = fromHigh[609]; cl = bl ^ bh; toLow[239] = cl ^ (~al & ah & bl); toHigh[239] = bl ^ (ah & al & cl);
+        bl = fromLow[244]; bh = fromHigh[244]; cl = al ^ ah; toLow[240] = cl ^ (~bl & bh & al); toHigh[240] = al ^ (bh & bl & cl);
+        al = fromLow[608]; ah = fromHigh[608]; cl = bl ^ bh; toLow[241] = cl ^ (~al & ah & bl); toHigh[241] = bl ^ (ah & al & cl);
+        bl = fromLow[243]; bh = fromHigh[243]; cl = al ^ ah; toLow[242] = cl ^ (~bl & bh & al); toHigh[242] = al ^ (bh & bl & cl);
+    }
+
+    private static void powRound64_3(final long[] fromLow, final long[] fromHigh, final long[] toLow, final long[] toHigh) {
+        long al = fromLow[243], ah = fromHigh[243], bl, bh, cl;
+        bl = fromLow[607]; bh = fromHigh[607]; cl = al ^ ah; toLow[243] = cl ^ (~bl & bh & al); toHigh[243] = al ^ (bh & bl & cl);
+        al = fromLow[242]; ah = fromHigh[242]; cl = bl ^ bh; toLow[244] = cl ^ (~al & ah & bl); toHigh[244] = bl ^ (ah & al & cl);
+        bl = fromLow[606]; bh = fromHigh[606]; cl = al ^ ah; toLow[245] = cl ^ (~bl & bh & al); toHigh[245] = al ^ (bh & bl & cl);
+        al = fromLow[241]; ah = fromHigh[241]; cl = bl ^ bh; toLow[246] = cl ^ (~al & ah & bl); toHigh[246] = bl ^ (ah & al & cl);
+        bl = fromLow[605]; bh = fromHigh[605]; cl = al ^ ah; toLow[247] = cl ^ (~bl & bh & al); toHigh[247] = al ^ (bh & bl & cl);
+        al = fromLow[240]; ah = fromHigh[240]; cl = bl ^ bh; toLow[248] = cl ^ (~al & ah & bl); toHigh[248] = bl ^ (ah & al & cl);
+        bl = fromLow[604]; bh = fromHigh[604]; cl = al ^ ah; toLow[249] = cl ^ (~bl & bh & al); toHigh[249] = al ^ (bh & bl & cl);
+        al = fromLow[239]; ah = fromHigh[239]; cl = bl ^ bh; toLow[250] = cl ^ (~al & ah & bl); toHigh[250] = bl ^ (ah & al & cl);
+        bl = fromLow[603]; bh = fromHigh[603]; cl = al ^ ah; toLow[251] = cl ^ (~bl & bh & al); toHigh[251] = al ^ (bh & bl & cl);
+        al = fromLow[238]; ah = fromHigh[238]; cl = bl ^ bh; toLow[252] = cl ^ (~al & ah & bl); toHigh[252] = bl ^ (ah & al & cl);
+        bl = fromLow[602]; bh = fromHigh[602]; cl = al ^ ah; toLow[253] = cl ^ (~bl & bh & al); toHigh[253] = al ^ (bh & bl & cl);
+        al = fromLow[237]; ah = fromHigh[237]; cl = bl ^ bh; toLow[254] = cl ^ (~al & ah & bl); toHigh[254] = bl ^ (ah & al & cl);
+        bl = fromLow[601]; bh = fromHigh[601]; cl = al ^ ah; toLow[255] = cl ^ (~bl & bh & al); toHigh[255] = al ^ (bh & bl & cl);
+        al = fromLow[236]; ah = fromHigh[236]; cl = bl ^ bh; toLow[256] = cl ^ (~al & ah & bl); toHigh[256] = bl ^ (ah & al & cl);
+        bl = fromLow[600]; bh = fromHigh[600]; cl = al ^ ah; toLow[257] = cl ^ (~bl & bh & al); toHigh[257] = al ^ (bh & bl & cl);
+        al = fromLow[235]; ah = fromHigh[235]; cl = bl ^ bh; toLow[258] = cl ^ (~al & ah & bl); toHigh[258] = bl ^ (ah & al & cl);
+        bl = fromLow[599]; bh = fromHigh[599]; cl = al ^ ah; toLow[259] = cl ^ (~bl & bh & al); toHigh[259] = al ^ (bh & bl & cl);
+        al = fromLow[234]; ah = fromHigh[234]; cl = bl ^ bh; toLow[260] = cl ^ (~al & ah & bl); toHigh[260] = bl ^ (ah & al & cl);
+        bl = fromLow[598]; bh = fromHigh[598]; cl = al ^ ah; toLow[261] = cl ^ (~bl & bh & al); toHigh[261] = al ^ (bh & bl & cl);
+        al = fromLow[233]; ah = fromHigh[233]; cl = bl ^ bh; toLow[262] = cl ^ (~al & ah & bl); toHigh[262] = bl ^ (ah & al & cl);
+        bl = fromLow[597]; bh = fromHigh[597]; cl = al ^ ah; toLow[263] = cl ^ (~bl & bh & al); toHigh[263] = al ^ (bh & bl & cl);
+        al = fromLow[232]; ah = fromHigh[232]; cl = bl ^ bh; toLow[264] = cl ^ (~al & ah & bl); toHigh[264] = bl ^ (ah & al & cl);
+        bl = fromLow[596]; bh = fromHigh[596]; cl = al ^ ah; toLow[265] = cl ^ (~bl & bh & al); toHigh[265] = al ^ (bh & bl & cl);
+        al = fromLow[231]; ah = fromHigh[231]; cl = bl ^ bh; toLow[266] = cl ^ (~al & ah & bl); toHigh[266] = bl ^ (ah & al & cl);
+        bl = fromLow[595]; bh = fromHigh[595]; cl = al ^ ah; toLow[267] = cl ^ (~bl & bh & al); toHigh[267] = al ^ (bh & bl & cl);
+        al = fromLow[230]; ah = fromHigh[230]; cl = bl ^ bh; toLow[268] = cl ^ (~al & ah & bl); toHigh[268] = bl ^ (ah & al & cl);
+        bl = fromLow[594]; bh = fromHigh[594]; cl = al ^ ah; toLow[269] = cl ^ (~bl & bh & al); toHigh[269] = al ^ (bh & bl & cl);
+        al = fromLow[229]; ah = fromHigh[229]; cl = bl ^ bh; toLow[270] = cl ^ (~al & ah & bl); toHigh[270] = bl ^ (ah & al & cl);
+        bl = fromLow[593]; bh = fromHigh[593]; cl = al ^ ah; toLow[271] = cl ^ (~bl & bh & al); toHigh[271] = al ^ (bh & bl & cl);
+        al = fromLow[228]; ah = fromHigh[228]; cl = bl ^ bh; toLow[272] = cl ^ (~al & ah & bl); toHigh[272] = bl ^ (ah & al & cl);
+        bl = fromLow[592]; bh = fromHigh[592]; cl = al ^ ah; toLow[273] = cl ^ (~bl & bh & al); toHigh[273] = al ^ (bh & bl & cl);
+        al = fromLow[227]; ah = fromHigh[227]; cl = bl ^ bh; toLow[274] = cl ^ (~al & ah & bl); toHigh[274] = bl ^ (ah & al & cl);
+        bl = fromLow[591]; bh = fromHigh[591]; cl = al ^ ah; toLow[275] = cl ^ (~bl & bh & al); toHigh[275] = al ^ (bh & bl & cl);
+        al = fromLow[226]; ah = fromHigh[226]; cl = bl ^ bh; toLow[276] = cl ^ (~al & ah & bl); toHigh[276] = bl ^ (ah & al & cl);
+        bl = fromLow[590]; bh = fromHigh[590]; cl = al ^ ah; toLow[277] = cl ^ (~bl & bh & al); toHigh[277] = al ^ (bh & bl & cl);
+        al = fromLow[225]; ah = fromHigh[225]; cl = bl ^ bh; toLow[278] = cl ^ (~al & ah & bl); toHigh[278] = bl ^ (ah & al & cl);
+        bl = fromLow[589]; bh = fromHigh[589]; cl = al ^ ah; toLow[279] = cl ^ (~bl & bh & al); toHigh[279] = al ^ (bh & bl & cl);
+        al = fromLow[224]; ah = fromHigh[224]; cl = bl ^ bh; toLow[280] = cl ^ (~al & ah & bl); toHigh[280] = bl ^ (ah & al & cl);
+        bl = fromLow[588]; bh = fromHigh[588]; cl = al ^ ah; toLow[281] = cl ^ (~bl & bh & al); toHigh[281] = al ^ (bh & bl & cl);
+        al = fromLow[223]; ah = fromHigh[223]; cl = bl ^ bh; toLow[282] = cl ^ (~al & ah & bl); toHigh[282] = bl ^ (ah & al & cl);
+        bl = fromLow[587]; bh = fromHigh[587]; cl = al ^ ah; toLow[283] = cl ^ (~bl & bh & al); toHigh[283] = al ^ (bh & bl & cl);
+        al = fromLow[222]; ah = fromHigh[222]; cl = bl ^ bh; toLow[284] = cl ^ (~al & ah & bl); toHigh[284] = bl ^ (ah & al & cl);
+        bl = fromLow[586]; bh = fromHigh[586]; cl = al ^ ah; toLow[285] = cl ^ (~bl & bh & al); toHigh[285] = al ^ (bh & bl & cl);
+        al = fromLow[221]; ah = fromHigh[221]; cl = bl ^ bh; toLow[286] = cl ^ (~al & ah & bl); toHigh[286] = bl ^ (ah & al & cl);
+        bl = fromLow[585]; bh = fromHigh[585]; cl = al ^ ah; toLow[287] = cl ^ (~bl & bh & al); toHigh[287] = al ^ (bh & bl & cl);
+        al = fromLow[220]; ah = fromHigh[220]; cl = bl ^ bh; toLow[288] = cl ^ (~al & ah & bl); toHigh[288] = bl ^ (ah & al & cl);
+        bl = fromLow[584]; bh = fromHigh[584]; cl = al ^ ah; toLow[289] = cl ^ (~bl & bh & al); toHigh[289] = al ^ (bh & bl & cl);
+        al = fromLow[219]; ah = fromHigh[219]; cl = bl ^ bh; toLow[290] = cl ^ (~al & ah & bl); toHigh[290] = bl ^ (ah & al & cl);
+        bl = fromLow[583]; bh = fromHigh[583]; cl = al ^ ah; toLow[291] = cl ^ (~bl & bh & al); toHigh[291] = al ^ (bh & bl & cl);
+        al = fromLow[218]; ah = fromHigh[218]; cl = bl ^ bh; toLow[292] = cl ^ (~al & ah & bl); toHigh[292] = bl ^ (ah & al & cl);
+        bl = fromLow[582]; bh = fromHigh[582]; cl = al ^ ah; toLow[293] = cl ^ (~bl & bh & al); toHigh[293] = al ^ (bh & bl & cl);
+        al = fromLow[217]; ah = fromHigh[217]; cl = bl ^ bh; toLow[294] = cl ^ (~al & ah & bl); toHigh[294] = bl ^ (ah & al & cl);
+        bl = fromLow[581]; bh = fromHigh[581]; cl = al ^ ah; toLow[295] = cl ^ (~bl & bh & al); toHigh[295] = al ^ (bh & bl & cl);
+        al = fromLow[216]; ah = fromHigh[216]; cl = bl ^ bh; toLow[296] = cl ^ (~al & ah & bl); toHigh[296] = bl ^ (ah & al & cl);
+        bl = fromLow[580]; bh = fromHigh[580]; cl = al ^ ah; toLow[297] = cl ^ (~bl & bh & al); toHigh[297] = al ^ (bh & bl & cl);
+        al = fromLow[215]; ah = fromHigh[215]; cl = bl ^ bh; toLow[298] = cl ^ (~al & ah & bl); toHigh[298] = bl ^ (ah & al & cl);
+        bl = fromLow[579]; bh = fromHigh[579]; cl = al ^ ah; toLow[299] = cl ^ (~bl & bh & al); toHigh[299] = al ^ (bh & bl & cl);
+        al = fromLow[214]; ah = fromHigh[214]; cl = bl ^ bh; toLow[300] = cl ^ (~al & ah & bl); toHigh[300] = bl ^ (ah & al & cl);
+        bl = fromLow[578]; bh = fromHigh[578]; cl = al ^ ah; toLow[301] = cl ^ (~bl & bh & al); toHigh[301] = al ^ (bh & bl & cl);
+        al = fromLow[213]; ah = fromHigh[213]; cl = bl ^ bh; toLow[302] = cl ^ (~al & ah & bl); toHigh[302] = bl ^ (ah & al & cl);
+        bl = fromLow[577]; bh = fromHigh[577]; cl = al ^ ah; toLow[303] = cl ^ (~bl & bh & al); toHigh[303] = al ^ (bh & bl & cl);
+        al = fromLow[212]; ah = fromHigh[212]; cl = bl ^ bh; toLow[304] = cl ^ (~al & ah & bl); toHigh[304] = bl ^ (ah & al & cl);
+        bl = fromLow[576]; bh = fromHigh[576]; cl = al ^ ah; toLow[305] = cl ^ (~bl & bh & al); toHigh[305] = al ^ (bh & bl & cl);
+        al = fromLow[211]; ah = fromHigh[211]; cl = bl ^ bh; toLow[306] = cl ^ (~al & ah & bl); toHigh[306] = bl ^ (ah & al & cl);
+        bl = fromLow[575]; bh = fromHigh[575]; cl = al ^ ah; toLow[307] = cl ^ (~bl & bh & al); toHigh[307] = al ^ (bh & bl & cl);
+        al = fromLow[210]; ah = fromHigh[210]; cl = bl ^ bh; toLow[308] = cl ^ (~al & ah & bl); toHigh[308] = bl ^ (ah & al & cl);
+        bl = fromLow[574]; bh = fromHigh[574]; cl = al ^ ah; toLow[309] = cl ^ (~bl & bh & al); toHigh[309] = al ^ (bh & bl & cl);
+        al = fromLow[209]; ah = fromHigh[209]; cl = bl ^ bh; toLow[310] = cl ^ (~al & ah & bl); toHigh[310] = bl ^ (ah & al & cl);
+        bl = fromLow[573]; bh = fromHigh[573]; cl = al ^ ah; toLow[311] = cl ^ (~bl & bh & al); toHigh[311] = al ^ (bh & bl & cl);
+        al = fromLow[208]; ah = fromHigh[208]; cl = bl ^ bh; toLow[312] = cl ^ (~al & ah & bl); toHigh[312] = bl ^ (ah & al & cl);
+        bl = fromLow[572]; bh = fromHigh[572]; cl = al ^ ah; toLow[313] = cl ^ (~bl & bh & al); toHigh[313] = al ^ (bh & bl & cl);
+        al = fromLow[207]; ah = fromHigh[207]; cl = bl ^ bh; toLow[314] = cl ^ (~al & ah & bl); toHigh[314] = bl ^ (ah & al & cl);
+        bl = fromLow[571]; bh = fromHigh[571]; cl = al ^ ah; toLow[315] = cl ^ (~bl & bh & al); toHigh[315] = al ^ (bh & bl & cl);
+        al = fromLow[206]; ah = fromHigh[206]; cl = bl ^ bh; toLow[316] = cl ^ (~al & ah & bl); toHigh[316] = bl ^ (ah & al & cl);
+        bl = fromLow[570]; bh = fromHigh[570]; cl = al ^ ah; toLow[317] = cl ^ (~bl & bh & al); toHigh[317] = al ^ (bh & bl & cl);
+        al = fromLow[205]; ah = fromHigh[205]; cl = bl ^ bh; toLow[318] = cl ^ (~al & ah & bl); toHigh[318] = bl ^ (ah & al & cl);
+        bl = fromLow[569]; bh = fromHigh[569]; cl = al ^ ah; toLow[319] = cl ^ (~bl & bh & al); toHigh[319] = al ^ (bh & bl & cl);
+        al = fromLow[204]; ah = fromHigh[204]; cl = bl ^ bh; toLow[320] = cl ^ (~al & ah & bl); toHigh[320] = bl ^ (ah & al & cl);
+        bl = fromLow[568]; bh = fromHigh[568]; cl = al ^ ah; toLow[321] = cl ^ (~bl & bh & al); toHigh[321] = al ^ (bh & bl & cl);
+        al = fromLow[203]; ah = fromHigh[203]; cl = bl ^ bh; toLow[322] = cl ^ (~al & ah & bl); toHigh[322] = bl ^ (ah & al & cl);
+        bl = fromLow[567]; bh = fromHigh[567]; cl = al ^ ah; toLow[323] = cl ^ (~bl & bh & al); toHigh[323] = al ^ (bh & bl & cl);
+    }
+
+    private static void powRound64_4(final long[] fromLow, final long[] fromHigh, final long[] toLow, final long[] toHigh) {
+        long al = fromLow[567], ah = fromHigh[567], bl, bh, cl;
+        bl = fromLow[202]; bh = fromHigh[202]; cl = al ^ ah; toLow[324] = cl ^ (~bl & bh & al); toHigh[324] = al ^ (bh & bl & cl);
+        al = fromLow[566]; ah = fromHigh[566]; cl = bl ^ bh; toLow[325] = cl ^ (~al & ah & bl); toHigh[325] = bl ^ (ah & al & cl);
+        bl = fromLow[201]; bh = fromHigh[201]; cl = al ^ ah; toLow[326] = cl ^ (~bl & bh & al); toHigh[326] = al ^ (bh & bl & cl);
+        al = fromLow[565]; ah = fromHigh[565]; cl = bl ^ bh; toLow[327] = cl ^ (~al & ah & bl); toHigh[327] = bl ^ (ah & al & cl);
+        bl = fromLow[200]; bh = fromHigh[200]; cl = al ^ ah; toLow[328] = cl ^ (~bl & bh & al); toHigh[328] = al ^ (bh & bl & cl);
+        al = fromLow[564]; ah = fromHigh[564]; cl = bl ^ bh; toLow[329] = cl ^ (~al & ah & bl); toHigh[329] = bl ^ (ah & al & cl);
+        bl = fromLow[199]; bh = fromHigh[199]; cl = al ^ ah; toLow[330] = cl ^ (~bl & bh & al); toHigh[330] = al ^ (bh & bl & cl);
+        al = fromLow[563]; ah = fromHigh[563]; cl = bl ^ bh; toLow[331] = cl ^ (~al & ah & bl); toHigh[331] = bl ^ (ah & al & cl);
+        bl = fromLow[198]; bh = fromHigh[198]; cl = al ^ ah; toLow[332] = cl ^ (~bl & bh & al); toHigh[332] = al ^ (bh & bl & cl);
+        al = fromLow[562]; ah = fromHigh[562]; cl = bl ^ bh; toLow[333] = cl ^ (~al & ah & bl); toHigh[333] = bl ^ (ah & al & cl);
+        bl = fromLow[197]; bh = fromHigh[197]; cl = al ^ ah; toLow[334] = cl ^ (~bl & bh & al); toHigh[334] = al ^ (bh & bl & cl);
+        al = fromLow[561]; ah = fromHigh[561]; cl = bl ^ bh; toLow[335] = cl ^ (~al & ah & bl); toHigh[335] = bl ^ (ah & al & cl);
+        bl = fromLow[196]; bh = fromHigh[196]; cl = al ^ ah; toLow[336] = cl ^ (~bl & bh & al); toHigh[336] = al ^ (bh & bl & cl);
+        al = fromLow[560]; ah = fromHigh[560]; cl = bl ^ bh; toLow[337] = cl ^ (~al & ah & bl); toHigh[337] = bl ^ (ah & al & cl);
+        bl = fromLow[195]; bh = fromHigh[195]; cl = al ^ ah; toLow[338] = cl ^ (~bl & bh & al); toHigh[338] = al ^ (bh & bl & cl);
+        al = fromLow[559]; ah = fromHigh[559]; cl = bl ^ bh; toLow[339] = cl ^ (~al & ah & bl); toHigh[339] = bl ^ (ah & al & cl);
+        bl = fromLow[194]; bh = fromHigh[194]; cl = al ^ ah; toLow[340] = cl ^ (~bl & bh & al); toHigh[340] = al ^ (bh & bl & cl);
+        al = fromLow[558]; ah = fromHigh[558]; cl = bl ^ bh; toLow[341] = cl ^ (~al & ah & bl); toHigh[341] = bl ^ (ah & al & cl);
+        bl = fromLow[193]; bh = fromHigh[193]; cl = al ^ ah; toLow[342] = cl ^ (~bl & bh & al); toHigh[342] = al ^ (bh & bl & cl);
+        al = fromLow[557]; ah = fromHigh[557]; cl = bl ^ bh; toLow[343] = cl ^ (~al & ah & bl); toHigh[343] = bl ^ (ah & al & cl);
+        bl = fromLow[192]; bh = fromHigh[192]; cl = al ^ ah; toLow[344] = cl ^ (~bl & bh & al); toHigh[344] = al ^ (bh & bl & cl);
+        al = fromLow[556]; ah = fromHigh[556]; cl = bl ^ bh; toLow[345] = cl ^ (~al & ah & bl); toHigh[345] = bl ^ (ah & al & cl);
+        bl = fromLow[191]; bh = fromHigh[191]; cl = al ^ ah; toLow[346] = cl ^ (~bl & bh & al); toHigh[346] = al ^ (bh & bl & cl);
+        al = fromLow[555]; ah = fromHigh[555]; cl = bl ^ bh; toLow[347] = cl ^ (~al & ah & bl); toHigh[347] = bl ^ (ah & al & cl);
+        bl = fromLow[190]; bh = fromHigh[190]; cl = al ^ ah; toLow[348] = cl ^ (~bl & bh & al); toHigh[348] = al ^ (bh & bl & cl);
+        al = fromLow[554]; ah = fromHigh[554]; cl = bl ^ bh; toLow[349] = cl ^ (~al & ah & bl); toHigh[349] = bl ^ (ah & al & cl);
+        bl = fromLow[189]; bh = fromHigh[189]; cl = al ^ ah; toLow[350] = cl ^ (~bl & bh & al); toHigh[350] = al ^ (bh & bl & cl);
+        al = fromLow[553]; ah = fromHigh[553]; cl = bl ^ bh; toLow[351] = cl ^ (~al & ah & bl); toHigh[351] = bl ^ (ah & al & cl);
+        bl = fromLow[188]; bh = fromHigh[188]; cl = al ^ ah; toLow[352] = cl ^ (~bl & bh & al); toHigh[352] = al ^ (bh & bl & cl);
+        al = fromLow[552]; ah = fromHigh[552]; cl = bl ^ bh; toLow[353] = cl ^ (~al & ah & bl); toHigh[353] = bl ^ (ah & al & cl);
+        bl = fromLow[187]; bh = fromHigh[187]; cl = al ^ ah; toLow[354] = cl ^ (~bl & bh & al); toHigh[354] = al ^ (bh & bl & cl);
+        al = fromLow[551]; ah = fromHigh[551]; cl = bl ^ bh; toLow[355] = cl ^ (~al & ah & bl); toHigh[355] = bl ^ (ah & al & cl);
+        bl = fromLow[186]; bh = fromHigh[186]; cl = al ^ ah; toLow[356] = cl ^ (~bl & bh & al); toHigh[356] = al ^ (bh & bl & cl);
+        al = fromLow[550]; ah = fromHigh[550]; cl = bl ^ bh; toLow[357] = cl ^ (~al & ah & bl); toHigh[357] = bl ^ (ah & al & cl);
+        bl = fromLow[185]; bh = fromHigh[185]; cl = al ^ ah; toLow[358] = cl ^ (~bl & bh & al); toHigh[358] = al ^ (bh & bl & cl);
+        al = fromLow[549]; ah = fromHigh[549]; cl = bl ^ bh; toLow[359] = cl ^ (~al & ah & bl); toHigh[359] = bl ^ (ah & al & cl);
+        bl = fromLow[184]; bh = fromHigh[184]; cl = al ^ ah; toLow[360] = cl ^ (~bl & bh & al); toHigh[360] = al ^ (bh & bl & cl);
+        al = fromLow[548]; ah = fromHigh[548]; cl = bl ^ bh; toLow[361] = cl ^ (~al & ah & bl); toHigh[361] = bl ^ (ah & al & cl);
+        bl = fromLow[183]; bh = fromHigh[183]; cl = al ^ ah; toLow[362] = cl ^ (~bl & bh & al); toHigh[362] = al ^ (bh & bl & cl);
+        al = fromLow[547]; ah = fromHigh[547]; cl = bl ^ bh; toLow[363] = cl ^ (~al & ah & bl); toHigh[363] = bl ^ (ah & al & cl);
+        bl = fromLow[182]; bh = fromHigh[182]; cl = al ^ ah; toLow[364] = cl ^ (~bl & bh & al); toHigh[364] = al ^ (bh & bl & cl);
+        al = fromLow[546]; ah = fromHigh[546]; cl = bl ^ bh; toLow[365] = cl ^ (~al & ah & bl); toHigh[365] = bl ^ (ah & al & cl);
+        bl = fromLow[181]; bh = fromHigh[181]; cl = al ^ ah; toLow[366] = cl ^ (~bl & bh & al); toHigh[366] = al ^ (bh & bl & cl);
+        al = fromLow[545]; ah = fromHigh[545]; cl = bl ^ bh; toLow[367] = cl ^ (~al & ah & bl); toHigh[367] = bl ^ (ah & al & cl);
+        bl = fromLow[180]; bh = fromHigh[180]; cl = al ^ ah; toLow[368] = cl ^ (~bl & bh & al); toHigh[368] = al ^ (bh & bl & cl);
+        al = fromLow[544]; ah = fromHigh[544]; cl = bl ^ bh; toLow[369] = cl ^ (~al & ah & bl); toHigh[369] = bl ^ (ah & al & cl);
+        bl = fromLow[179]; bh = fromHigh[179]; cl = al ^ ah; toLow[370] = cl ^ (~bl & bh & al); toHigh[370] = al ^ (bh & bl & cl);
+        al = fromLow[543]; ah = fromHigh[543]; cl = bl ^ bh; toLow[371] = cl ^ (~al & ah & bl); toHigh[371] = bl ^ (ah & al & cl);
+        bl = fromLow[178]; bh = fromHigh[178]; cl = al ^ ah; toLow[372] = cl ^ (~bl & bh & al); toHigh[372] = al ^ (bh & bl & cl);
+        al = fromLow[542]; ah = fromHigh[542]; cl = bl ^ bh; toLow[373] = cl ^ (~al & ah & bl); toHigh[373] = bl ^ (ah & al & cl);
+        bl = fromLow[177]; bh = fromHigh[177]; cl = al ^ ah; toLow[374] = cl ^ (~bl & bh & al); toHigh[374] = al ^ (bh & bl & cl);
+        al = fromLow[541]; ah = fromHigh[541]; cl = bl ^ bh; toLow[375] = cl ^ (~al & ah & bl); toHigh[375] = bl ^ (ah & al & cl);
+        bl = fromLow[176]; bh = fromHigh[176]; cl = al ^ ah; toLow[376] = cl ^ (~bl & bh & al); toHigh[376] = al ^ (bh & bl & cl);
+        al = fromLow[540]; ah = fromHigh[540]; cl = bl ^ bh; toLow[377] = cl ^ (~al & ah & bl); toHigh[377] = bl ^ (ah & al & cl);
+        bl = fromLow[175]; bh = fromHigh[175]; cl = al ^ ah; toLow[378] = cl ^ (~bl & bh & al); toHigh[378] = al ^ (bh & bl & cl);
+        al = fromLow[539]; ah = fromHigh[539]; cl = bl ^ bh; toLow[379] = cl ^ (~al & ah & bl); toHigh[379] = bl ^ (ah & al & cl);
+        bl = fromLow[174]; bh = fromHigh[174]; cl = al ^ ah; toLow[380] = cl ^ (~bl & bh & al); toHigh[380] = al ^ (bh & bl & cl);
+        al = fromLow[538]; ah = fromHigh[538]; cl = bl ^ bh; toLow[381] = cl ^ (~al & ah & bl); toHigh[381] = bl ^ (ah & al & cl);
+        bl = fromLow[173]; bh = fromHigh[173]; cl = al ^ ah; toLow[382] = cl ^ (~bl & bh & al); toHigh[382] = al ^ (bh & bl & cl);
+        al = fromLow[537]; ah = fromHigh[537]; cl = bl ^ bh; toLow[383] = cl ^ (~al & ah & bl); toHigh[383] = bl ^ (ah & al & cl);
+        bl = fromLow[172]; bh = fromHigh[172]; cl = al ^ ah; toLow[384] = cl ^ (~bl & bh & al); toHigh[384] = al ^ (bh & bl & cl);
+        al = fromLow[536]; ah = fromHigh[536]; cl = bl ^ bh; toLow[385] = cl ^ (~al & ah & bl); toHigh[385] = bl ^ (ah & al & cl);
+        bl = fromLow[171]; bh = fromHigh[171]; cl = al ^ ah; toLow[386] = cl ^ (~bl & bh & al); toHigh[386] = al ^ (bh & bl & cl);
+        al = fromLow[535]; ah = fromHigh[535]; cl = bl ^ bh; toLow[387] = cl ^ (~al & ah & bl); toHigh[387] = bl ^ (ah & al & cl);
+        bl = fromLow[170]; bh = fromHigh[170]; cl = al ^ ah; toLow[388] = cl ^ (~bl & bh & al); toHigh[388] = al ^ (bh & bl & cl);
+        al = fromLow[534]; ah = fromHigh[534]; cl = bl ^ bh; toLow[389] = cl ^ (~al & ah & bl); toHigh[389] = bl ^ (ah & al & cl);
+        bl = fromLow[169]; bh = fromHigh[169]; cl = al ^ ah; toLow[390] = cl ^ (~bl & bh & al); toHigh[390] = al ^ (bh & bl & cl);
+        al = fromLow[533]; ah = fromHigh[533]; cl = bl ^ bh; toLow[391] = cl ^ (~al & ah & bl); toHigh[391] = bl ^ (ah & al & cl);
+        bl = fromLow[168]; bh = fromHigh[168]; cl = al ^ ah; toLow[392] = cl ^ (~bl & bh & al); toHigh[392] = al ^ (bh & bl & cl);
+        al = fromLow[532]; ah = fromHigh[532]; cl = bl ^ bh; toLow[393] = cl ^ (~al & ah & bl); toHigh[393] = bl ^ (ah & al & cl);
+        bl = fromLow[167]; bh = fromHigh[167]; cl = al ^ ah; toLow[394] = cl ^ (~bl & bh & al); toHigh[394] = al ^ (bh & bl & cl);
+        al = fromLow[531]; ah = fromHigh[531]; cl = bl ^ bh; toLow[395] = cl ^ (~al & ah & bl); toHigh[395] = bl ^ (ah & al & cl);
+        bl = fromLow[166]; bh = fromHigh[166]; cl = al ^ ah; toLow[396] = cl ^ (~bl & bh & al); toHigh[396] = al ^ (bh & bl & cl);
+        al = fromLow[530]; ah = fromHigh[530]; cl = bl ^ bh; toLow[397] = cl ^ (~al & ah & bl); toHigh[397] = bl ^ (ah & al & cl);
+        bl = fromLow[165]; bh = fromHigh[165]; cl = al ^ ah; toLow[398] = cl ^ (~bl & bh & al); toHigh[398] = al ^ (bh & bl & cl);
+        al = fromLow[529]; ah = fromHigh[529]; cl = bl ^ bh; toLow[399] = cl ^ (~al & ah & bl); toHigh[399] = bl ^ (ah & al & cl);
+        bl = fromLow[164]; bh = fromHigh[164]; cl = al ^ ah; toLow[400] = cl ^ (~bl & bh & al); toHigh[400] = al ^ (bh & bl & cl);
+        al = fromLow[528]; ah = fromHigh[528]; cl = bl ^ bh; toLow[401] = cl ^ (~al & ah & bl); toHigh[401] = bl ^ (ah & al & cl);
+        bl = fromLow[163]; bh = fromHigh[163]; cl = al ^ ah; toLow[402] = cl ^ (~bl & bh & al); toHigh[402] = al ^ (bh & bl & cl);
+        al = fromLow[527]; ah = fromHigh[527]; cl = bl ^ bh; toLow[403] = cl ^ (~al & ah & bl); toHigh[403] = bl ^ (ah & al & cl);
+        bl = fromLow[162]; bh = fromHigh[162]; cl = al ^ ah; toLow[404] = cl ^ (~bl & bh & al); toHigh[404] = al ^ (bh & bl & cl);
+    }
+
+    private static void powRound64_5(final long[] fromLow, final long[] fromHigh, final long[] toLow, final long[] toHigh) {
+        long al = fromLow[162], ah = fromHigh[162], bl, bh, cl;
+        bl = fromLow[526]; bh = fromHigh[526]; cl = al ^ ah; toLow[405] = cl ^ (~bl & bh & al); toHigh[405] = al ^ (bh & bl & cl);
+        al = fromLow[161]; ah = fromHigh[161]; cl = bl ^ bh; toLow[406] = cl ^ (~al & ah & bl); toHigh[406] = bl ^ (ah & al & cl);
+        bl = fromLow[525]; bh = fromHigh[525]; cl = al ^ ah; toLow[407] = cl ^ (~bl & bh & al); toHigh[407] = al ^ (bh & bl & cl);
+        al = fromLow[160]; ah = fromHigh[160]; cl = bl ^ bh; toLow[408] = cl ^ (~al & ah & bl); toHigh[408] = bl ^ (ah & al & cl);
+        bl = fromLow[524]; bh = fromHigh[524]; cl = al ^ ah; toLow[409] = cl ^ (~bl & bh & al); toHigh[409] = al ^ (bh & bl & cl);
+        al = fromLow[159]; ah = fromHigh[159]; cl = bl ^ bh; toLow[410] = cl ^ (~al & ah & bl); toHigh[410] = bl ^ (ah & al & cl);
+        bl = fromLow[523]; bh = fromHigh[523]; cl = al ^ ah; toLow[411] = cl ^ (~bl & bh & al); toHigh[411] = al ^ (bh & bl & cl);
+        al = fromLow[158]; ah = fromHigh[158]; cl = bl ^ bh; toLow[412] = cl ^ (~al & ah & bl); toHigh[412] = bl ^ (ah & al & cl);
+        bl = fromLow[522]; bh = fromHigh[522]; cl = al ^ ah; toLow[413] = cl ^ (~bl & bh & al); toHigh[413] = al ^ (bh & bl & cl);
+        al = fromLow[157]; ah = fromHigh[157]; cl = bl ^ bh; toLow[414] = cl ^ (~al & ah & bl); toHigh[414] = bl ^ (ah & al & cl);
+        bl = fromLow[521]; bh = fromHigh[521]; cl = al ^ ah; toLow[415] = cl ^ (~bl & bh & al); toHigh[415] = al ^ (bh & bl & cl);
+        al = fromLow[156]; ah = fromHigh[156]; cl = bl ^ bh; toLow[416] = cl ^ (~al & ah & bl); toHigh[416] = bl ^ (ah & al & cl);
+        bl = fromLow[520]; bh = fromHigh[520]; cl = al ^ ah; toLow[417] = cl ^ (~bl & bh & al); toHigh[417] = al ^ (bh & bl & cl);
+        al = fromLow[155]; ah = fromHigh[155]; cl = bl ^ bh; toLow[418] = cl ^ (~al & ah & bl); toHigh[418] = bl ^ (ah & al & cl);
+        bl = fromLow[519]; bh = fromHigh[519]; cl = al ^ ah; toLow[419] = cl ^ (~bl & bh & al); toHigh[419] = al ^ (bh & bl & cl);
+        al = fromLow[154]; ah = fromHigh[154]; cl = bl ^ bh; toLow[420] = cl ^ (~al & ah & bl); toHigh[420] = bl ^ (ah & al & cl);
+        bl = fromLow[518]; bh = fromHigh[518]; cl = al ^ ah; toLow[421] = cl ^ (~bl & bh & al); toHigh[421] = al ^ (bh & bl & cl);
+        al = fromLow[153]; ah = fromHigh[153]; cl = bl ^ bh; toLow[422] = cl ^ (~al & ah & bl); toHigh[422] = bl ^ (ah & al & cl);
+        bl = fromLow[517]; bh = fromHigh[517]; cl = al ^ ah; toLow[423] = cl ^ (~bl & bh & al); toHigh[423] = al ^ (bh & bl & cl);
+        al = fromLow[152]; ah = fromHigh[152]; cl = bl ^ bh; toLow[424] = cl ^ (~al & ah & bl); toHigh[424] = bl ^ (ah & al & cl);
+        bl = fromLow[516]; bh = fromHigh[516]; cl = al ^ ah; toLow[425] = cl ^ (~bl & bh & al); toHigh[425] = al ^ (bh & bl & cl);
+        al = fromLow[151]; ah = fromHigh[151]; cl = bl ^ bh; toLow[426] = cl ^ (~al & ah & bl); toHigh[426] = bl ^ (ah & al & cl);
+        bl = fromLow[515]; bh = fromHigh[515]; cl = al ^ ah; toLow[427] = cl ^ (~bl & bh & al); toHigh[427] = al ^ (bh & bl & cl);
+        al = fromLow[150]; ah = fromHigh[150]; cl = bl ^ bh; toLow[428] = cl ^ (~al & ah & bl); toHigh[428] = bl ^ (ah & al & cl);
+        bl = fromLow[514]; bh = fromHigh[514]; cl = al ^ ah; toLow[429] = cl ^ (~bl & bh & al); toHigh[429] = al ^ (bh & bl & cl);
+        al = fromLow[149]; ah = fromHigh[149]; cl = bl ^ bh; toLow[430] = cl ^ (~al & ah & bl); toHigh[430] = bl ^ (ah & al & cl);
+        bl = fromLow[513]; bh = fromHigh[513]; cl = al ^ ah; toLow[431] = cl ^ (~bl & bh & al); toHigh[431] = al ^ (bh & bl & cl);
+        al = fromLow[148]; ah = fromHigh[148]; cl = bl ^ bh; toLow[432] = cl ^ (~al & ah & bl); toHigh[432] = bl ^ (ah & al & cl);
+        bl = fromLow[512]; bh = fromHigh[512]; cl = al ^ ah; toLow[433] = cl ^ (~bl & bh & al); toHigh[433] = al ^ (bh & bl & cl);
+        al = fromLow[147]; ah = fromHigh[147]; cl = bl ^ bh; toLow[434] = cl ^ (~al & ah & bl); toHigh[434] = bl ^ (ah & al & cl);
+        bl = fromLow[511]; bh = fromHigh[511]; cl = al ^ ah; toLow[435] = cl ^ (~bl & bh & al); toHigh[435] = al ^ (bh & bl & cl);
+        al = fromLow[146]; ah = fromHigh[146]; cl = bl ^ bh; toLow[436] = cl ^ (~al & ah & bl); toHigh[436] = bl ^ (ah & al & cl);
+        bl = fromLow[510]; bh = fromHigh[510]; cl = al ^ ah; toLow[437] = cl ^ (~bl & bh & al); toHigh[437] = al ^ (bh & bl & cl);
+        al = fromLow[145]; ah = fromHigh[145]; cl = bl ^ bh; toLow[438] = cl ^ (~al & ah & bl); toHigh[438] = bl ^ (ah & al & cl);
+        bl = fromLow[509]; bh = fromHigh[509]; cl = al ^ ah; toLow[439] = cl ^ (~bl & bh & al); toHigh[439] = al ^ (bh & bl & cl);
+        al = fromLow[144]; ah = fromHigh[144]; cl = bl ^ bh; toLow[440] = cl ^ (~al & ah & bl); toHigh[440] = bl ^ (ah & al & cl);
+        bl = fromLow[508]; bh = fromHigh[508]; cl = al ^ ah; toLow[441] = cl ^ (~bl & bh & al); toHigh[441] = al ^ (bh & bl & cl);
+        al = fromLow[143]; ah = fromHigh[143]; cl = bl ^ bh; toLow[442] = cl ^ (~al & ah & bl); toHigh[442] = bl ^ (ah & al & cl);
+        bl = fromLow[507]; bh = fromHigh[507]; cl = al ^ ah; toLow[443] = cl ^ (~bl & bh & al); toHigh[443] = al ^ (bh & bl & cl);
+        al = fromLow[142]; ah = fromHigh[142]; cl = bl ^ bh; toLow[444] = cl ^ (~al & ah & bl); toHigh[444] = bl ^ (ah & al & cl);
+        bl = fromLow[506]; bh = fromHigh[506]; cl = al ^ ah; toLow[445] = cl ^ (~bl & bh & al); toHigh[445] = al ^ (bh & bl & cl);
+        al = fromLow[141]; ah = fromHigh[141]; cl = bl ^ bh; toLow[446] = cl ^ (~al & ah & bl); toHigh[446] = bl ^ (ah & al & cl);
+        bl = fromLow[505]; bh = fromHigh[505]; cl = al ^ ah; toLow[447] = cl ^ (~bl & bh & al); toHigh[447] = al ^ (bh & bl & cl);
+        al = fromLow[140]; ah = fromHigh[140]; cl = bl ^ bh; toLow[448] = cl ^ (~al & ah & bl); toHigh[448] = bl ^ (ah & al & cl);
+        bl = fromLow[504]; bh = fromHigh[504]; cl = al ^ ah; toLow[449] = cl ^ (~bl & bh & al); toHigh[449] = al ^ (bh & bl & cl);
+        al = fromLow[139]; ah = fromHigh[139]; cl = bl ^ bh; toLow[450] = cl ^ (~al & ah & bl); toHigh[450] = bl ^ (ah & al & cl);
+        bl = fromLow[503]; bh = fromHigh[503]; cl = al ^ ah; toLow[451] = cl ^ (~bl & bh & al); toHigh[451] = al ^ (bh & bl & cl);
+        al = fromLow[138]; ah = fromHigh[138]; cl = bl ^ bh; toLow[452] = cl ^ (~al & ah & bl); toHigh[452] = bl ^ (ah & al & cl);
+        bl = fromLow[502]; bh = fromHigh[502]; cl = al ^ ah; toLow[453] = cl ^ (~bl & bh & al); toHigh[453] = al ^ (bh & bl & cl);
+        al = fromLow[137]; ah = fromHigh[137]; cl = bl ^ bh; toLow[454] = cl ^ (~al & ah & bl); toHigh[454] = bl ^ (ah & al & cl);
+        bl = fromLow[501]; bh = fromHigh[501]; cl = al ^ ah; toLow[455] = cl ^ (~bl & bh & al); toHigh[455] = al ^ (bh & bl & cl);
+        al = fromLow[136]; ah = fromHigh[136]; cl = bl ^ bh; toLow[456] = cl ^ (~al & ah & bl); toHigh[456] = bl ^ (ah & al & cl);
+        bl = fromLow[500]; bh = fromHigh[500]; cl = al ^ ah; toLow[457] = cl ^ (~bl & bh & al); toHigh[457] = al ^ (bh & bl & cl);
+        al = fromLow[135]; ah = fromHigh[135]; cl = bl ^ bh; toLow[458] = cl ^ (~al & ah & bl); toHigh[458] = bl ^ (ah & al & cl);
+        bl = fromLow[499]; bh = fromHigh[499]; cl = al ^ ah; toLow[459] = cl ^ (~bl & bh & al); toHigh[459] = al ^ (bh & bl & cl);
+        al = fromLow[134]; ah = fromHigh[134]; cl = bl ^ bh; toLow[460] = cl ^ (~al & ah & bl); toHigh[460] = bl ^ (ah & al & cl);
+        bl = fromLow[498]; bh = fromHigh[498]; cl = al ^ ah; toLow[461] = cl ^ (~bl & bh & al); toHigh[461] = al ^ (bh & bl & cl);
+        al = fromLow[133]; ah = fromHigh[133]; cl = bl ^ bh; toLow[462] = cl ^ (~al & ah & bl); toHigh[462] = bl ^ (ah & al & cl);
+        bl = fromLow[497]; bh = fromHigh[497]; cl = al ^ ah; toLow[463] = cl ^ (~bl & bh & al); toHigh[463] = al ^ (bh & bl & cl);
+        al = fromLow[132]; ah = fromHigh[132]; cl = bl ^ bh; toLow[464] = cl ^ (~al & ah & bl); toHigh[464] = bl ^ (ah & al & cl);
+        bl = fromLow[496]; bh = fromHigh[496]; cl = al ^ ah; toLow[465] = cl ^ (~bl & bh & al); toHigh[465] = al ^ (bh & bl & cl);
+        al = fromLow[131]; ah = fromHigh[131]; cl = bl ^ bh; toLow[466] = cl ^ (~al & ah & bl); toHigh[466] = bl ^ (ah & al & cl);
+        bl = fromLow[495]; bh = fromHigh[495]; cl = al ^ ah; toLow[467] = cl ^ (~bl & bh & al); toHigh[467] = al ^ (bh & bl & cl);
+        al = fromLow[130]; ah = fromHigh[130]; cl = bl ^ bh; toLow[468] = cl ^ (~al & ah & bl); toHigh[468] = bl ^ (ah & al & cl);
+        bl = fromLow[494]; bh = fromHigh[494]; cl = al ^ ah; toLow[469] = cl ^ (~bl & bh & al); toHigh[469] = al ^ (bh & bl & cl);
+        al = fromLow[129]; ah = fromHigh[129]; cl = bl ^ bh; toLow[470] = cl ^ (~al & ah & bl); toHigh[470] = bl ^ (ah & al & cl);
+        bl = fromLow[493]; bh = fromHigh[493]; cl = al ^ ah; toLow[471] = cl ^ (~bl & bh & al); toHigh[471] = al ^ (bh & bl & cl);
+        al = fromLow[128]; ah = fromHigh[128]; cl = bl ^ bh; toLow[472] = cl ^ (~al & ah & bl); toHigh[472] = bl ^ (ah & al & cl);
+        bl = fromLow[492]; bh = fromHigh[492]; cl = al ^ ah; toLow[473] = cl ^ (~bl & bh & al); toHigh[473] = al ^ (bh & bl & cl);
+        al = fromLow[127]; ah = fromHigh[127]; cl = bl ^ bh; toLow[474] = cl ^ (~al & ah & bl); toHigh[474] = bl ^ (ah & al & cl);
+        bl = fromLow[491]; bh = fromHigh[491]; cl = al ^ ah; toLow[475] = cl ^ (~bl & bh & al); toHigh[475] = al ^ (bh & bl & cl);
+        al = fromLow[126]; ah = fromHigh[126]; cl = bl ^ bh; toLow[476] = cl ^ (~al & ah & bl); toHigh[476] = bl ^ (ah & al & cl);
+        bl = fromLow[490]; bh = fromHigh[490]; cl = al ^ ah; toLow[477] = cl ^ (~bl & bh & al); toHigh[477] = al ^ (bh & bl & cl);
+        al = fromLow[125]; ah = fromHigh[125]; cl = bl ^ bh; toLow[478] = cl ^ (~al & ah & bl); toHigh[478] = bl ^ (ah & al & cl);
+        bl = fromLow[489]; bh = fromHigh[489]; cl = al ^ ah; toLow[479] = cl ^ (~bl & bh & al); toHigh[479] = al ^ (bh & bl & cl);
+        al = fromLow[124]; ah = fromHigh[124]; cl = bl ^ bh; toLow[480] = cl ^ (~al & ah & bl); toHigh[480] = bl ^ (ah & al & cl);
+        bl = fromLow[488]; bh = fromHigh[488]; cl = al ^ ah; toLow[481] = cl ^ (~bl & bh & al); toHigh[481] = al ^ (bh & bl & cl);
+        al = fromLow[123]; ah = fromHigh[123]; cl = bl ^ bh; toLow[482] = cl ^ (~al & ah & bl); toHigh[482] = bl ^ (ah & al & cl);
+        bl = fromLow[487]; bh = fromHigh[487]; cl = al ^ ah; toLow[483] = cl ^ (~bl & bh & al); toHigh[483] = al ^ (bh & bl & cl);
+        al = fromLow[122]; ah = fromHigh[122]; cl = bl ^ bh; toLow[484] = cl ^ (~al & ah & bl); toHigh[484] = bl ^ (ah & al & cl);
+        bl = fromLow[486]; bh = fromHigh[486]; cl = al ^ ah; toLow[485] = cl ^ (~bl & bh & al); toHigh[485] = al ^ (bh & bl & cl);
+    }
+
+    private static void powRound64_6(final long[] fromLow, final long[] fromHigh, final long[] toLow, final long[] toHigh) {
+        long al = fromLow[486], ah = fromHigh[486], bl, bh, cl;
+        bl = fromLow[121]; bh = fromHigh[121]; cl = al ^ ah; toLow[486] = cl ^ (~bl & bh & al); toHigh[486] = al ^ (bh & bl & cl);
+        al = fromLow[485]; ah = fromHigh[485]; cl = bl ^ bh; toLow[487] = cl ^ (~al & ah & bl); toHigh[487] = bl ^ (ah & al & cl);
+        bl = fromLow[120]; bh = fromHigh[120]; cl = al ^ ah; toLow[488] = cl ^ (~bl & bh & al); toHigh[488] = al ^ (bh & bl & cl);
+        al = fromLow[484]; ah = fromHigh[484]; cl = bl ^ bh; toLow[489] = cl ^ (~al & ah & bl); toHigh[489] = bl ^ (ah & al & cl);
+        bl = fromLow[119]; bh = fromHigh[119]; cl = al ^ ah; toLow[490] = cl ^ (~bl & bh & al); toHigh[490] = al ^ (bh & bl & cl);
+        al = fromLow[483]; ah = fromHigh[483]; cl = bl ^ bh; toLow[491] = cl ^ (~al & ah & bl); toHigh[491] = bl ^ (ah & al & cl);
+        bl = fromLow[118]; bh = fromHigh[118]; cl = al ^ ah; toLow[492] = cl ^ (~bl & bh & al); toHigh[492] = al ^ (bh & bl & cl);
+        al = fromLow[482]; ah = fromHigh[482]; cl = bl ^ bh; toLow[493] = cl ^ (~al & ah & bl); toHigh[493] = bl ^ (ah & al & cl);
+        bl = fromLow[117]; bh = fromHigh[117]; cl = al ^ ah; toLow[494] = cl ^ (~bl & bh & al); toHigh[494] = al ^ (bh & bl & cl);
+        al = fromLow[481]; ah = fromHigh[481]; cl = bl ^ bh; toLow[495] = cl ^ (~al & ah & bl); toHigh[495] = bl ^ (ah & al & cl);
+        bl = fromLow[116]; bh = fromHigh[116]; cl = al ^ ah; toLow[496] = cl ^ (~bl & bh & al); toHigh[496] = al ^ (bh & bl & cl);
+        al = fromLow[480]; ah = fromHigh[480]; cl = bl ^ bh; toLow[497] = cl ^ (~al & ah & bl); toHigh[497] = bl ^ (ah & al & cl);
+        bl = fromLow[115]; bh = fromHigh[115]; cl = al ^ ah; toLow[498] = cl ^ (~bl & bh & al); toHigh[498] = al ^ (bh & bl & cl);
+        al = fromLow[479]; ah = fromHigh[479]; cl = bl ^ bh; toLow[499] = cl ^ (~al & ah & bl); toHigh[499] = bl ^ (ah & al & cl);
+        bl = fromLow[114]; bh = fromHigh[114]; cl = al ^ ah; toLow[500] = cl ^ (~bl & bh & al); toHigh[500] = al ^ (bh & bl & cl);
+        al = fromLow[478]; ah = fromHigh[478]; cl = bl ^ bh; toLow[501] = cl ^ (~al & ah & bl); toHigh[501] = bl ^ (ah & al & cl);
+        bl = fromLow[113]; bh = fromHigh[113]; cl = al ^ ah; toLow[502] = cl ^ (~bl & bh & al); toHigh[502] = al ^ (bh & bl & cl);
+        al = fromLow[477]; ah = fromHigh[477]; cl = bl ^ bh; toLow[503] = cl ^ (~al & ah & bl); toHigh[503] = bl ^ (ah & al & cl);
+        bl = fromLow[112]; bh = fromHigh[112]; cl = al ^ ah; toLow[504] = cl ^ (~bl & bh & al); toHigh[504] = al ^ (bh & bl & cl);
+        al = fromLow[476]; ah = fromHigh[476]; cl = bl ^ bh; toLow[505] = cl ^ (~al & ah & bl); toHigh[505] = bl ^ (ah & al & cl);
+        bl = fromLow[111]; bh = fromHigh[111]; cl = al ^ ah; toLow[506] = cl ^ (~bl & bh & al); toHigh[506] = al ^ (bh & bl & cl);
+        al = fromLow[475]; ah = fromHigh[475]; cl = bl ^ bh; toLow[507] = cl ^ (~al & ah & bl); toHigh[507] = bl ^ (ah & al & cl);
+        bl = fromLow[110]; bh = fromHigh[110]; cl = al ^ ah; toLow[508] = cl ^ (~bl & bh & al); toHigh[508] = al ^ (bh & bl & cl);
+        al = fromLow[474]; ah = fromHigh[474]; cl = bl ^ bh; toLow[509] = cl ^ (~al & ah & bl); toHigh[509] = bl ^ (ah & al & cl);
+        bl = fromLow[109]; bh = fromHigh[109]; cl = al ^ ah; toLow[510] = cl ^ (~bl & bh & al); toHigh[510] = al ^ (bh & bl & cl);
+        al = fromLow[473]; ah = fromHigh[473]; cl = bl ^ bh; toLow[511] = cl ^ (~al & ah & bl); toHigh[511] = bl ^ (ah & al & cl);
+        bl = fromLow[108]; bh = fromHigh[108]; cl = al ^ ah; toLow[512] = cl ^ (~bl & bh & al); toHigh[512] = al ^ (bh & bl & cl);
+        al = fromLow[472]; ah = fromHigh[472]; cl = bl ^ bh; toLow[513] = cl ^ (~al & ah & bl); toHigh[513] = bl ^ (ah & al & cl);
+        bl = fromLow[107]; bh = fromHigh[107]; cl = al ^ ah; toLow[514] = cl ^ (~bl & bh & al); toHigh[514] = al ^ (bh & bl & cl);
+        al = fromLow[471]; ah = fromHigh[471]; cl = bl ^ bh; toLow[515] = cl ^ (~al & ah & bl); toHigh[515] = bl ^ (ah & al & cl);
+        bl = fromLow[106]; bh = fromHigh[106]; cl = al ^ ah; toLow[516] = cl ^ (~bl & bh & al); toHigh[516] = al ^ (bh & bl & cl);
+        al = fromLow[470]; ah = fromHigh[470]; cl = bl ^ bh; toLow[517] = cl ^ (~al & ah & bl); toHigh[517] = bl ^ (ah & al & cl);
+        bl = fromLow[105]; bh = fromHigh[105]; cl = al ^ ah; toLow[518] = cl ^ (~bl & bh & al); toHigh[518] = al ^ (bh & bl & cl);
+        al = fromLow[469]; ah = fromHigh[469]; cl = bl ^ bh; toLow[519] = cl ^ (~al & ah & bl); toHigh[519] = bl ^ (ah & al & cl);
+        bl = fromLow[104]; bh = fromHigh[104]; cl = al ^ ah; toLow[520] = cl ^ (~bl & bh & al); toHigh[520] = al ^ (bh & bl & cl);
+        al = fromLow[468]; ah = fromHigh[468]; cl = bl ^ bh; toLow[521] = cl ^ (~al & ah & bl); toHigh[521] = bl ^ (ah & al & cl);
+        bl = fromLow[103]; bh = fromHigh[103]; cl = al ^ ah; toLow[522] = cl ^ (~bl & bh & al); toHigh[522] = al ^ (bh & bl & cl);
+        al = fromLow[467]; ah = fromHigh[467]; cl = bl ^ bh; toLow[523] = cl ^ (~al & ah & bl); toHigh[523] = bl ^ (ah & al & cl);
+        bl = fromLow[102]; bh = fromHigh[102]; cl = al ^ ah; toLow[524] = cl ^ (~bl & bh & al); toHigh[524] = al ^ (bh & bl & cl);
+        al = fromLow[466]; ah = fromHigh[466]; cl = bl ^ bh; toLow[525] = cl ^ (~al & ah & bl); toHigh[525] = bl ^ (ah & al & cl);
+        bl = fromLow[101]; bh = fromHigh[101]; cl = al ^ ah; toLow[526] = cl ^ (~bl & bh & al); toHigh[526] = al ^ (bh & bl & cl);
+        al = fromLow[465]; ah = fromHigh[465]; cl = bl ^ bh; toLow[527] = cl ^ (~al & ah & bl); toHigh[527] = bl ^ (ah & al & cl);
+        bl = fromLow[100]; bh = fromHigh[100]; cl = al ^ ah; toLow[528] = cl ^ (~bl & bh & al); toHigh[528] = al ^ (bh & bl & cl);
+        al = fromLow[464]; ah = fromHigh[464]; cl = bl ^ bh; toLow[529] = cl ^ (~al & ah & bl); toHigh[529] = bl ^ (ah & al & cl);
+        bl = fromLow[99]; bh = fromHigh[99]; cl = al ^ ah; toLow[530] = cl ^ (~bl & bh & al); toHigh[530] = al ^ (bh & bl & cl);
+        al = fromLow[463]; ah = fromHigh[463]; cl = bl ^ bh; toLow[531] = cl ^ (~al & ah & bl); toHigh[531] = bl ^ (ah & al & cl);
+        bl = fromLow[98]; bh = fromHigh[98]; cl = al ^ ah; toLow[532] = cl ^ (~bl & bh & al); toHigh[532] = al ^ (bh & bl & cl);
+        al = fromLow[462]; ah = fromHigh[462]; cl = bl ^ bh; toLow[533] = cl ^ (~al & ah & bl); toHigh[533] = bl ^ (ah & al & cl);
+        bl = fromLow[97]; bh = fromHigh[97]; cl = al ^ ah; toLow[534] = cl ^ (~bl & bh & al); toHigh[534] = al ^ (bh & bl & cl);
+        al = fromLow[461]; ah = fromHigh[461]; cl = bl ^ bh; toLow[535] = cl ^ (~al & ah & bl); toHigh[535] = bl ^ (ah & al & cl);
+        bl = fromLow[96]; bh = fromHigh[96]; cl = al ^ ah; toLow[536] = cl ^ (~bl & bh & al); toHigh[536] = al ^ (bh & bl & cl);
+        al = fromLow[460]; ah = fromHigh[460]; cl = bl ^ bh; toLow[537] = cl ^ (~al & ah & bl); toHigh[537] = bl ^ (ah & al & cl);
+        bl = fromLow[95]; bh = fromHigh[95]; cl = al ^ ah; toLow[538] = cl ^ (~bl & bh & al); toHigh[538] = al ^ (bh & bl & cl);
+        al = fromLow[459]; ah = fromHigh[459]; cl = bl ^ bh; toLow[539] = cl ^ (~al & ah & bl); toHigh[539] = bl ^ (ah & al & cl);
+        bl = fromLow[94]; bh = fromHigh[94]; cl = al ^ ah; toLow[540] = cl ^ (~bl & bh & al); toHigh[540] = al ^ (bh & bl & cl);
+        al = fromLow[458]; ah = fromHigh[458]; cl = bl ^ bh; toLow[541] = cl ^ (~al & ah & bl); toHigh[541] = bl ^ (ah & al & cl);
+        bl = fromLow[93]; bh = fromHigh[93]; cl = al ^ ah; toLow[542] = cl ^ (~bl & bh & al); toHigh[542] = al ^ (bh & bl & cl);
+        al = fromLow[457]; ah = fromHigh[457]; cl = bl ^ bh; toLow[543] = cl ^ (~al & ah & bl); toHigh[543] = bl ^ (ah & al & cl);
+        bl = fromLow[92]; bh = fromHigh[92]; cl = al ^ ah; toLow[544] = cl ^ (~bl & bh & al); toHigh[544] = al ^ (bh & bl & cl);
+        al = fromLow[456]; ah = fromHigh[456]; cl = bl ^ bh; toLow[545] = cl ^ (~al & ah & bl); toHigh[545] = bl ^ (ah & al & cl);
+        bl = fromLow[91]; bh = fromHigh[91]; cl = al ^ ah; toLow[546] = cl ^ (~bl & bh & al); toHigh[546] = al ^ (bh & bl & cl);
+        al = fromLow[455]; ah = fromHigh[455]; cl = bl ^ bh; toLow[547] = cl ^ (~al & ah & bl); toHigh[547] = bl ^ (ah & al & cl);
+        bl = fromLow[90]; bh = fromHigh[90]; cl = al ^ ah; toLow[548] = cl ^ (~bl & bh & al); toHigh[548] = al ^ (bh & bl & cl);
+        al = fromLow[454]; ah = fromHigh[454]; cl = bl ^ bh; toLow[549] = cl ^ (~al & ah & bl); toHigh[549] = bl ^ (ah & al & cl);
+        bl = fromLow[89]; bh = fromHigh[89]; cl = al ^ ah; toLow[550] = cl ^ (~bl & bh & al); toHigh[550] = al ^ (bh & bl & cl);
+        al = fromLow[453]; ah = fromHigh[453]; cl = bl ^ bh; toLow[551] = cl ^ (~al & ah & bl); toHigh[551] = bl ^ (ah & al & cl);
+        bl = fromLow[88]; bh = fromHigh[88]; cl = al ^ ah; toLow[552] = cl ^ (~bl & bh & al); toHigh[552] = al ^ (bh & bl & cl);
+        al = fromLow[452]; ah = fromHigh[452]; cl = bl ^ bh; toLow[553] = cl ^ (~al & ah & bl); toHigh[553] = bl ^ (ah & al & cl);
+        bl = fromLow[87]; bh = fromHigh[87]; cl = al ^ ah; toLow[554] = cl ^ (~bl & bh & al); toHigh[554] = al ^ (bh & bl & cl);
+        al = fromLow[451]; ah = fromHigh[451]; cl = bl ^ bh; toLow[555] = cl ^ (~al & ah & bl); toHigh[555] = bl ^ (ah & al & cl);
+        bl = fromLow[86]; bh = fromHigh[86]; cl = al ^ ah; toLow[556] = cl ^ (~bl & bh & al); toHigh[556] = al ^ (bh & bl & cl);
+        al = fromLow[450]; ah = fromHigh[450]; cl = bl ^ bh; toLow[557] = cl ^ (~al & ah & bl); toHigh[557] = bl ^ (ah & al & cl);
+        bl = fromLow[85]; bh = fromHigh[85]; cl = al ^ ah; toLow[558] = cl ^ (~bl & bh & al); toHigh[558] = al ^ (bh & bl & cl);
+        al = fromLow[449]; ah = fromHigh[449]; cl = bl ^ bh; toLow[559] = cl ^ (~al & ah & bl); toHigh[559] = bl ^ (ah & al & cl);
+        bl = fromLow[84]; bh = fromHigh[84]; cl = al ^ ah; toLow[560] = cl ^ (~bl & bh & al); toHigh[560] = al ^ (bh & bl & cl);
+        al = fromLow[448]; ah = fromHigh[448]; cl = bl ^ bh; toLow[561] = cl ^ (~al & ah & bl); toHigh[561] = bl ^ (ah & al & cl);
+        bl = fromLow[83]; bh = fromHigh[83]; cl = al ^ ah; toLow[562] = cl ^ (~bl & bh & al); toHigh[562] = al ^ (bh & bl & cl);
+        al = fromLow[447]; ah = fromHigh[447]; cl = bl ^ bh; toLow[563] = cl ^ (~al & ah & bl); toHigh[563] = bl ^ (ah & al & cl);
+        bl = fromLow[82]; bh = fromHigh[82]; cl = al ^ ah; toLow[564] = cl ^ (~bl & bh & al); toHigh[564] = al ^ (bh & bl & cl);
+        al = fromLow[446]; ah = fromHigh[446]; cl = bl ^ bh; toLow[565] = cl ^ (~al & ah & bl); toHigh[565] = bl ^ (ah & al & cl);
+        bl = fromLow[81]; bh = fromHigh[81]; cl = al ^ ah; toLow[566] = cl ^ (~bl & bh & al); toHigh[566] = al ^ (bh & bl & cl);
+    }
+
+    private static void powRound64_7(final long[] fromLow, final long[] fromHigh, final long[] toLow, final long[] toHigh) {
+        long al = fromLow[81], ah = fromHigh[81], bl, bh, cl;
+        bl = fromLow[445]; bh = fromHigh[445]; cl = al ^ ah; toLow[567] = cl ^ (~bl & bh & al); toHigh[567] = al ^ (bh & bl & cl);
+        al = fromLow[80]; ah = fromHigh[80]; cl = bl ^ bh; toLow[568] = cl ^ (~al & ah & bl); toHigh[568] = bl ^ (ah & al & cl);
+        bl = fromLow[444]; bh = fromHigh[444]; cl = al ^ ah; toLow[569] = cl ^ (~bl & bh & al); toHigh[569] = al ^ (bh & bl & cl);
+        al = fromLow[79]; ah = fromHigh[79]; cl = bl ^ bh; toLow[570] = cl ^ (~al & ah & bl); toHigh[570] = bl ^ (ah & al & cl);
+        bl = fromLow[443]; bh = fromHigh[443]; cl = al ^ ah; toLow[571] = cl ^ (~bl & bh & al); toHigh[571] = al ^ (bh & bl & cl);
+        al = fromLow[78]; ah = fromHigh[78]; cl = bl ^ bh; toLow[572] = cl ^ (~al & ah & bl); toHigh[572] = bl ^ (ah & al & cl);
+        bl = fromLow[442]; bh = fromHigh[442]; cl = al ^ ah; toLow[573] = cl ^ (~bl & bh & al); toHigh[573] = al ^ (bh & bl & cl);
+        al = fromLow[77]; ah = fromHigh[77]; cl = bl ^ bh; toLow[574] = cl ^ (~al & ah & bl); toHigh[574] = bl ^ (ah & al & cl);
+        bl = fromLow[441]; bh = fromHigh[441]; cl = al ^ ah; toLow[575] = cl ^ (~bl & bh & al); toHigh[575] = al ^ (bh & bl & cl);
+        al = fromLow[76]; ah = fromHigh[76]; cl = bl ^ bh; toLow[576] = cl ^ (~al & ah & bl); toHigh[576] = bl ^ (ah & al & cl);
+        bl = fromLow[440]; bh = fromHigh[440]; cl = al ^ ah; toLow[577] = cl ^ (~bl & bh & al); toHigh[577] = al ^ (bh & bl & cl);
+        al = fromLow[75]; ah = fromHigh[75]; cl = bl ^ bh; toLow[578] = cl ^ (~al & ah & bl); toHigh[578] = bl ^ (ah & al & cl);
+        bl = fromLow[439]; bh = fromHigh[439]; cl = al ^ ah; toLow[579] = cl ^ (~bl & bh & al); toHigh[579] = al ^ (bh & bl & cl);
+        al = fromLow[74]; ah = fromHigh[74]; cl = bl ^ bh; toLow[580] = cl ^ (~al & ah & bl); toHigh[580] = bl ^ (ah & al & cl);
+        bl = fromLow[438]; bh = fromHigh[438]; cl = al ^ ah; toLow[581] = cl ^ (~bl & bh & al); toHigh[581] = al ^ (bh & bl & cl);
+        al = fromLow[73]; ah = fromHigh[73]; cl = bl ^ bh; toLow[582] = cl ^ (~al & ah & bl); toHigh[582] = bl ^ (ah & al & cl);
+        bl = fromLow[437]; bh = fromHigh[437]; cl = al ^ ah; toLow[583] = cl ^ (~bl & bh & al); toHigh[583] = al ^ (bh & bl & cl);
+        al = fromLow[72]; ah = fromHigh[72]; cl = bl ^ bh; toLow[584] = cl ^ (~al & ah & bl); toHigh[584] = bl ^ (ah & al & cl);
+        bl = fromLow[436]; bh = fromHigh[436]; cl = al ^ ah; toLow[585] = cl ^ (~bl & bh & al); toHigh[585] = al ^ (bh & bl & cl);
+        al = fromLow[71]; ah = fromHigh[71]; cl = bl ^ bh; toLow[586] = cl ^ (~al & ah & bl); toHigh[586] = bl ^ (ah & al & cl);
+        bl = fromLow[435]; bh = fromHigh[435]; cl = al ^ ah; toLow[587] = cl ^ (~bl & bh & al); toHigh[587] = al ^ (bh & bl & cl);
+        al = fromLow[70]; ah = fromHigh[70]; cl = bl ^ bh; toLow[588] = cl ^ (~al & ah & bl); toHigh[588] = bl ^ (ah & al & cl);
+        bl = fromLow[434]; bh = fromHigh[434]; cl = al ^ ah; toLow[589] = cl ^ (~bl & bh & al); toHigh[589] = al ^ (bh & bl & cl);
+        al = fromLow[69]; ah = fromHigh[69]; cl = bl ^ bh; toLow[590] = cl ^ (~al & ah & bl); toHigh[590] = bl ^ (ah & al & cl);
+        bl = fromLow[433]; bh = fromHigh[433]; cl = al ^ ah; toLow[591] = cl ^ (~bl & bh & al); toHigh[591] = al ^ (bh & bl & cl);
+        al = fromLow[68]; ah = fromHigh[68]; cl = bl ^ bh; toLow[592] = cl ^ (~al & ah & bl); toHigh[592] = bl ^ (ah & al & cl);
+        bl = fromLow[432]; bh = fromHigh[432]; cl = al ^ ah; toLow[593] = cl ^ (~bl & bh & al); toHigh[593] = al ^ (bh & bl & cl);
+        al = fromLow[67]; ah = fromHigh[67]; cl = bl ^ bh; toLow[594] = cl ^ (~al & ah & bl); toHigh[594] = bl ^ (ah & al & cl);
+        bl = fromLow[431]; bh = fromHigh[431]; cl = al ^ ah; toLow[595] = cl ^ (~bl & bh & al); toHigh[595] = al ^ (bh & bl & cl);
+        al = fromLow[66]; ah = fromHigh[66]; cl = bl ^ bh; toLow[596] = cl ^ (~al & ah & bl); toHigh[596] = bl ^ (ah & al & cl);
+        bl = fromLow[430]; bh = fromHigh[430]; cl = al ^ ah; toLow[597] = cl ^ (~bl & bh & al); toHigh[597] = al ^ (bh & bl & cl);
+        al = fromLow[65]; ah = fromHigh[65]; cl = bl ^ bh; toLow[598] = cl ^ (~al & ah & bl); toHigh[598] = bl ^ (ah & al & cl);
+        bl = fromLow[429]; bh = fromHigh[429]; cl = al ^ ah; toLow[599] = cl ^ (~bl & bh & al); toHigh[599] = al ^ (bh & bl & cl);
+        al = fromLow[64]; ah = fromHigh[64]; cl = bl ^ bh; toLow[600] = cl ^ (~al & ah & bl); toHigh[600] = bl ^ (ah & al & cl);
+        bl = fromLow[428]; bh = fromHigh[428]; cl = al ^ ah; toLow[601] = cl ^ (~bl & bh & al); toHigh[601] = al ^ (bh & bl & cl);
+        al = fromLow[63]; ah = fromHigh[63]; cl = bl ^ bh; toLow[602] = cl ^ (~al & ah & bl); toHigh[602] = bl ^ (ah & al & cl);
+        bl = fromLow[427]; bh = fromHigh[427]; cl = al ^ ah; toLow[603] = cl ^ (~bl & bh & al); toHigh[603] = al ^ (bh & bl & cl);
+        al = fromLow[62]; ah = fromHigh[62]; cl = bl ^ bh; toLow[604] = cl ^ (~al & ah & bl); toHigh[604] = bl ^ (ah & al & cl);
+        bl = fromLow[426]; bh = fromHigh[426]; cl = al ^ ah; toLow[605] = cl ^ (~bl & bh & al); toHigh[605] = al ^ (bh & bl & cl);
+        al = fromLow[61]; ah = fromHigh[61]; cl = bl ^ bh; toLow[606] = cl ^ (~al & ah & bl); toHigh[606] = bl ^ (ah & al & cl);
+        bl = fromLow[425]; bh = fromHigh[425]; cl = al ^ ah; toLow[607] = cl ^ (~bl & bh & al); toHigh[607] = al ^ (bh & bl & cl);
+        al = fromLow[60]; ah = fromHigh[60]; cl = bl ^ bh; toLow[608] = cl ^ (~al & ah & bl); toHigh[608] = bl ^ (ah & al & cl);
+        bl = fromLow[424]; bh = fromHigh[424]; cl = al ^ ah; toLow[609] = cl ^ (~bl & bh & al); toHigh[609] = al ^ (bh & bl & cl);
+        al = fromLow[59]; ah = fromHigh[59]; cl = bl ^ bh; toLow[610] = cl ^ (~al & ah & bl); toHigh[610] = bl ^ (ah & al & cl);
+        bl = fromLow[423]; bh = fromHigh[423]; cl = al ^ ah; toLow[611] = cl ^ (~bl & bh & al); toHigh[611] = al ^ (bh & bl & cl);
+        al = fromLow[58]; ah = fromHigh[58]; cl = bl ^ bh; toLow[612] = cl ^ (~al & ah & bl); toHigh[612] = bl ^ (ah & al & cl);
+        bl = fromLow[422]; bh = fromHigh[422]; cl = al ^ ah; toLow[613] = cl ^ (~bl & bh & al); toHigh[613] = al ^ (bh & bl & cl);
+        al = fromLow[57]; ah = fromHigh[57]; cl = bl ^ bh; toLow[614] = cl ^ (~al & ah & bl); toHigh[614] = bl ^ (ah & al & cl);
+        bl = fromLow[421]; bh = fromHigh[421]; cl = al ^ ah; toLow[615] = cl ^ (~bl & bh & al); toHigh[615] = al ^ (bh & bl & cl);
+        al = fromLow[56]; ah = fromHigh[56]; cl = bl ^ bh; toLow[616] = cl ^ (~al & ah & bl); toHigh[616] = bl ^ (ah & al & cl);
+        bl = fromLow[420]; bh = fromHigh[420]; cl = al ^ ah; toLow[617] = cl ^ (~bl & bh & al); toHigh[617] = al ^ (bh & bl & cl);
+        al = fromLow[55]; ah = fromHigh[55]; cl = bl ^ bh; toLow[618] = cl ^ (~al & ah & bl); toHigh[618] = bl ^ (ah & al & cl);
+        bl = fromLow[419]; bh = fromHigh[419]; cl = al ^ ah; toLow[619] = cl ^ (~bl & bh & al); toHigh[619] = al ^ (bh & bl & cl);
+        al = fromLow[54]; ah = fromHigh[54]; cl = bl ^ bh; toLow[620] = cl ^ (~al & ah & bl); toHigh[620] = bl ^ (ah & al & cl);
+        bl = fromLow[418]; bh = fromHigh[418]; cl = al ^ ah; toLow[621] = cl ^ (~bl & bh & al); toHigh[621] = al ^ (bh & bl & cl);
+        al = fromLow[53]; ah = fromHigh[53]; cl = bl ^ bh; toLow[622] = cl ^ (~al & ah & bl); toHigh[622] = bl ^ (ah & al & cl);
+        bl = fromLow[417]; bh = fromHigh[417]; cl = al ^ ah; toLow[623] = cl ^ (~bl & bh & al); toHigh[623] = al ^ (bh & bl & cl);
+        al = fromLow[52]; ah = fromHigh[52]; cl = bl ^ bh; toLow[624] = cl ^ (~al & ah & bl); toHigh[624] = bl ^ (ah & al & cl);
+        bl = fromLow[416]; bh = fromHigh[416]; cl = al ^ ah; toLow[625] = cl ^ (~bl & bh & al); toHigh[625] = al ^ (bh & bl & cl);
+        al = fromLow[51]; ah = fromHigh[51]; cl = bl ^ bh; toLow[626] = cl ^ (~al & ah & bl); toHigh[626] = bl ^ (ah & al & cl);
+        bl = fromLow[415]; bh = fromHigh[415]; cl = al ^ ah; toLow[627] = cl ^ (~bl & bh & al); toHigh[627] = al ^ (bh & bl & cl);
+        al = fromLow[50]; ah = fromHigh[50]; cl = bl ^ bh; toLow[628] = cl ^ (~al & ah & bl); toHigh[628] = bl ^ (ah & al & cl);
+        bl = fromLow[414]; bh = fromHigh[414]; cl = al ^ ah; toLow[629] = cl ^ (~bl & bh & al); toHigh[629] = al ^ (bh & bl & cl);
+        al = fromLow[49]; ah = fromHigh[49]; cl = bl ^ bh; toLow[630] = cl ^ (~al & ah & bl); toHigh[630] = bl ^ (ah & al & cl);
+        bl = fromLow[413]; bh = fromHigh[413]; cl = al ^ ah; toLow[631] = cl ^ (~bl & bh & al); toHigh[631] = al ^ (bh & bl & cl);
+        al = fromLow[48]; ah = fromHigh[48]; cl = bl ^ bh; toLow[632] = cl ^ (~al & ah & bl); toHigh[632] = bl ^ (ah & al & cl);
+        bl = fromLow[412]; bh = fromHigh[412]; cl = al ^ ah; toLow[633] = cl ^ (~bl & bh & al); toHigh[633] = al ^ (bh & bl & cl);
+        al = fromLow[47]; ah = fromHigh[47]; cl = bl ^ bh; toLow[634] = cl ^ (~al & ah & bl); toHigh[634] = bl ^ (ah & al & cl);
+        bl = fromLow[411]; bh = fromHigh[411]; cl = al ^ ah; toLow[635] = cl ^ (~bl & bh & al); toHigh[635] = al ^ (bh & bl & cl);
+        al = fromLow[46]; ah = fromHigh[46]; cl = bl ^ bh; toLow[636] = cl ^ (~al & ah & bl); toHigh[636] = bl ^ (ah & al & cl);
+        bl = fromLow[410]; bh = fromHigh[410]; cl = al ^ ah; toLow[637] = cl ^ (~bl & bh & al); toHigh[637] = al ^ (bh & bl & cl);
+        al = fromLow[45]; ah = fromHigh[45]; cl = bl ^ bh; toLow[638] = cl ^ (~al & ah & bl); toHigh[638] = bl ^ (ah & al & cl);
+        bl = fromLow[409]; bh = fromHigh[409]; cl = al ^ ah; toLow[639] = cl ^ (~bl & bh & al); toHigh[639] = al ^ (bh & bl & cl);
+        al = fromLow[44]; ah = fromHigh[44]; cl = bl ^ bh; toLow[640] = cl ^ (~al & ah & bl); toHigh[640] = bl ^ (ah & al & cl);
+        bl = fromLow[408]; bh = fromHigh[408]; cl = al ^ ah; toLow[641] = cl ^ (~bl & bh & al); toHigh[641] = al ^ (bh & bl & cl);
+        al = fromLow[43]; ah = fromHigh[43]; cl = bl ^ bh; toLow[642] = cl ^ (~al & ah & bl); toHigh[642] = bl ^ (ah & al & cl);
+        bl = fromLow[407]; bh = fromHigh[407]; cl = al ^ ah; toLow[643] = cl ^ (~bl & bh & al); toHigh[643] = al ^ (bh & bl & cl);
+        al = fromLow[42]; ah = fromHigh[42]; cl = bl ^ bh; toLow[644] = cl ^ (~al & ah & bl); toHigh[644] = bl ^ (ah & al & cl);
+        bl = fromLow[406]; bh = fromHigh[406]; cl = al ^ ah; toLow[645] = cl ^ (~bl & bh & al); toHigh[645] = al ^ (bh & bl & cl);
+        al = fromLow[41]; ah = fromHigh[41]; cl = bl ^ bh; toLow[646] = cl ^ (~al & ah & bl); toHigh[646] = bl ^ (ah & al & cl);
+        bl = fromLow[405]; bh = fromHigh[405]; cl = al ^ ah; toLow[647] = cl ^ (~bl & bh & al); toHigh[647] = al ^ (bh & bl & cl);
+    }
+
+    private static void powRound64_8(final long[] fromLow, final long[] fromHigh, final long[] toLow, final long[] toHigh) {
+        long al = fromLow[405], ah = fromHigh[405], bl, bh, cl;
+        bl = fromLow[40]; bh = fromHigh[40]; cl = al ^ ah; toLow[648] = cl ^ (~bl & bh & al); toHigh[648] = al ^ (bh & bl & cl);
+        al = fromLow[404]; ah = fromHigh[404]; cl = bl ^ bh; toLow[649] = cl ^ (~al & ah & bl); toHigh[649] = bl ^ (ah & al & cl);
+        bl = fromLow[39]; bh = fromHigh[39]; cl = al ^ ah; toLow[650] = cl ^ (~bl & bh & al); toHigh[650] = al ^ (bh & bl & cl);
+        al = fromLow[403]; ah = fromHigh[403]; cl = bl ^ bh; toLow[651] = cl ^ (~al & ah & bl); toHigh[651] = bl ^ (ah & al & cl);
+        bl = fromLow[38]; bh = fromHigh[38]; cl = al ^ ah; toLow[652] = cl ^ (~bl & bh & al); toHigh[652] = al ^ (bh & bl & cl);
+        al = fromLow[402]; ah = fromHigh[402]; cl = bl ^ bh; toLow[653] = cl ^ (~al & ah & bl); toHigh[653] = bl ^ (ah & al & cl);
+        bl = fromLow[37]; bh = fromHigh[37]; cl = al ^ ah; toLow[654] = cl ^ (~bl & bh & al); toHigh[654] = al ^ (bh & bl & cl);
+        al = fromLow[401]; ah = fromHigh[401]; cl = bl ^ bh; toLow[655] = cl ^ (~al & ah & bl); toHigh[655] = bl ^ (ah & al & cl);
+        bl = fromLow[36]; bh = fromHigh[36]; cl = al ^ ah; toLow[656] = cl ^ (~bl & bh & al); toHigh[656] = al ^ (bh & bl & cl);
+        al = fromLow[400]; ah = fromHigh[400]; cl = bl ^ bh; toLow[657] = cl ^ (~al & ah & bl); toHigh[657] = bl ^ (ah & al & cl);
+        bl = fromLow[35]; bh = fromHigh[35]; cl = al ^ ah; toLow[658] = cl ^ (~bl & bh & al); toHigh[658] = al ^ (bh & bl & cl);
+        al = fromLow[399]; ah = fromHigh[399]; cl = bl ^ bh; toLow[659] = cl ^ (~al & ah & bl); toHigh[659] = bl ^ (ah & al & cl);
+        bl = fromLow[34]; bh = fromHigh[34]; cl = al ^ ah; toLow[660] = cl ^ (~bl & bh & al); toHigh[660] = al ^ (bh & bl & cl);
+        al = fromLow[398]; ah = fromHigh[398]; cl = bl ^ bh; toLow[661] = cl ^ (~al & ah & bl); toHigh[661] = bl ^ (ah & al & cl);
+        bl = fromLow[33]; bh = fromHigh[33]; cl = al ^ ah; toLow[662] = cl ^ (~bl & bh & al); toHigh[662] = al ^ (bh & bl & cl);
+        al = fromLow[397]; ah = fromHigh[397]; cl = bl ^ bh; toLow[663] = cl ^ (~al & ah & bl); toHigh[663] = bl ^ (ah & al & cl);
+        bl = fromLow[32]; bh = fromHigh[32]; cl = al ^ ah; toLow[664] = cl ^ (~bl & bh & al); toHigh[664] = al ^ (bh & bl & cl);
+        al = fromLow[396]; ah = fromHigh[396]; cl = bl ^ bh; toLow[665] = cl ^ (~al & ah & bl); toHigh[665] = bl ^ (ah & al & cl);
+        bl = fromLow[31]; bh = fromHigh[31]; cl = al ^ ah; toLow[666] = cl ^ (~bl & bh & al); toHigh[666] = al ^ (bh & bl & cl);
+        al = fromLow[395]; ah = fromHigh[395]; cl = bl ^ bh; toLow[667] = cl ^ (~al & ah & bl); toHigh[667] = bl ^ (ah & al & cl);
+        bl = fromLow[30]; bh = fromHigh[30]; cl = al ^ ah; toLow[668] = cl ^ (~bl & bh & al); toHigh[668] = al ^ (bh & bl & cl);
+        al = fromLow[394]; ah = fromHigh[394]; cl = bl ^ bh; toLow[669] = cl ^ (~al & ah & bl); toHigh[669] = bl ^ (ah & al & cl);
+        bl = fromLow[29]; bh = fromHigh[29]; cl = al ^ ah; toLow[670] = cl ^ (~bl & bh & al); toHigh[670] = al ^ (bh & bl & cl);
+        al = fromLow[393]; ah = fromHigh[393]; cl = bl ^ bh; toLow[671] = cl ^ (~al & ah & bl); toHigh[671] = bl ^ (ah & al & cl);
+        bl = fromLow[28]; bh = fromHigh[28]; cl = al ^ ah; toLow[672] = cl ^ (~bl & bh & al); toHigh[672] = al ^ (bh & bl & cl);
+        al = fromLow[392]; ah = fromHigh[392]; cl = bl ^ bh; toLow[673] = cl ^ (~al & ah & bl); toHigh[673] = bl ^ (ah & al & cl);
+        bl = fromLow[27]; bh = fromHigh[27]; cl = al ^ ah; toLow[674] = cl ^ (~bl & bh & al); toHigh[674] = al ^ (bh & bl & cl);
+        al = fromLow[391]; ah = fromHigh[391]; cl = bl ^ bh; toLow[675] = cl ^ (~al & ah & bl); toHigh[675] = bl ^ (ah & al & cl);
+        bl = fromLow[26]; bh = fromHigh[26]; cl = al ^ ah; toLow[676] = cl ^ (~bl & bh & al); toHigh[676] = al ^ (bh & bl & cl);
+        al = fromLow[390]; ah = fromHigh[390]; cl = bl ^ bh; toLow[677] = cl ^ (~al & ah & bl); toHigh[677] = bl ^ (ah & al & cl);
+        bl = fromLow[25]; bh = fromHigh[25]; cl = al ^ ah; toLow[678] = cl ^ (~bl & bh & al); toHigh[678] = al ^ (bh & bl & cl);
+        al = fromLow[389]; ah = fromHigh[389]; cl = bl ^ bh; toLow[679] = cl ^ (~al & ah & bl); toHigh[679] = bl ^ (ah & al & cl);
+        bl = fromLow[24]; bh = fromHigh[24]; cl = al ^ ah; toLow[680] = cl ^ (~bl & bh & al); toHigh[680] = al ^ (bh & bl & cl);
+        al = fromLow[388]; ah = fromHigh[388]; cl = bl ^ bh; toLow[681] = cl ^ (~al & ah & bl); toHigh[681] = bl ^ (ah & al & cl);
+        bl = fromLow[23]; bh = fromHigh[23]; cl = al ^ ah; toLow[682] = cl ^ (~bl & bh & al); toHigh[682] = al ^ (bh & bl & cl);
+        al = fromLow[387]; ah = fromHigh[387]; cl = bl ^ bh; toLow[683] = cl ^ (~al & ah & bl); toHigh[683] = bl ^ (ah & al & cl);
+        bl = fromLow[22]; bh = fromHigh[22]; cl = al ^ ah; toLow[684] = cl ^ (~bl & bh & al); toHigh[684] = al ^ (bh & bl & cl);
+        al = fromLow[386]; ah = fromHigh[386]; cl = bl ^ bh; toLow[685] = cl ^ (~al & ah & bl); toHigh[685] = bl ^ (ah & al & cl);
+        bl = fromLow[21]; bh = fromHigh[21]; cl = al ^ ah; toLow[686] = cl ^ (~bl & bh & al); toHigh[686] = al ^ (bh & bl & cl);
+        al = fromLow[385]; ah = fromHigh[385]; cl = bl ^ bh; toLow[687] = cl ^ (~al & ah & bl); toHigh[687] = bl ^ (ah & al & cl);
+        bl = fromLow[20]; bh = fromHigh[20]; cl = al ^ ah; toLow[688] = cl ^ (~bl & bh & al); toHigh[688] = al ^ (bh & bl & cl);
+        al = fromLow[384]; ah = fromHigh[384]; cl = bl ^ bh; toLow[689] = cl ^ (~al & ah & bl); toHigh[689] = bl ^ (ah & al & cl);
+        bl = fromLow[19]; bh = fromHigh[19]; cl = al ^ ah; toLow[690] = cl ^ (~bl & bh & al); toHigh[690] = al ^ (bh & bl & cl);
+        al = fromLow[383]; ah = fromHigh[383]; cl = bl ^ bh; toLow[691] = cl ^ (~al & ah & bl); toHigh[691] = bl ^ (ah & al & cl);
+        bl = fromLow[18]; bh = fromHigh[18]; cl = al ^ ah; toLow[692] = cl ^ (~bl & bh & al); toHigh[692] = al ^ (bh & bl & cl);
+        al = fromLow[382]; ah = fromHigh[382]; cl = bl ^ bh; toLow[693] = cl ^ (~al & ah & bl); toHigh[693] = bl ^ (ah & al & cl);
+        bl = fromLow[17]; bh = fromHigh[17]; cl = al ^ ah; toLow[694] = cl ^ (~bl & bh & al); toHigh[694] = al ^ (bh & bl & cl);
+        al = fromLow[381]; ah = fromHigh[381]; cl = bl ^ bh; toLow[695] = cl ^ (~al & ah & bl); toHigh[695] = bl ^ (ah & al & cl);
+        bl = fromLow[16]; bh = fromHigh[16]; cl = al ^ ah; toLow[696] = cl ^ (~bl & bh & al); toHigh[696] = al ^ (bh & bl & cl);
+        al = fromLow[380]; ah = fromHigh[380]; cl = bl ^ bh; toLow[697] = cl ^ (~al & ah & bl); toHigh[697] = bl ^ (ah & al & cl);
+        bl = fromLow[15]; bh = fromHigh[15]; cl = al ^ ah; toLow[698] = cl ^ (~bl & bh & al); toHigh[698] = al ^ (bh & bl & cl);
+        al = fromLow[379]; ah = fromHigh[379]; cl = bl ^ bh; toLow[699] = cl ^ (~al & ah & bl); toHigh[699] = bl ^ (ah & al & cl);
+        bl = fromLow[14]; bh = fromHigh[14]; cl = al ^ ah; toLow[700] = cl ^ (~bl & bh & al); toHigh[700] = al ^ (bh & bl & cl);
+        al = fromLow[378]; ah = fromHigh[378]; cl = bl ^ bh; toLow[701] = cl ^ (~al & ah & bl); toHigh[701] = bl ^ (ah & al & cl);
+        bl = fromLow[13]; bh = fromHigh[13]; cl = al ^ ah; toLow[702] = cl ^ (~bl & bh & al); toHigh[702] = al ^ (bh & bl & cl);
+        al = fromLow[377]; ah = fromHigh[377]; cl = bl ^ bh; toLow[703] = cl ^ (~al & ah & bl); toHigh[703] = bl ^ (ah & al & cl);
+        bl = fromLow[12]; bh = fromHigh[12]; cl = al ^ ah; toLow[704] = cl ^ (~bl & bh & al); toHigh[704] = al ^ (bh & bl & cl);
+        al = fromLow[376]; ah = fromHigh[376]; cl = bl ^ bh; toLow[705] = cl ^ (~al & ah & bl); toHigh[705] = bl ^ (ah & al & cl);
+        bl = fromLow[11]; bh = fromHigh[11]; cl = al ^ ah; toLow[706] = cl ^ (~bl & bh & al); toHigh[706] = al ^ (bh & bl & cl);
+        al = fromLow[375]; ah = fromHigh[375]; cl = bl ^ bh; toLow[707] = cl ^ (~al & ah & bl); toHigh[707] = bl ^ (ah & al & cl);
+        bl = fromLow[10]; bh = fromHigh[10]; cl = al ^ ah; toLow[708] = cl ^ (~bl & bh & al); toHigh[708] = al ^ (bh & bl & cl);
+        al = fromLow[374]; ah = fromHigh[374]; cl = bl ^ bh; toLow[709] = cl ^ (~al & ah & bl); toHigh[709] = bl ^ (ah & al & cl);
+        bl = fromLow[9]; bh = fromHigh[9]; cl = al ^ ah; toLow[710] = cl ^ (~bl & bh & al); toHigh[710] = al ^ (bh & bl & cl);
+        al = fromLow[373]; ah = fromHigh[373]; cl = bl ^ bh; toLow[711] = cl ^ (~al & ah & bl); toHigh[711] = bl ^ (ah & al & cl);
+        bl = fromLow[8]; bh = fromHigh[8]; cl = al ^ ah; toLow[712] = cl ^ (~bl & bh & al); toHigh[712] = al ^ (bh & bl & cl);
+        al = fromLow[372]; ah = fromHigh[372]; cl = bl ^ bh; toLow[713] = cl ^ (~al & ah & bl); toHigh[713] = bl ^ (ah & al & cl);
+        bl = fromLow[7]; bh = fromHigh[7]; cl = al ^ ah; toLow[714] = cl ^ (~bl & bh & al); toHigh[714] = al ^ (bh & bl & cl);
+        al = fromLow[371]; ah = fromHigh[371]; cl = bl ^ bh; toLow[715] = cl ^ (~al & ah & bl); toHigh[715] = bl ^ (ah & al & cl);
+        bl = fromLow[6]; bh = fromHigh[6]; cl = al ^ ah; toLow[716] = cl ^ (~bl & bh & al); toHigh[716] = al ^ (bh & bl & cl);
+        al = fromLow[370]; ah = fromHigh[370]; cl = bl ^ bh; toLow[717] = cl ^ (~al & ah & bl); toHigh[717] = bl ^ (ah & al & cl);
+        bl = fromLow[5]; bh = fromHigh[5]; cl = al ^ ah; toLow[718] = cl ^ (~bl & bh & al); toHigh[718] = al ^ (bh & bl & cl);
+        al = fromLow[369]; ah = fromHigh[369]; cl = bl ^ bh; toLow[719] = cl ^ (~al & ah & bl); toHigh[719] = bl ^ (ah & al & cl);
+        bl = fromLow[4]; bh = fromHigh[4]; cl = al ^ ah; toLow[720] = cl ^ (~bl & bh & al); toHigh[720] = al ^ (bh & bl & cl);
+        al = fromLow[368]; ah = fromHigh[368]; cl = bl ^ bh; toLow[721] = cl ^ (~al & ah & bl); toHigh[721] = bl ^ (ah & al & cl);
+        bl = fromLow[3]; bh = fromHigh[3]; cl = al ^ ah; toLow[722] = cl ^ (~bl & bh & al); toHigh[722] = al ^ (bh & bl & cl);
+        al = fromLow[367]; ah = fromHigh[367]; cl = bl ^ bh; toLow[723] = cl ^ (~al & ah & bl); toHigh[723] = bl ^ (ah & al & cl);
+        bl = fromLow[2]; bh = fromHigh[2]; cl = al ^ ah; toLow[724] = cl ^ (~bl & bh & al); toHigh[724] = al ^ (bh & bl & cl);
+        al = fromLow[366]; ah = fromHigh[366]; cl = bl ^ bh; toLow[725] = cl ^ (~al & ah & bl); toHigh[725] = bl ^ (ah & al & cl);
+        bl = fromLow[1]; bh = fromHigh[1]; cl = al ^ ah; toLow[726] = cl ^ (~bl & bh & al); toHigh[726] = al ^ (bh & bl & cl);
+        al = fromLow[365]; ah = fromHigh[365]; cl = bl ^ bh; toLow[727] = cl ^ (~al & ah & bl); toHigh[727] = bl ^ (ah & al & cl);
+        bl = fromLow[0]; bh = fromHigh[0]; cl = al ^ ah; toLow[728] = cl ^ (~bl & bh & al); toHigh[728] = al ^ (bh & bl & cl);
+    }
+}
@@ -0,0 +1,76 @@
+package com.iota.curl;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Generates IotaCurlPowRounds, the round of IotaCurlMiner64 unrolled as
+ * IotaCurlRoundsGenerator (src/test/java of the main module) unrolls the one
+ * of IotaCurlHash, one statement per cell in the order of the index chain.
+ *
+ * To regenerate it after changing this class, from the benchmarks directory:
+ *
+ * mvn clean package
+ * java -cp target/benchmarks.jar com.iota.curl.IotaCurlPowRoundsGenerator
+ */
+public final class IotaCurlPowRoundsGenerator {
+
+    static final Path SOURCE = Paths.get("src/main/java/com/iota/curl/IotaCurlPowRounds.java");
+
+    // Under the 8000 bytecodes the JIT compiles, with some margin.
+    private static final int CELLS_PER_METHOD = 81;
+
+    private IotaCurlPowRoundsGenerator() {
+    }
+
+    public static void main(final String[] args) throws IOException {
+        Files.write(SOURCE, generate().getBytes(StandardCharsets.US_ASCII));
+    }
+
+    static String generate() {
+        final StringBuilder out = new StringBuilder();
+        out.append("package com.iota.curl;\n\n");
+        out.append("/**\n");
+        out.append(" * The round of IotaCurlMiner64, unrolled as IotaCurlRounds unrolls the one of IotaCurlHash.\n");
+        out.append(" *\n");
+        out.append(" * Generated by IotaCurlPowRoundsGenerator, do not edit.\n");
+        out.append(" */\n");
+        out.append("final class IotaCurlPowRounds {\n\n");
+        out.append("    private IotaCurlPowRounds() {\n");
+        out.append("    }\n");
+
+        final int methods = (IotaCurlMiner.STATE_SIZE + CELLS_PER_METHOD - 1) / CELLS_PER_METHOD;
+        out.append("\n    /**\n");
+        out.append("     * One round of IotaCurlMiner64.doPowTransform, from the low and high bit planes.\n");
+        out.append("     */\n");
+        out.append("    static void powRound64(final long[] fromLow, final long[] fromHigh, final long[] toLow, final long[] toHigh) {\n");
+        for (int m = 0; m < methods; m++) {
+            out.append("        powRound64_").append(m).append("(fromLow, fromHigh, toLow, toHigh);\n");
+        }
+        out.append("    }\n");
+        for (int m = 0; m < methods; m++) {
+            final int first = m * CELLS_PER_METHOD;
+            final int last = Math.min(first + CELLS_PER_METHOD, IotaCurlMiner.STATE_SIZE);
+            out.append("\n    private static void powRound64_").append(m)
+                    .append("(final long[] fromLow, final long[] fromHigh, final long[] toLow, final long[] toHigh) {\n");
+            final int a = IotaCurlTransforms.INDICES[first];
+            out.append("        long al = fromLow[").append(a).append("], ah = fromHigh[").append(a).append("], bl, bh, cl;\n");
+            for (int d = first; d < last; d++) {
+                final String x = ((d - first) & 1) == 0 ? "a" : "b";
+                final String y = ((d - first) & 1) == 0 ? "b" : "a";
+                final int b = IotaCurlTransforms.INDICES[d + 1];
+                out.append("        ").append(y).append("l = fromLow[").append(b).append("]; ")
+                        .append(y).append("h = fromHigh[").append(b).append("]; ")
+                        .append("cl = ").append(x).append("l ^ ").append(x).append("h; ")
+                        .append("toLow[").append(d).append("] = cl ^ (~").append(y).append("l & ").append(y).append("h & ").append(x).append("l); ")
+                        .append("toHigh[").append(d).append("] = ").append(x).append("l ^ (").append(y).append("h & ").append(y).append("l & cl);\n");
+            }
+            out.append("    }\n");
+        }
+        out.append("}\n");
+        return out.toString();
+    }
+}
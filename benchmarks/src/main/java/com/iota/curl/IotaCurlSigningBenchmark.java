@@ -0,0 +1,80 @@
+package com.iota.curl;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the Winternitz signatures, {@link IotaCurlSigning}.
+ *
+ * address and addressesBatch report addresses/s of security 2, one chain at a
+ * time and 64 keys at once, signature and signatureBatch signatures/s of a key
+ * of security 2, signatureAddress signatures verified/s.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class IotaCurlSigningBenchmark {
+
+    private static final int SECURITY = 2;
+
+    private int[] seed;
+    private int[][] seeds;
+    private int[] indices;
+    private int[] key;
+    private int[] bundle;
+    private int[] normalized;
+    private int[] signature;
+    private int next;
+
+    @Setup
+    public void setup() {
+        seed = BenchmarkData.randomTrits(IotaCurlMiner.HASH_SIZE);
+        seeds = new int[IotaCurlMiner64.PARALLEL64][];
+        indices = new int[seeds.length];
+        for (int i = 0; i < seeds.length; i++) {
+            seeds[i] = seed;
+            indices[i] = i;
+        }
+        key = IotaCurlSigning.key(IotaCurlSigning.subseed(seed, 0), SECURITY);
+        // Other trits than the seed, drawn from the same generator.
+        bundle = Arrays.copyOfRange(BenchmarkData.randomTrits(2 * IotaCurlMiner.HASH_SIZE), IotaCurlMiner.HASH_SIZE, 2 * IotaCurlMiner.HASH_SIZE);
+        normalized = IotaCurlSigning.normalizedBundle(bundle);
+        signature = IotaCurlSigning.signature(bundle, key);
+    }
+
+    @Benchmark
+    public int[] address() {
+        return IotaCurlSigning.address(IotaCurlSigning.digests(IotaCurlSigning.key(IotaCurlSigning.subseed(seed, next++), SECURITY)));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(64)
+    public int[][] addressesBatch() {
+        return IotaCurlSigning.addresses(seeds, indices, SECURITY);
+    }
+
+    @Benchmark
+    public int[] signature() {
+        final int[] signed = new int[key.length];
+        for (int i = 0; i < SECURITY; i++) {
+            final int[] fragment = Arrays.copyOfRange(key, i * IotaCurlSigning.FRAGMENT_LENGTH, (i + 1) * IotaCurlSigning.FRAGMENT_LENGTH);
+            System.arraycopy(IotaCurlSigning.signatureFragment(normalized, 27 * i, fragment), 0, signed, i * fragment.length, fragment.length);
+        }
+        return signed;
+    }
+
+    @Benchmark
+    public int[] signatureBatch() {
+        return IotaCurlSigning.signature(bundle, key);
+    }
+
+    @Benchmark
+    public int[] signatureAddress() {
+        return IotaCurlSigning.signatureAddress(bundle, signature);
+    }
+}
@@ -0,0 +1,100 @@
+package com.iota.curl;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The Curl transforms as loops computing their indices, driven by the index
+ * chain IotaCurlTransforms.INDICES, and unrolled by the generated IotaCurlRounds
+ * and IotaCurlPowRounds. The variants production does not run are in
+ * IotaCurlTransforms, checked against it by setup().
+ *
+ * Every benchmark reports whole transforms/s: hash* on one trit per int,
+ * pow64* on the two bit planes of IotaCurlMiner64 (64 lanes per transform).
+ * IotaCurlHash.doHashTransform runs hashUnrolled, IotaCurlMiner64 pow64Loop.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class IotaCurlTransformBenchmark {
+
+    private int[] state;
+    private int[] scratch;
+
+    private long[] low;
+    private long[] high;
+    private long[] lowScratch;
+    private long[] highScratch;
+
+    @Setup
+    public void setup() {
+        state = BenchmarkData.randomTrits(IotaCurlHash.IOTACURL_3STATE);
+        scratch = new int[state.length];
+        low = new long[state.length];
+        high = new long[state.length];
+        lowScratch = new long[state.length];
+        highScratch = new long[state.length];
+        for (int i = 0; i < state.length; i++) {
+            final long m = IotaCurlMiner.MAP[state[i] + 1];
+            low[i] = -(m & 1);
+            high[i] = -((m >> 1) & 1);
+        }
+
+        final int[] hashExpected = state.clone();
+        final int[] hashIndexed = state.clone();
+        IotaCurlHash.doHashTransformUnrolled(hashExpected, new int[state.length]);
+        IotaCurlTransforms.doHashTransformIndexed(hashIndexed, new int[state.length]);
+        final long[] expectedLow = low.clone(), expectedHigh = high.clone();
+        final long[] indexedLow = low.clone(), indexedHigh = high.clone();
+        final long[] unrolledLow = low.clone(), unrolledHigh = high.clone();
+        IotaCurlMiner64.doPowTransform(expectedLow, expectedHigh, lowScratch, highScratch);
+        IotaCurlTransforms.doPowTransformIndexed(indexedLow, indexedHigh, lowScratch, highScratch);
+        IotaCurlTransforms.doPowTransformUnrolled(unrolledLow, unrolledHigh, lowScratch, highScratch);
+        if (!Arrays.equals(hashExpected, hashIndexed)
+                || !Arrays.equals(expectedLow, indexedLow) || !Arrays.equals(expectedHigh, indexedHigh)
+                || !Arrays.equals(expectedLow, unrolledLow) || !Arrays.equals(expectedHigh, unrolledHigh)) {
+            throw new IllegalStateException("A transform variant does not compute the Curl transform.");
+        }
+    }
+
+    @Benchmark
+    public int[] hashLoop() {
+        IotaCurlHash.doHashTransformLoop(state, scratch);
+        return state;
+    }
+
+    @Benchmark
+    public int[] hashIndexed() {
+        IotaCurlTransforms.doHashTransformIndexed(state, scratch);
+        return state;
+    }
+
+    @Benchmark
+    public int[] hashUnrolled() {
+        IotaCurlHash.doHashTransformUnrolled(state, scratch);
+        return state;
+    }
+
+    @Benchmark
+    public long[] pow64Loop() {
+        IotaCurlMiner64.doPowTransform(low, high, lowScratch, highScratch);
+        return low;
+    }
+
+    @Benchmark
+    public long[] pow64Indexed() {
+        IotaCurlTransforms.doPowTransformIndexed(low, high, lowScratch, highScratch);
+        return low;
+    }
+
+    @Benchmark
+    public long[] pow64Unrolled() {
+        IotaCurlTransforms.doPowTransformUnrolled(low, high, lowScratch, highScratch);
+        return low;
+    }
+}
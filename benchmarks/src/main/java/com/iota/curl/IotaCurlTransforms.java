@@ -0,0 +1,99 @@
+package com.iota.curl;
+
+/**
+ * The variants of the Curl transforms measured by IotaCurlTransformBenchmark
+ * against the ones IotaCurlHash and IotaCurlMiner64 run.
+ */
+final class IotaCurlTransforms {
+
+    private static final int STATE_SIZE = IotaCurlMiner.STATE_SIZE;
+
+    // The index chain of a round, 0, 364, 728, 363, 727, ...: the cell d reads
+    // INDICES[d] and INDICES[d + 1], that is sourceA(d) and sourceB(d).
+    static final int[] INDICES = new int[STATE_SIZE + 1];
+
+    static {
+        for (int d = 0; d < STATE_SIZE; d++) {
+            INDICES[d] = IotaCurlMiner.sourceA(d);
+        }
+        INDICES[STATE_SIZE] = IotaCurlMiner.sourceB(STATE_SIZE - 1);
+    }
+
+    private IotaCurlTransforms() {
+    }
+
+    /**
+     * As IotaCurlHash.doHashTransform, reading the sources of every cell from the index chain
+     * INDICES: each source is loaded once, as the second input of
+     * a cell and the first input of the next one.
+     *
+     * @param state2 the second buffer of the rounds, its content is overwritten.
+     */
+    static void doHashTransformIndexed(int[] state1, int[] state2) {
+        final int[] indices = INDICES;
+        final int[] table = IotaCurlUtils.TRUTH_TABLE;
+        System.arraycopy(state1, 0, state2, 0, STATE_SIZE);
+
+        for(int r=0; r<27; r++) {
+            int a = state2[0];
+            for(int d=0; d<STATE_SIZE; d++) {
+                final int b = state2[indices[d+1]];
+                state1[d] = table[a + (b << 2) + 5];
+                a = b;
+            }
+            int [] t = state1;
+            state1 = state2;
+            state2 = t;
+        }
+    }
+
+    /**
+     * As IotaCurlMiner64.doPowTransform, reading the sources of every cell from the index chain.
+     */
+    static void doPowTransformIndexed(final long[] low, final long[] high, final long[] lowScratch, final long[] highScratch) {
+        final int[] indices = INDICES;
+        long[] low1 = low, high1 = high;
+        long[] low2 = lowScratch, high2 = highScratch;
+        System.arraycopy(low, 0, low2, 0, STATE_SIZE);
+        System.arraycopy(high, 0, high2, 0, STATE_SIZE);
+
+        for(int r=0; r<27; r++) {
+            long al = low2[0], ah = high2[0];
+            for (int d = 0; d < STATE_SIZE; d++) {
+                final int b = indices[d + 1];
+                final long bl = low2[b], bh = high2[b];
+                final long cl = al ^ ah;
+                low1[d] = cl ^ (~bl & bh & al);
+                high1[d] = al ^ (bh & bl & cl);
+                al = bl;
+                ah = bh;
+            }
+            long[] t = low1;
+            low1 = low2;
+            low2 = t;
+            t = high1;
+            high1 = high2;
+            high2 = t;
+        }
+    }
+
+    /**
+     * As IotaCurlMiner64.doPowTransform, with the rounds unrolled by IotaCurlPowRounds.
+     */
+    static void doPowTransformUnrolled(final long[] low, final long[] high, final long[] lowScratch, final long[] highScratch) {
+        long[] low1 = low, high1 = high;
+        long[] low2 = lowScratch, high2 = highScratch;
+        System.arraycopy(low, 0, low2, 0, STATE_SIZE);
+        System.arraycopy(high, 0, high2, 0, STATE_SIZE);
+
+        for(int r=0; r<27; r++) {
+            IotaCurlPowRounds.powRound64(low2, high2, low1, high1);
+            long[] t = low1;
+            low1 = low2;
+            low2 = t;
+            t = high1;
+            high1 = high2;
+            high2 = t;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.iota.curl;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the tryte/trit codecs in {@link IotaCurlUtils}.
+ *
+ * Each operation converts a whole 2673-tryte transaction.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class IotaCurlUtilsBenchmark {
+
+    private char[] trytes;
+    private int[] trits;
+    private byte[] byteTrits;
+    private byte[] packed;
+
+    @Setup
+    public void setup() {
+        trytes = BenchmarkData.randomTransactions(1)[0].toCharArray();
+        trits = BenchmarkData.randomTrits(3 * BenchmarkData.TX_LENGTH);
+        byteTrits = new byte[3 * BenchmarkData.TX_LENGTH];
+        packed = new byte[IotaCurlUtils.iotaCurlPackedLength(byteTrits.length)];
+    }
+
+    @Benchmark
+    public int[] iotaCurlTrytes2Trits() {
+        IotaCurlUtils.iotaCurlTrytes2Trits(trits, 0, trytes, BenchmarkData.TX_LENGTH);
+        return trits;
+    }
+
+    @Benchmark
+    public char[] iotaCurlTrits2Trytes() {
+        IotaCurlUtils.iotaCurlTrits2Trytes(trytes, 0, trits, 3 * BenchmarkData.TX_LENGTH);
+        return trytes;
+    }
+
+    @Benchmark
+    public byte[] iotaCurlTrytes2ByteTrits() {
+        IotaCurlUtils.iotaCurlTrytes2Trits(byteTrits, 0, trytes, 0, BenchmarkData.TX_LENGTH);
+        return byteTrits;
+    }
+
+    @Benchmark
+    public byte[] iotaCurlPackTrits() {
+        IotaCurlUtils.iotaCurlPackTrits(packed, 0, byteTrits, 0, byteTrits.length);
+        return packed;
+    }
+
+    @Benchmark
+    public byte[] iotaCurlUnpackTrits() {
+        IotaCurlUtils.iotaCurlUnpackTrits(byteTrits, 0, packed, 0, byteTrits.length);
+        return byteTrits;
+    }
+}
@@ -0,0 +1,207 @@
+package com.iota.curl;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Iota Curl mining on the Java Vector API.
+ *
+ * The same two bit planes as IotaCurlMiner64, where every trit of the state
+ * is a whole vector of longs instead of one long: with 256 or 512 bit vectors
+ * a transform tries 256 or 512 nonces.
+ *
+ * Lane k of the long w of a vector holds the nonce offset + 64 * w + k.
+ * The nonce found is the same as the one of IotaCurlMiner.
+ *
+ * Requires the jdk.incubator.vector module (--add-modules jdk.incubator.vector),
+ * use IotaCurlMiner.newWidestMiner() to get it only where available.
+ */
+public class IotaCurlMinerVector extends IotaCurlMiner {
+
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+
+    // The longs of a vector.
+    private static final int W = SPECIES.length();
+
+    static final int PARALLEL_VECTOR = 64 * W;
+
+    // The buffers of doWork, reused by every batch of a thread.
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private static final class Scratch {
+        final IotaCurlNonceCounter[] counters = IotaCurlNonceCounter.newCounters(W, 1);
+        final long[] low = new long[STATE_SIZE * W];
+        final long[] high = new long[STATE_SIZE * W];
+        final long[] lowScratch = new long[STATE_SIZE * W];
+        final long[] highScratch = new long[STATE_SIZE * W];
+    }
+
+    @Override
+    public int getParallel() {
+        return PARALLEL_VECTOR;
+    }
+
+    /**
+     * Transforms all the lanes of low/high at once, the scratch planes are overwritten.
+     * The cell j of a plane is the vector at j * W.
+     */
+    static void doPowTransform(final long[] low, final long[] high, final long[] lowScratch, final long[] highScratch) {
+        doPowTransform(low, high, lowScratch, highScratch, FULL_TRANSFORM);
+    }
+
+    /**
+     * As above, computing only the cells of the last rounds listed in cone, see IotaCurlMiner.pruningCone.
+     */
+    static void doPowTransform(final long[] low, final long[] high, final long[] lowScratch, final long[] highScratch,
+                               final int[][] cone) {
+        System.arraycopy(low, 0, lowScratch, 0, STATE_SIZE * W);
+        System.arraycopy(high, 0, highScratch, 0, STATE_SIZE * W);
+        doPowRounds(low, high, lowScratch, highScratch, 0, cone);
+    }
+
+    /**
+     * As IotaCurlMiner.doPowTransformFirst: the cells 1 to HASH_SIZE of the first
+     * round are copied from firstRound, a word of which holds all its lanes.
+     */
+    static void doPowTransformFirst(final long[] low, final long[] high, final long[] lowScratch, final long[] highScratch,
+                                    final long[] firstRound) {
+        System.arraycopy(low, 0, lowScratch, 0, STATE_SIZE * W);
+        System.arraycopy(high, 0, highScratch, 0, STATE_SIZE * W);
+        sbox(LongVector.fromArray(SPECIES, lowScratch, 0), LongVector.fromArray(SPECIES, highScratch, 0),
+                LongVector.fromArray(SPECIES, lowScratch, 364 * W), LongVector.fromArray(SPECIES, highScratch, 364 * W),
+                low, high, 0);
+        for (int d = 1; d <= HASH_SIZE; d++) {
+            for (int w = 0; w < W; w++) {
+                low[d * W + w] = -(firstRound[d] & 1);
+                high[d * W + w] = -((firstRound[d] >> 1) & 1);
+            }
+        }
+        for (int i = FIRST_NONCE_PAIR - 1; i < (STATE_SIZE / 2); i++) {
+            final int a1 = (364 - i) * W;
+            final int a2 = (729 - i - 1) * W;
+            final int a3 = (364 - i - 1) * W;
+            final LongVector a2l = LongVector.fromArray(SPECIES, lowScratch, a2);
+            final LongVector a2h = LongVector.fromArray(SPECIES, highScratch, a2);
+            if (i >= FIRST_NONCE_PAIR) {
+                sbox(LongVector.fromArray(SPECIES, lowScratch, a1), LongVector.fromArray(SPECIES, highScratch, a1),
+                        a2l, a2h, low, high, (2 * i + 1) * W);
+            }
+            sbox(a2l, a2h, LongVector.fromArray(SPECIES, lowScratch, a3), LongVector.fromArray(SPECIES, highScratch, a3),
+                    low, high, (2 * i + 2) * W);
+        }
+        doPowRounds(lowScratch, highScratch, low, high, 1, FULL_TRANSFORM);
+    }
+
+    /**
+     * The rounds from first to 26 of a transform, reading the state before
+     * the round first from low2/high2 and writing its output to low1/high1.
+     */
+    private static void doPowRounds(long[] low1, long[] high1, long[] low2, long[] high2, final int first, final int[][] cone) {
+        final int pruned = 27 - cone.length;
+        for(int r=first; r<27; r++) {
+            if (r < pruned) {
+                {
+                    final LongVector al = LongVector.fromArray(SPECIES, low2, 0);
+                    final LongVector ah = LongVector.fromArray(SPECIES, high2, 0);
+                    final LongVector bl = LongVector.fromArray(SPECIES, low2, 364 * W);
+                    final LongVector bh = LongVector.fromArray(SPECIES, high2, 364 * W);
+                    sbox(al, ah, bl, bh, low1, high1, 0);
+                }
+                for (int i = 0; i < (STATE_SIZE / 2); i++) {
+                    final int a1 = (364 - i) * W;
+                    final int a2 = (729 - i - 1) * W;
+                    final int a3 = (364 - i - 1) * W;
+                    final LongVector a1l = LongVector.fromArray(SPECIES, low2, a1);
+                    final LongVector a1h = LongVector.fromArray(SPECIES, high2, a1);
+                    final LongVector a2l = LongVector.fromArray(SPECIES, low2, a2);
+                    final LongVector a2h = LongVector.fromArray(SPECIES, high2, a2);
+                    final LongVector a3l = LongVector.fromArray(SPECIES, low2, a3);
+                    final LongVector a3h = LongVector.fromArray(SPECIES, high2, a3);
+                    sbox(a1l, a1h, a2l, a2h, low1, high1, (2 * i + 1) * W);
+                    sbox(a2l, a2h, a3l, a3h, low1, high1, (2 * i + 2) * W);
+                }
+            } else {
+                for (final int d : cone[r - pruned]) {
+                    final int a = sourceA(d) * W;
+                    final int b = sourceB(d) * W;
+                    sbox(LongVector.fromArray(SPECIES, low2, a), LongVector.fromArray(SPECIES, high2, a),
+                            LongVector.fromArray(SPECIES, low2, b), LongVector.fromArray(SPECIES, high2, b),
+                            low1, high1, d * W);
+                }
+            }
+            long[] t = low1;
+            low1 = low2;
+            low2 = t;
+            t = high1;
+            high1 = high2;
+            high2 = t;
+        }
+    }
+
+    // The S-box of IotaCurlMiner64 on whole vectors.
+    private static void sbox(final LongVector al, final LongVector ah, final LongVector bl, final LongVector bh,
+                             final long[] low, final long[] high, final int dst) {
+        final LongVector cl = al.lanewise(VectorOperators.XOR, ah);
+        final LongVector ch = al;
+        cl.lanewise(VectorOperators.XOR, bh.and(ch).lanewise(VectorOperators.AND_NOT, bl)).intoArray(low, dst);
+        ch.lanewise(VectorOperators.XOR, bh.and(bl).and(cl)).intoArray(high, dst);
+    }
+
+    private static void doPowAbsorb(final long[] low, final long[] high, final int[] trits) {
+        for (int i=0; i<HASH_SIZE; i++) {
+            final long m = MAP[trits[i]+1];
+            for (int w=0; w<W; w++) {
+                low[i * W + w] = -(m & 1);
+                high[i * W + w] = -((m >> 1) & 1);
+            }
+        }
+    }
+
+    @Override
+    public long doWork(final IotaCurlPowContext ctx, final int minWeightMagnitude, final long offset) {
+        final Scratch buffers = SCRATCH.get();
+        final long[] low = buffers.low;
+        final long[] high = buffers.high;
+        final long[] lowScratch = buffers.lowScratch;
+        final long[] highScratch = buffers.highScratch;
+
+        for (int j=HASH_SIZE; j<STATE_SIZE; j++) {
+            for (int w=0; w<W; w++) {
+                low[j * W + w] = -(ctx.midState[j] & 1);
+                high[j * W + w] = -((ctx.midState[j] >> 1) & 1);
+            }
+        }
+
+        // Search. Process approvalNonce, kept in the lanes of the counter from batch to batch.
+        final IotaCurlNonceCounter counter = IotaCurlNonceCounter.moveTo(buffers.counters, ctx, offset);
+        System.arraycopy(counter.low, 0, low, 0, HASH_SIZE * W);
+        System.arraycopy(counter.high, 0, high, 0, HASH_SIZE * W);
+
+        doPowTransformFirst(low, high, lowScratch, highScratch, ctx.firstRound);
+
+        // Process trunkTransaction/branchTransaction.
+        doPowAbsorb(low, high, ctx.trunkTransaction);
+        doPowTransform(low, high, lowScratch, highScratch);
+
+        // Only the last minWeightMagnitude trits of the hash are checked.
+        doPowAbsorb(low, high, ctx.branchTransaction);
+        doPowTransform(low, high, lowScratch, highScratch, pruningCone(minWeightMagnitude));
+
+        // Check if work is done, as IotaCurlMiner64 does, one long of the vectors at a time.
+        for (int w=0; w<W; w++) {
+            long complete = -1L;
+            for(int j=HASH_SIZE-minWeightMagnitude; j<HASH_SIZE; j++) {
+                complete &= low[j * W + w] & ~high[j * W + w];
+            }
+            // IotaCurlMiner reports a solution at nonce 0 as none, skipping the rest of its 32-nonce batch.
+            if (offset == 0 && w == 0 && (complete & 1L) != 0) {
+                complete &= ~0xFFFFFFFFL;
+            }
+            if (complete != 0) {
+                return offset + 64L * w + Long.numberOfTrailingZeros(complete);
+            }
+        }
+        return 0;
+    }
+}
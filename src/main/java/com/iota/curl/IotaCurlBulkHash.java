@@ -0,0 +1,258 @@
+package com.iota.curl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bulk hashing of fixed-length tryte records, e.g. dumps of transactions.
+ *
+ * The records are read as ASCII bytes straight from an InputStream or a
+ * memory-mapped FileChannel, line terminators between them being skipped,
+ * and hashed in blocks on a pool of threads. Every block packs its records
+ * into the 64 lanes of the IotaCurlMiner64 transform, so no String is ever
+ * created per record. The hashes are written in the order of the records,
+ * one per line:
+ *
+ * try (final IotaCurlBulkHash bulk = new IotaCurlBulkHash()) {
+ *     bulk.hash(in, out);
+ * }
+ */
+public class IotaCurlBulkHash implements AutoCloseable {
+
+    // The length of a transaction record in trytes.
+    public static final int TX_RECORD_SZ = 2673;
+
+    private static final int LANES = IotaCurlMiner64.PARALLEL64;
+
+    // The records hashed by a task, a few lane batches to amortize the scheduling.
+    static final int BLOCK_RECORDS = 4 * LANES;
+
+    // The size of the memory-mapped windows of a file.
+    static final int MAP_WINDOW_SZ = 64 << 20;
+
+    private static final byte[] TRYTES = "9ABCDEFGHIJKLMNOPQRSTUVWXYZ".getBytes();
+
+    // The tryte value of an ASCII byte, -1 if it is not a tryte.
+    private static final byte[] TRYTE_INDEX = new byte[256];
+
+    static {
+        Arrays.fill(TRYTE_INDEX, (byte) -1);
+        for (int i = 0; i < TRYTES.length; i++) {
+            TRYTE_INDEX[TRYTES[i]] = (byte) i;
+        }
+    }
+
+    private static final AtomicInteger POOL_ID = new AtomicInteger();
+
+    private final int recordLength;
+    private final int threads;
+    private final ExecutorService executor;
+
+    public IotaCurlBulkHash() {
+        this(TX_RECORD_SZ, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param recordLength the trytes of a record, all hashed.
+     * @param threads the threads hashing the blocks of records.
+     */
+    public IotaCurlBulkHash(final int recordLength, final int threads) {
+        if (recordLength <= 0 || threads <= 0) {
+            throw new IllegalArgumentException("recordLength (" + recordLength + ") and threads (" + threads
+                    + ") should be greater than zero.");
+        }
+        this.recordLength = recordLength;
+        this.threads = threads;
+        final String name = "iota-curl-bulk-" + POOL_ID.incrementAndGet() + "-";
+        final AtomicInteger count = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, r -> {
+            final Thread t = new Thread(r, name + count.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Hashes all the records of in, writing their hashes to out, one per line.
+     *
+     * @return the number of records hashed.
+     */
+    public long hash(final InputStream in, final OutputStream out) throws IOException {
+        final Pipeline pipeline = new Pipeline(out);
+        final byte[] buffer = new byte[1 << 16];
+        for (int n; (n = in.read(buffer)) >= 0; ) {
+            pipeline.feed(buffer, 0, n);
+        }
+        return pipeline.finish();
+    }
+
+    /**
+     * As hash(InputStream, OutputStream), mapping the file in memory window by window.
+     * The channel position is left untouched.
+     */
+    public long hash(final FileChannel file, final OutputStream out) throws IOException {
+        final Pipeline pipeline = new Pipeline(out);
+        final byte[] buffer = new byte[1 << 16];
+        final long size = file.size();
+        for (long position = 0; position < size; position += MAP_WINDOW_SZ) {
+            final MappedByteBuffer window = file.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAP_WINDOW_SZ, size - position));
+            while (window.hasRemaining()) {
+                final int n = Math.min(buffer.length, window.remaining());
+                window.get(buffer, 0, n);
+                pipeline.feed(buffer, 0, n);
+            }
+        }
+        return pipeline.finish();
+    }
+
+    /**
+     * Splits the input into blocks of records, hashes them in parallel and writes the
+     * hashes in order. At most 2 * threads blocks are in flight, bounding the memory.
+     */
+    private final class Pipeline {
+
+        private final OutputStream out;
+        private final ArrayDeque<Future<byte[]>> inFlight = new ArrayDeque<>();
+
+        private byte[] block = new byte[BLOCK_RECORDS * recordLength];
+        private int filled;
+        private long records;
+
+        Pipeline(final OutputStream out) {
+            this.out = out;
+        }
+
+        void feed(final byte[] bytes, final int offset, final int length) throws IOException {
+            for (int i = offset; i < offset + length; i++) {
+                final byte b = bytes[i];
+                if (b == '\n' || b == '\r') {
+                    if (filled % recordLength != 0) {
+                        throw new IOException("Record " + (records + filled / recordLength) + " is shorter than "
+                                + recordLength + " trytes.");
+                    }
+                    continue;
+                }
+                if (TRYTE_INDEX[b & 0xFF] < 0) {
+                    throw new IOException("Invalid tryte '" + (char) (b & 0xFF) + "' in record "
+                            + (records + filled / recordLength) + ".");
+                }
+                block[filled++] = b;
+                if (filled == block.length) {
+                    submit();
+                }
+            }
+        }
+
+        long finish() throws IOException {
+            if (filled % recordLength != 0) {
+                throw new IOException("Record " + (records + filled / recordLength) + " is truncated.");
+            }
+            if (filled > 0) {
+                submit();
+            }
+            while (!inFlight.isEmpty()) {
+                write(inFlight.poll());
+            }
+            out.flush();
+            return records;
+        }
+
+        private void submit() throws IOException {
+            final byte[] trytes = block;
+            final int count = filled / recordLength;
+            inFlight.add(executor.submit(() -> hashRecords(trytes, count, recordLength)));
+            records += count;
+            block = new byte[BLOCK_RECORDS * recordLength];
+            filled = 0;
+            if (inFlight.size() >= 2 * threads) {
+                write(inFlight.poll());
+            }
+        }
+
+        private void write(final Future<byte[]> hashes) throws IOException {
+            try {
+                out.write(hashes.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException();
+            } catch (ExecutionException e) {
+                throw new IOException(e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Hashes the count records of length trytes laid out back to back in trytes.
+     *
+     * @return the hashes, IOTACURL_HASH_SZ trytes and a '\n' each.
+     */
+    static byte[] hashRecords(final byte[] trytes, final int count, final int length) {
+        IotaCurlMetrics.HASHES.mark(count);
+        final int line = IotaCurlHash.IOTACURL_HASH_SZ + 1;
+        final byte[] hashes = new byte[count * line];
+
+        final long[] low = new long[IotaCurlMiner.STATE_SIZE];
+        final long[] high = new long[IotaCurlMiner.STATE_SIZE];
+        final long[] lowScratch = new long[IotaCurlMiner.STATE_SIZE];
+        final long[] highScratch = new long[IotaCurlMiner.STATE_SIZE];
+
+        for (int first = 0; first < count; first += LANES) {
+            final int lanes = Math.min(count - first, LANES);
+
+            Arrays.fill(low, -1L); // all the trits to 0.
+            Arrays.fill(high, 0L);
+            for (int i = 0; i < length; i += IotaCurlHash.IOTACURL_HASH_SZ) {
+                final int n = Math.min(length - i, IotaCurlHash.IOTACURL_HASH_SZ);
+                Arrays.fill(low, 0, 3 * n, 0L);
+                Arrays.fill(high, 0, 3 * n, 0L);
+                for (int lane = 0; lane < lanes; lane++) {
+                    final int record = (first + lane) * length + i;
+                    for (int j = 0; j < n; j++) {
+                        final int idx = 3 * TRYTE_INDEX[trytes[record + j]];
+                        for (int k = 0; k < 3; k++) {
+                            // MAP: -1 is 0b11, 0 is 0b01 and 1 is 0b10.
+                            final int trit = IotaCurlUtils.TRYTE_TRITS[idx + k];
+                            low[3 * j + k] |= (long) (trit != 1 ? 1 : 0) << lane;
+                            high[3 * j + k] |= (long) (trit != 0 ? 1 : 0) << lane;
+                        }
+                    }
+                }
+                IotaCurlMiner64.doPowTransform(low, high, lowScratch, highScratch);
+            }
+
+            for (int lane = 0; lane < lanes; lane++) {
+                final int hash = (first + lane) * line;
+                for (int j = 0; j < IotaCurlHash.IOTACURL_HASH_SZ; j++) {
+                    int value = 0;
+                    for (int k = 2; k >= 0; k--) {
+                        final long l = (low[3 * j + k] >>> lane) & 1;
+                        final long h = (high[3 * j + k] >>> lane) & 1;
+                        value = 3 * value + (l == 0 ? 1 : (h == 0 ? 0 : -1));
+                    }
+                    hashes[hash + j] = TRYTES[value < 0 ? value + 27 : value];
+                }
+                hashes[hash + IotaCurlHash.IOTACURL_HASH_SZ] = '\n';
+            }
+        }
+        return hashes;
+    }
+
+    /**
+     * Stops the threads, a hash call running fails.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -2,6 +2,7 @@
 package com.iota.curl;
 
 import java.util.Arrays;
+import java.util.BitSet;
 
 /**
  * {@link IotaCurlHash} class definition.
@@ -11,6 +12,13 @@ import java.util.Arrays;
  *
  * IotaCurlMiner.iotaCurlHash(tx,len); // thread safe
  *
+ * or keep a context per thread and reuse it as an incremental sponge,
+ * which allocates nothing once created:
+ *
+ * ctx.reset();
+ * ctx.absorb(trytes, 0, len);
+ * ctx.squeeze(hash, 0, IOTACURL_HASH_SZ);
+ *
  * The hash core functionalities have been ported in this class,
  * utility functions and tables on IotaCurlUtils
  *
@@ -28,28 +36,353 @@ public class IotaCurlHash {
 
     private static final class CurlState {
         int[] state = new int[IOTACURL_3STATE];
+        // The second buffer of the transform rounds, reused on every transform.
+        int[] scratch = new int[IOTACURL_3STATE];
+        // Tryte chunk buffer of iotaCurlHash.
+        char[] chunk = new char[IOTACURL_HASH_SZ];
+        // Hash buffer of doFinalize.
+        char[] hash = new char[IOTACURL_HASH_SZ];
     };
 
+    private static final ThreadLocal<IotaCurlHash> CONTEXT = ThreadLocal.withInitial(IotaCurlHash::new);
+
     private final CurlState curlState = new CurlState();
 
+    public IotaCurlHash() {
+    }
+
+    /**
+     * Copies the absorbed state of other.
+     */
+    IotaCurlHash(final IotaCurlHash other) {
+        System.arraycopy(other.curlState.state, 0, curlState.state, 0, IOTACURL_3STATE);
+    }
+
+    /**
+     * Restores a state taken with stateSnapshot().
+     */
+    IotaCurlHash(final int[] state) {
+        System.arraycopy(state, 0, curlState.state, 0, IOTACURL_3STATE);
+    }
+
+    /**
+     * @return a copy of the absorbed state.
+     */
+    int[] stateSnapshot() {
+        return curlState.state.clone();
+    }
+
+    /**
+     * Hashes the first len trytes of tx. It reuses a context per thread,
+     * the only allocation left is the returned String.
+     */
     public static String iotaCurlHash(final String tx, final int len) {
-        final IotaCurlHash ctx = new IotaCurlHash();
-        ctx.doAbsorb(tx.toCharArray(), len);
+        IotaCurlMetrics.HASHES.mark(1);
+        final IotaCurlHash ctx = CONTEXT.get();
+        ctx.reset();
+        final char[] chunk = ctx.curlState.chunk;
+        for(int i=0; i<len; i+=IOTACURL_HASH_SZ) {
+            final int n = IotaCurlUtils.smin(len-i, IOTACURL_HASH_SZ);
+            tx.getChars(i, i+n, chunk, 0);
+            ctx.absorb(chunk, 0, n);
+        }
+        return ctx.doFinalize();
+    }
+
+    /**
+     * Hashes the first length trits of packed, in the 5-trits-per-byte format.
+     *
+     * @return the hash in the same format, iotaCurlPackedLength(3 * IOTACURL_HASH_SZ) bytes.
+     */
+    public static byte[] iotaCurlHashPacked(final byte[] packed, final int length) {
+        IotaCurlMetrics.HASHES.mark(1);
+        final IotaCurlHash ctx = CONTEXT.get();
+        ctx.reset();
+        ctx.absorbPacked(packed, 0, length);
+        final byte[] hash = new byte[IotaCurlUtils.iotaCurlPackedLength(3*IOTACURL_HASH_SZ)];
+        IotaCurlUtils.iotaCurlPackTrits(hash, 0, ctx.curlState.state, 0, 3*IOTACURL_HASH_SZ);
+        return hash;
+    }
+
+    /**
+     * Hashes the first len trytes of tx as iotaCurlHash(tx, len), taking the
+     * state after its first cache.getPrefixLength() trytes from cache when
+     * the same prefix has already been absorbed.
+     */
+    public static String iotaCurlHash(final String tx, final int len, final IotaCurlMidStateCache cache) {
+        final int prefix = cache.getPrefixLength();
+        if (len <= prefix) {
+            return iotaCurlHash(tx, len);
+        }
+        IotaCurlMetrics.HASHES.mark(1);
+        final IotaCurlHash ctx = cache.absorb(tx);
+        final char[] chunk = CONTEXT.get().curlState.chunk;
+        for(int i=prefix; i<len; i+=IOTACURL_HASH_SZ) {
+            final int n = IotaCurlUtils.smin(len-i, IOTACURL_HASH_SZ);
+            tx.getChars(i, i+n, chunk, 0);
+            ctx.absorb(chunk, 0, n);
+        }
         return ctx.doFinalize();
     }
 
+    /**
+     * Hashes the first len trytes of every transaction of txs.
+     *
+     * Up to IotaCurlMiner.PARALLEL transactions are packed into the 2-bit lanes
+     * of the miner state and hashed together by its bit-sliced transform,
+     * therefore hashing many transactions costs a fraction of hashing them
+     * one by one with iotaCurlHash(tx, len).
+     *
+     * @return the hashes, in the same order as txs.
+     */
+    public static String[] iotaCurlHashBatch(final String[] txs, final int len) {
+        IotaCurlMetrics.HASHES.mark(txs.length);
+        final String[] hashes = new String[txs.length];
+        final long[] state = new long[IOTACURL_3STATE];
+        final long[] scratch = new long[IOTACURL_3STATE];
+        final char[] chunk = new char[IOTACURL_HASH_SZ];
+        final char[] hash = new char[IOTACURL_HASH_SZ];
+        final int[] trits = new int[3*IOTACURL_HASH_SZ];
+
+        for(int first=0; first<txs.length; first+=IotaCurlMiner.PARALLEL) {
+            final int lanes = IotaCurlUtils.smin(txs.length-first, IotaCurlMiner.PARALLEL);
+
+            Arrays.fill(state, IotaCurlMiner.LMASK1); // all the trits to 0.
+            for(int i=0; i<len; i+=IOTACURL_HASH_SZ) {
+                final int n = IotaCurlUtils.smin(len-i, IOTACURL_HASH_SZ);
+                Arrays.fill(state, 0, 3*n, 0L);
+                for(int lane=0; lane<lanes; lane++) {
+                    txs[first+lane].getChars(i, i+n, chunk, 0);
+                    IotaCurlUtils.iotaCurlTrytes2Trits(trits, 0, chunk, n);
+                    for(int j=0; j<3*n; j++) {
+                        state[j] |= IotaCurlMiner.MAP[trits[j]+1] << (2*lane);
+                    }
+                }
+                IotaCurlMiner.doPowTransform(state, scratch);
+            }
+
+            for(int lane=0; lane<lanes; lane++) {
+                for(int j=0; j<3*IOTACURL_HASH_SZ; j++) {
+                    trits[j] = IotaCurlMiner.laneTrit(state[j], lane);
+                }
+                IotaCurlUtils.iotaCurlTrits2Trytes(hash, 0, trits, 3*IOTACURL_HASH_SZ);
+                hashes[first+lane] = new String(hash);
+            }
+        }
+        return hashes;
+    }
+
+    /**
+     * @return true if tx is a whole transaction, made of trytes, whose hash ends
+     * with minWeightMagnitude 0 trits.
+     */
+    public static boolean iotaCurlVerify(final String tx, final int minWeightMagnitude) {
+        return iotaCurlVerifyBatch(new String[] { tx }, minWeightMagnitude).get(0);
+    }
+
+    /**
+     * Checks the proof of work of many transactions at once.
+     *
+     * Up to IotaCurlMiner64.PARALLEL64 transactions are hashed together, one per
+     * bit of the 64-bit lanes of the IotaCurlMiner64 transform. The last transform
+     * only computes the cells the last minWeightMagnitude trits of the hash depend
+     * on, and those trits are checked from the last one, stopping as soon as
+     * every transaction of the batch failed.
+     *
+     * @return the bit i is set if txs[i] passes iotaCurlVerify(txs[i], minWeightMagnitude).
+     * Transactions of the wrong length, or with characters other than trytes, fail.
+     */
+    public static BitSet iotaCurlVerifyBatch(final String[] txs, final int minWeightMagnitude) {
+        if (minWeightMagnitude < 0 || minWeightMagnitude > IotaCurlMiner.HASH_SIZE) {
+            throw new IllegalArgumentException("minWeightMagnitude (" + minWeightMagnitude + ") out of range.");
+        }
+        IotaCurlMetrics.HASHES.mark(txs.length);
+        final int length = IotaCurlBulkHash.TX_RECORD_SZ;
+        final BitSet verified = new BitSet(txs.length);
+        final long[] low = new long[IOTACURL_3STATE];
+        final long[] high = new long[IOTACURL_3STATE];
+        final long[] lowScratch = new long[IOTACURL_3STATE];
+        final long[] highScratch = new long[IOTACURL_3STATE];
+        final char[] chunk = new char[IOTACURL_HASH_SZ];
+        final int[][] cone = IotaCurlMiner.pruningCone(minWeightMagnitude);
+
+        for(int first=0; first<txs.length; first+=IotaCurlMiner64.PARALLEL64) {
+            final int lanes = IotaCurlUtils.smin(txs.length-first, IotaCurlMiner64.PARALLEL64);
+
+            // The lanes still passing.
+            long passing = 0L;
+            for(int lane=0; lane<lanes; lane++) {
+                final String tx = txs[first+lane];
+                passing |= (tx != null && tx.length() == length) ? 1L << lane : 0L;
+            }
+
+            Arrays.fill(low, -1L); // all the trits to 0.
+            Arrays.fill(high, 0L);
+            for(int i=0; i<length && passing != 0; i+=IOTACURL_HASH_SZ) {
+                Arrays.fill(low, 0, IOTACURL_STATE_SZ, 0L);
+                Arrays.fill(high, 0, IOTACURL_STATE_SZ, 0L);
+                for(int lane=0; lane<lanes; lane++) {
+                    if ((passing & (1L << lane)) == 0) {
+                        continue;
+                    }
+                    txs[first+lane].getChars(i, i+IOTACURL_HASH_SZ, chunk, 0);
+                    for(int j=0; j<IOTACURL_HASH_SZ; j++) {
+                        final char c = chunk[j];
+                        if (c != '9' && (c < 'A' || c > 'Z')) {
+                            passing &= ~(1L << lane);
+                            break;
+                        }
+                        final int idx = 3*((c == '9') ? 0 : c - 'A' + 1);
+                        for(int k=0; k<3; k++) {
+                            // MAP: -1 is 0b11, 0 is 0b01 and 1 is 0b10.
+                            final int trit = IotaCurlUtils.TRYTE_TRITS[idx+k];
+                            low[3*j+k] |= (long) (trit != 1 ? 1 : 0) << lane;
+                            high[3*j+k] |= (long) (trit != 0 ? 1 : 0) << lane;
+                        }
+                    }
+                }
+                if (i + IOTACURL_HASH_SZ < length) {
+                    IotaCurlMiner64.doPowTransform(low, high, lowScratch, highScratch);
+                } else {
+                    IotaCurlMiner64.doPowTransform(low, high, lowScratch, highScratch, cone);
+                }
+            }
+
+            // A trit is 0 when its low bit is set and its high bit clear.
+            for(int j=IotaCurlMiner.HASH_SIZE-1; j>=IotaCurlMiner.HASH_SIZE-minWeightMagnitude && passing != 0; j--) {
+                passing &= low[j] & ~high[j];
+            }
+            for(; passing != 0; passing &= passing - 1) {
+                verified.set(first + Long.numberOfTrailingZeros(passing));
+            }
+        }
+        return verified;
+    }
+
+    /**
+     * Clears the state, the context can then hash a new message.
+     */
+    public void reset() {
+        Arrays.fill(curlState.state, 0);
+    }
+
     /**
      * Absorb given trytes.
      */
     protected void doAbsorb(final char [] trytes, final int len) {
-        for(int i=0; i<len; i+=IOTACURL_HASH_SZ) {
-            IotaCurlUtils.iotaCurlTrytes2Trits(curlState.state, i, trytes, IotaCurlUtils.smin(len-i, IOTACURL_HASH_SZ));
+        absorb(trytes, 0, len);
+    }
+
+    /**
+     * Absorbs length trytes of trytes, starting at offset, IOTACURL_HASH_SZ trytes per transform.
+     *
+     * Can be called repeatedly to absorb a message by pieces: as long as every
+     * piece but the last is a multiple of IOTACURL_HASH_SZ, the result is the
+     * same as absorbing the whole message at once.
+     */
+    public void absorb(final char[] trytes, final int offset, final int length) {
+        for(int i=0; i<length; i+=IOTACURL_HASH_SZ) {
+            IotaCurlUtils.iotaCurlTrytes2Trits(curlState.state, offset+i, trytes, IotaCurlUtils.smin(length-i, IOTACURL_HASH_SZ));
+            doHashTransform(curlState.state);
+        }
+    }
+
+    /**
+     * Absorbs length trits (-1, 0, 1) of trits, starting at offset, 3 * IOTACURL_HASH_SZ trits per transform.
+     */
+    public void absorb(final int[] trits, final int offset, final int length) {
+        for(int i=0; i<length; i+=3*IOTACURL_HASH_SZ) {
+            System.arraycopy(trits, offset+i, curlState.state, 0, IotaCurlUtils.smin(length-i, 3*IOTACURL_HASH_SZ));
+            doHashTransform(curlState.state);
+        }
+    }
+
+    /**
+     * Absorbs length trits (-1, 0, 1) of trits, starting at offset, 3 * IOTACURL_HASH_SZ trits per transform.
+     */
+    public void absorb(final byte[] trits, final int offset, final int length) {
+        final int[] state = curlState.state;
+        for(int i=0; i<length; i+=3*IOTACURL_HASH_SZ) {
+            final int n = IotaCurlUtils.smin(length-i, 3*IOTACURL_HASH_SZ);
+            for(int j=0; j<n; j++) {
+                state[j] = trits[offset+i+j];
+            }
+            doHashTransform(state);
+        }
+    }
+
+    /**
+     * Absorbs length trits of packed, in the 5-trits-per-byte format, starting at its trit tritOffset.
+     */
+    public void absorbPacked(final byte[] packed, final int tritOffset, final int length) {
+        for(int i=0; i<length; i+=3*IOTACURL_HASH_SZ) {
+            IotaCurlUtils.iotaCurlUnpackTrits(curlState.state, 0, packed, tritOffset+i, IotaCurlUtils.smin(length-i, 3*IOTACURL_HASH_SZ));
+            doHashTransform(curlState.state);
+        }
+    }
+
+    /**
+     * Squeezes length trytes into trytes, starting at offset.
+     * Every IOTACURL_HASH_SZ trytes squeezed the state is transformed,
+     * the first IOTACURL_HASH_SZ trytes are the hash of the absorbed message.
+     */
+    public void squeeze(final char[] trytes, final int offset, final int length) {
+        for(int i=0; i<length; i+=IOTACURL_HASH_SZ) {
+            IotaCurlUtils.iotaCurlTrits2Trytes(trytes, offset+i, curlState.state, 3*IotaCurlUtils.smin(length-i, IOTACURL_HASH_SZ));
             doHashTransform(curlState.state);
         }
     }
 
+    /**
+     * Squeezes length trits into trits, starting at offset, see squeeze(char[], int, int).
+     */
+    public void squeeze(final int[] trits, final int offset, final int length) {
+        for(int i=0; i<length; i+=3*IOTACURL_HASH_SZ) {
+            System.arraycopy(curlState.state, 0, trits, offset+i, IotaCurlUtils.smin(length-i, 3*IOTACURL_HASH_SZ));
+            doHashTransform(curlState.state);
+        }
+    }
+
+    /**
+     * Squeezes length trits into trits, starting at offset, see squeeze(char[], int, int).
+     */
+    public void squeeze(final byte[] trits, final int offset, final int length) {
+        final int[] state = curlState.state;
+        for(int i=0; i<length; i+=3*IOTACURL_HASH_SZ) {
+            final int n = IotaCurlUtils.smin(length-i, 3*IOTACURL_HASH_SZ);
+            for(int j=0; j<n; j++) {
+                trits[offset+i+j] = (byte) state[j];
+            }
+            doHashTransform(state);
+        }
+    }
+
+    /**
+     * Squeezes length trits into packed, in the 5-trits-per-byte format, starting at its trit tritOffset.
+     */
+    public void squeezePacked(final byte[] packed, final int tritOffset, final int length) {
+        for(int i=0; i<length; i+=3*IOTACURL_HASH_SZ) {
+            IotaCurlUtils.iotaCurlPackTrits(packed, tritOffset+i, curlState.state, 0, IotaCurlUtils.smin(length-i, 3*IOTACURL_HASH_SZ));
+            doHashTransform(curlState.state);
+        }
+    }
+
+    /**
+     * Transforms state1, 27 rounds of the Curl S-box. The rounds are the
+     * unrolled ones of IotaCurlRounds, measured faster than the loop below
+     * (IotaCurlTransformBenchmark).
+     */
     protected void doHashTransform(int [] state1) {
-        int [] state2 = Arrays.copyOf(state1, state1.length);
+        doHashTransformUnrolled(state1, curlState.scratch);
+    }
+
+    /**
+     * As doHashTransform, computing the indices of the rounds in a loop.
+     *
+     * @param state2 the second buffer of the rounds, its content is overwritten.
+     */
+    static void doHashTransformLoop(int [] state1, int [] state2) {
+        System.arraycopy(state1, 0, state2, 0, IOTACURL_3STATE);
 
         for(int r=0; r<27; r++) {
             state1[0] = IotaCurlUtils.TRUTH_TABLE[state2[0] + (state2[364] << 2) + 5];
@@ -66,10 +399,26 @@ public class IotaCurlHash {
         }
     }
 
-    private String doFinalize() {
-        final char [] hash = new char[IOTACURL_HASH_SZ+1];
+    /**
+     * As doHashTransform, with the rounds unrolled by IotaCurlRounds.
+     *
+     * @param state2 the second buffer of the rounds, its content is overwritten.
+     */
+    static void doHashTransformUnrolled(int[] state1, int[] state2) {
+        System.arraycopy(state1, 0, state2, 0, IOTACURL_3STATE);
+
+        for(int r=0; r<27; r++) {
+            IotaCurlRounds.hashRound(state2, state1);
+            int [] t = state1;
+            state1 = state2;
+            state2 = t;
+        }
+    }
+
+    String doFinalize() {
+        final char[] hash = curlState.hash;
         IotaCurlUtils.iotaCurlTrits2Trytes(hash, 0, curlState.state, 3*IOTACURL_HASH_SZ);
-        return new String(hash).trim();
+        return new String(hash, 0, IOTACURL_HASH_SZ);
     }
 
     public int getCurlStateValue(int index) {
@@ -0,0 +1,19 @@
+package com.iota.curl;
+
+/**
+ * The hashing metrics, published as com.iota.curl:type=IotaCurlHash.
+ *
+ * Every transaction hashed through the static IotaCurlHash entry points and
+ * IotaCurlBulkHash counts as one hash.
+ */
+public interface IotaCurlHashMXBean {
+
+    long getHashes();
+
+    // Over the last second.
+    double getHashesPerSecond();
+
+    double getHashesPerSecond10s();
+
+    double getHashesPerSecond60s();
+}
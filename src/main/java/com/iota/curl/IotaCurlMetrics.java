@@ -0,0 +1,205 @@
+package com.iota.curl;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * The building blocks of the metrics published through the platform MBean server.
+ *
+ * Counters are LongAdders, so the threads recording them never contend: the
+ * hot paths pay one striped increment per nonce batch or per hash call. The
+ * rates are computed from per-second samples of the counters, taken by a
+ * single daemon thread.
+ */
+final class IotaCurlMetrics {
+
+    static final String DOMAIN = "com.iota.curl";
+
+    private static final Set<Meter> METERS = new CopyOnWriteArraySet<>();
+
+    // The hashes computed by all the IotaCurlHash entry points.
+    static final Meter HASHES = new Meter();
+
+    private static final ScheduledExecutorService SAMPLER = Executors.newSingleThreadScheduledExecutor(r -> {
+        final Thread t = new Thread(r, "iota-curl-metrics");
+        t.setDaemon(true);
+        return t;
+    });
+
+    static {
+        SAMPLER.scheduleAtFixedRate(() -> {
+            for (final Meter meter : METERS) {
+                meter.tick();
+            }
+        }, 1, 1, TimeUnit.SECONDS);
+        register("type=IotaCurlHash", new HashMetrics());
+    }
+
+    private IotaCurlMetrics() {
+    }
+
+    /**
+     * Registers mbean under DOMAIN:properties in the platform MBean server.
+     *
+     * @return its name, null if it could not be registered.
+     */
+    static ObjectName register(final String properties, final Object mbean) {
+        try {
+            final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            final ObjectName name = new ObjectName(DOMAIN + ":" + properties);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(mbean, name);
+            return name;
+        } catch (JMException | SecurityException e) {
+            return null; // metrics are best effort, mining goes on without them.
+        }
+    }
+
+    static void unregister(final ObjectName name) {
+        if (name != null) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+            } catch (JMException | SecurityException e) {
+                // already gone.
+            }
+        }
+    }
+
+    /**
+     * A counter with its rates over the last WINDOW seconds.
+     */
+    static final class Meter {
+
+        static final int WINDOW = 60;
+
+        private final LongAdder count = new LongAdder();
+
+        // The count at each of the last WINDOW seconds, samples[last] being the newest.
+        private final long[] samples = new long[WINDOW + 1];
+        private int last;
+        private long ticks;
+
+        Meter() {
+            METERS.add(this);
+        }
+
+        void mark(final long n) {
+            count.add(n);
+        }
+
+        long getCount() {
+            return count.sum();
+        }
+
+        /**
+         * @return the average count per second over the last seconds, up to WINDOW.
+         */
+        synchronized double getRate(final int seconds) {
+            final int n = (int) Math.min(Math.min(seconds, WINDOW), ticks);
+            if (n <= 0) {
+                return 0.0;
+            }
+            return (samples[last] - samples[(last - n + samples.length) % samples.length]) / (double) n;
+        }
+
+        synchronized void tick() {
+            final long sum = count.sum();
+            last = (last + 1) % samples.length;
+            samples[last] = sum;
+            if (ticks++ == 0) {
+                // The first sample has no predecessor: start the window from it.
+                Arrays.fill(samples, sum);
+            }
+        }
+
+        /**
+         * Stops sampling, the count is still updated.
+         */
+        void close() {
+            METERS.remove(this);
+        }
+    }
+
+    /**
+     * Durations in milliseconds, in power of two buckets: bucket 0 counts the
+     * durations under 1ms, bucket i the ones in [2^(i-1), 2^i) ms.
+     */
+    static final class Histogram {
+
+        static final int BUCKETS = 40;
+
+        private final LongAdder[] buckets = new LongAdder[BUCKETS];
+
+        Histogram() {
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        void record(final long millis) {
+            buckets[(millis <= 0) ? 0 : Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(millis))].increment();
+        }
+
+        long[] snapshot() {
+            final long[] counts = new long[BUCKETS];
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = buckets[i].sum();
+            }
+            return counts;
+        }
+
+        /**
+         * @return the upper bound, in milliseconds, of the bucket holding the given percentile (0-100), 0 if empty.
+         */
+        long percentile(final double percentile) {
+            final long[] counts = snapshot();
+            long total = 0;
+            for (final long count : counts) {
+                total += count;
+            }
+            final double rank = Math.max(1.0, Math.ceil(total * percentile / 100.0));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS && total > 0; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return 1L << i;
+                }
+            }
+            return 0L;
+        }
+    }
+
+    private static final class HashMetrics implements IotaCurlHashMXBean {
+
+        @Override
+        public long getHashes() {
+            return HASHES.getCount();
+        }
+
+        @Override
+        public double getHashesPerSecond() {
+            return HASHES.getRate(1);
+        }
+
+        @Override
+        public double getHashesPerSecond10s() {
+            return HASHES.getRate(10);
+        }
+
+        @Override
+        public double getHashesPerSecond60s() {
+            return HASHES.getRate(60);
+        }
+    }
+}
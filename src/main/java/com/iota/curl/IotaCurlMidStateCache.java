@@ -0,0 +1,183 @@
+package com.iota.curl;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, thread-safe LRU cache of absorbed midstates.
+ *
+ * Maps the SHA-256 digest of the first prefixLength trytes of a transaction
+ * to the Curl state after absorbing them, by default the TX_HEADER_SZ trytes
+ * before the approvalNonce. Mining or hashing the same transaction again,
+ * e.g. reattaching it with another trunk and branch, then skips the 30
+ * transforms of the header.
+ *
+ * The entries are spread over independently locked segments, each one an
+ * access ordered LinkedHashMap evicting its least recently used entry.
+ */
+public class IotaCurlMidStateCache {
+
+    private static final int SEGMENTS = 16;
+
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e); // every JVM must provide SHA-256.
+        }
+    });
+
+    private static final ThreadLocal<byte[]> BYTES = ThreadLocal.withInitial(() -> new byte[IotaCurlMiner.TX_HEADER_SZ]);
+
+    private static final class Key {
+        private final byte[] digest;
+        private final int hash;
+
+        Key(final byte[] digest) {
+            this.digest = digest;
+            this.hash = Arrays.hashCode(digest);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return (o instanceof Key) && Arrays.equals(digest, ((Key) o).digest);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class Segment extends LinkedHashMap<Key, int[]> {
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;
+
+        Segment(final int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Key, int[]> eldest) {
+            return size() > capacity;
+        }
+    }
+
+    private final int prefixLength;
+    private final Segment[] segments = new Segment[SEGMENTS];
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public IotaCurlMidStateCache(final int capacity) {
+        this(capacity, IotaCurlMiner.TX_HEADER_SZ);
+    }
+
+    /**
+     * @param capacity the maximum number of midstates kept, about 3KB each,
+     * rounded up to a multiple of the number of segments.
+     * @param prefixLength the trytes absorbed in a midstate, a multiple of IOTACURL_HASH_SZ.
+     */
+    public IotaCurlMidStateCache(final int capacity, final int prefixLength) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity (" + capacity + ") should be greater than zero.");
+        }
+        if (prefixLength <= 0 || prefixLength % IotaCurlHash.IOTACURL_HASH_SZ != 0) {
+            throw new IllegalArgumentException("prefixLength (" + prefixLength + ") should be a positive multiple of "
+                    + IotaCurlHash.IOTACURL_HASH_SZ + ".");
+        }
+        this.prefixLength = prefixLength;
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(Math.max(1, (capacity + SEGMENTS - 1) / SEGMENTS));
+        }
+    }
+
+    public int getPrefixLength() {
+        return prefixLength;
+    }
+
+    /**
+     * @return a new context with the first getPrefixLength() trytes of trytes absorbed,
+     * from the cache when possible.
+     */
+    public IotaCurlHash absorb(final String trytes) {
+        if (trytes.length() < prefixLength) {
+            throw new IllegalArgumentException("trytes should be at least " + prefixLength + " trytes long.");
+        }
+        final Key key = digest(trytes);
+        final Segment segment = segments[(key.hash >>> 16 ^ key.hash) & (SEGMENTS - 1)];
+
+        final int[] cached;
+        synchronized (segment) {
+            cached = segment.get(key);
+        }
+        if (cached != null) {
+            hits.increment();
+            return new IotaCurlHash(cached);
+        }
+
+        misses.increment();
+        final IotaCurlHash ctx = new IotaCurlHash();
+        final char[] chunk = new char[IotaCurlHash.IOTACURL_HASH_SZ];
+        for (int i = 0; i < prefixLength; i += IotaCurlHash.IOTACURL_HASH_SZ) {
+            trytes.getChars(i, i + IotaCurlHash.IOTACURL_HASH_SZ, chunk, 0);
+            ctx.absorb(chunk, 0, IotaCurlHash.IOTACURL_HASH_SZ);
+        }
+        final int[] state = ctx.stateSnapshot();
+        synchronized (segment) {
+            segment.put(key, state);
+        }
+        return ctx;
+    }
+
+    private Key digest(final String trytes) {
+        byte[] bytes = BYTES.get();
+        if (bytes.length < prefixLength) {
+            bytes = new byte[prefixLength];
+            BYTES.set(bytes);
+        }
+        for (int i = 0; i < prefixLength; i++) {
+            bytes[i] = (byte) trytes.charAt(i); // trytes are [9A-Z].
+        }
+        final MessageDigest sha256 = SHA256.get();
+        sha256.update(bytes, 0, prefixLength);
+        return new Key(sha256.digest());
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public int size() {
+        int size = 0;
+        for (final Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    public void clear() {
+        for (final Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "IotaCurlMidStateCache{size=" + size() + ", hits=" + getHits() + ", misses=" + getMisses() + "}";
+    }
+}
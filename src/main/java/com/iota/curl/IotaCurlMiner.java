@@ -1,19 +1,19 @@
 package com.iota.curl;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
-import java.util.List;
-import java.util.concurrent.*;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.LinkedList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Iota Curl Core mining functions.
  *
+ * As an IotaCurlPowEngine, the scalar one trying 32 nonces per batch.
+ *
  * gianluigi.davassi on 13.10.16.
  */
-public class IotaCurlMiner {
+public class IotaCurlMiner implements IotaCurlPowEngine {
 
     public static final long LMASK1 = (0x5555555555555555l);
     public static final long LMASK2 = (0xAAAAAAAAAAAAAAAAl);
@@ -28,16 +28,23 @@ public class IotaCurlMiner {
     // The length of transaction header (before approvalNonce) in trytes.
     public static final int TX_HEADER_SZ = 2430;
 
-    private static final int HASH_SIZE = 3*IotaCurlHash.IOTACURL_HASH_SZ;
-    private static final int STATE_SIZE = 3*IotaCurlHash.IOTACURL_STATE_SZ;
+    static final int HASH_SIZE = 3*IotaCurlHash.IOTACURL_HASH_SZ;
+    static final int STATE_SIZE = 3*IotaCurlHash.IOTACURL_STATE_SZ;
+
+    // The number of nonces tried by a single doWork call.
+    static final int PARALLEL = 32;
 
-    private final long[] midState = new long[3 * IotaCurlHash.IOTACURL_STATE_SZ];
+    // The job of the last powInit call, used by the single job methods.
+    private IotaCurlPowContext context;
 
-    private final int[] approvalNonce = new int[HASH_SIZE];
-    private final int[] trunkTransaction = new int[HASH_SIZE];
-    private final int[] branchTransaction = new int[HASH_SIZE];
+    // The buffers of doWork, reused by every batch of a thread.
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
 
-    private final int PARALLEL = 32;
+    private static final class Scratch {
+        final IotaCurlNonceCounter[] counters = IotaCurlNonceCounter.newCounters(1, 2);
+        final long[] state = new long[STATE_SIZE];
+        final long[] scratch = new long[STATE_SIZE];
+    }
 
     protected static long lc(long a) {
         return ((((a) ^ ((a)>>1)) & LMASK1) | (((a)<<1) & LMASK2));
@@ -47,6 +54,14 @@ public class IotaCurlMiner {
         return (c) ^ (LMASK2 & (b) & (((b) & (c))<<1)) ^ (LMASK1 & ~(b) & (((b) & (c))>>1));
     }
 
+    /**
+     * @return the trit (-1, 0, 1) held by the given 2-bit lane of word, the inverse of MAP.
+     */
+    static int laneTrit(final long word, final int lane) {
+        final int n = (int) ((word >> (2*lane)) & MAP[0]);
+        return (n == MAP[1]) ? 0 : (n == MAP[2] ? 1 : -1);
+    }
+
     protected final void doPowAbsorb(final long[] state, final int[] trits) {
         for (int i=0; i<HASH_SIZE; i++) {
             state[i] = MAP_EX[trits[i]+1];
@@ -54,90 +69,229 @@ public class IotaCurlMiner {
     }
 
     protected void doPowTransform(final long [] state) {
-        long[] state1 = state; // shallow copy
-        long[] state2 = Arrays.copyOf(state, state.length);
-
-        for(int r=0; r<27; r++) {
-            {
-                final long a = state2[0];
-                final long b = state2[364];
-                final long c = lc(a);
-                state1[0] = ld(b, c);
-            }
-            for (int i = 0; i < (STATE_SIZE / 2); i++) {
-                final long a3 = state2[364 - i - 1];
-                final long a1 = state2[364 - i];
-                final long a2 = state2[729 - i - 1];
-                final long c1 = lc(a1);
-                final long c2 = lc(a2);
-                state1[2 * i + 1] = ld(a2, c1);
-                state1[2 * i + 2] = ld(a3, c2);
+        doPowTransform(state, new long[state.length]);
+    }
+
+    /**
+     * Transforms all the lanes of state at once.
+     *
+     * @param scratch the second buffer of the rounds, as long as state. Its content is overwritten.
+     */
+    static void doPowTransform(final long [] state, final long [] scratch) {
+        doPowTransform(state, scratch, FULL_TRANSFORM);
+    }
+
+    /**
+     * Transforms all the lanes of state at once, computing only the cells of
+     * the last rounds listed in cone, see pruningCone. The other cells of
+     * state are left undefined.
+     */
+    static void doPowTransform(final long [] state, final long [] scratch, final int[][] cone) {
+        System.arraycopy(state, 0, scratch, 0, STATE_SIZE);
+        doPowRounds(state, scratch, 0, cone);
+    }
+
+    /**
+     * As doPowTransform, for the first transform of a batch, with only the nonce
+     * in the cells before HASH_SIZE changing from batch to batch: the cells 1 to
+     * HASH_SIZE of its first round, which read none of them, are copied from
+     * firstRound instead, see firstRound.
+     */
+    static void doPowTransformFirst(final long [] state, final long [] scratch, final long[] firstRound) {
+        System.arraycopy(state, 0, scratch, 0, STATE_SIZE);
+        state[0] = ld(scratch[364], lc(scratch[0]));
+        System.arraycopy(firstRound, 1, state, 1, HASH_SIZE);
+        for (int i = FIRST_NONCE_PAIR - 1; i < (STATE_SIZE / 2); i++) {
+            final long a3 = scratch[364 - i - 1];
+            final long a1 = scratch[364 - i];
+            final long a2 = scratch[729 - i - 1];
+            if (i >= FIRST_NONCE_PAIR) {
+                state[2 * i + 1] = ld(a2, lc(a1));
             }
-            final long[] t = state1;
-            state1 = state2;
-            state2 = t;
+            state[2 * i + 2] = ld(a3, lc(a2));
         }
+        doPowRounds(scratch, state, 1, FULL_TRANSFORM);
     }
 
-    private long doWork(final int minWeightMagnitude, long offset) {
-        final int [] an = Arrays.copyOf(approvalNonce, HASH_SIZE);
-        final long [] state = Arrays.copyOf(midState, midState.length);
-
-        IotaCurlUtils.iotaCurlTritsAdd(an, HASH_SIZE, offset);
+    // The cells 2i+1 and 2i+2 of a round read the nonce when i is at least FIRST_NONCE_PAIR,
+    // and so does the cell 2i+2 of the pair before: the cells 1 to HASH_SIZE read none of it.
+    static final int FIRST_NONCE_PAIR = 365 - HASH_SIZE;
+
+    /**
+     * Computes the cells 1 to HASH_SIZE of the first round of the transform of midState,
+     * the ones not depending on the nonce. The lanes of midState all hold the same trits.
+     *
+     * @param firstRound receives the cell d at index d.
+     */
+    static void firstRound(final long[] midState, final long[] firstRound) {
+        for (int d = 1; d <= HASH_SIZE; d++) {
+            firstRound[d] = ld(midState[sourceB(d)], lc(midState[sourceA(d)]));
+        }
+    }
 
-        // Search. Process approvalNonce.
-        for(int i=0; i<PARALLEL; i++) {
-            for(int j=0; j<HASH_SIZE; j++) {
-                state[j] |= ((MAP[an[j]+1]) << (i*2));
+    /**
+     * The rounds from first to 26 of a transform, reading the state before
+     * the round first from state2 and writing its output to state1.
+     */
+    private static void doPowRounds(long[] state1, long[] state2, final int first, final int[][] cone) {
+        final int pruned = 27 - cone.length;
+        for(int r=first; r<27; r++) {
+            if (r < pruned) {
+                {
+                    final long a = state2[0];
+                    final long b = state2[364];
+                    final long c = lc(a);
+                    state1[0] = ld(b, c);
+                }
+                for (int i = 0; i < (STATE_SIZE / 2); i++) {
+                    final long a3 = state2[364 - i - 1];
+                    final long a1 = state2[364 - i];
+                    final long a2 = state2[729 - i - 1];
+                    final long c1 = lc(a1);
+                    final long c2 = lc(a2);
+                    state1[2 * i + 1] = ld(a2, c1);
+                    state1[2 * i + 2] = ld(a3, c2);
+                }
+            } else {
+                for (final int d : cone[r - pruned]) {
+                    state1[d] = ld(state2[sourceB(d)], lc(state2[sourceA(d)]));
+                }
             }
-            IotaCurlUtils.iotaCurlTritsIncrement(an, HASH_SIZE);
+            final long[] t = state1;
+            state1 = state2;
+            state2 = t;
         }
+    }
 
-        doPowTransform(state);
+    // No pruning, all the rounds compute all the cells.
+    static final int[][] FULL_TRANSFORM = new int[0][];
 
-        // Process trunkTransaction/branchTransaction.
-        doPowAbsorb(state, trunkTransaction);
-        doPowTransform(state);
+    private static final AtomicReferenceArray<int[][]> CONES = new AtomicReferenceArray<>(HASH_SIZE + 1);
 
-        doPowAbsorb(state, branchTransaction);
-        doPowTransform(state);
+    // A round computes the cell d as ld(state[sourceB(d)], lc(state[sourceA(d)])).
+    static int sourceA(final int d) {
+        return (d == 0) ? 0 : ((d & 1) == 1 ? 364 - (d - 1) / 2 : 728 - (d - 2) / 2);
+    }
 
-        // Check if work is done.
-        for(int i=0; i<PARALLEL; i++) {
+    static int sourceB(final int d) {
+        return (d == 0) ? 364 : ((d & 1) == 1 ? 728 - (d - 1) / 2 : 363 - (d - 2) / 2);
+    }
 
-            boolean complete = true;
+    /**
+     * The dependency cone of the last minWeightMagnitude trits of the hash.
+     *
+     * Only a few cells feed the trits checked by doWork in the last round, twice
+     * as many in the round before, and so on: the rounds of the last transform
+     * can skip all the other cells, until the cone covers the whole state.
+     *
+     * @return the cells to compute in each of the last rounds of the transform, in round order.
+     */
+    static int[][] pruningCone(final int minWeightMagnitude) {
+        int[][] cone = CONES.get(minWeightMagnitude);
+        if (cone == null) {
+            cone = buildPruningCone(minWeightMagnitude);
+            CONES.set(minWeightMagnitude, cone);
+        }
+        return cone;
+    }
 
-            for(int j=HASH_SIZE-minWeightMagnitude; j<HASH_SIZE; j++) {
-                long n = state[j] >> ((2*i)) & (MAP[0]);
-                complete = complete && (n == (MAP[1]));
+    private static int[][] buildPruningCone(final int minWeightMagnitude) {
+        final LinkedList<int[]> rounds = new LinkedList<>();
+        boolean[] needed = new boolean[STATE_SIZE];
+        Arrays.fill(needed, HASH_SIZE - minWeightMagnitude, HASH_SIZE, true);
+        int count = minWeightMagnitude;
+
+        while (count < STATE_SIZE && rounds.size() < 27) {
+            final int[] cells = new int[count];
+            final boolean[] sources = new boolean[STATE_SIZE];
+            count = 0;
+            for (int d = 0, n = 0; d < STATE_SIZE; d++) {
+                if (needed[d]) {
+                    cells[n++] = d;
+                    sources[sourceA(d)] = true;
+                    sources[sourceB(d)] = true;
+                }
             }
-            if(!complete) {
-                continue;
+            for (final boolean source : sources) {
+                count += source ? 1 : 0;
+            }
+            rounds.addFirst(cells);
+            needed = sources;
+        }
+        return rounds.toArray(new int[rounds.size()][]);
+    }
+
+    /**
+     * @return the widest engine available on this JVM: IotaCurlMinerVector when
+     * the Vector API is there (Java 16+ and --add-modules jdk.incubator.vector)
+     * and wider than one long, IotaCurlMiner64 otherwise. The widest is not always
+     * the fastest: IotaCurlPowEngines.calibrated() measures instead of guessing.
+     */
+    public static IotaCurlMiner newWidestMiner() {
+        try {
+            final IotaCurlMiner vector = (IotaCurlMiner) Class.forName("com.iota.curl.IotaCurlMinerVector")
+                    .getConstructor().newInstance();
+            if (vector.getParallel() > IotaCurlMiner64.PARALLEL64) {
+                return vector;
             }
-            return (offset + i); // If the solution has been found.
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // Not built (JDK < 16), older JVM or incubator module not added: fall back.
         }
-        return 0;
+        return new IotaCurlMiner64();
     }
 
-    private final char[] powInit(final String tx) {
+    @Override
+    public int getParallel() {
+        return PARALLEL;
+    }
 
-        final IotaCurlHash ctx = new IotaCurlHash();
-        final char[] trx = tx.toCharArray();
-        ctx.doAbsorb(trx, TX_HEADER_SZ);
+    protected long doWork(final int minWeightMagnitude, long offset) {
+        return doWork(context, minWeightMagnitude, offset);
+    }
 
-        for (int i = 0; i < STATE_SIZE; i++) {
-            midState[i] = (i < HASH_SIZE) ? 0L : (MAP_EX[ctx.getCurlStateValue(i) + 1]);
+    @Override
+    public long doWork(final IotaCurlPowContext ctx, final int minWeightMagnitude, long offset) {
+        final Scratch buffers = SCRATCH.get();
+        final long [] state = buffers.state;
+        final long [] scratch = buffers.scratch;
+
+        // Search. Process approvalNonce, kept in the lanes of the counter from batch to batch.
+        // The rest of the state is the midstate: part of the first round is computed once per job.
+        final IotaCurlNonceCounter counter = IotaCurlNonceCounter.moveTo(buffers.counters, ctx, offset);
+        for(int j=0; j<HASH_SIZE; j++) {
+            state[j] = counter.low[j] | (counter.high[j] << 1);
         }
+        System.arraycopy(ctx.midState, HASH_SIZE, state, HASH_SIZE, STATE_SIZE - HASH_SIZE);
 
-        IotaCurlUtils.iotaCurlTrytes2Trits(approvalNonce, 7290 / 3, trx, IotaCurlHash.IOTACURL_HASH_SZ);
-        IotaCurlUtils.iotaCurlTrytes2Trits(trunkTransaction, 7533 / 3, trx, IotaCurlHash.IOTACURL_HASH_SZ);
-        IotaCurlUtils.iotaCurlTrytes2Trits(branchTransaction, 7776 / 3, trx, IotaCurlHash.IOTACURL_HASH_SZ);
-        return trx;
+        doPowTransformFirst(state, scratch, ctx.firstRound);
+
+        // Process trunkTransaction/branchTransaction.
+        doPowAbsorb(state, ctx.trunkTransaction);
+        doPowTransform(state, scratch);
+
+        // Only the last minWeightMagnitude trits of the hash are checked.
+        doPowAbsorb(state, ctx.branchTransaction);
+        doPowTransform(state, scratch, pruningCone(minWeightMagnitude));
+
+        // Check if work is done: a lane is complete when all its last trits are 0 (0b01),
+        // the low bit of the lanes of complete is set for the complete ones.
+        long complete = LMASK1;
+        for(int j=HASH_SIZE-minWeightMagnitude; j<HASH_SIZE; j++) {
+            complete &= state[j] & ~(state[j] >> 1);
+        }
+        if (complete == 0) {
+            return 0;
+        }
+        return (offset + Long.numberOfTrailingZeros(complete) / 2); // If the solution has been found.
+    }
+
+    protected final char[] powInit(final String tx) {
+        context = new IotaCurlPowContext(tx);
+        return context.trytes;
     }
 
     public void powFinalize(char [] txar, long result) {
-        IotaCurlUtils.iotaCurlTritsAdd(approvalNonce, HASH_SIZE, result);
-        IotaCurlUtils.iotaCurlTrits2Trytes(txar, TX_HEADER_SZ, approvalNonce, HASH_SIZE);
+        context.powFinalize(txar, result);
     }
 
     public String doCurlPowSingleThread(String tx, final int minWeightMagnitude) {
@@ -145,7 +299,7 @@ public class IotaCurlMiner {
 
         long offset = 0L, result;
         while ((result = doWork(minWeightMagnitude, offset)) == 0) {
-            offset += PARALLEL;
+            offset += getParallel();
         }
         powFinalize(trax, result);
         return new String(trax);
@@ -162,41 +316,18 @@ public class IotaCurlMiner {
         throw new IllegalStateException();
     }
 
+    /**
+     * Mines with this miner on the threads of the shared {@link IotaCurlPowService}, blocking until done.
+     *
+     * The result is the same as the one of doCurlPowSingleThread.
+     */
     public String doCurlPowMultiThread(String tx, final int minWeightMagnitude) throws ExecutionException, InterruptedException {
-        final char[] trax = powInit(tx);
-
-        final int cpus = Runtime.getRuntime().availableProcessors();
-        final ExecutorService executor = Executors.newFixedThreadPool(cpus-1);
-
-        final AtomicLong offset = new AtomicLong(0l);
-        final AtomicLong result = new AtomicLong(0l);
-        final AtomicBoolean finish = new AtomicBoolean(false);
-
-        final Collection<Callable<Long>> tasks = new ArrayList<>();
-        for (int i = 0; i<cpus-1; i++) {
-            tasks.add (() -> {
-                while (result.get() == 0 && finish.get() == false) {
-                    result.compareAndSet(0, doWork(minWeightMagnitude, offset.getAndAdd(32l)));
-                }
-                finish.set(true);
-                return result.get();
-            });
+        final CompletableFuture<String> mined = IotaCurlPowService.shared().submit(this, tx, minWeightMagnitude);
+        try {
+            return mined.get();
+        } finally {
+            mined.cancel(true); // no-op once completed, stops the workers if we have been interrupted.
         }
-        final List<Future<Long>> res = executor.invokeAll(tasks);
-
-        final Long r = res.stream().map(t -> {
-            try {
-                return t.get();
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            } catch (ExecutionException e) {
-                e.printStackTrace();
-            }
-            return 0;
-        }).map(t -> t.longValue()).findFirst().get();
-        executor.shutdown();
-        powFinalize(trax, r);
-        return new String(trax);
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,177 @@
+package com.iota.curl;
+
+/**
+ * Iota Curl mining on 64 lanes.
+ *
+ * The state is kept as two bit planes of 729 longs: bit i of low[j] and of
+ * high[j] are the low and the high bit of the 2-bit encoding (MAP) of the
+ * trit j of lane i. Every long thus carries 64 independent lanes instead of
+ * the 32 of IotaCurlMiner, and the S-box becomes plain boolean logic on the
+ * two planes, with no masks and no shifts.
+ *
+ * The nonce found is the same as the one of IotaCurlMiner.
+ */
+public class IotaCurlMiner64 extends IotaCurlMiner {
+
+    // The number of nonces tried by a single doWork call.
+    static final int PARALLEL64 = 64;
+
+    // The buffers of doWork, reused by every batch of a thread.
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private static final class Scratch {
+        final IotaCurlNonceCounter[] counters = IotaCurlNonceCounter.newCounters(1, 1);
+        final long[] low = new long[STATE_SIZE];
+        final long[] high = new long[STATE_SIZE];
+        final long[] lowScratch = new long[STATE_SIZE];
+        final long[] highScratch = new long[STATE_SIZE];
+    }
+
+    @Override
+    public int getParallel() {
+        return PARALLEL64;
+    }
+
+    /**
+     * The S-box of lc/ld on the two planes, the output is written in low[dst], high[dst].
+     */
+    private static void sbox(final long al, final long ah, final long bl, final long bh,
+                             final long[] low, final long[] high, final int dst) {
+        final long cl = al ^ ah;
+        final long ch = al;
+        low[dst] = cl ^ (~bl & bh & ch);
+        high[dst] = ch ^ (bh & bl & cl);
+    }
+
+    /**
+     * Transforms all the lanes of low/high at once, the scratch planes are overwritten.
+     */
+    static void doPowTransform(final long[] low, final long[] high, final long[] lowScratch, final long[] highScratch) {
+        doPowTransform(low, high, lowScratch, highScratch, FULL_TRANSFORM);
+    }
+
+    /**
+     * As above, computing only the cells of the last rounds listed in cone, see IotaCurlMiner.pruningCone.
+     */
+    static void doPowTransform(final long[] low, final long[] high, final long[] lowScratch, final long[] highScratch,
+                               final int[][] cone) {
+        System.arraycopy(low, 0, lowScratch, 0, STATE_SIZE);
+        System.arraycopy(high, 0, highScratch, 0, STATE_SIZE);
+        doPowRounds(low, high, lowScratch, highScratch, 0, cone);
+    }
+
+    /**
+     * As IotaCurlMiner.doPowTransformFirst: the cells 1 to HASH_SIZE of the first
+     * round are copied from firstRound, a word of which holds all its lanes.
+     */
+    static void doPowTransformFirst(final long[] low, final long[] high, final long[] lowScratch, final long[] highScratch,
+                                    final long[] firstRound) {
+        doPowTransformFirst(low, high, lowScratch, highScratch, firstRound, FULL_TRANSFORM);
+    }
+
+    /**
+     * As above, computing only the cells of the last rounds listed in cone.
+     */
+    static void doPowTransformFirst(final long[] low, final long[] high, final long[] lowScratch, final long[] highScratch,
+                                    final long[] firstRound, final int[][] cone) {
+        System.arraycopy(low, 0, lowScratch, 0, STATE_SIZE);
+        System.arraycopy(high, 0, highScratch, 0, STATE_SIZE);
+        sbox(lowScratch[0], highScratch[0], lowScratch[364], highScratch[364], low, high, 0);
+        for (int d = 1; d <= HASH_SIZE; d++) {
+            low[d] = -(firstRound[d] & 1);
+            high[d] = -((firstRound[d] >> 1) & 1);
+        }
+        for (int i = FIRST_NONCE_PAIR - 1; i < (STATE_SIZE / 2); i++) {
+            final int a1 = 364 - i;
+            final int a2 = 729 - i - 1;
+            final int a3 = 364 - i - 1;
+            if (i >= FIRST_NONCE_PAIR) {
+                sbox(lowScratch[a1], highScratch[a1], lowScratch[a2], highScratch[a2], low, high, 2 * i + 1);
+            }
+            sbox(lowScratch[a2], highScratch[a2], lowScratch[a3], highScratch[a3], low, high, 2 * i + 2);
+        }
+        doPowRounds(lowScratch, highScratch, low, high, 1, cone);
+    }
+
+    /**
+     * The rounds from first to 26 of a transform, reading the state before
+     * the round first from low2/high2 and writing its output to low1/high1.
+     */
+    private static void doPowRounds(long[] low1, long[] high1, long[] low2, long[] high2, final int first, final int[][] cone) {
+        final int pruned = 27 - cone.length;
+        for(int r=first; r<27; r++) {
+            if (r < pruned) {
+                sbox(low2[0], high2[0], low2[364], high2[364], low1, high1, 0);
+
+                for (int i = 0; i < (STATE_SIZE / 2); i++) {
+                    final int a1 = 364 - i;
+                    final int a2 = 729 - i - 1;
+                    final int a3 = 364 - i - 1;
+                    sbox(low2[a1], high2[a1], low2[a2], high2[a2], low1, high1, 2 * i + 1);
+                    sbox(low2[a2], high2[a2], low2[a3], high2[a3], low1, high1, 2 * i + 2);
+                }
+            } else {
+                for (final int d : cone[r - pruned]) {
+                    final int a = sourceA(d);
+                    final int b = sourceB(d);
+                    sbox(low2[a], high2[a], low2[b], high2[b], low1, high1, d);
+                }
+            }
+            long[] t = low1;
+            low1 = low2;
+            low2 = t;
+            t = high1;
+            high1 = high2;
+            high2 = t;
+        }
+    }
+
+    private static void doPowAbsorb(final long[] low, final long[] high, final int[] trits) {
+        for (int i=0; i<HASH_SIZE; i++) {
+            final long m = MAP[trits[i]+1];
+            low[i] = -(m & 1);
+            high[i] = -((m >> 1) & 1);
+        }
+    }
+
+    @Override
+    public long doWork(final IotaCurlPowContext ctx, final int minWeightMagnitude, final long offset) {
+        final Scratch buffers = SCRATCH.get();
+        final long[] low = buffers.low;
+        final long[] high = buffers.high;
+        final long[] lowScratch = buffers.lowScratch;
+        final long[] highScratch = buffers.highScratch;
+
+        for (int j=HASH_SIZE; j<STATE_SIZE; j++) {
+            low[j] = -(ctx.midState[j] & 1);
+            high[j] = -((ctx.midState[j] >> 1) & 1);
+        }
+
+        // Search. Process approvalNonce, kept in the lanes of the counter from batch to batch.
+        final IotaCurlNonceCounter counter = IotaCurlNonceCounter.moveTo(buffers.counters, ctx, offset);
+        System.arraycopy(counter.low, 0, low, 0, HASH_SIZE);
+        System.arraycopy(counter.high, 0, high, 0, HASH_SIZE);
+
+        doPowTransformFirst(low, high, lowScratch, highScratch, ctx.firstRound);
+
+        // Process trunkTransaction/branchTransaction.
+        doPowAbsorb(low, high, ctx.trunkTransaction);
+        doPowTransform(low, high, lowScratch, highScratch);
+
+        // Only the last minWeightMagnitude trits of the hash are checked.
+        doPowAbsorb(low, high, ctx.branchTransaction);
+        doPowTransform(low, high, lowScratch, highScratch, pruningCone(minWeightMagnitude));
+
+        // Check if work is done: a lane is complete when all its last trits are 0, i.e. low set and high clear.
+        long complete = -1L;
+        for(int j=HASH_SIZE-minWeightMagnitude; j<HASH_SIZE; j++) {
+            complete &= low[j] & ~high[j];
+        }
+
+        // IotaCurlMiner reports a solution at nonce 0 as none, skipping the rest of its 32-nonce batch.
+        if (offset == 0 && (complete & 1L) != 0) {
+            complete &= ~0xFFFFFFFFL;
+        }
+        return (complete == 0) ? 0 : (offset + Long.numberOfTrailingZeros(complete));
+    }
+}
@@ -0,0 +1,173 @@
+package com.iota.curl;
+
+import java.util.Arrays;
+
+/**
+ * The approvalNonce trits of all the lanes of a miner, kept bit-sliced across batches.
+ *
+ * Lane i holds approvalNonce + offset + i, its trit j encoded as by MAP in
+ * bit i of low[j * words + i / 64] and of high[j * words + i / 64] (spread,
+ * every other bit, in the 2-bit lanes of IotaCurlMiner). Moving to the next
+ * batch adds the same delta to every lane: a balanced ternary adder on whole
+ * words, running over the low trits until the carries of all the lanes are
+ * out, usually 5 or 6 of them. Only a new context, or going backwards, lays
+ * the nonces lane by lane again.
+ *
+ * Counters are owned by one thread, as the scratch of its miner, a few of them
+ * so that the jobs sharing a worker batch by batch do not evict each other.
+ * They keep the last contexts they have been moved to reachable.
+ */
+final class IotaCurlNonceCounter {
+
+    // The counters of a thread, more than the jobs usually interleaved on a worker.
+    static final int COUNTERS_PER_THREAD = 4;
+
+    // The balanced ternary digits of a positive long.
+    private static final int MAX_DIGITS = 41;
+
+    final long[] low;
+    final long[] high;
+
+    private final int words;
+    // The distance between the bits of two lanes, 1 or 2.
+    private final int spread;
+    private final int lanesPerWord;
+
+    private final int[] an = new int[IotaCurlMiner.HASH_SIZE];
+    private final int[] digits = new int[MAX_DIGITS];
+
+    private IotaCurlPowContext context;
+    private long offset;
+    private long lastUsed;
+
+    /**
+     * @param words the longs of each trit, 64 / spread lanes each.
+     * @param spread 1 for the bit planes of IotaCurlMiner64, 2 for the lanes of IotaCurlMiner.
+     */
+    IotaCurlNonceCounter(final int words, final int spread) {
+        this.words = words;
+        this.spread = spread;
+        this.lanesPerWord = 64 / spread;
+        this.low = new long[IotaCurlMiner.HASH_SIZE * words];
+        this.high = new long[IotaCurlMiner.HASH_SIZE * words];
+    }
+
+    /**
+     * @return COUNTERS_PER_THREAD new counters, see the constructor.
+     */
+    static IotaCurlNonceCounter[] newCounters(final int words, final int spread) {
+        final IotaCurlNonceCounter[] counters = new IotaCurlNonceCounter[COUNTERS_PER_THREAD];
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new IotaCurlNonceCounter(words, spread);
+        }
+        return counters;
+    }
+
+    /**
+     * @return the counter of counters last moved in ctx, or the least recently used one,
+     * moved to approvalNonce + offset of ctx.
+     */
+    static IotaCurlNonceCounter moveTo(final IotaCurlNonceCounter[] counters, final IotaCurlPowContext ctx, final long offset) {
+        IotaCurlNonceCounter counter = null;
+        IotaCurlNonceCounter leastRecentlyUsed = counters[0];
+        long used = 0;
+        for (final IotaCurlNonceCounter c : counters) {
+            used = Math.max(used, c.lastUsed);
+            if (c.context == ctx) {
+                counter = c;
+            }
+            if (c.lastUsed < leastRecentlyUsed.lastUsed) {
+                leastRecentlyUsed = c;
+            }
+        }
+        if (counter == null) {
+            counter = leastRecentlyUsed;
+        }
+        counter.lastUsed = used + 1;
+        counter.moveTo(ctx, offset);
+        return counter;
+    }
+
+    /**
+     * Lays approvalNonce + offset + i of ctx into the lane i.
+     */
+    void moveTo(final IotaCurlPowContext ctx, final long offset) {
+        if (ctx != context || offset < this.offset) {
+            layOut(ctx, offset);
+        } else if (offset > this.offset) {
+            add(offset - this.offset);
+            this.offset = offset;
+        }
+    }
+
+    private void layOut(final IotaCurlPowContext ctx, final long offset) {
+        System.arraycopy(ctx.approvalNonce, 0, an, 0, IotaCurlMiner.HASH_SIZE);
+        IotaCurlUtils.iotaCurlTritsAdd(an, IotaCurlMiner.HASH_SIZE, offset);
+        Arrays.fill(low, 0L);
+        Arrays.fill(high, 0L);
+        for (int i = 0; i < words * lanesPerWord; i++) {
+            final int w = i / lanesPerWord;
+            final int bit = (i % lanesPerWord) * spread;
+            for (int j = 0; j < IotaCurlMiner.HASH_SIZE; j++) {
+                final long m = IotaCurlMiner.MAP[an[j] + 1];
+                low[j * words + w] |= (m & 1) << bit;
+                high[j * words + w] |= ((m >> 1) & 1) << bit;
+            }
+            IotaCurlUtils.iotaCurlTritsIncrement(an, IotaCurlMiner.HASH_SIZE);
+        }
+        this.context = ctx;
+        this.offset = offset;
+    }
+
+    /**
+     * Adds delta to all the lanes, modulo 3^243 as iotaCurlTritsAdd does.
+     *
+     * Per lane, adding 1 maps -1, 0, 1 (low/high 11, 10, 01) to 0, 1, -1 with a carry
+     * out of 1, adding -1 maps them to 1, -1, 0 with a carry out of -1. A trit gets
+     * the digit of delta, common to all the lanes, then its own carry in.
+     */
+    private void add(long delta) {
+        int count = 0;
+        while (delta != 0) {
+            final int r = (int) (delta % 3);
+            digits[count++] = (r == 2) ? -1 : r;
+            delta = delta / 3 + ((r == 2) ? 1 : 0);
+        }
+
+        final long lanes = (spread == 1) ? -1L : IotaCurlMiner.LMASK1;
+        for (int w = 0; w < words; w++) {
+            long cp = 0; // the lanes carrying 1 into the trit
+            long cn = 0; // the lanes carrying -1 into the trit
+            for (int j = 0; j < IotaCurlMiner.HASH_SIZE && (j < count || (cp | cn) != 0); j++) {
+                final int k = j * words + w;
+                long l = low[k];
+                long h = high[k];
+
+                long dp = 0;
+                long dn = 0;
+                if (j < count && digits[j] == 1) {
+                    dp = ~l & h & lanes;
+                    final long t = l ^ h;
+                    l = h;
+                    h = t;
+                } else if (j < count && digits[j] == -1) {
+                    dn = l & h;
+                    final long t = l ^ h;
+                    h = l;
+                    l = t;
+                }
+
+                final long s = l ^ h;
+                final long c = cp | cn;
+                final long ep = cp & ~l & h;
+                final long en = cn & l & h;
+                low[k] = (l & ~c) | (h & cp) | (s & cn);
+                high[k] = (h & ~c) | (s & cp) | (l & cn);
+
+                // A carry of 1 and one of -1 out of the same trit cancel each other.
+                cp = (dp & ~en) | (ep & ~dn);
+                cn = (dn & ~ep) | (en & ~dp);
+            }
+        }
+    }
+}
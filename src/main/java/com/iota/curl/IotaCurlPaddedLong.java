@@ -0,0 +1,48 @@
+package com.iota.curl;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.function.LongBinaryOperator;
+
+/**
+ * A volatile long alone on its cache line.
+ *
+ * Read by all the workers of a job between two nonce batches, it must not
+ * share its line with data written by other threads. The padding fields live
+ * in the superclass and in the subclass because the JVM does not reorder
+ * fields across the class hierarchy.
+ */
+final class IotaCurlPaddedLong extends IotaCurlPaddedLongValue {
+
+    private static final AtomicLongFieldUpdater<IotaCurlPaddedLongValue> VALUE =
+            AtomicLongFieldUpdater.newUpdater(IotaCurlPaddedLongValue.class, "value");
+
+    long p10, p11, p12, p13, p14, p15, p16;
+
+    IotaCurlPaddedLong(final long value) {
+        this.value = value;
+    }
+
+    long get() {
+        return value;
+    }
+
+    void set(final long value) {
+        this.value = value;
+    }
+
+    long getAndAdd(final long delta) {
+        return VALUE.getAndAdd(this, delta);
+    }
+
+    long accumulateAndGet(final long x, final LongBinaryOperator op) {
+        return VALUE.accumulateAndGet(this, x, op);
+    }
+}
+
+abstract class IotaCurlPaddedLongValue extends IotaCurlPaddedLongLhs {
+    volatile long value;
+}
+
+abstract class IotaCurlPaddedLongLhs {
+    long p00, p01, p02, p03, p04, p05, p06;
+}
@@ -0,0 +1,160 @@
+package com.iota.curl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Checkpoints of the nonce searches of an IotaCurlPowService, so that a
+ * long search interrupted by a restart resumes where it stopped.
+ *
+ * Every running job periodically writes a small file in the directory,
+ * named after the digest of its transaction, holding the digest, the
+ * minWeightMagnitude and the watermark: every nonce below it has already been
+ * tried. The file is written to a temporary file, forced to disk and renamed,
+ * so a crash leaves either the previous checkpoint or the new one. It is
+ * deleted once the nonce is found.
+ *
+ * A job mining the same transaction with the same or a higher
+ * minWeightMagnitude starts from the watermark: the nonces below it did not
+ * satisfy a lower one, so the nonce found is still the lowest one.
+ */
+public final class IotaCurlPowCheckpoints {
+
+    // Sets the directory of the checkpoints of the services created without explicit ones.
+    public static final String DIRECTORY_PROPERTY = "iota.curl.pow.checkpoints";
+
+    // The seconds between two checkpoints of the services configured by DIRECTORY_PROPERTY.
+    public static final String INTERVAL_PROPERTY = "iota.curl.pow.checkpoints.interval";
+
+    static final String SUFFIX = ".pow";
+
+    private static final Logger LOG = Logger.getLogger(IotaCurlPowCheckpoints.class.getName());
+
+    private final Path directory;
+    private final long intervalNanos;
+
+    /**
+     * @param directory where the checkpoints are written, created if missing.
+     * @param interval the time between two checkpoints of a job.
+     */
+    public IotaCurlPowCheckpoints(final Path directory, final long interval, final TimeUnit unit) throws IOException {
+        if (interval <= 0) {
+            throw new IllegalArgumentException("interval (" + interval + ") should be greater than zero.");
+        }
+        this.directory = Files.createDirectories(directory);
+        this.intervalNanos = unit.toNanos(interval);
+    }
+
+    /**
+     * @return the checkpoints configured by the iota.curl.pow.checkpoints system
+     * properties, null if unset or if the directory can not be created.
+     */
+    static IotaCurlPowCheckpoints fromProperties() {
+        final String directory = System.getProperty(DIRECTORY_PROPERTY);
+        if (directory == null || directory.isEmpty()) {
+            return null;
+        }
+        try {
+            return new IotaCurlPowCheckpoints(Paths.get(directory), Long.getLong(INTERVAL_PROPERTY, 10L), TimeUnit.SECONDS);
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, "Checkpoints disabled, " + directory + " is not usable.", e);
+            return null;
+        }
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    long getIntervalNanos() {
+        return intervalNanos;
+    }
+
+    /**
+     * @return the hex SHA-256 of the transaction trytes, nonce included: all of
+     * them take part in the search.
+     */
+    static String digest(final char[] trytes) {
+        final byte[] bytes = new byte[trytes.length];
+        for (int i = 0; i < trytes.length; i++) {
+            bytes[i] = (byte) trytes[i];
+        }
+        try {
+            final StringBuilder hex = new StringBuilder(64);
+            for (final byte b : MessageDigest.getInstance("SHA-256").digest(bytes)) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e); // every JVM has SHA-256.
+        }
+    }
+
+    /**
+     * @return the watermark to resume the search of digest from, 0 if there is
+     * no usable checkpoint.
+     */
+    long load(final String digest, final int minWeightMagnitude) {
+        try {
+            final String[] fields = new String(Files.readAllBytes(file(digest)), StandardCharsets.US_ASCII).trim().split(" ");
+            if (fields.length == 3 && fields[0].equals(digest) && Integer.parseInt(fields[1]) <= minWeightMagnitude) {
+                return Math.max(0L, Long.parseLong(fields[2]));
+            }
+        } catch (IOException | NumberFormatException e) {
+            // missing or torn by hand: start over.
+        }
+        return 0L;
+    }
+
+    /**
+     * Atomically replaces the checkpoint of digest.
+     */
+    void save(final String digest, final int minWeightMagnitude, final long watermark) throws IOException {
+        final Path tmp = directory.resolve(digest + SUFFIX + ".tmp");
+        final byte[] line = (digest + " " + minWeightMagnitude + " " + watermark + "\n").getBytes(StandardCharsets.US_ASCII);
+        try {
+            try (final FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                final ByteBuffer buffer = ByteBuffer.wrap(line);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            try {
+                Files.move(tmp, file(digest), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, file(digest), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException | RuntimeException e) {
+            // No partial checkpoint left behind, the previous one, if any, is still valid.
+            try {
+                Files.deleteIfExists(tmp);
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+    }
+
+    void delete(final String digest) throws IOException {
+        Files.deleteIfExists(file(digest));
+    }
+
+    Path file(final String digest) {
+        return directory.resolve(digest + SUFFIX);
+    }
+}
@@ -0,0 +1,148 @@
+package com.iota.curl;
+
+/**
+ * The state of one proof of work job.
+ *
+ * Holds the transaction header absorbed into the lane encoded midState,
+ * together with the approvalNonce, trunkTransaction and branchTransaction trits.
+ * Once built, a context is only read by the miner, therefore it can be shared
+ * among all the threads searching for its nonce.
+ *
+ * It is handed to every IotaCurlPowEngine. The engines built in read its fields,
+ * the others get copies of them, one trit per int, from the getters.
+ */
+public final class IotaCurlPowContext {
+
+    // Offsets of the transaction fields following the header, in trytes.
+    static final int APPROVAL_NONCE_OFFSET = 7290 / 3;
+    static final int TRUNK_OFFSET = 7533 / 3;
+    static final int BRANCH_OFFSET = 7776 / 3;
+
+    final char[] trytes;
+
+    // The scalar sponge after the header, to hash the mined transaction cheaply.
+    private final IotaCurlHash header;
+
+    final long[] midState = new long[IotaCurlMiner.STATE_SIZE];
+
+    // The cells of the first round of the first transform not depending on the nonce, see IotaCurlMiner.firstRound.
+    final long[] firstRound = new long[IotaCurlMiner.HASH_SIZE + 1];
+
+    final int[] approvalNonce = new int[IotaCurlMiner.HASH_SIZE];
+    final int[] trunkTransaction = new int[IotaCurlMiner.HASH_SIZE];
+    final int[] branchTransaction = new int[IotaCurlMiner.HASH_SIZE];
+
+    IotaCurlPowContext(final String tx) {
+        this(tx, null);
+    }
+
+    /**
+     * @param cache the header midstates, or null to always absorb the header.
+     * Its prefix length must be TX_HEADER_SZ.
+     */
+    IotaCurlPowContext(final String tx, final IotaCurlMidStateCache cache) {
+        trytes = tx.toCharArray();
+
+        if (cache != null) {
+            header = cache.absorb(tx);
+        } else {
+            header = new IotaCurlHash();
+            header.doAbsorb(trytes, IotaCurlMiner.TX_HEADER_SZ);
+        }
+
+        for (int i = 0; i < IotaCurlMiner.STATE_SIZE; i++) {
+            midState[i] = (i < IotaCurlMiner.HASH_SIZE) ? 0L : (IotaCurlMiner.MAP_EX[header.getCurlStateValue(i) + 1]);
+        }
+        IotaCurlMiner.firstRound(midState, firstRound);
+
+        IotaCurlUtils.iotaCurlTrytes2Trits(approvalNonce, APPROVAL_NONCE_OFFSET, trytes, IotaCurlHash.IOTACURL_HASH_SZ);
+        IotaCurlUtils.iotaCurlTrytes2Trits(trunkTransaction, TRUNK_OFFSET, trytes, IotaCurlHash.IOTACURL_HASH_SZ);
+        IotaCurlUtils.iotaCurlTrytes2Trits(branchTransaction, BRANCH_OFFSET, trytes, IotaCurlHash.IOTACURL_HASH_SZ);
+    }
+
+    /**
+     * A context rebuilt by a remote IotaCurlPowWorker from what IotaCurlPowCoordinator ships:
+     * the midstate and the approvalNonce, trunkTransaction and branchTransaction
+     * trits. It has no transaction, it only tells the nonces found.
+     */
+    IotaCurlPowContext(final int[] midState, final int[] approvalNonce, final int[] trunkTransaction, final int[] branchTransaction) {
+        trytes = null;
+        header = null;
+        for (int i = IotaCurlMiner.HASH_SIZE; i < IotaCurlMiner.STATE_SIZE; i++) {
+            this.midState[i] = IotaCurlMiner.MAP_EX[midState[i] + 1];
+        }
+        IotaCurlMiner.firstRound(this.midState, firstRound);
+        System.arraycopy(approvalNonce, 0, this.approvalNonce, 0, IotaCurlMiner.HASH_SIZE);
+        System.arraycopy(trunkTransaction, 0, this.trunkTransaction, 0, IotaCurlMiner.HASH_SIZE);
+        System.arraycopy(branchTransaction, 0, this.branchTransaction, 0, IotaCurlMiner.HASH_SIZE);
+    }
+
+    /**
+     * @return the sponge state after the header, one trit per int. Its first
+     * 243 trits, overwritten by absorbing the approvalNonce, are 0.
+     */
+    public int[] getMidState() {
+        final int[] state = new int[IotaCurlMiner.STATE_SIZE];
+        for (int i = IotaCurlMiner.HASH_SIZE; i < state.length; i++) {
+            state[i] = (midState[i] == IotaCurlMiner.LMASK3) ? -1 : (midState[i] == IotaCurlMiner.LMASK1 ? 0 : 1);
+        }
+        return state;
+    }
+
+    public int[] getApprovalNonce() {
+        return approvalNonce.clone();
+    }
+
+    public int[] getTrunkTransaction() {
+        return trunkTransaction.clone();
+    }
+
+    public int[] getBranchTransaction() {
+        return branchTransaction.clone();
+    }
+
+    /**
+     * Replaces trunkTransaction and branchTransaction, which are not part of the header.
+     * Must be called before the context is handed to the miner.
+     */
+    void setTrunkAndBranch(final String trunk, final String branch) {
+        if (trunk.length() != IotaCurlHash.IOTACURL_HASH_SZ || branch.length() != IotaCurlHash.IOTACURL_HASH_SZ) {
+            throw new IllegalArgumentException("trunk and branch should be " + IotaCurlHash.IOTACURL_HASH_SZ + " trytes long.");
+        }
+        trunk.getChars(0, IotaCurlHash.IOTACURL_HASH_SZ, trytes, TRUNK_OFFSET);
+        branch.getChars(0, IotaCurlHash.IOTACURL_HASH_SZ, trytes, BRANCH_OFFSET);
+        IotaCurlUtils.iotaCurlTrytes2Trits(trunkTransaction, TRUNK_OFFSET, trytes, IotaCurlHash.IOTACURL_HASH_SZ);
+        IotaCurlUtils.iotaCurlTrytes2Trits(branchTransaction, BRANCH_OFFSET, trytes, IotaCurlHash.IOTACURL_HASH_SZ);
+    }
+
+    /**
+     * Writes approvalNonce + result into the approvalNonce trytes of txar.
+     * The context is left untouched.
+     */
+    void powFinalize(final char[] txar, final long result) {
+        final int[] an = approvalNonce.clone();
+        IotaCurlUtils.iotaCurlTritsAdd(an, IotaCurlMiner.HASH_SIZE, result);
+        IotaCurlUtils.iotaCurlTrits2Trytes(txar, IotaCurlMiner.TX_HEADER_SZ, an, IotaCurlMiner.HASH_SIZE);
+    }
+
+    /**
+     * @return the mined transaction trytes for the given nonce.
+     */
+    String toTrytes(final long result) {
+        final char[] txar = trytes.clone();
+        powFinalize(txar, result);
+        return new String(txar);
+    }
+
+    /**
+     * @return the hash of the mined transaction, the same as IotaCurlHash.iotaCurlHash(mined, 2673).
+     * Only the trytes following the header are absorbed, the rest comes from the midstate.
+     */
+    String hash(final String mined) {
+        final IotaCurlHash ctx = new IotaCurlHash(header);
+        final char[] trailer = new char[IotaCurlHash.IOTACURL_STATE_SZ];
+        mined.getChars(IotaCurlMiner.TX_HEADER_SZ, IotaCurlMiner.TX_HEADER_SZ + IotaCurlHash.IOTACURL_STATE_SZ, trailer, 0);
+        ctx.doAbsorb(trailer, IotaCurlHash.IOTACURL_STATE_SZ);
+        return ctx.doFinalize();
+    }
+}
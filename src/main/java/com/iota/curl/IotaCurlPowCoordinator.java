@@ -0,0 +1,355 @@
+package com.iota.curl;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Shards the nonce search of proof of work jobs across IotaCurlPowWorkers, usually other JVMs.
+ *
+ * The coordinator absorbs the header of a transaction once and ships the
+ * midstate, with the approvalNonce, trunkTransaction and branchTransaction
+ * trits, to every worker connected. Then it hands out disjoint ranges of
+ * RANGE_SZ nonces, each worker asking for the next one as soon as it has
+ * tried a range, so faster workers get more of them and the hashrate adds up:
+ *
+ * try (final IotaCurlPowCoordinator pow = new IotaCurlPowCoordinator(Arrays.asList(worker1, worker2))) {
+ *     final String mined = pow.submit(tx, 18).get();
+ * }
+ *
+ * The first nonce found by any worker completes the job and cancels the
+ * ranges of the others. Unlike IotaCurlPowService, it is not necessarily the
+ * lowest nonce. The ranges of a worker going away are handed to the others.
+ */
+public class IotaCurlPowCoordinator implements AutoCloseable {
+
+    private static final Logger LOG = Logger.getLogger(IotaCurlPowCoordinator.class.getName());
+
+    // Nonces per range, about a second of one thread of IotaCurlMiner64, a multiple of the parallelism of any miner.
+    static final long RANGE_SZ = 1L << 20;
+
+    // Ranges handed to a worker ahead of the one it is trying, so it never waits for the next one.
+    private static final int RANGES_AHEAD = 2;
+
+    private final Set<Connection> connections = ConcurrentHashMap.newKeySet();
+    private final Map<Long, Job> jobs = new ConcurrentHashMap<>();
+    private final AtomicLong jobId = new AtomicLong();
+    private final ScheduledThreadPoolExecutor timer;
+
+    /**
+     * Connects to all the workers, failing if any of them is unreachable.
+     */
+    public IotaCurlPowCoordinator(final List<InetSocketAddress> workers) throws IOException {
+        if (workers.isEmpty()) {
+            throw new IllegalArgumentException("No worker to coordinate.");
+        }
+        this.timer = new ScheduledThreadPoolExecutor(1, r -> {
+            final Thread t = new Thread(r, "iota-curl-pow-coordinator-timer");
+            t.setDaemon(true);
+            return t;
+        });
+        this.timer.setRemoveOnCancelPolicy(true);
+        try {
+            for (final InetSocketAddress worker : workers) {
+                final Connection connection = new Connection(worker);
+                connections.add(connection);
+                final Thread reader = new Thread(connection, "iota-curl-pow-coordinator-" + worker);
+                reader.setDaemon(true);
+                reader.start();
+            }
+        } catch (IOException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return the workers still connected.
+     */
+    public int getWorkers() {
+        return connections.size();
+    }
+
+    public CompletableFuture<String> submit(final String tx, final int minWeightMagnitude) {
+        return submit(tx, minWeightMagnitude, 0L, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Mines tx on the workers.
+     *
+     * @param timeout the maximum time to search for, 0 for no deadline.
+     * @return the mined transaction trytes. On deadline the future fails with a TimeoutException,
+     * and with an IOException once no worker is left.
+     */
+    public CompletableFuture<String> submit(final String tx, final int minWeightMagnitude, final long timeout, final TimeUnit unit) {
+        final CompletableFuture<String> future = new CompletableFuture<>();
+        try {
+            IotaCurlPowService.checkMinWeightMagnitude(minWeightMagnitude);
+            final Job job = new Job(jobId.incrementAndGet(), new IotaCurlPowContext(tx), minWeightMagnitude, future);
+            jobs.put(job.id, job);
+            future.whenComplete((r, t) -> {
+                jobs.remove(job.id);
+                for (final Connection connection : connections) {
+                    connection.cancel(job);
+                }
+            });
+            for (final Connection connection : connections) {
+                connection.ship(job);
+            }
+            if (connections.isEmpty()) {
+                future.completeExceptionally(new IOException("No worker left."));
+            }
+            if (timeout > 0 && !future.isDone()) {
+                final ScheduledFuture<?> deadline = timer.schedule(() ->
+                        future.completeExceptionally(new TimeoutException("PoW not found in " + timeout + " " + unit)), timeout, unit);
+                future.whenComplete((r, t) -> deadline.cancel(false));
+            }
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Disconnects from the workers, which cancel their ranges. The jobs still running fail with an IOException.
+     */
+    @Override
+    public void close() {
+        for (final Connection connection : connections) {
+            connection.close();
+        }
+        timer.shutdownNow();
+    }
+
+    private static final class Job {
+
+        final long id;
+        final IotaCurlPowContext context;
+        final int minWeightMagnitude;
+        final CompletableFuture<String> future;
+
+        // The first offset never handed out, and the ranges of the workers gone, guarded by this.
+        private long next;
+        private final ArrayDeque<Long> lost = new ArrayDeque<>();
+
+        Job(final long id, final IotaCurlPowContext context, final int minWeightMagnitude, final CompletableFuture<String> future) {
+            this.id = id;
+            this.context = context;
+            this.minWeightMagnitude = minWeightMagnitude;
+            this.future = future;
+        }
+
+        /**
+         * @return the first offset of the next range to try.
+         */
+        synchronized long nextRange() {
+            final Long from = lost.poll();
+            if (from != null) {
+                return from;
+            }
+            final long range = next;
+            next += RANGE_SZ;
+            return range;
+        }
+
+        synchronized void lose(final Set<Long> ranges) {
+            lost.addAll(ranges);
+        }
+    }
+
+    // A worker, with the ranges handed to it per job.
+    private final class Connection implements Runnable {
+
+        private final Socket socket;
+        private final DataInputStream in;
+        private final DataOutputStream out;
+
+        // Guarded by ranges.
+        private final Map<Long, Set<Long>> ranges = new HashMap<>();
+        private boolean closed;
+        // Why the worker was dropped, if not for going away: the cause of "No worker left.".
+        private volatile IOException failure;
+
+        Connection(final InetSocketAddress worker) throws IOException {
+            this.socket = new Socket();
+            try {
+                socket.connect(worker);
+                socket.setTcpNoDelay(true);
+                this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+                this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+                out.writeInt(IotaCurlPowProtocol.MAGIC);
+                out.writeInt(IotaCurlPowProtocol.VERSION);
+                out.flush();
+            } catch (IOException e) {
+                socket.close();
+                throw e;
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                for (;;) {
+                    final int type = in.readUnsignedByte();
+                    final long id = in.readLong();
+                    final long value = in.readLong();
+                    switch (type) {
+                        case IotaCurlPowProtocol.FOUND:
+                            found(id, value);
+                            break;
+                        case IotaCurlPowProtocol.DONE:
+                            done(id, value);
+                            break;
+                        default:
+                            throw new IOException("Unknown message " + type + ".");
+                    }
+                }
+            } catch (EOFException | SocketException e) {
+                // the worker went away.
+            } catch (IOException e) {
+                LOG.log(Level.WARNING, "Dropping worker " + socket.getRemoteSocketAddress() + ".", e);
+                failure = e;
+            } finally {
+                close();
+            }
+        }
+
+        /**
+         * Ships the midstate of job, with the first ranges to try.
+         */
+        void ship(final Job job) {
+            final long[] first = new long[RANGES_AHEAD];
+            synchronized (ranges) {
+                if (closed) {
+                    return;
+                }
+                final Set<Long> handed = new HashSet<>();
+                for (int i = 0; i < first.length; i++) {
+                    first[i] = job.nextRange();
+                    handed.add(first[i]);
+                }
+                ranges.put(job.id, handed);
+            }
+            try {
+                synchronized (out) {
+                    IotaCurlPowProtocol.writeJob(out, job.id, job.minWeightMagnitude, job.context);
+                    for (final long from : first) {
+                        writeRange(job.id, from);
+                    }
+                    out.flush();
+                }
+            } catch (IOException e) {
+                close();
+            }
+            // Found by another worker while shipping, after the job was cancelled here.
+            if (job.future.isDone()) {
+                cancel(job);
+            }
+        }
+
+        void cancel(final Job job) {
+            synchronized (ranges) {
+                if (ranges.remove(job.id) == null) {
+                    return;
+                }
+            }
+            try {
+                synchronized (out) {
+                    out.writeByte(IotaCurlPowProtocol.CANCEL);
+                    out.writeLong(job.id);
+                    out.flush();
+                }
+            } catch (IOException e) {
+                close();
+            }
+        }
+
+        private void found(final long id, final long nonce) throws IOException {
+            final Job job = jobs.get(id);
+            if (job == null) {
+                return; // already found by another worker.
+            }
+            final String mined = job.context.toTrytes(nonce);
+            if (!IotaCurlHash.iotaCurlVerify(mined, job.minWeightMagnitude)) {
+                throw new IOException("The worker found a wrong nonce " + nonce + ".");
+            }
+            job.future.complete(mined);
+        }
+
+        private void done(final long id, final long from) throws IOException {
+            final Job job = jobs.get(id);
+            final long next;
+            synchronized (ranges) {
+                final Set<Long> handed = ranges.get(id);
+                if (job == null || handed == null || !handed.remove(from)) {
+                    return; // cancelled meanwhile.
+                }
+                next = job.nextRange();
+                handed.add(next);
+            }
+            synchronized (out) {
+                writeRange(id, next);
+                out.flush();
+            }
+        }
+
+        private void writeRange(final long id, final long from) throws IOException {
+            out.writeByte(IotaCurlPowProtocol.RANGE);
+            out.writeLong(id);
+            out.writeLong(from);
+            out.writeLong(from + RANGE_SZ);
+        }
+
+        /**
+         * Hands the ranges of this worker to the others, or fails the jobs if it was the last one.
+         */
+        void close() {
+            if (!connections.remove(this)) {
+                return;
+            }
+            try {
+                socket.close();
+            } catch (IOException e) {
+                // closing anyway.
+            }
+            final Map<Long, Set<Long>> left;
+            synchronized (ranges) {
+                closed = true;
+                left = new HashMap<>(ranges);
+                ranges.clear();
+            }
+            for (final Map.Entry<Long, Set<Long>> handed : left.entrySet()) {
+                final Job job = jobs.get(handed.getKey());
+                if (job != null) {
+                    job.lose(handed.getValue());
+                }
+            }
+            if (connections.isEmpty()) {
+                for (final Job job : jobs.values()) {
+                    job.future.completeExceptionally(new IOException("No worker left.", failure));
+                }
+            }
+        }
+    }
+}
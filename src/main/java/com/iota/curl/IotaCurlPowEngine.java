@@ -0,0 +1,34 @@
+package com.iota.curl;
+
+/**
+ * A proof of work engine: tries the nonces of a job by batches, from the midstate of its header.
+ *
+ * The engines built in are IotaCurlMiner (32 nonces per batch), IotaCurlMiner64
+ * (64) and IotaCurlMinerVector (256 or 512, on Java 16+). Others are plugged in
+ * with a META-INF/services/com.iota.curl.IotaCurlPowEngine file on the classpath.
+ * IotaCurlPowEngines picks the fastest one for the host.
+ *
+ * The threads of an IotaCurlPowService call doWork concurrently, on the same
+ * context or on different ones, so implementations must be thread safe.
+ */
+public interface IotaCurlPowEngine {
+
+    /**
+     * @return the name to pin this engine with, see IotaCurlPowEngines.ENGINE_PROPERTY.
+     */
+    default String getName() {
+        return getClass().getSimpleName();
+    }
+
+    /**
+     * @return the number of nonces tried by a single doWork call.
+     */
+    int getParallel();
+
+    /**
+     * Tries the getParallel() nonces starting at approvalNonce + offset. The context is only read.
+     *
+     * @return the offset of the first nonce satisfying minWeightMagnitude, 0 if none does.
+     */
+    long doWork(IotaCurlPowContext ctx, int minWeightMagnitude, long offset);
+}
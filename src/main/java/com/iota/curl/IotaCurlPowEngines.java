@@ -0,0 +1,379 @@
+package com.iota.curl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Finds the IotaCurlPowEngine and the number of threads mining fastest on this host.
+ *
+ * The engines built in and the ones plugged in through ServiceLoader are all
+ * warmed up until the JIT has compiled them, then measured on one thread over
+ * several windows, and the one of highest median hashrate is picked. The same
+ * windows measure it on 1, 2, 4... threads up to the number of cores. Fewer
+ * threads win only when even their slowest window is within 5% of the median
+ * of the best number, so that cores not adding to the hashrate (hyper-threads,
+ * a busy host) are left to the rest of the application, but a lucky window
+ * never takes cores away.
+ *
+ * The services created without an explicit engine start at once on the widest
+ * engine and on all the cores, while calibration() measures both once per JVM
+ * in the background, in 10 to 20 seconds: they switch to its choice when it
+ * completes, those given their number of threads only to the engine of
+ * engineCalibration(), which does not measure the threads. Either choice can be
+ * pinned instead, skipping its measure, with -Diota.curl.pow.engine=NAME and
+ * -Diota.curl.pow.threads=N.
+ */
+public final class IotaCurlPowEngines {
+
+    // Pins the engine of the services created without an explicit one, shared() included.
+    public static final String ENGINE_PROPERTY = "iota.curl.pow.engine";
+
+    // The length of a measure window.
+    static final long CALIBRATION_MILLIS = 200;
+
+    // The windows measured per engine and per number of threads.
+    static final int CALIBRATION_WINDOWS = 5;
+
+    // The windows each engine runs before being measured, for the JIT to compile it.
+    static final int WARMUP_WINDOWS = 10;
+
+    // The difficulty of the batches measured, as pruning depends on it.
+    private static final int CALIBRATION_MIN_WEIGHT_MAGNITUDE = 14;
+
+    // Fewer threads are picked when their slowest window is within this fraction of the best median.
+    private static final double THREADS_TOLERANCE = 0.05;
+
+    private static final Logger LOG = Logger.getLogger(IotaCurlPowEngines.class.getName());
+
+    // Runs each calibration on its own daemon thread.
+    private static final Executor BACKGROUND = r -> {
+        final Thread t = new Thread(r, "iota-curl-calibration");
+        t.setDaemon(true);
+        t.start();
+    };
+
+    private static CompletableFuture<Calibration> engineCalibration;
+    private static CompletableFuture<Calibration> calibration;
+
+    private IotaCurlPowEngines() {
+    }
+
+    /**
+     * @return the engines available on this JVM: IotaCurlMiner, IotaCurlMiner64,
+     * IotaCurlMinerVector when the Vector API is there, then the plugged in ones.
+     */
+    public static List<IotaCurlPowEngine> available() {
+        final List<IotaCurlPowEngine> engines = new ArrayList<>();
+        engines.add(new IotaCurlMiner());
+        engines.add(new IotaCurlMiner64());
+        try {
+            engines.add((IotaCurlPowEngine) Class.forName("com.iota.curl.IotaCurlMinerVector").getConstructor().newInstance());
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // Not built (JDK < 16), older JVM or incubator module not added.
+        }
+        final Iterator<IotaCurlPowEngine> plugged = ServiceLoader.load(IotaCurlPowEngine.class).iterator();
+        while (true) {
+            try {
+                if (!plugged.hasNext()) {
+                    break;
+                }
+                engines.add(plugged.next());
+            } catch (ServiceConfigurationError e) {
+                // A broken plug-in does not hide the other engines.
+                LOG.log(Level.WARNING, "Skipping an engine plug-in.", e);
+            }
+        }
+        return engines;
+    }
+
+    /**
+     * @return the available engine named name, see IotaCurlPowEngine.getName().
+     */
+    public static IotaCurlPowEngine forName(final String name) {
+        final List<String> names = new ArrayList<>();
+        for (final IotaCurlPowEngine engine : available()) {
+            if (engine.getName().equals(name)) {
+                return engine;
+            }
+            names.add(engine.getName());
+        }
+        throw new IllegalArgumentException("Unknown engine " + name + ", expected one of " + names + ".");
+    }
+
+    /**
+     * @return the engine pinned by ENGINE_PROPERTY, else the widest one, used until calibrated.
+     */
+    static IotaCurlPowEngine defaultEngine() {
+        final String name = System.getProperty(ENGINE_PROPERTY);
+        return (name != null && !name.isEmpty()) ? forName(name) : IotaCurlMiner.newWidestMiner();
+    }
+
+    /**
+     * @return the threads pinned by IotaCurlPowService.THREADS_PROPERTY, else the number of cores.
+     */
+    static int defaultThreads() {
+        final int threads = Integer.getInteger(IotaCurlPowService.THREADS_PROPERTY, 0);
+        return (threads > 0) ? threads : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * @return the engine measured fastest on this JVM, on one thread, measured in the
+     * background on first use unless pinned by ENGINE_PROPERTY.
+     */
+    public static synchronized CompletableFuture<Calibration> engineCalibration() {
+        if (engineCalibration == null) {
+            final String engineName = System.getProperty(ENGINE_PROPERTY);
+            engineCalibration = CompletableFuture.supplyAsync(() -> calibrateEngine(CALIBRATION_MILLIS, engineName), BACKGROUND);
+        }
+        return engineCalibration;
+    }
+
+    /**
+     * @return the calibration of this JVM, engineCalibration() then the number of threads
+     * measured in the background on first use, unless pinned by system properties.
+     */
+    public static synchronized CompletableFuture<Calibration> calibration() {
+        if (calibration == null) {
+            final int threads = Integer.getInteger(IotaCurlPowService.THREADS_PROPERTY, 0);
+            calibration = engineCalibration().thenApplyAsync(engine -> (threads > 0)
+                    ? new Calibration(engine.getEngine(), threads, engine.getRates(), engine.getHashrate() * threads)
+                    : calibrateThreads(engine, CALIBRATION_MILLIS), BACKGROUND);
+        }
+        return calibration;
+    }
+
+    /**
+     * @return calibration(), waiting for it to complete.
+     */
+    public static Calibration calibrated() {
+        return calibration().join();
+    }
+
+    /**
+     * Measures every available engine, then the best one on a growing number of threads.
+     *
+     * @param millis the length of a measure window, about (15 * engines + 15 + 5 * (log2(cores) + 1))
+     * times it in total.
+     */
+    public static Calibration calibrate(final long millis) {
+        return calibrate(millis, null, 0);
+    }
+
+    /**
+     * @param engineName the engine to use without measuring the others, null to pick the fastest.
+     * @param threads the threads to use without measuring other numbers, 0 to pick the fastest.
+     */
+    static Calibration calibrate(final long millis, final String engineName, final int threads) {
+        if (threads < 0) {
+            throw new IllegalArgumentException("threads (" + threads + ") should be greater than zero.");
+        }
+        final Calibration engine = calibrateEngine(millis, engineName);
+        if (threads > 0) {
+            return new Calibration(engine.getEngine(), threads, engine.getRates(), engine.getHashrate() * threads);
+        }
+        return calibrateThreads(engine, millis);
+    }
+
+    /**
+     * @return the fastest engine on one thread, or the one named engineName, unmeasured, if not null.
+     */
+    private static Calibration calibrateEngine(final long millis, final String engineName) {
+        final Map<String, Double> rates = new LinkedHashMap<>();
+        if (engineName != null && !engineName.isEmpty()) {
+            return new Calibration(forName(engineName), 1, rates, Double.NaN);
+        }
+        // Built once: a new context would lay the nonces out again, and have the JIT
+        // compile the hashing of its header, in the middle of the measures.
+        final IotaCurlPowContext ctx = context();
+        IotaCurlPowEngine engine = null;
+        double best = 0;
+        for (final IotaCurlPowEngine candidate : available()) {
+            final double rate;
+            try {
+                warmUp(candidate, ctx, millis);
+                rate = median(windows(candidate, ctx, 1, millis));
+            } catch (RuntimeException e) {
+                // A broken plug-in is never picked.
+                LOG.log(Level.WARNING, "Skipping engine " + candidate.getName() + ", it failed its measure.", e);
+                continue;
+            }
+            rates.put(candidate.getName(), rate);
+            if (engine == null || rate > best) {
+                engine = candidate;
+                best = rate;
+            }
+        }
+        if (engine == null) {
+            throw new IllegalStateException("No engine measured.");
+        }
+        return new Calibration(engine, 1, rates, best);
+    }
+
+    /**
+     * @return the engine of engine on the fastest number of threads.
+     */
+    private static Calibration calibrateThreads(final Calibration engine, final long millis) {
+        // Warmed up again on this context, for the same reason.
+        final IotaCurlPowContext ctx = context();
+        warmUp(engine.getEngine(), ctx, millis);
+
+        final int cores = Runtime.getRuntime().availableProcessors();
+        final List<Integer> candidates = new ArrayList<>();
+        for (int n = 1; n < cores; n *= 2) {
+            candidates.add(n);
+        }
+        candidates.add(cores);
+
+        final double[][] threadRates = new double[candidates.size()][];
+        double best = 0;
+        for (int i = 0; i < candidates.size(); i++) {
+            threadRates[i] = windows(engine.getEngine(), ctx, candidates.get(i), millis);
+            best = Math.max(best, median(threadRates[i]));
+        }
+        // The best number qualifies whatever its slowest window.
+        for (int i = 0; i < candidates.size(); i++) {
+            if (threadRates[i][0] >= (1 - THREADS_TOLERANCE) * best || median(threadRates[i]) >= best) {
+                return new Calibration(engine.getEngine(), candidates.get(i), engine.getRates(), median(threadRates[i]));
+            }
+        }
+        throw new IllegalStateException("No hashrate measured.");
+    }
+
+    // A random transaction, never mined in full: only whole batches are measured.
+    private static IotaCurlPowContext context() {
+        return new IotaCurlPowContext(IotaCurlUtils.iotaCurlRandomTrytes(new Random(0), IotaCurlBulkHash.TX_RECORD_SZ));
+    }
+
+    // Runs engine for WARMUP_WINDOWS windows, unmeasured.
+    private static void warmUp(final IotaCurlPowEngine engine, final IotaCurlPowContext ctx, final long millis) {
+        hashrate(engine, ctx, 1, WARMUP_WINDOWS * millis);
+    }
+
+    /**
+     * @return the hashrates of CALIBRATION_WINDOWS windows of millis each, in increasing order.
+     */
+    private static double[] windows(final IotaCurlPowEngine engine, final IotaCurlPowContext ctx, final int threads, final long millis) {
+        final double[] rates = new double[CALIBRATION_WINDOWS];
+        for (int i = 0; i < rates.length; i++) {
+            rates[i] = hashrate(engine, ctx, threads, millis);
+        }
+        Arrays.sort(rates);
+        return rates;
+    }
+
+    private static double median(final double[] sorted) {
+        return sorted[sorted.length / 2];
+    }
+
+    /**
+     * @return the nonces tried per second by engine on threads threads, counting
+     * the batches started within millis, at least one per thread.
+     */
+    static double hashrate(final IotaCurlPowEngine engine, final IotaCurlPowContext ctx, final int threads, final long millis) {
+        final long start = System.nanoTime();
+        final long end = start + TimeUnit.MILLISECONDS.toNanos(millis);
+        final DoubleAdder rate = new DoubleAdder();
+        final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+        final Thread[] workers = new Thread[threads];
+        for (int i = 0; i < threads; i++) {
+            final long first = (long) i << 40;
+            workers[i] = new Thread(() -> {
+                try {
+                    final int parallel = engine.getParallel();
+                    long nonces = 0;
+                    long now = start;
+                    for (long offset = first; now < end || nonces == 0; offset += parallel) {
+                        engine.doWork(ctx, CALIBRATION_MIN_WEIGHT_MAGNITUDE, offset);
+                        nonces += parallel;
+                        now = System.nanoTime();
+                    }
+                    rate.add(nonces * 1e9 / Math.max(1, now - start));
+                } catch (RuntimeException e) {
+                    failure.compareAndSet(null, e);
+                }
+            }, "iota-curl-calibration-" + i);
+            workers[i].setDaemon(true);
+            workers[i].start();
+        }
+        for (final Thread worker : workers) {
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+        return rate.sum();
+    }
+
+    /**
+     * The engine and the number of threads picked, with the hashrates measured.
+     */
+    public static final class Calibration {
+
+        private final IotaCurlPowEngine engine;
+        private final int threads;
+        private final Map<String, Double> rates;
+        private final double hashrate;
+
+        Calibration(final IotaCurlPowEngine engine, final int threads, final Map<String, Double> rates, final double hashrate) {
+            this.engine = engine;
+            this.threads = threads;
+            this.rates = Collections.unmodifiableMap(rates);
+            this.hashrate = hashrate;
+        }
+
+        public IotaCurlPowEngine getEngine() {
+            return engine;
+        }
+
+        public int getThreads() {
+            return threads;
+        }
+
+        /**
+         * @return the median nonces per second of every engine measured on one thread, by name,
+         * empty if the engine was pinned.
+         */
+        public Map<String, Double> getRates() {
+            return rates;
+        }
+
+        /**
+         * @return the median nonces per second of the engine on getThreads() threads, NaN if both were pinned.
+         */
+        public double getHashrate() {
+            return hashrate;
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder sb = new StringBuilder();
+            sb.append(String.format(Locale.ENGLISH, "%s on %d threads, %.0f nonces/s", engine.getName(), threads, hashrate));
+            for (final Map.Entry<String, Double> rate : rates.entrySet()) {
+                sb.append(String.format(Locale.ENGLISH, "\n  %s: %.0f nonces/s per thread", rate.getKey(), rate.getValue()));
+            }
+            return sb.toString();
+        }
+    }
+}
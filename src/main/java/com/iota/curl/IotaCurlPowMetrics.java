@@ -0,0 +1,219 @@
+package com.iota.curl;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.ObjectName;
+
+/**
+ * The metrics of one IotaCurlPowService, recorded by its jobs.
+ */
+final class IotaCurlPowMetrics implements IotaCurlPowServiceMXBean {
+
+    // The workers mining and the engine of the new jobs, as switched by the calibration.
+    private volatile int threads;
+    private volatile String engine;
+    private final IotaCurlMidStateCache midStateCache;
+
+    private final IotaCurlMetrics.Meter nonces = new IotaCurlMetrics.Meter();
+    private final LongAdder[] noncesPerWorker;
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder cancelled = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+
+    private final LongAdder queued = new LongAdder();
+    private final LongAdder queueWaitNanos = new LongAdder();
+    private final LongAccumulator maxQueueWaitNanos = new LongAccumulator(Math::max, 0L);
+
+    // One histogram per minWeightMagnitude, created by its first solution.
+    private final AtomicReferenceArray<IotaCurlMetrics.Histogram> timeToSolution =
+            new AtomicReferenceArray<>(IotaCurlMiner.HASH_SIZE + 1);
+
+    private ObjectName name;
+
+    IotaCurlPowMetrics(final int threads, final IotaCurlPowEngine miner, final IotaCurlMidStateCache midStateCache) {
+        this.threads = threads;
+        this.engine = miner.getName();
+        this.midStateCache = midStateCache;
+        this.noncesPerWorker = new LongAdder[threads];
+        for (int i = 0; i < threads; i++) {
+            noncesPerWorker[i] = new LongAdder();
+        }
+    }
+
+    void calibrated(final IotaCurlPowEngine miner, final int threads) {
+        this.engine = miner.getName();
+        this.threads = threads;
+    }
+
+    void register(final String poolName) {
+        name = IotaCurlMetrics.register("type=IotaCurlPowService,name=" + poolName, this);
+    }
+
+    /**
+     * @return the name of the MBean, null if it could not be registered.
+     */
+    ObjectName getObjectName() {
+        return name;
+    }
+
+    void close() {
+        nonces.close();
+        IotaCurlMetrics.unregister(name);
+    }
+
+    void submitted() {
+        submitted.increment();
+    }
+
+    void started(final long waitNanos) {
+        queued.increment();
+        queueWaitNanos.add(waitNanos);
+        maxQueueWaitNanos.accumulate(waitNanos);
+    }
+
+    void tried(final int worker, final long count) {
+        nonces.mark(count);
+        // A pool thread replacing a dead one comes with the next index.
+        noncesPerWorker[worker % noncesPerWorker.length].add(count);
+    }
+
+    void solved(final int minWeightMagnitude, final long nanos) {
+        completed.increment();
+        IotaCurlMetrics.Histogram histogram = timeToSolution.get(minWeightMagnitude);
+        if (histogram == null) {
+            timeToSolution.compareAndSet(minWeightMagnitude, null, new IotaCurlMetrics.Histogram());
+            histogram = timeToSolution.get(minWeightMagnitude);
+        }
+        histogram.record(nanos / 1_000_000L);
+    }
+
+    void cancelled() {
+        cancelled.increment();
+    }
+
+    void timedOut() {
+        timedOut.increment();
+    }
+
+    void failed() {
+        failed.increment();
+    }
+
+    void exhausted() {
+        exhausted.increment();
+    }
+
+    @Override
+    public int getThreads() {
+        return threads;
+    }
+
+    @Override
+    public String getEngine() {
+        return engine;
+    }
+
+    @Override
+    public long getNonces() {
+        return nonces.getCount();
+    }
+
+    @Override
+    public long[] getNoncesPerWorker() {
+        final long[] counts = new long[threads];
+        for (int i = 0; i < threads; i++) {
+            counts[i] = noncesPerWorker[i].sum();
+        }
+        return counts;
+    }
+
+    @Override
+    public double getHashrate() {
+        return nonces.getRate(1);
+    }
+
+    @Override
+    public double getHashrate10s() {
+        return nonces.getRate(10);
+    }
+
+    @Override
+    public double getHashrate60s() {
+        return nonces.getRate(60);
+    }
+
+    @Override
+    public long getJobsSubmitted() {
+        return submitted.sum();
+    }
+
+    @Override
+    public long getJobsCompleted() {
+        return completed.sum();
+    }
+
+    @Override
+    public long getJobsCancelled() {
+        return cancelled.sum();
+    }
+
+    @Override
+    public long getJobsTimedOut() {
+        return timedOut.sum();
+    }
+
+    @Override
+    public long getJobsFailed() {
+        return failed.sum();
+    }
+
+    @Override
+    public long getJobsExhausted() {
+        return exhausted.sum();
+    }
+
+    @Override
+    public double getMeanQueueWaitMillis() {
+        final long count = queued.sum();
+        return (count == 0) ? 0.0 : queueWaitNanos.sum() / 1e6 / count;
+    }
+
+    @Override
+    public long getMaxQueueWaitMillis() {
+        return maxQueueWaitNanos.get() / 1_000_000L;
+    }
+
+    @Override
+    public long[] getTimeToSolutionHistogram(final int minWeightMagnitude) {
+        final IotaCurlMetrics.Histogram histogram = histogram(minWeightMagnitude);
+        return (histogram == null) ? new long[IotaCurlMetrics.Histogram.BUCKETS] : histogram.snapshot();
+    }
+
+    @Override
+    public long getTimeToSolutionPercentileMillis(final int minWeightMagnitude, final double percentile) {
+        final IotaCurlMetrics.Histogram histogram = histogram(minWeightMagnitude);
+        return (histogram == null) ? 0L : histogram.percentile(percentile);
+    }
+
+    private IotaCurlMetrics.Histogram histogram(final int minWeightMagnitude) {
+        if (minWeightMagnitude < 0 || minWeightMagnitude > IotaCurlMiner.HASH_SIZE) {
+            throw new IllegalArgumentException("minWeightMagnitude (" + minWeightMagnitude + ") out of range.");
+        }
+        return timeToSolution.get(minWeightMagnitude);
+    }
+
+    @Override
+    public long getMidStateCacheHits() {
+        return (midStateCache == null) ? 0L : midStateCache.getHits();
+    }
+
+    @Override
+    public long getMidStateCacheMisses() {
+        return (midStateCache == null) ? 0L : midStateCache.getMisses();
+    }
+}
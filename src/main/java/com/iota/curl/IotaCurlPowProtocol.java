@@ -0,0 +1,74 @@
+package com.iota.curl;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * The messages between an IotaCurlPowCoordinator and its IotaCurlPowWorkers.
+ *
+ * The coordinator opens the connection and writes MAGIC and VERSION. Then every
+ * message is a type byte followed by its big endian fields, trits one per byte:
+ *
+ * JOB    id:long minWeightMagnitude:int midState:729 approvalNonce:243 trunkTransaction:243 branchTransaction:243
+ * RANGE  id:long from:long to:long   (coordinator to worker: try the nonces from approvalNonce + from to approvalNonce + to)
+ * CANCEL id:long
+ * FOUND  id:long nonce:long          (worker to coordinator: the lowest nonce found in a range)
+ * DONE   id:long from:long           (worker to coordinator: no nonce in the range starting at from)
+ */
+final class IotaCurlPowProtocol {
+
+    static final int MAGIC = 0x49435057; // "ICPW"
+    static final int VERSION = 1;
+
+    static final int JOB = 1;
+    static final int RANGE = 2;
+    static final int CANCEL = 3;
+    static final int FOUND = 4;
+    static final int DONE = 5;
+
+    private IotaCurlPowProtocol() {
+    }
+
+    static void writeJob(final DataOutputStream out, final long id, final int minWeightMagnitude, final IotaCurlPowContext ctx) throws IOException {
+        out.writeByte(JOB);
+        out.writeLong(id);
+        out.writeInt(minWeightMagnitude);
+        writeTrits(out, ctx.getMidState());
+        writeTrits(out, ctx.approvalNonce);
+        writeTrits(out, ctx.trunkTransaction);
+        writeTrits(out, ctx.branchTransaction);
+    }
+
+    /**
+     * Reads the fields of a JOB following its id and minWeightMagnitude.
+     */
+    static IotaCurlPowContext readContext(final DataInputStream in) throws IOException {
+        final int[] midState = readTrits(in, IotaCurlMiner.STATE_SIZE);
+        final int[] approvalNonce = readTrits(in, IotaCurlMiner.HASH_SIZE);
+        final int[] trunkTransaction = readTrits(in, IotaCurlMiner.HASH_SIZE);
+        final int[] branchTransaction = readTrits(in, IotaCurlMiner.HASH_SIZE);
+        return new IotaCurlPowContext(midState, approvalNonce, trunkTransaction, branchTransaction);
+    }
+
+    private static void writeTrits(final DataOutputStream out, final int[] trits) throws IOException {
+        final byte[] bytes = new byte[trits.length];
+        for (int i = 0; i < trits.length; i++) {
+            bytes[i] = (byte) trits[i];
+        }
+        out.write(bytes);
+    }
+
+    private static int[] readTrits(final DataInputStream in, final int length) throws IOException {
+        final byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        final int[] trits = new int[length];
+        for (int i = 0; i < length; i++) {
+            if (bytes[i] < -1 || bytes[i] > 1) {
+                throw new IOException("Malformed trit " + bytes[i] + ".");
+            }
+            trits[i] = bytes[i];
+        }
+        return trits;
+    }
+}
@@ -0,0 +1,833 @@
+package com.iota.curl;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Long lived, asynchronous proof of work service.
+ *
+ * All the jobs run on one fixed pool of worker threads, created once and
+ * reused across calls. Every job keeps its own state, so any number of them
+ * can be submitted concurrently from any thread:
+ *
+ * final IotaCurlPowService pow = new IotaCurlPowService();
+ * pow.submit(tx, minWeightMagnitude, 10, TimeUnit.SECONDS).thenAccept(mined -> ...);
+ *
+ * Cancelling the returned future, or reaching its deadline, stops the workers
+ * of that job after the nonce batch they are currently trying.
+ *
+ * The workers interleave the nonce batches of all the running jobs: a worker
+ * picks the job that got the fewest chunks for its weight, among the jobs using
+ * fewer workers than their maxThreads, and tries up to QUANTUM chunks of it
+ * before picking again, or one chunk while another job has no worker, or less
+ * if another job was submitted meanwhile. A
+ * cheap job submitted while an expensive one is running therefore gets its
+ * share of the workers at once, instead of waiting for the expensive one to end:
+ *
+ * pow.submit(tx, 14, 1, pow.getThreads(), 0, TimeUnit.SECONDS); // weight 1, all the workers.
+ * pow.submit(tx, 9, 4, 2, 10, TimeUnit.SECONDS); // 4 chunks for every chunk of the above, on at most 2 workers.
+ *
+ * Within a job, the workers claim chunks of CHUNK batches from one padded
+ * counter, without locking: the scheduler lock is only taken to pick a job.
+ *
+ * The headers absorbed are kept in an IotaCurlMidStateCache, so mining the
+ * same transaction again, e.g. to reattach it, starts from its midstate.
+ *
+ * The nonce found is always the lowest one satisfying minWeightMagnitude,
+ * that is the same as IotaCurlMiner.doCurlPowSingleThread, no matter the
+ * number of threads.
+ *
+ * With IotaCurlPowCheckpoints, the progress of every job is saved
+ * periodically, and a job mining the same transaction after a restart
+ * resumes from it.
+ *
+ * Its hashrate, jobs and times to solution are published as the
+ * IotaCurlPowServiceMXBean com.iota.curl:type=IotaCurlPowService,name=iota-curl-pow-N.
+ */
+public class IotaCurlPowService implements AutoCloseable {
+
+    // The default number of header midstates kept, about 3KB each.
+    static final int MIDSTATE_CACHE_SZ = 256;
+
+    // Pins the threads of the services created without an explicit number, shared() included.
+    public static final String THREADS_PROPERTY = "iota.curl.pow.threads";
+
+    private static final AtomicInteger POOL_ID = new AtomicInteger();
+
+    private static final Logger LOG = Logger.getLogger(IotaCurlPowService.class.getName());
+
+    // The nonce batches claimed at once by a worker, from the counter of its job.
+    static final int CHUNK = 16;
+
+    // The chunks a worker tries before picking a job again.
+    static final int QUANTUM = 8;
+
+    // The pass of a job of weight 1 grows by STRIDE per chunk picked, the one of a job of weight w by STRIDE / w.
+    private static final int STRIDE = 1 << 16;
+
+    // The highest weight of a job.
+    public static final int MAX_WEIGHT = STRIDE;
+
+    private static final class Shared {
+        static final IotaCurlPowService INSTANCE = new IotaCurlPowService();
+    }
+
+    // The engine of the new jobs, switched once by the calibration.
+    private volatile IotaCurlPowEngine miner;
+    private final IotaCurlMidStateCache midStateCache;
+    private final IotaCurlPowCheckpoints checkpoints;
+
+    private final int threads;
+    private final ExecutorService executor;
+    private final ScheduledThreadPoolExecutor timer;
+    private final IotaCurlPowMetrics metrics;
+
+    // Guards jobs, tasks, closed, idle, passOffset and the scheduling state of every job.
+    private final Object lock = new Object();
+    private final List<Job<?>> jobs = new ArrayList<>();
+    // Short tasks, such as absorbing the headers of a bundle, run by the workers before any batch.
+    private final ArrayDeque<Task<?>> tasks = new ArrayDeque<>();
+    private boolean closed;
+    // The workers of an index below it mine, the others end: fewer than threads once calibrated.
+    private volatile int active;
+    // The workers waiting for a job or a task.
+    private int idle;
+    // Bumped by every job started: the workers on other jobs pick again.
+    private volatile int epoch;
+    // The jobs left without a worker by the last pick: the worker picked takes one chunk only.
+    private int waiting;
+    // The pass of the last job picked: new jobs start from it, not from 0, to get their share but not more.
+    private long passOffset;
+
+    /**
+     * A service on the widest engine and all the cores, unless pinned by system properties,
+     * switching to the ones found fastest by IotaCurlPowEngines.calibration() when it completes.
+     */
+    public IotaCurlPowService() {
+        this(IotaCurlPowEngines.defaultThreads(), IotaCurlPowEngines.defaultEngine());
+        IotaCurlPowEngines.calibration().thenAccept(c -> calibrated(c.getEngine(), c.getThreads()));
+    }
+
+    /**
+     * A service on the widest engine, unless pinned by a system property, switching to the
+     * one found fastest by IotaCurlPowEngines.engineCalibration() when it completes.
+     */
+    public IotaCurlPowService(final int threads) {
+        this(threads, IotaCurlPowEngines.defaultEngine());
+        IotaCurlPowEngines.engineCalibration().thenAccept(c -> calibrated(c.getEngine(), threads));
+    }
+
+    /**
+     * @param miner the engine trying the nonces.
+     */
+    public IotaCurlPowService(final int threads, final IotaCurlPowEngine miner) {
+        this(threads, miner, new IotaCurlMidStateCache(MIDSTATE_CACHE_SZ));
+    }
+
+    /**
+     * @param midStateCache the header midstates, shared with other services or hashing
+     * code if needed, null to disable caching. Its prefix length must be TX_HEADER_SZ.
+     */
+    public IotaCurlPowService(final int threads, final IotaCurlPowEngine miner, final IotaCurlMidStateCache midStateCache) {
+        this(threads, miner, midStateCache, IotaCurlPowCheckpoints.fromProperties());
+    }
+
+    /**
+     * @param checkpoints where the progress of the jobs is saved and resumed from, null to
+     * disable checkpoints. Defaults to the ones set by the iota.curl.pow.checkpoints property.
+     */
+    public IotaCurlPowService(final int threads, final IotaCurlPowEngine miner, final IotaCurlMidStateCache midStateCache,
+                              final IotaCurlPowCheckpoints checkpoints) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("threads (" + threads + ") should be greater than zero.");
+        }
+        if (midStateCache != null && midStateCache.getPrefixLength() != IotaCurlMiner.TX_HEADER_SZ) {
+            throw new IllegalArgumentException("midStateCache should cache " + IotaCurlMiner.TX_HEADER_SZ + " tryte headers.");
+        }
+        final String name = "iota-curl-pow-" + POOL_ID.incrementAndGet();
+        this.threads = threads;
+        this.active = threads;
+        this.miner = miner;
+        this.midStateCache = midStateCache;
+        this.checkpoints = checkpoints;
+        this.executor = Executors.newFixedThreadPool(threads, daemonThreads(name + "-worker-"));
+        this.timer = new ScheduledThreadPoolExecutor(1, daemonThreads(name + "-timer-"));
+        this.timer.setRemoveOnCancelPolicy(true);
+        this.metrics = new IotaCurlPowMetrics(threads, miner, midStateCache);
+        this.metrics.register(name);
+        for (int i = 0; i < threads; i++) {
+            final int worker = i;
+            executor.execute(() -> work(worker));
+        }
+    }
+
+    /**
+     * @return the service shared by all the IotaCurlMiner instances, created on first use.
+     */
+    public static IotaCurlPowService shared() {
+        return Shared.INSTANCE;
+    }
+
+    /**
+     * @return the workers mining.
+     */
+    public int getThreads() {
+        return active;
+    }
+
+    /**
+     * @return the header midstates cache, null if disabled.
+     */
+    public IotaCurlMidStateCache getMidStateCache() {
+        return midStateCache;
+    }
+
+    /**
+     * @return the metrics of the service, also published through the platform MBean server.
+     */
+    public IotaCurlPowServiceMXBean getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * @return the checkpoints of the jobs, null if disabled.
+     */
+    public IotaCurlPowCheckpoints getCheckpoints() {
+        return checkpoints;
+    }
+
+    public CompletableFuture<String> submit(final String tx, final int minWeightMagnitude) {
+        return submit(tx, minWeightMagnitude, 0L, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Mines tx in background.
+     *
+     * @param timeout the maximum time to search for, 0 for no deadline.
+     * @return the mined transaction trytes. On deadline the future fails with a TimeoutException.
+     */
+    public CompletableFuture<String> submit(final String tx, final int minWeightMagnitude, final long timeout, final TimeUnit unit) {
+        return submit(tx, minWeightMagnitude, 1, threads, timeout, unit);
+    }
+
+    /**
+     * Mines tx in background, with its own share of the workers.
+     *
+     * @param weight the share of the workers relative to the other jobs running, from 1 to MAX_WEIGHT:
+     * a job of weight 2 gets twice as many nonce batches as a job of weight 1. 1 by default.
+     * @param maxThreads the most workers trying the nonces of the job at once, getThreads() by default.
+     * @param timeout the maximum time to search for, 0 for no deadline.
+     * @return the mined transaction trytes. On deadline the future fails with a TimeoutException.
+     */
+    public CompletableFuture<String> submit(final String tx, final int minWeightMagnitude, final int weight, final int maxThreads,
+                                            final long timeout, final TimeUnit unit) {
+        return withDeadline(submit(miner, tx, minWeightMagnitude, weight, maxThreads, null), timeout, unit);
+    }
+
+    /**
+     * As submit, also completing started with the System.nanoTime() at which the first
+     * worker picks the job up, for the load harness of the benchmarks to tell queueing
+     * from searching.
+     */
+    CompletableFuture<String> submit(final String tx, final int minWeightMagnitude, final long timeout, final TimeUnit unit,
+                                     final CompletableFuture<Long> started) {
+        return withDeadline(submit(miner, tx, minWeightMagnitude, 1, threads, started), timeout, unit);
+    }
+
+    public CompletableFuture<byte[]> submitPacked(final byte[] tx, final int minWeightMagnitude) {
+        return submitPacked(tx, minWeightMagnitude, 0L, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * As submit(String, int, long, TimeUnit), for a transaction in the 5-trits-per-byte format.
+     *
+     * @return the mined transaction in the same format.
+     */
+    public CompletableFuture<byte[]> submitPacked(final byte[] tx, final int minWeightMagnitude, final long timeout, final TimeUnit unit) {
+        final int trits = 3 * IotaCurlBulkHash.TX_RECORD_SZ;
+        if (tx.length != IotaCurlUtils.iotaCurlPackedLength(trits)) {
+            final CompletableFuture<byte[]> failed = new CompletableFuture<>();
+            failed.completeExceptionally(new IllegalArgumentException("tx should be "
+                    + IotaCurlUtils.iotaCurlPackedLength(trits) + " bytes long."));
+            return failed;
+        }
+        return submit(IotaCurlUtils.iotaCurlPacked2Trytes(tx, trits), minWeightMagnitude, timeout, unit)
+                .thenApply(mined -> IotaCurlUtils.iotaCurlTrytes2Packed(mined, IotaCurlBulkHash.TX_RECORD_SZ));
+    }
+
+    // Mines with the given engine instead of the one of the service.
+    CompletableFuture<String> submit(final IotaCurlPowEngine miner, final String tx, final int minWeightMagnitude) {
+        return submit(miner, tx, minWeightMagnitude, 1, threads, null);
+    }
+
+    private CompletableFuture<String> submit(final IotaCurlPowEngine miner, final String tx, final int minWeightMagnitude,
+                                             final int weight, final int maxThreads, final CompletableFuture<Long> started) {
+        final CompletableFuture<String> future = new CompletableFuture<>();
+        try {
+            checkMinWeightMagnitude(minWeightMagnitude);
+            checkShare(weight, maxThreads);
+            final IotaCurlPowContext ctx = new IotaCurlPowContext(tx, midStateCache);
+            final Job<String> job = new Job<>(miner, ctx, minWeightMagnitude, weight, Math.min(maxThreads, threads), Long.MAX_VALUE, future, ctx::toTrytes);
+            job.onStart = started;
+            start(job);
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Tries the nonces from approvalNonce + from to approvalNonce + to, excluded, on behalf
+     * of an IotaCurlPowCoordinator. The bounds should be multiples of the miner parallelism.
+     *
+     * @return the lowest nonce found in the range, 0 if none.
+     */
+    CompletableFuture<Long> submitRange(final IotaCurlPowContext ctx, final int minWeightMagnitude, final long from, final long to) {
+        final CompletableFuture<Long> future = new CompletableFuture<>();
+        try {
+            checkMinWeightMagnitude(minWeightMagnitude);
+            final Job<Long> job = new Job<>(miner, ctx, minWeightMagnitude, 1, threads, to, future, Long::valueOf);
+            job.next.set(from);
+            start(job);
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    public CompletableFuture<List<String>> submitBundle(final List<String> txs, final String trunk, final String branch, final int minWeightMagnitude) {
+        return submitBundle(txs, trunk, branch, minWeightMagnitude, 0L, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Mines a whole bundle in background, linking its transactions as attachToTangle does.
+     *
+     * The transactions are mined from the last to the first: the last one approves
+     * trunk and branch, every other one approves the hash of the transaction
+     * mined before it (as trunk) and trunk (as branch).
+     *
+     * The headers of all the transactions are absorbed in parallel before the
+     * first nonce search, and every mined transaction is hashed from its
+     * midstate, so the workers go from one nonce search to the next one at once.
+     *
+     * @param txs the transaction trytes, in bundle order.
+     * @param timeout the maximum time to mine the whole bundle, 0 for no deadline.
+     * @return the mined transaction trytes, in bundle order.
+     */
+    public CompletableFuture<List<String>> submitBundle(final List<String> txs, final String trunk, final String branch,
+                                                        final int minWeightMagnitude, final long timeout, final TimeUnit unit) {
+        return submitBundle(txs, trunk, branch, minWeightMagnitude, 1, threads, timeout, unit);
+    }
+
+    /**
+     * As submitBundle(List, String, String, int, long, TimeUnit), every transaction being
+     * mined with the given weight and maxThreads, see submit(String, int, int, int, long, TimeUnit).
+     */
+    public CompletableFuture<List<String>> submitBundle(final List<String> txs, final String trunk, final String branch,
+                                                        final int minWeightMagnitude, final int weight, final int maxThreads,
+                                                        final long timeout, final TimeUnit unit) {
+        final CompletableFuture<List<String>> bundle = new CompletableFuture<>();
+        try {
+            checkMinWeightMagnitude(minWeightMagnitude);
+            checkShare(weight, maxThreads);
+
+            final List<CompletableFuture<IotaCurlPowContext>> contexts = new ArrayList<>(txs.size());
+            for (final String tx : txs) {
+                contexts.add(supply(() -> new IotaCurlPowContext(tx, midStateCache)));
+            }
+
+            final String[] mined = new String[txs.size()];
+            final AtomicReference<CompletableFuture<String>> current = new AtomicReference<>();
+
+            CompletableFuture<String> chain = CompletableFuture.completedFuture(trunk);
+            for (int i = txs.size() - 1; i >= 0; i--) {
+                final int index = i;
+                final String approvedBranch = (i == txs.size() - 1) ? branch : trunk;
+                chain = chain.thenCombine(contexts.get(i), (approvedTrunk, ctx) -> {
+                    ctx.setTrunkAndBranch(approvedTrunk, approvedBranch);
+                    return ctx;
+                }).thenCompose(ctx -> {
+                    final CompletableFuture<String> job = new CompletableFuture<>();
+                    current.set(job);
+                    if (bundle.isDone()) {
+                        job.cancel(false);
+                    } else {
+                        start(new Job<>(miner, ctx, minWeightMagnitude, weight, Math.min(maxThreads, threads), Long.MAX_VALUE, job, ctx::toTrytes));
+                    }
+                    return job.thenApply(tx -> {
+                        mined[index] = tx;
+                        return ctx.hash(tx);
+                    });
+                });
+            }
+
+            chain.whenComplete((hash, t) -> {
+                if (t != null) {
+                    bundle.completeExceptionally(t instanceof CompletionException ? t.getCause() : t);
+                } else {
+                    bundle.complete(Arrays.asList(mined));
+                }
+            });
+            // Cancelled or expired, stop the nonce search running.
+            bundle.whenComplete((r, t) -> {
+                final CompletableFuture<String> job = current.get();
+                if (job != null) {
+                    job.cancel(true);
+                }
+            });
+        } catch (RuntimeException e) {
+            bundle.completeExceptionally(e);
+        }
+        return withDeadline(bundle, timeout, unit);
+    }
+
+    static void checkMinWeightMagnitude(final int minWeightMagnitude) {
+        if (minWeightMagnitude < 0 || minWeightMagnitude > IotaCurlMiner.HASH_SIZE) {
+            throw new IllegalArgumentException("minWeightMagnitude (" + minWeightMagnitude + ") out of range.");
+        }
+    }
+
+    private void checkShare(final int weight, final int maxThreads) {
+        if (weight < 1 || weight > MAX_WEIGHT) {
+            throw new IllegalArgumentException("weight (" + weight + ") out of range.");
+        }
+        if (maxThreads < 1) {
+            throw new IllegalArgumentException("maxThreads (" + maxThreads + ") should be greater than zero.");
+        }
+    }
+
+    private void start(final Job<?> job) {
+        synchronized (lock) {
+            if (closed) {
+                throw new RejectedExecutionException("closed");
+            }
+            job.pass = passOffset;
+            jobs.add(job);
+            epoch++;
+            for (int i = Math.min(job.maxThreads, idle); i > 0; i--) {
+                lock.notify();
+            }
+        }
+    }
+
+    private <T> CompletableFuture<T> supply(final Supplier<T> supplier) {
+        final Task<T> task = new Task<>(supplier);
+        synchronized (lock) {
+            if (closed) {
+                throw new RejectedExecutionException("closed");
+            }
+            tasks.add(task);
+            lock.notify();
+        }
+        return task.future;
+    }
+
+    /**
+     * The loop of a worker: runs the tasks, then a quantum of the jobs, one at a time.
+     */
+    private void work(final int worker) {
+        try {
+            for (;;) {
+                Task<?> task = null;
+                Job<?> job = null;
+                boolean first = false;
+                int seen = 0;
+                int chunks = 0;
+                synchronized (lock) {
+                    while (!closed && worker < active && (task = tasks.poll()) == null && (job = next()) == null) {
+                        idle++;
+                        try {
+                            lock.wait();
+                        } finally {
+                            idle--;
+                        }
+                    }
+                    if (closed || worker >= active) {
+                        return;
+                    }
+                    if (job != null) {
+                        first = job.started == 0L;
+                        seen = epoch;
+                        chunks = (waiting > 0) ? 1 : QUANTUM;
+                        job.pick(chunks);
+                    }
+                }
+                try {
+                    if (task != null) {
+                        task.run();
+                    } else {
+                        if (first) {
+                            job.started();
+                        }
+                        job.search(worker, seen, chunks);
+                    }
+                } catch (RuntimeException e) {
+                    // The pool does not replace a dead worker: fail the job, if any, and go on.
+                    if (job != null) {
+                        job.future.completeExceptionally(e);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            // closed.
+        }
+    }
+
+    /**
+     * @return the job with a batch left, using less than maxThreads workers, of lowest pass, if any.
+     * The jobs with no batch left are dropped, their chunks still running complete them.
+     */
+    private Job<?> next() {
+        Job<?> best = null;
+        waiting = 0;
+        for (final Iterator<Job<?>> i = jobs.iterator(); i.hasNext(); ) {
+            final Job<?> job = i.next();
+            final long next = job.next.get();
+            if (next > job.limit.get() || next >= job.end) {
+                i.remove();
+            } else if (job.running < job.maxThreads) {
+                if (job.running == 0) {
+                    waiting++;
+                }
+                if (best == null || job.pass < best.pass) {
+                    best = job;
+                }
+            }
+        }
+        if (best != null && best.running == 0) {
+            waiting--;
+        }
+        return best;
+    }
+
+    private <T> CompletableFuture<T> withDeadline(final CompletableFuture<T> future, final long timeout, final TimeUnit unit) {
+        if (timeout > 0 && !future.isDone()) {
+            final ScheduledFuture<?> deadline = timer.schedule(() -> {
+                if (future.completeExceptionally(new TimeoutException("PoW not found in " + timeout + " " + unit))) {
+                    metrics.timedOut();
+                }
+            }, timeout, unit);
+            future.whenComplete((r, t) -> deadline.cancel(false));
+        }
+        return future;
+    }
+
+    /**
+     * Switches the new jobs to engine, and ends the workers past threads.
+     */
+    private void calibrated(final IotaCurlPowEngine engine, final int threads) {
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            miner = engine;
+            active = Math.min(threads, this.threads);
+            metrics.calibrated(engine, active);
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Stops the workers and unregisters the metrics. The jobs not completed yet fail with
+     * a CancellationException, the bundles still waiting for their headers with a
+     * RejectedExecutionException.
+     */
+    @Override
+    public void close() {
+        final List<Job<?>> pending;
+        final List<Task<?>> queued;
+        synchronized (lock) {
+            closed = true;
+            pending = new ArrayList<>(jobs);
+            jobs.clear();
+            queued = new ArrayList<>(tasks);
+            tasks.clear();
+            lock.notifyAll();
+        }
+        // Completed outside lock, as their stages may run anything.
+        for (final Job<?> job : pending) {
+            job.future.completeExceptionally(new CancellationException("closed"));
+        }
+        for (final Task<?> task : queued) {
+            task.future.completeExceptionally(new RejectedExecutionException("closed"));
+        }
+        executor.shutdownNow();
+        timer.shutdownNow();
+        metrics.close();
+    }
+
+    /**
+     * A short task run by a worker, completing its future with the result of supplier.
+     */
+    private static final class Task<T> implements Runnable {
+
+        private final Supplier<T> supplier;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        Task(final Supplier<T> supplier) {
+            this.supplier = supplier;
+        }
+
+        @Override
+        public void run() {
+            try {
+                future.complete(supplier.get());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        }
+    }
+
+    /**
+     * A nonce search, completing its future with finish applied to the nonce found.
+     */
+    private final class Job<T> {
+
+        private final IotaCurlPowEngine miner;
+        private final IotaCurlPowContext context;
+        private final int minWeightMagnitude;
+        private final int weight;
+        private final int maxThreads;
+        // The first offset not to try, Long.MAX_VALUE to search until found.
+        private final long end;
+        // The nonces of a chunk.
+        private final long chunk;
+        private final CompletableFuture<T> future;
+        private final LongFunction<T> finish;
+
+        // The lowest nonce found so far, -1 once the future is completed from outside:
+        // no batch past it is tried.
+        private final IotaCurlPaddedLong limit = new IotaCurlPaddedLong(Long.MAX_VALUE);
+        private final AtomicLong result = new AtomicLong(Long.MAX_VALUE);
+
+        // The next chunk to claim, the chunk each worker runs (Long.MAX_VALUE if none)
+        // and the lowest batch left untried by a chunk stopped early.
+        private final IotaCurlPaddedLong next = new IotaCurlPaddedLong(0L);
+        private final AtomicLongArray claimed = new AtomicLongArray(threads);
+        private final AtomicLong abandoned = new AtomicLong(Long.MAX_VALUE);
+
+        // Guarded by lock: the workers on the job and its virtual time.
+        private int running;
+        private long pass;
+
+        private final long submitted = System.nanoTime();
+        private long started;
+        // Completed with started, if not null.
+        private CompletableFuture<Long> onStart;
+
+        // With checkpoints only: the watermark last saved, guarded by this.
+        private final String digest;
+        private long saved;
+        private boolean done;
+
+        Job(final IotaCurlPowEngine miner, final IotaCurlPowContext context, final int minWeightMagnitude, final int weight,
+            final int maxThreads, final long end, final CompletableFuture<T> future, final LongFunction<T> finish) {
+            this.miner = miner;
+            this.context = context;
+            this.minWeightMagnitude = minWeightMagnitude;
+            this.weight = weight;
+            this.maxThreads = maxThreads;
+            this.end = end;
+            this.chunk = (long) CHUNK * miner.getParallel();
+            this.future = future;
+            this.finish = finish;
+            for (int i = 0; i < threads; i++) {
+                claimed.set(i, Long.MAX_VALUE);
+            }
+            // Only the searches without an end are checkpointed: the ranges of IotaCurlPowWorkers
+            // come with the midstate of a remote context, with no trytes to digest.
+            if (checkpoints != null && end == Long.MAX_VALUE) {
+                digest = IotaCurlPowCheckpoints.digest(context.trytes);
+                // The first nonce searched, past the watermark of the checkpoint resumed.
+                saved = checkpoints.load(digest, minWeightMagnitude);
+                next.set(saved);
+                final long interval = checkpoints.getIntervalNanos();
+                final ScheduledFuture<?> periodic = timer.scheduleWithFixedDelay(this::checkpoint, interval, interval, TimeUnit.NANOSECONDS);
+                future.whenComplete((r, t) -> {
+                    periodic.cancel(false);
+                    finish(t == null);
+                });
+            } else {
+                digest = null;
+            }
+            future.whenComplete((r, t) -> {
+                limit.set(-1L);
+                if (t instanceof CancellationException) {
+                    metrics.cancelled();
+                } else if (t != null && !(t instanceof TimeoutException)) {
+                    metrics.failed();
+                }
+            });
+            metrics.submitted();
+        }
+
+        /**
+         * Adds a worker to the job for chunks chunks, called under lock.
+         */
+        void pick(final int chunks) {
+            if (started == 0L) {
+                started = System.nanoTime();
+            }
+            running++;
+            pass += (long) chunks * (STRIDE / weight);
+            passOffset = pass;
+        }
+
+        /**
+         * Reports the queue wait and completes onStart, called once by the worker of the
+         * first batch after releasing lock, so that the stages depending on onStart do not
+         * run under it.
+         */
+        void started() {
+            metrics.started(started - submitted);
+            if (onStart != null) {
+                onStart.complete(started);
+            }
+        }
+
+        /**
+         * Tries up to chunks chunks, in order, up to the lowest nonce found, unless another
+         * job is started. The chunks are claimed in nonce order, so once no worker is on
+         * the job and the next chunk is past the lowest nonce found, all the lower ones are done.
+         */
+        void search(final int worker, final int seen, final int chunks) {
+            final int parallel = miner.getParallel();
+            long batch = 0L;
+            long to = 0L;
+            try {
+                for (int n = 0; n < chunks && epoch == seen; n++) {
+                    // A lower bound of the chunk claimed, for the checkpoints in between.
+                    claimed.set(worker, next.get());
+                    batch = next.getAndAdd(chunk);
+                    to = Math.min(batch + chunk, end);
+                    claimed.set(worker, batch);
+                    // Past the lowest nonce found, or -1 once completed from outside: stop.
+                    for (; batch < to && batch <= limit.get(); batch += parallel) {
+                        final long r = miner.doWork(context, minWeightMagnitude, batch);
+                        metrics.tried(worker, parallel);
+                        if (r != 0) {
+                            result.accumulateAndGet(r, Math::min);
+                            limit.accumulateAndGet(r, Math::min);
+                        }
+                    }
+                    if (batch < to || to == end) {
+                        break;
+                    }
+                }
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+            if (batch < to) {
+                abandoned.accumulateAndGet(batch, Math::min);
+            }
+            claimed.set(worker, Long.MAX_VALUE);
+
+            final boolean last;
+            final boolean exhausted;
+            synchronized (lock) {
+                running--;
+                final long claimedTo = next.get();
+                exhausted = claimedTo >= end;
+                last = running == 0 && (claimedTo > limit.get() || exhausted);
+            }
+            // The last worker out publishes the result.
+            if (last) {
+                final long r = result.get();
+                try {
+                    if (r != Long.MAX_VALUE) {
+                        // Deleted before the caller sees the nonce, not after.
+                        if (digest != null) {
+                            finish(true);
+                        }
+                        if (future.complete(finish.apply(r))) {
+                            metrics.solved(minWeightMagnitude, System.nanoTime() - started);
+                        }
+                    } else if (exhausted) {
+                        if (future.complete(finish.apply(0L))) {
+                            metrics.exhausted();
+                        }
+                    }
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
+                }
+            }
+        }
+
+        /**
+         * Saves the watermark, below which all the batches have been tried.
+         */
+        synchronized void checkpoint() {
+            if (done) {
+                return;
+            }
+            // In this order: a chunk claimed after next is read is above it, one left
+            // after its claim is read is in abandoned.
+            long watermark = next.get();
+            for (int i = 0; i < claimed.length(); i++) {
+                watermark = Math.min(watermark, claimed.get(i));
+            }
+            watermark = Math.min(watermark, abandoned.get());
+            if (watermark > saved) {
+                try {
+                    checkpoints.save(digest, minWeightMagnitude, watermark);
+                    saved = watermark;
+                } catch (IOException e) {
+                    // Mining goes on, the next checkpoint retries.
+                    LOG.log(Level.WARNING, "Could not save the checkpoint of " + digest + ".", e);
+                }
+            }
+        }
+
+        /**
+         * Deletes the checkpoint once the nonce is found, otherwise saves the last progress.
+         */
+        synchronized void finish(final boolean found) {
+            if (done) {
+                return;
+            }
+            if (!found) {
+                checkpoint();
+            }
+            done = true;
+            if (found) {
+                try {
+                    checkpoints.delete(digest);
+                } catch (IOException e) {
+                    LOG.log(Level.WARNING, "Could not delete the checkpoint of " + digest + ".", e);
+                }
+            }
+        }
+    }
+
+    private static ThreadFactory daemonThreads(final String prefix) {
+        final AtomicInteger count = new AtomicInteger();
+        return r -> {
+            final Thread t = new Thread(r, prefix + count.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+}
@@ -0,0 +1,62 @@
+package com.iota.curl;
+
+/**
+ * The metrics of an IotaCurlPowService, published as
+ * com.iota.curl:type=IotaCurlPowService,name=iota-curl-pow-N.
+ *
+ * A job is one nonce search: a bundle runs one job per transaction.
+ */
+public interface IotaCurlPowServiceMXBean {
+
+    int getThreads();
+
+    String getEngine();
+
+    // The nonces tried since the service started.
+    long getNonces();
+
+    // The nonces tried by each worker thread, to spot a slow or starved core.
+    long[] getNoncesPerWorker();
+
+    // Nonces per second over the last second.
+    double getHashrate();
+
+    double getHashrate10s();
+
+    double getHashrate60s();
+
+    long getJobsSubmitted();
+
+    long getJobsCompleted();
+
+    // By the caller, by interruptAttachingToTangle or by a bundle stopping.
+    long getJobsCancelled();
+
+    long getJobsTimedOut();
+
+    long getJobsFailed();
+
+    // The nonce ranges of IotaCurlPowWorkers tried without a solution.
+    long getJobsExhausted();
+
+    // From the submission to the first worker starting the job.
+    double getMeanQueueWaitMillis();
+
+    long getMaxQueueWaitMillis();
+
+    /**
+     * @return the jobs solved with the given minWeightMagnitude, by time to solution:
+     * element 0 counts the ones under 1ms, element i the ones in [2^(i-1), 2^i) ms.
+     */
+    long[] getTimeToSolutionHistogram(int minWeightMagnitude);
+
+    /**
+     * @return an upper bound, in milliseconds, of the given percentile (0-100) of
+     * the time to solution with the given minWeightMagnitude, 0 if none was solved.
+     */
+    long getTimeToSolutionPercentileMillis(int minWeightMagnitude, double percentile);
+
+    long getMidStateCacheHits();
+
+    long getMidStateCacheMisses();
+}
@@ -0,0 +1,231 @@
+package com.iota.curl;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Mines the nonce ranges handed out by IotaCurlPowCoordinators on a local IotaCurlPowService.
+ *
+ * Every coordinator connected ships the midstate of its jobs once, then asks
+ * for ranges of nonces, one after the other. Each range is searched as a job
+ * of the service, so the ranges of several coordinators share its workers.
+ * A worker runs until closed, from one coordinator connection to the next:
+ *
+ * java -cp jota-curl.jar com.iota.curl.miner.Miner worker 14266
+ *
+ * The protocol is unauthenticated: any host reaching the address listened on
+ * can mine on this one, so it should be the loopback one or a trusted network.
+ */
+public class IotaCurlPowWorker implements AutoCloseable {
+
+    public static final int DEFAULT_PORT = 14266;
+
+    private static final Logger LOG = Logger.getLogger(IotaCurlPowWorker.class.getName());
+
+    private static final AtomicInteger CONNECTION_ID = new AtomicInteger();
+
+    private final ServerSocket server;
+    private final IotaCurlPowService pow;
+    private final Thread acceptor;
+    private final Set<Connection> connections = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param address the address to listen on, port 0 for any free port.
+     * @param pow the pool searching the ranges, left open on close.
+     */
+    public IotaCurlPowWorker(final InetSocketAddress address, final IotaCurlPowService pow) throws IOException {
+        this.pow = pow;
+        this.server = new ServerSocket();
+        this.server.bind(address);
+        this.acceptor = new Thread(this::accept, "iota-curl-pow-worker-accept");
+        this.acceptor.setDaemon(true);
+    }
+
+    public void start() {
+        acceptor.start();
+    }
+
+    public InetSocketAddress getAddress() {
+        return (InetSocketAddress) server.getLocalSocketAddress();
+    }
+
+    /**
+     * @return the coordinators connected.
+     */
+    public int getConnections() {
+        return connections.size();
+    }
+
+    /**
+     * Stops listening, drops the coordinators and cancels their ranges. The pow service is left open.
+     */
+    @Override
+    public void close() {
+        try {
+            server.close();
+        } catch (IOException e) {
+            // closing anyway.
+        }
+        for (final Connection connection : connections) {
+            connection.close();
+        }
+    }
+
+    private void accept() {
+        while (!server.isClosed()) {
+            try {
+                final Connection connection = new Connection(server.accept());
+                connections.add(connection);
+                final Thread reader = new Thread(connection, "iota-curl-pow-worker-" + CONNECTION_ID.incrementAndGet());
+                reader.setDaemon(true);
+                reader.start();
+            } catch (IOException e) {
+                // closed, or a connection failed before its first byte.
+            }
+        }
+    }
+
+    // A coordinator, with the jobs it shipped and the ranges being searched for them.
+    private final class Connection implements Runnable {
+
+        private final Socket socket;
+        private final DataInputStream in;
+        private final DataOutputStream out;
+
+        // Only touched by the reader thread.
+        private final Map<Long, IotaCurlPowContext> contexts = new HashMap<>();
+        private final Map<Long, Integer> minWeightMagnitudes = new HashMap<>();
+        // Guarded by itself.
+        private final Map<Long, Set<CompletableFuture<Long>>> ranges = new HashMap<>();
+
+        Connection(final Socket socket) throws IOException {
+            this.socket = socket;
+            socket.setTcpNoDelay(true);
+            this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        }
+
+        @Override
+        public void run() {
+            try {
+                if (in.readInt() != IotaCurlPowProtocol.MAGIC || in.readInt() != IotaCurlPowProtocol.VERSION) {
+                    throw new IOException("Not an IotaCurlPowCoordinator, or another version.");
+                }
+                for (;;) {
+                    final int type = in.readUnsignedByte();
+                    final long id = in.readLong();
+                    switch (type) {
+                        case IotaCurlPowProtocol.JOB:
+                            final int minWeightMagnitude = in.readInt();
+                            IotaCurlPowService.checkMinWeightMagnitude(minWeightMagnitude);
+                            contexts.put(id, IotaCurlPowProtocol.readContext(in));
+                            minWeightMagnitudes.put(id, minWeightMagnitude);
+                            break;
+                        case IotaCurlPowProtocol.RANGE:
+                            search(id, in.readLong(), in.readLong());
+                            break;
+                        case IotaCurlPowProtocol.CANCEL:
+                            contexts.remove(id);
+                            minWeightMagnitudes.remove(id);
+                            cancel(id);
+                            break;
+                        default:
+                            throw new IOException("Unknown message " + type + ".");
+                    }
+                }
+            } catch (EOFException | SocketException e) {
+                // the coordinator went away.
+            } catch (IOException | IllegalArgumentException e) {
+                // the protocol has no error message: the coordinator sees the connection drop.
+                LOG.log(Level.WARNING, "Dropping coordinator " + socket.getRemoteSocketAddress() + ".", e);
+            } finally {
+                close();
+            }
+        }
+
+        private void search(final long id, final long from, final long to) {
+            final IotaCurlPowContext ctx = contexts.get(id);
+            if (ctx == null) {
+                return; // crossed a CANCEL.
+            }
+            final CompletableFuture<Long> range = pow.submitRange(ctx, minWeightMagnitudes.get(id), from, to);
+            synchronized (ranges) {
+                ranges.computeIfAbsent(id, k -> new HashSet<>()).add(range);
+            }
+            range.whenComplete((nonce, t) -> {
+                synchronized (ranges) {
+                    final Set<CompletableFuture<Long>> running = ranges.get(id);
+                    if (running != null && running.remove(range) && running.isEmpty()) {
+                        ranges.remove(id);
+                    }
+                }
+                if (t != null) {
+                    return; // cancelled.
+                }
+                try {
+                    synchronized (out) {
+                        if (nonce != 0) {
+                            out.writeByte(IotaCurlPowProtocol.FOUND);
+                            out.writeLong(id);
+                            out.writeLong(nonce);
+                        } else {
+                            out.writeByte(IotaCurlPowProtocol.DONE);
+                            out.writeLong(id);
+                            out.writeLong(from);
+                        }
+                        out.flush();
+                    }
+                } catch (IOException e) {
+                    close();
+                }
+            });
+        }
+
+        private void cancel(final long id) {
+            final Set<CompletableFuture<Long>> running;
+            synchronized (ranges) {
+                running = ranges.remove(id);
+            }
+            if (running != null) {
+                for (final CompletableFuture<Long> range : running) {
+                    range.cancel(true);
+                }
+            }
+        }
+
+        void close() {
+            if (!connections.remove(this)) {
+                return;
+            }
+            try {
+                socket.close();
+            } catch (IOException e) {
+                // closing anyway.
+            }
+            final Long[] ids;
+            synchronized (ranges) {
+                ids = ranges.keySet().toArray(new Long[0]);
+            }
+            for (final Long id : ids) {
+                cancel(id);
+            }
+        }
+    }
+}
@@ -0,0 +1,766 @@
+package com.iota.curl;
+
+/**
+ * The Curl round, unrolled: every cell is computed by a statement with
+ * constant indices, every source cell is loaded once, and there is no
+ * loop nor index arithmetic left for the JIT to optimize.
+ *
+ * Generated by IotaCurlRoundsGenerator (src/test/java), do not edit.
+ */
+final class IotaCurlRounds {
+
+    private static final int[] T = IotaCurlUtils.TRUTH_TABLE;
+
+    private IotaCurlRounds() {
+    }
+
+    /**
+     * One round of IotaCurlHash.doHashTransform, from one trit per int.
+     */
+    static void hashRound(final int[] from, final int[] to) {
+        hashRound0(from, to);
+        hashRound1(from, to);
+        hashRound2(from, to);
+    }
+
+    private static void hashRound0(final int[] from, final int[] to) {
+        int a = from[0], b;
+        b = from[364]; to[0] = T[a + (b << 2) + 5];
+        a = from[728]; to[1] = T[b + (a << 2) + 5];
+        b = from[363]; to[2] = T[a + (b << 2) + 5];
+        a = from[727]; to[3] = T[b + (a << 2) + 5];
+        b = from[362]; to[4] = T[a + (b << 2) + 5];
+        a = from[726]; to[5] = T[b + (a << 2) + 5];
+        b = from[361]; to[6] = T[a + (b << 2) + 5];
+        a = from[725]; to[7] = T[b + (a << 2) + 5];
+        b = from[360]; to[8] = T[a + (b << 2) + 5];
+        a = from[724]; to[9] = T[b + (a << 2) + 5];
+        b = from[359]; to[10] = T[a + (b << 2) + 5];
+        a = from[723]; to[11] = T[b + (a << 2) + 5];
+        b = from[358]; to[12] = T[a + (b << 2) + 5];
+        a = from[722]; to[13] = T[b + (a << 2) + 5];
+        b = from[357]; to[14] = T[a + (b << 2) + 5];
+        a = from[721]; to[15] = T[b + (a << 2) + 5];
+        b = from[356]; to[16] = T[a + (b << 2) + 5];
+        a = from[720]; to[17] = T[b + (a << 2) + 5];
+        b = from[355]; to[18] = T[a + (b << 2) + 5];
+        a = from[719]; to[19] = T[b + (a << 2) + 5];
+        b = from[354]; to[20] = T[a + (b << 2) + 5];
+        a = from[718]; to[21] = T[b + (a << 2) + 5];
+        b = from[353]; to[22] = T[a + (b << 2) + 5];
+        a = from[717]; to[23] = T[b + (a << 2) + 5];
+        b = from[352]; to[24] = T[a + (b << 2) + 5];
+        a = from[716]; to[25] = T[b + (a << 2) + 5];
+        b = from[351]; to[26] = T[a + (b << 2) + 5];
+        a = from[715]; to[27] = T[b + (a << 2) + 5];
+        b = from[350]; to[28] = T[a + (b << 2) + 5];
+        a = from[714]; to[29] = T[b + (a << 2) + 5];
+        b = from[349]; to[30] = T[a + (b << 2) + 5];
+        a = from[713]; to[31] = T[b + (a << 2) + 5];
+        b = from[348]; to[32] = T[a + (b << 2) + 5];
+        a = from[712]; to[33] = T[b + (a << 2) + 5];
+        b = from[347]; to[34] = T[a + (b << 2) + 5];
+        a = from[711]; to[35] = T[b + (a << 2) + 5];
+        b = from[346]; to[36] = T[a + (b << 2) + 5];
+        a = from[710]; to[37] = T[b + (a << 2) + 5];
+        b = from[345]; to[38] = T[a + (b << 2) + 5];
+        a = from[709]; to[39] = T[b + (a << 2) + 5];
+        b = from[344]; to[40] = T[a + (b << 2) + 5];
+        a = from[708]; to[41] = T[b + (a << 2) + 5];
+        b = from[343]; to[42] = T[a + (b << 2) + 5];
+        a = from[707]; to[43] = T[b + (a << 2) + 5];
+        b = from[342]; to[44] = T[a + (b << 2) + 5];
+        a = from[706]; to[45] = T[b + (a << 2) + 5];
+        b = from[341]; to[46] = T[a + (b << 2) + 5];
+        a = from[705]; to[47] = T[b + (a << 2) + 5];
+        b = from[340]; to[48] = T[a + (b << 2) + 5];
+        a = from[704]; to[49] = T[b + (a << 2) + 5];
+        b = from[339]; to[50] = T[a + (b << 2) + 5];
+        a = from[703]; to[51] = T[b + (a << 2) + 5];
+        b = from[338]; to[52] = T[a + (b << 2) + 5];
+        a = from[702]; to[53] = T[b + (a << 2) + 5];
+        b = from[337]; to[54] = T[a + (b << 2) + 5];
+        a = from[701]; to[55] = T[b + (a << 2) + 5];
+        b = from[336]; to[56] = T[a + (b << 2) + 5];
+        a = from[700]; to[57] = T[b + (a << 2) + 5];
+        b = from[335]; to[58] = T[a + (b << 2) + 5];
+        a = from[699]; to[59] = T[b + (a << 2) + 5];
+        b = from[334]; to[60] = T[a + (b << 2) + 5];
+        a = from[698]; to[61] = T[b + (a << 2) + 5];
+        b = from[333]; to[62] = T[a + (b << 2) + 5];
+        a = from[697]; to[63] = T[b + (a << 2) + 5];
+        b = from[332]; to[64] = T[a + (b << 2) + 5];
+        a = from[696]; to[65] = T[b + (a << 2) + 5];
+        b = from[331]; to[66] = T[a + (b << 2) + 5];
+        a = from[695]; to[67] = T[b + (a << 2) + 5];
+        b = from[330]; to[68] = T[a + (b << 2) + 5];
+        a = from[694]; to[69] = T[b + (a << 2) + 5];
+        b = from[329]; to[70] = T[a + (b << 2) + 5];
+        a = from[693]; to[71] = T[b + (a << 2) + 5];
+        b = from[328]; to[72] = T[a + (b << 2) + 5];
+        a = from[692]; to[73] = T[b + (a << 2) + 5];
+        b = from[327]; to[74] = T[a + (b << 2) + 5];
+        a = from[691]; to[75] = T[b + (a << 2) + 5];
+        b = from[326]; to[76] = T[a + (b << 2) + 5];
+        a = from[690]; to[77] = T[b + (a << 2) + 5];
+        b = from[325]; to[78] = T[a + (b << 2) + 5];
+        a = from[689]; to[79] = T[b + (a << 2) + 5];
+        b = from[324]; to[80] = T[a + (b << 2) + 5];
+        a = from[688]; to[81] = T[b + (a << 2) + 5];
+        b = from[323]; to[82] = T[a + (b << 2) + 5];
+        a = from[687]; to[83] = T[b + (a << 2) + 5];
+        b = from[322]; to[84] = T[a + (b << 2) + 5];
+        a = from[686]; to[85] = T[b + (a << 2) + 5];
+        b = from[321]; to[86] = T[a + (b << 2) + 5];
+        a = from[685]; to[87] = T[b + (a << 2) + 5];
+        b = from[320]; to[88] = T[a + (b << 2) + 5];
+        a = from[684]; to[89] = T[b + (a << 2) + 5];
+        b = from[319]; to[90] = T[a + (b << 2) + 5];
+        a = from[683]; to[91] = T[b + (a << 2) + 5];
+        b = from[318]; to[92] = T[a + (b << 2) + 5];
+        a = from[682]; to[93] = T[b + (a << 2) + 5];
+        b = from[317]; to[94] = T[a + (b << 2) + 5];
+        a = from[681]; to[95] = T[b + (a << 2) + 5];
+        b = from[316]; to[96] = T[a + (b << 2) + 5];
+        a = from[680]; to[97] = T[b + (a << 2) + 5];
+        b = from[315]; to[98] = T[a + (b << 2) + 5];
+        a = from[679]; to[99] = T[b + (a << 2) + 5];
+        b = from[314]; to[100] = T[a + (b << 2) + 5];
+        a = from[678]; to[101] = T[b + (a << 2) + 5];
+        b = from[313]; to[102] = T[a + (b << 2) + 5];
+        a = from[677]; to[103] = T[b + (a << 2) + 5];
+        b = from[312]; to[104] = T[a + (b << 2) + 5];
+        a = from[676]; to[105] = T[b + (a << 2) + 5];
+        b = from[311]; to[106] = T[a + (b << 2) + 5];
+        a = from[675]; to[107] = T[b + (a << 2) + 5];
+        b = from[310]; to[108] = T[a + (b << 2) + 5];
+        a = from[674]; to[109] = T[b + (a << 2) + 5];
+        b = from[309]; to[110] = T[a + (b << 2) + 5];
+        a = from[673]; to[111] = T[b + (a << 2) + 5];
+        b = from[308]; to[112] = T[a + (b << 2) + 5];
+        a = from[672]; to[113] = T[b + (a << 2) + 5];
+        b = from[307]; to[114] = T[a + (b << 2) + 5];
+        a = from[671]; to[115] = T[b + (a << 2) + 5];
+        b = from[306]; to[116] = T[a + (b << 2) + 5];
+        a = from[670]; to[117] = T[b + (a << 2) + 5];
+        b = from[305]; to[118] = T[a + (b << 2) + 5];
+        a = from[669]; to[119] = T[b + (a << 2) + 5];
+        b = from[304]; to[120] = T[a + (b << 2) + 5];
+        a = from[668]; to[121] = T[b + (a << 2) + 5];
+        b = from[303]; to[122] = T[a + (b << 2) + 5];
+        a = from[667]; to[123] = T[b + (a << 2) + 5];
+        b = from[302]; to[124] = T[a + (b << 2) + 5];
+        a = from[666]; to[125] = T[b + (a << 2) + 5];
+        b = from[301]; to[126] = T[a + (b << 2) + 5];
+        a = from[665]; to[127] = T[b + (a << 2) + 5];
+        b = from[300]; to[128] = T[a + (b << 2) + 5];
+        a = from[664]; to[129] = T[b + (a << 2) + 5];
+        b = from[299]; to[130] = T[a + (b << 2) + 5];
+        a = from[663]; to[131] = T[b + (a << 2) + 5];
+        b = from[298]; to[132] = T[a + (b << 2) + 5];
+        a = from[662]; to[133] = T[b + (a << 2) + 5];
+        b = from[297]; to[134] = T[a + (b << 2) + 5];
+        a = from[661]; to[135] = T[b + (a << 2) + 5];
+        b = from[296]; to[136] = T[a + (b << 2) + 5];
+        a = from[660]; to[137] = T[b + (a << 2) + 5];
+        b = from[295]; to[138] = T[a + (b << 2) + 5];
+        a = from[659]; to[139] = T[b + (a << 2) + 5];
+        b = from[294]; to[140] = T[a + (b << 2) + 5];
+        a = from[658]; to[141] = T[b + (a << 2) + 5];
+        b = from[293]; to[142] = T[a + (b << 2) + 5];
+        a = from[657]; to[143] = T[b + (a << 2) + 5];
+        b = from[292]; to[144] = T[a + (b << 2) + 5];
+        a = from[656]; to[145] = T[b + (a << 2) + 5];
+        b = from[291]; to[146] = T[a + (b << 2) + 5];
+        a = from[655]; to[147] = T[b + (a << 2) + 5];
+        b = from[290]; to[148] = T[a + (b << 2) + 5];
+        a = from[654]; to[149] = T[b + (a << 2) + 5];
+        b = from[289]; to[150] = T[a + (b << 2) + 5];
+        a = from[653]; to[151] = T[b + (a << 2) + 5];
+        b = from[288]; to[152] = T[a + (b << 2) + 5];
+        a = from[652]; to[153] = T[b + (a << 2) + 5];
+        b = from[287]; to[154] = T[a + (b << 2) + 5];
+        a = from[651]; to[155] = T[b + (a << 2) + 5];
+        b = from[286]; to[156] = T[a + (b << 2) + 5];
+        a = from[650]; to[157] = T[b + (a << 2) + 5];
+        b = from[285]; to[158] = T[a + (b << 2) + 5];
+        a = from[649]; to[159] = T[b + (a << 2) + 5];
+        b = from[284]; to[160] = T[a + (b << 2) + 5];
+        a = from[648]; to[161] = T[b + (a << 2) + 5];
+        b = from[283]; to[162] = T[a + (b << 2) + 5];
+        a = from[647]; to[163] = T[b + (a << 2) + 5];
+        b = from[282]; to[164] = T[a + (b << 2) + 5];
+        a = from[646]; to[165] = T[b + (a << 2) + 5];
+        b = from[281]; to[166] = T[a + (b << 2) + 5];
+        a = from[645]; to[167] = T[b + (a << 2) + 5];
+        b = from[280]; to[168] = T[a + (b << 2) + 5];
+        a = from[644]; to[169] = T[b + (a << 2) + 5];
+        b = from[279]; to[170] = T[a + (b << 2) + 5];
+        a = from[643]; to[171] = T[b + (a << 2) + 5];
+        b = from[278]; to[172] = T[a + (b << 2) + 5];
+        a = from[642]; to[173] = T[b + (a << 2) + 5];
+        b = from[277]; to[174] = T[a + (b << 2) + 5];
+        a = from[641]; to[175] = T[b + (a << 2) + 5];
+        b = from[276]; to[176] = T[a + (b << 2) + 5];
+        a = from[640]; to[177] = T[b + (a << 2) + 5];
+        b = from[275]; to[178] = T[a + (b << 2) + 5];
+        a = from[639]; to[179] = T[b + (a << 2) + 5];
+        b = from[274]; to[180] = T[a + (b << 2) + 5];
+        a = from[638]; to[181] = T[b + (a << 2) + 5];
+        b = from[273]; to[182] = T[a + (b << 2) + 5];
+        a = from[637]; to[183] = T[b + (a << 2) + 5];
+        b = from[272]; to[184] = T[a + (b << 2) + 5];
+        a = from[636]; to[185] = T[b + (a << 2) + 5];
+        b = from[271]; to[186] = T[a + (b << 2) + 5];
+        a = from[635]; to[187] = T[b + (a << 2) + 5];
+        b = from[270]; to[188] = T[a + (b << 2) + 5];
+        a = from[634]; to[189] = T[b + (a << 2) + 5];
+        b = from[269]; to[190] = T[a + (b << 2) + 5];
+        a = from[633]; to[191] = T[b + (a << 2) + 5];
+        b = from[268]; to[192] = T[a + (b << 2) + 5];
+        a = from[632]; to[193] = T[b + (a << 2) + 5];
+        b = from[267]; to[194] = T[a + (b << 2) + 5];
+        a = from[631]; to[195] = T[b + (a << 2) + 5];
+        b = from[266]; to[196] = T[a + (b << 2) + 5];
+        a = from[630]; to[197] = T[b + (a << 2) + 5];
+        b = from[265]; to[198] = T[a + (b << 2) + 5];
+        a = from[629]; to[199] = T[b + (a << 2) + 5];
+        b = from[264]; to[200] = T[a + (b << 2) + 5];
+        a = from[628]; to[201] = T[b + (a << 2) + 5];
+        b = from[263]; to[202] = T[a + (b << 2) + 5];
+        a = from[627]; to[203] = T[b + (a << 2) + 5];
+        b = from[262]; to[204] = T[a + (b << 2) + 5];
+        a = from[626]; to[205] = T[b + (a << 2) + 5];
+        b = from[261]; to[206] = T[a + (b << 2) + 5];
+        a = from[625]; to[207] = T[b + (a << 2) + 5];
+        b = from[260]; to[208] = T[a + (b << 2) + 5];
+        a = from[624]; to[209] = T[b + (a << 2) + 5];
+        b = from[259]; to[210] = T[a + (b << 2) + 5];
+        a = from[623]; to[211] = T[b + (a << 2) + 5];
+        b = from[258]; to[212] = T[a + (b << 2) + 5];
+        a = from[622]; to[213] = T[b + (a << 2) + 5];
+        b = from[257]; to[214] = T[a + (b << 2) + 5];
+        a = from[621]; to[215] = T[b + (a << 2) + 5];
+        b = from[256]; to[216] = T[a + (b << 2) + 5];
+        a = from[620]; to[217] = T[b + (a << 2) + 5];
+        b = from[255]; to[218] = T[a + (b << 2) + 5];
+        a = from[619]; to[219] = T[b + (a << 2) + 5];
+        b = from[254]; to[220] = T[a + (b << 2) + 5];
+        a = from[618]; to[221] = T[b + (a << 2) + 5];
+        b = from[253]; to[222] = T[a + (b << 2) + 5];
+        a = from[617]; to[223] = T[b + (a << 2) + 5];
+        b = from[252]; to[224] = T[a + (b << 2) + 5];
+        a = from[616]; to[225] = T[b + (a << 2) + 5];
+        b = from[251]; to[226] = T[a + (b << 2) + 5];
+        a = from[615]; to[227] = T[b + (a << 2) + 5];
+        b = from[250]; to[228] = T[a + (b << 2) + 5];
+        a = from[614]; to[229] = T[b + (a << 2) + 5];
+        b = from[249]; to[230] = T[a + (b << 2) + 5];
+        a = from[613]; to[231] = T[b + (a << 2) + 5];
+        b = from[248]; to[232] = T[a + (b << 2) + 5];
+        a = from[612]; to[233] = T[b + (a << 2) + 5];
+        b = from[247]; to[234] = T[a + (b << 2) + 5];
+        a = from[611]; to[235] = T[b + (a << 2) + 5];
+        b = from[246]; to[236] = T[a + (b << 2) + 5];
+        a = from[610]; to[237] = T[b + (a << 2) + 5];
+        b = from[245]; to[238] = T[a + (b << 2) + 5];
+        a = from[609]; to[239] = T[b + (a << 2) + 5];
+        b = from[244]; to[240] = T[a + (b << 2) + 5];
+        a = from[608]; to[241] = T[b + (a << 2) + 5];
+        b = from[243]; to[242] = T[a + (b << 2) + 5];
+    }
+
+    private static void hashRound1(final int[] from, final int[] to) {
+        int a = from[243], b;
+        b = from[607]; to[243] = T[a + (b << 2) + 5];
+        a = from[242]; to[244] = T[b + (a << 2) + 5];
+        b = from[606]; to[245] = T[a + (b << 2) + 5];
+        a = from[241]; to[246] = T[b + (a << 2) + 5];
+        b = from[605]; to[247] = T[a + (b << 2) + 5];
+        a = from[240]; to[248] = T[b + (a << 2) + 5];
+        b = from[604]; to[249] = T[a + (b << 2) + 5];
+        a = from[239]; to[250] = T[b + (a << 2) + 5];
+        b = from[603]; to[251] = T[a + (b << 2) + 5];
+        a = from[238]; to[252] = T[b + (a << 2) + 5];
+        b = from[602]; to[253] = T[a + (b << 2) + 5];
+        a = from[237]; to[254] = T[b + (a << 2) + 5];
+        b = from[601]; to[255] = T[a + (b << 2) + 5];
+        a = from[236]; to[256] = T[b + (a << 2) + 5];
+        b = from[600]; to[257] = T[a + (b << 2) + 5];
+        a = from[235]; to[258] = T[b + (a << 2) + 5];
+        b = from[599]; to[259] = T[a + (b << 2) + 5];
+        a = from[234]; to[260] = T[b + (a << 2) + 5];
+        b = from[598]; to[261] = T[a + (b << 2) + 5];
+        a = from[233]; to[262] = T[b + (a << 2) + 5];
+        b = from[597]; to[263] = T[a + (b << 2) + 5];
+        a = from[232]; to[264] = T[b + (a << 2) + 5];
+        b = from[596]; to[265] = T[a + (b << 2) + 5];
+        a = from[231]; to[266] = T[b + (a << 2) + 5];
+        b = from[595]; to[267] = T[a + (b << 2) + 5];
+        a = from[230]; to[268] = T[b + (a << 2) + 5];
+        b = from[594]; to[269] = T[a + (b << 2) + 5];
+        a = from[229]; to[270] = T[b + (a << 2) + 5];
+        b = from[593]; to[271] = T[a + (b << 2) + 5];
+        a = from[228]; to[272] = T[b + (a << 2) + 5];
+        b = from[592]; to[273] = T[a + (b << 2) + 5];
+        a = from[227]; to[274] = T[b + (a << 2) + 5];
+        b = from[591]; to[275] = T[a + (b << 2) + 5];
+        a = from[226]; to[276] = T[b + (a << 2) + 5];
+        b = from[590]; to[277] = T[a + (b << 2) + 5];
+        a = from[225]; to[278] = T[b + (a << 2) + 5];
+        b = from[589]; to[279] = T[a + (b << 2) + 5];
+        a = from[224]; to[280] = T[b + (a << 2) + 5];
+        b = from[588]; to[281] = T[a + (b << 2) + 5];
+        a = from[223]; to[282] = T[b + (a << 2) + 5];
+        b = from[587]; to[283] = T[a + (b << 2) + 5];
+        a = from[222]; to[284] = T[b + (a << 2) + 5];
+        b = from[586]; to[285] = T[a + (b << 2) + 5];
+        a = from[221]; to[286] = T[b + (a << 2) + 5];
+        b = from[585]; to[287] = T[a + (b << 2) + 5];
+        a = from[220]; to[288] = T[b + (a << 2) + 5];
+        b = from[584]; to[289] = T[a + (b << 2) + 5];
+        a = from[219]; to[290] = T[b + (a << 2) + 5];
+        b = from[583]; to[291] = T[a + (b << 2) + 5];
+        a = from[218]; to[292] = T[b + (a << 2) + 5];
+        b = from[582]; to[293] = T[a + (b << 2) + 5];
+        a = from[217]; to[294] = T[b + (a << 2) + 5];
+        b = from[581]; to[295] = T[a + (b << 2) + 5];
+        a = from[216]; to[296] = T[b + (a << 2) + 5];
+        b = from[580]; to[297] = T[a + (b << 2) + 5];
+        a = from[215]; to[298] = T[b + (a << 2) + 5];
+        b = from[579]; to[299] = T[a + (b << 2) + 5];
+        a = from[214]; to[300] = T[b + (a << 2) + 5];
+        b = from[578]; to[301] = T[a + (b << 2) + 5];
+        a = from[213]; to[302] = T[b + (a << 2) + 5];
+        b = from[577]; to[303] = T[a + (b << 2) + 5];
+        a = from[212]; to[304] = T[b + (a << 2) + 5];
+        b = from[576]; to[305] = T[a + (b << 2) + 5];
+        a = from[211]; to[306] = T[b + (a << 2) + 5];
+        b = from[575]; to[307] = T[a + (b << 2) + 5];
+        a = from[210]; to[308] = T[b + (a << 2) + 5];
+        b = from[574]; to[309] = T[a + (b << 2) + 5];
+        a = from[209]; to[310] = T[b + (a << 2) + 5];
+        b = from[573]; to[311] = T[a + (b << 2) + 5];
+        a = from[208]; to[312] = T[b + (a << 2) + 5];
+        b = from[572]; to[313] = T[a + (b << 2) + 5];
+        a = from[207]; to[314] = T[b + (a << 2) + 5];
+        b = from[571]; to[315] = T[a + (b << 2) + 5];
+        a = from[206]; to[316] = T[b + (a << 2) + 5];
+        b = from[570]; to[317] = T[a + (b << 2) + 5];
+        a = from[205]; to[318] = T[b + (a << 2) + 5];
+        b = from[569]; to[319] = T[a + (b << 2) + 5];
+        a = from[204]; to[320] = T[b + (a << 2) + 5];
+        b = from[568]; to[321] = T[a + (b << 2) + 5];
+        a = from[203]; to[322] = T[b + (a << 2) + 5];
+        b = from[567]; to[323] = T[a + (b << 2) + 5];
+        a = from[202]; to[324] = T[b + (a << 2) + 5];
+        b = from[566]; to[325] = T[a + (b << 2) + 5];
+        a = from[201]; to[326] = T[b + (a << 2) + 5];
+        b = from[565]; to[327] = T[a + (b << 2) + 5];
+        a = from[200]; to[328] = T[b + (a << 2) + 5];
+        b = from[564]; to[329] = T[a + (b << 2) + 5];
+        a = from[199]; to[330] = T[b + (a << 2) + 5];
+        b = from[563]; to[331] = T[a + (b << 2) + 5];
+        a = from[198]; to[332] = T[b + (a << 2) + 5];
+        b = from[562]; to[333] = T[a + (b << 2) + 5];
+        a = from[197]; to[334] = T[b + (a << 2) + 5];
+        b = from[561]; to[335] = T[a + (b << 2) + 5];
+        a = from[196]; to[336] = T[b + (a << 2) + 5];
+        b = from[560]; to[337] = T[a + (b << 2) + 5];
+        a = from[195]; to[338] = T[b + (a << 2) + 5];
+        b = from[559]; to[339] = T[a + (b << 2) + 5];
+        a = from[194]; to[340] = T[b + (a << 2) + 5];
+        b = from[558]; to[341] = T[a + (b << 2) + 5];
+        a = from[193]; to[342] = T[b + (a << 2) + 5];
+        b = from[557]; to[343] = T[a + (b << 2) + 5];
+        a = from[192]; to[344] = T[b + (a << 2) + 5];
+        b = from[556]; to[345] = T[a + (b << 2) + 5];
+        a = from[191]; to[346] = T[b + (a << 2) + 5];
+        b = from[555]; to[347] = T[a + (b << 2) + 5];
+        a = from[190]; to[348] = T[b + (a << 2) + 5];
+        b = from[554]; to[349] = T[a + (b << 2) + 5];
+        a = from[189]; to[350] = T[b + (a << 2) + 5];
+        b = from[553]; to[351] = T[a + (b << 2) + 5];
+        a = from[188]; to[352] = T[b + (a << 2) + 5];
+        b = from[552]; to[353] = T[a + (b << 2) + 5];
+        a = from[187]; to[354] = T[b + (a << 2) + 5];
+        b = from[551]; to[355] = T[a + (b << 2) + 5];
+        a = from[186]; to[356] = T[b + (a << 2) + 5];
+        b = from[550]; to[357] = T[a + (b << 2) + 5];
+        a = from[185]; to[358] = T[b + (a << 2) + 5];
+        b = from[549]; to[359] = T[a + (b << 2) + 5];
+        a = from[184]; to[360] = T[b + (a << 2) + 5];
+        b = from[548]; to[361] = T[a + (b << 2) + 5];
+        a = from[183]; to[362] = T[b + (a << 2) + 5];
+        b = from[547]; to[363] = T[a + (b << 2) + 5];
+        a = from[182]; to[364] = T[b + (a << 2) + 5];
+        b = from[546]; to[365] = T[a + (b << 2) + 5];
+        a = from[181]; to[366] = T[b + (a << 2) + 5];
+        b = from[545]; to[367] = T[a + (b << 2) + 5];
+        a = from[180]; to[368] = T[b + (a << 2) + 5];
+        b = from[544]; to[369] = T[a + (b << 2) + 5];
+        a = from[179]; to[370] = T[b + (a << 2) + 5];
+        b = from[543]; to[371] = T[a + (b << 2) + 5];
+        a = from[178]; to[372] = T[b + (a << 2) + 5];
+        b = from[542]; to[373] = T[a + (b << 2) + 5];
+        a = from[177]; to[374] = T[b + (a << 2) + 5];
+        b = from[541]; to[375] = T[a + (b << 2) + 5];
+        a = from[176]; to[376] = T[b + (a << 2) + 5];
+        b = from[540]; to[377] = T[a + (b << 2) + 5];
+        a = from[175]; to[378] = T[b + (a << 2) + 5];
+        b = from[539]; to[379] = T[a + (b << 2) + 5];
+        a = from[174]; to[380] = T[b + (a << 2) + 5];
+        b = from[538]; to[381] = T[a + (b << 2) + 5];
+        a = from[173]; to[382] = T[b + (a << 2) + 5];
+        b = from[537]; to[383] = T[a + (b << 2) + 5];
+        a = from[172]; to[384] = T[b + (a << 2) + 5];
+        b = from[536]; to[385] = T[a + (b << 2) + 5];
+        a = from[171]; to[386] = T[b + (a << 2) + 5];
+        b = from[535]; to[387] = T[a + (b << 2) + 5];
+        a = from[170]; to[388] = T[b + (a << 2) + 5];
+        b = from[534]; to[389] = T[a + (b << 2) + 5];
+        a = from[169]; to[390] = T[b + (a << 2) + 5];
+        b = from[533]; to[391] = T[a + (b << 2) + 5];
+        a = from[168]; to[392] = T[b + (a << 2) + 5];
+        b = from[532]; to[393] = T[a + (b << 2) + 5];
+        a = from[167]; to[394] = T[b + (a << 2) + 5];
+        b = from[531]; to[395] = T[a + (b << 2) + 5];
+        a = from[166]; to[396] = T[b + (a << 2) + 5];
+        b = from[530]; to[397] = T[a + (b << 2) + 5];
+        a = from[165]; to[398] = T[b + (a << 2) + 5];
+        b = from[529]; to[399] = T[a + (b << 2) + 5];
+        a = from[164]; to[400] = T[b + (a << 2) + 5];
+        b = from[528]; to[401] = T[a + (b << 2) + 5];
+        a = from[163]; to[402] = T[b + (a << 2) + 5];
+        b = from[527]; to[403] = T[a + (b << 2) + 5];
+        a = from[162]; to[404] = T[b + (a << 2) + 5];
+        b = from[526]; to[405] = T[a + (b << 2) + 5];
+        a = from[161]; to[406] = T[b + (a << 2) + 5];
+        b = from[525]; to[407] = T[a + (b << 2) + 5];
+        a = from[160]; to[408] = T[b + (a << 2) + 5];
+        b = from[524]; to[409] = T[a + (b << 2) + 5];
+        a = from[159]; to[410] = T[b + (a << 2) + 5];
+        b = from[523]; to[411] = T[a + (b << 2) + 5];
+        a = from[158]; to[412] = T[b + (a << 2) + 5];
+        b = from[522]; to[413] = T[a + (b << 2) + 5];
+        a = from[157]; to[414] = T[b + (a << 2) + 5];
+        b = from[521]; to[415] = T[a + (b << 2) + 5];
+        a = from[156]; to[416] = T[b + (a << 2) + 5];
+        b = from[520]; to[417] = T[a + (b << 2) + 5];
+        a = from[155]; to[418] = T[b + (a << 2) + 5];
+        b = from[519]; to[419] = T[a + (b << 2) + 5];
+        a = from[154]; to[420] = T[b + (a << 2) + 5];
+        b = from[518]; to[421] = T[a + (b << 2) + 5];
+        a = from[153]; to[422] = T[b + (a << 2) + 5];
+        b = from[517]; to[423] = T[a + (b << 2) + 5];
+        a = from[152]; to[424] = T[b + (a << 2) + 5];
+        b = from[516]; to[425] = T[a + (b << 2) + 5];
+        a = from[151]; to[426] = T[b + (a << 2) + 5];
+        b = from[515]; to[427] = T[a + (b << 2) + 5];
+        a = from[150]; to[428] = T[b + (a << 2) + 5];
+        b = from[514]; to[429] = T[a + (b << 2) + 5];
+        a = from[149]; to[430] = T[b + (a << 2) + 5];
+        b = from[513]; to[431] = T[a + (b << 2) + 5];
+        a = from[148]; to[432] = T[b + (a << 2) + 5];
+        b = from[512]; to[433] = T[a + (b << 2) + 5];
+        a = from[147]; to[434] = T[b + (a << 2) + 5];
+        b = from[511]; to[435] = T[a + (b << 2) + 5];
+        a = from[146]; to[436] = T[b + (a << 2) + 5];
+        b = from[510]; to[437] = T[a + (b << 2) + 5];
+        a = from[145]; to[438] = T[b + (a << 2) + 5];
+        b = from[509]; to[439] = T[a + (b << 2) + 5];
+        a = from[144]; to[440] = T[b + (a << 2) + 5];
+        b = from[508]; to[441] = T[a + (b << 2) + 5];
+        a = from[143]; to[442] = T[b + (a << 2) + 5];
+        b = from[507]; to[443] = T[a + (b << 2) + 5];
+        a = from[142]; to[444] = T[b + (a << 2) + 5];
+        b = from[506]; to[445] = T[a + (b << 2) + 5];
+        a = from[141]; to[446] = T[b + (a << 2) + 5];
+        b = from[505]; to[447] = T[a + (b << 2) + 5];
+        a = from[140]; to[448] = T[b + (a << 2) + 5];
+        b = from[504]; to[449] = T[a + (b << 2) + 5];
+        a = from[139]; to[450] = T[b + (a << 2) + 5];
+        b = from[503]; to[451] = T[a + (b << 2) + 5];
+        a = from[138]; to[452] = T[b + (a << 2) + 5];
+        b = from[502]; to[453] = T[a + (b << 2) + 5];
+        a = from[137]; to[454] = T[b + (a << 2) + 5];
+        b = from[501]; to[455] = T[a + (b << 2) + 5];
+        a = from[136]; to[456] = T[b + (a << 2) + 5];
+        b = from[500]; to[457] = T[a + (b << 2) + 5];
+        a = from[135]; to[458] = T[b + (a << 2) + 5];
+        b = from[499]; to[459] = T[a + (b << 2) + 5];
+        a = from[134]; to[460] = T[b + (a << 2) + 5];
+        b = from[498]; to[461] = T[a + (b << 2) + 5];
+        a = from[133]; to[462] = T[b + (a << 2) + 5];
+        b = from[497]; to[463] = T[a + (b << 2) + 5];
+        a = from[132]; to[464] = T[b + (a << 2) + 5];
+        b = from[496]; to[465] = T[a + (b << 2) + 5];
+        a = from[131]; to[466] = T[b + (a << 2) + 5];
+        b = from[495]; to[467] = T[a + (b << 2) + 5];
+        a = from[130]; to[468] = T[b + (a << 2) + 5];
+        b = from[494]; to[469] = T[a + (b << 2) + 5];
+        a = from[129]; to[470] = T[b + (a << 2) + 5];
+        b = from[493]; to[471] = T[a + (b << 2) + 5];
+        a = from[128]; to[472] = T[b + (a << 2) + 5];
+        b = from[492]; to[473] = T[a + (b << 2) + 5];
+        a = from[127]; to[474] = T[b + (a << 2) + 5];
+        b = from[491]; to[475] = T[a + (b << 2) + 5];
+        a = from[126]; to[476] = T[b + (a << 2) + 5];
+        b = from[490]; to[477] = T[a + (b << 2) + 5];
+        a = from[125]; to[478] = T[b + (a << 2) + 5];
+        b = from[489]; to[479] = T[a + (b << 2) + 5];
+        a = from[124]; to[480] = T[b + (a << 2) + 5];
+        b = from[488]; to[481] = T[a + (b << 2) + 5];
+        a = from[123]; to[482] = T[b + (a << 2) + 5];
+        b = from[487]; to[483] = T[a + (b << 2) + 5];
+        a = from[122]; to[484] = T[b + (a << 2) + 5];
+        b = from[486]; to[485] = T[a + (b << 2) + 5];
+    }
+
+    private static void hashRound2(final int[] from, final int[] to) {
+        int a = from[486], b;
+        b = from[121]; to[486] = T[a + (b << 2) + 5];
+        a = from[485]; to[487] = T[b + (a << 2) + 5];
+        b = from[120]; to[488] = T[a + (b << 2) + 5];
+        a = from[484]; to[489] = T[b + (a << 2) + 5];
+        b = from[119]; to[490] = T[a + (b << 2) + 5];
+        a = from[483]; to[491] = T[b + (a << 2) + 5];
+        b = from[118]; to[492] = T[a + (b << 2) + 5];
+        a = from[482]; to[493] = T[b + (a << 2) + 5];
+        b = from[117]; to[494] = T[a + (b << 2) + 5];
+        a = from[481]; to[495] = T[b + (a << 2) + 5];
+        b = from[116]; to[496] = T[a + (b << 2) + 5];
+        a = from[480]; to[497] = T[b + (a << 2) + 5];
+        b = from[115]; to[498] = T[a + (b << 2) + 5];
+        a = from[479]; to[499] = T[b + (a << 2) + 5];
+        b = from[114]; to[500] = T[a + (b << 2) + 5];
+        a = from[478]; to[501] = T[b + (a << 2) + 5];
+        b = from[113]; to[502] = T[a + (b << 2) + 5];
+        a = from[477]; to[503] = T[b + (a << 2) + 5];
+        b = from[112]; to[504] = T[a + (b << 2) + 5];
+        a = from[476]; to[505] = T[b + (a << 2) + 5];
+        b = from[111]; to[506] = T[a + (b << 2) + 5];
+        a = from[475]; to[507] = T[b + (a << 2) + 5];
+        b = from[110]; to[508] = T[a + (b << 2) + 5];
+        a = from[474]; to[509] = T[b + (a << 2) + 5];
+        b = from[109]; to[510] = T[a + (b << 2) + 5];
+        a = from[473]; to[511] = T[b + (a << 2) + 5];
+        b = from[108]; to[512] = T[a + (b << 2) + 5];
+        a = from[472]; to[513] = T[b + (a << 2) + 5];
+        b = from[107]; to[514] = T[a + (b << 2) + 5];
+        a = from[471]; to[515] = T[b + (a << 2) + 5];
+        b = from[106]; to[516] = T[a + (b << 2) + 5];
+        a = from[470]; to[517] = T[b + (a << 2) + 5];
+        b = from[105]; to[518] = T[a + (b << 2) + 5];
+        a = from[469]; to[519] = T[b + (a << 2) + 5];
+        b = from[104]; to[520] = T[a + (b << 2) + 5];
+        a = from[468]; to[521] = T[b + (a << 2) + 5];
+        b = from[103]; to[522] = T[a + (b << 2) + 5];
+        a = from[467]; to[523] = T[b + (a << 2) + 5];
+        b = from[102]; to[524] = T[a + (b << 2) + 5];
+        a = from[466]; to[525] = T[b + (a << 2) + 5];
+        b = from[101]; to[526] = T[a + (b << 2) + 5];
+        a = from[465]; to[527] = T[b + (a << 2) + 5];
+        b = from[100]; to[528] = T[a + (b << 2) + 5];
+        a = from[464]; to[529] = T[b + (a << 2) + 5];
+        b = from[99]; to[530] = T[a + (b << 2) + 5];
+        a = from[463]; to[531] = T[b + (a << 2) + 5];
+        b = from[98]; to[532] = T[a + (b << 2) + 5];
+        a = from[462]; to[533] = T[b + (a << 2) + 5];
+        b = from[97]; to[534] = T[a + (b << 2) + 5];
+        a = from[461]; to[535] = T[b + (a << 2) + 5];
+        b = from[96]; to[536] = T[a + (b << 2) + 5];
+        a = from[460]; to[537] = T[b + (a << 2) + 5];
+        b = from[95]; to[538] = T[a + (b << 2) + 5];
+        a = from[459]; to[539] = T[b + (a << 2) + 5];
+        b = from[94]; to[540] = T[a + (b << 2) + 5];
+        a = from[458]; to[541] = T[b + (a << 2) + 5];
+        b = from[93]; to[542] = T[a + (b << 2) + 5];
+        a = from[457]; to[543] = T[b + (a << 2) + 5];
+        b = from[92]; to[544] = T[a + (b << 2) + 5];
+        a = from[456]; to[545] = T[b + (a << 2) + 5];
+        b = from[91]; to[546] = T[a + (b << 2) + 5];
+        a = from[455]; to[547] = T[b + (a << 2) + 5];
+        b = from[90]; to[548] = T[a + (b << 2) + 5];
+        a = from[454]; to[549] = T[b + (a << 2) + 5];
+        b = from[89]; to[550] = T[a + (b << 2) + 5];
+        a = from[453]; to[551] = T[b + (a << 2) + 5];
+        b = from[88]; to[552] = T[a + (b << 2) + 5];
+        a = from[452]; to[553] = T[b + (a << 2) + 5];
+        b = from[87]; to[554] = T[a + (b << 2) + 5];
+        a = from[451]; to[555] = T[b + (a << 2) + 5];
+        b = from[86]; to[556] = T[a + (b << 2) + 5];
+        a = from[450]; to[557] = T[b + (a << 2) + 5];
+        b = from[85]; to[558] = T[a + (b << 2) + 5];
+        a = from[449]; to[559] = T[b + (a << 2) + 5];
+        b = from[84]; to[560] = T[a + (b << 2) + 5];
+        a = from[448]; to[561] = T[b + (a << 2) + 5];
+        b = from[83]; to[562] = T[a + (b << 2) + 5];
+        a = from[447]; to[563] = T[b + (a << 2) + 5];
+        b = from[82]; to[564] = T[a + (b << 2) + 5];
+        a = from[446]; to[565] = T[b + (a << 2) + 5];
+        b = from[81]; to[566] = T[a + (b << 2) + 5];
+        a = from[445]; to[567] = T[b + (a << 2) + 5];
+        b = from[80]; to[568] = T[a + (b << 2) + 5];
+        a = from[444]; to[569] = T[b + (a << 2) + 5];
+        b = from[79]; to[570] = T[a + (b << 2) + 5];
+        a = from[443]; to[571] = T[b + (a << 2) + 5];
+        b = from[78]; to[572] = T[a + (b << 2) + 5];
+        a = from[442]; to[573] = T[b + (a << 2) + 5];
+        b = from[77]; to[574] = T[a + (b << 2) + 5];
+        a = from[441]; to[575] = T[b + (a << 2) + 5];
+        b = from[76]; to[576] = T[a + (b << 2) + 5];
+        a = from[440]; to[577] = T[b + (a << 2) + 5];
+        b = from[75]; to[578] = T[a + (b << 2) + 5];
+        a = from[439]; to[579] = T[b + (a << 2) + 5];
+        b = from[74]; to[580] = T[a + (b << 2) + 5];
+        a = from[438]; to[581] = T[b + (a << 2) + 5];
+        b = from[73]; to[582] = T[a + (b << 2) + 5];
+        a = from[437]; to[583] = T[b + (a << 2) + 5];
+        b = from[72]; to[584] = T[a + (b << 2) + 5];
+        a = from[436]; to[585] = T[b + (a << 2) + 5];
+        b = from[71]; to[586] = T[a + (b << 2) + 5];
+        a = from[435]; to[587] = T[b + (a << 2) + 5];
+        b = from[70]; to[588] = T[a + (b << 2) + 5];
+        a = from[434]; to[589] = T[b + (a << 2) + 5];
+        b = from[69]; to[590] = T[a + (b << 2) + 5];
+        a = from[433]; to[591] = T[b + (a << 2) + 5];
+        b = from[68]; to[592] = T[a + (b << 2) + 5];
+        a = from[432]; to[593] = T[b + (a << 2) + 5];
+        b = from[67]; to[594] = T[a + (b << 2) + 5];
+        a = from[431]; to[595] = T[b + (a << 2) + 5];
+        b = from[66]; to[596] = T[a + (b << 2) + 5];
+        a = from[430]; to[597] = T[b + (a << 2) + 5];
+        b = from[65]; to[598] = T[a + (b << 2) + 5];
+        a = from[429]; to[599] = T[b + (a << 2) + 5];
+        b = from[64]; to[600] = T[a + (b << 2) + 5];
+        a = from[428]; to[601] = T[b + (a << 2) + 5];
+        b = from[63]; to[602] = T[a + (b << 2) + 5];
+        a = from[427]; to[603] = T[b + (a << 2) + 5];
+        b = from[62]; to[604] = T[a + (b << 2) + 5];
+        a = from[426]; to[605] = T[b + (a << 2) + 5];
+        b = from[61]; to[606] = T[a + (b << 2) + 5];
+        a = from[425]; to[607] = T[b + (a << 2) + 5];
+        b = from[60]; to[608] = T[a + (b << 2) + 5];
+        a = from[424]; to[609] = T[b + (a << 2) + 5];
+        b = from[59]; to[610] = T[a + (b << 2) + 5];
+        a = from[423]; to[611] = T[b + (a << 2) + 5];
+        b = from[58]; to[612] = T[a + (b << 2) + 5];
+        a = from[422]; to[613] = T[b + (a << 2) + 5];
+        b = from[57]; to[614] = T[a + (b << 2) + 5];
+        a = from[421]; to[615] = T[b + (a << 2) + 5];
+        b = from[56]; to[616] = T[a + (b << 2) + 5];
+        a = from[420]; to[617] = T[b + (a << 2) + 5];
+        b = from[55]; to[618] = T[a + (b << 2) + 5];
+        a = from[419]; to[619] = T[b + (a << 2) + 5];
+        b = from[54]; to[620] = T[a + (b << 2) + 5];
+        a = from[418]; to[621] = T[b + (a << 2) + 5];
+        b = from[53]; to[622] = T[a + (b << 2) + 5];
+        a = from[417]; to[623] = T[b + (a << 2) + 5];
+        b = from[52]; to[624] = T[a + (b << 2) + 5];
+        a = from[416]; to[625] = T[b + (a << 2) + 5];
+        b = from[51]; to[626] = T[a + (b << 2) + 5];
+        a = from[415]; to[627] = T[b + (a << 2) + 5];
+        b = from[50]; to[628] = T[a + (b << 2) + 5];
+        a = from[414]; to[629] = T[b + (a << 2) + 5];
+        b = from[49]; to[630] = T[a + (b << 2) + 5];
+        a = from[413]; to[631] = T[b + (a << 2) + 5];
+        b = from[48]; to[632] = T[a + (b << 2) + 5];
+        a = from[412]; to[633] = T[b + (a << 2) + 5];
+        b = from[47]; to[634] = T[a + (b << 2) + 5];
+        a = from[411]; to[635] = T[b + (a << 2) + 5];
+        b = from[46]; to[636] = T[a + (b << 2) + 5];
+        a = from[410]; to[637] = T[b + (a << 2) + 5];
+        b = from[45]; to[638] = T[a + (b << 2) + 5];
+        a = from[409]; to[639] = T[b + (a << 2) + 5];
+        b = from[44]; to[640] = T[a + (b << 2) + 5];
+        a = from[408]; to[641] = T[b + (a << 2) + 5];
+        b = from[43]; to[642] = T[a + (b << 2) + 5];
+        a = from[407]; to[643] = T[b + (a << 2) + 5];
+        b = from[42]; to[644] = T[a + (b << 2) + 5];
+        a = from[406]; to[645] = T[b + (a << 2) + 5];
+        b = from[41]; to[646] = T[a + (b << 2) + 5];
+        a = from[405]; to[647] = T[b + (a << 2) + 5];
+        b = from[40]; to[648] = T[a + (b << 2) + 5];
+        a = from[404]; to[649] = T[b + (a << 2) + 5];
+        b = from[39]; to[650] = T[a + (b << 2) + 5];
+        a = from[403]; to[651] = T[b + (a << 2) + 5];
+        b = from[38]; to[652] = T[a + (b << 2) + 5];
+        a = from[402]; to[653] = T[b + (a << 2) + 5];
+        b = from[37]; to[654] = T[a + (b << 2) + 5];
+        a = from[401]; to[655] = T[b + (a << 2) + 5];
+        b = from[36]; to[656] = T[a + (b << 2) + 5];
+        a = from[400]; to[657] = T[b + (a << 2) + 5];
+        b = from[35]; to[658] = T[a + (b << 2) + 5];
+        a = from[399]; to[659] = T[b + (a << 2) + 5];
+        b = from[34]; to[660] = T[a + (b << 2) + 5];
+        a = from[398]; to[661] = T[b + (a << 2) + 5];
+        b = from[33]; to[662] = T[a + (b << 2) + 5];
+        a = from[397]; to[663] = T[b + (a << 2) + 5];
+        b = from[32]; to[664] = T[a + (b << 2) + 5];
+        a = from[396]; to[665] = T[b + (a << 2) + 5];
+        b = from[31]; to[666] = T[a + (b << 2) + 5];
+        a = from[395]; to[667] = T[b + (a << 2) + 5];
+        b = from[30]; to[668] = T[a + (b << 2) + 5];
+        a = from[394]; to[669] = T[b + (a << 2) + 5];
+        b = from[29]; to[670] = T[a + (b << 2) + 5];
+        a = from[393]; to[671] = T[b + (a << 2) + 5];
+        b = from[28]; to[672] = T[a + (b << 2) + 5];
+        a = from[392]; to[673] = T[b + (a << 2) + 5];
+        b = from[27]; to[674] = T[a + (b << 2) + 5];
+        a = from[391]; to[675] = T[b + (a << 2) + 5];
+        b = from[26]; to[676] = T[a + (b << 2) + 5];
+        a = from[390]; to[677] = T[b + (a << 2) + 5];
+        b = from[25]; to[678] = T[a + (b << 2) + 5];
+        a = from[389]; to[679] = T[b + (a << 2) + 5];
+        b = from[24]; to[680] = T[a + (b << 2) + 5];
+        a = from[388]; to[681] = T[b + (a << 2) + 5];
+        b = from[23]; to[682] = T[a + (b << 2) + 5];
+        a = from[387]; to[683] = T[b + (a << 2) + 5];
+        b = from[22]; to[684] = T[a + (b << 2) + 5];
+        a = from[386]; to[685] = T[b + (a << 2) + 5];
+        b = from[21]; to[686] = T[a + (b << 2) + 5];
+        a = from[385]; to[687] = T[b + (a << 2) + 5];
+        b = from[20]; to[688] = T[a + (b << 2) + 5];
+        a = from[384]; to[689] = T[b + (a << 2) + 5];
+        b = from[19]; to[690] = T[a + (b << 2) + 5];
+        a = from[383]; to[691] = T[b + (a << 2) + 5];
+        b = from[18]; to[692] = T[a + (b << 2) + 5];
+        a = from[382]; to[693] = T[b + (a << 2) + 5];
+        b = from[17]; to[694] = T[a + (b << 2) + 5];
+        a = from[381]; to[695] = T[b + (a << 2) + 5];
+        b = from[16]; to[696] = T[a + (b << 2) + 5];
+        a = from[380]; to[697] = T[b + (a << 2) + 5];
+        b = from[15]; to[698] = T[a + (b << 2) + 5];
+        a = from[379]; to[699] = T[b + (a << 2) + 5];
+        b = from[14]; to[700] = T[a + (b << 2) + 5];
+        a = from[378]; to[701] = T[b + (a << 2) + 5];
+        b = from[13]; to[702] = T[a + (b << 2) + 5];
+        a = from[377]; to[703] = T[b + (a << 2) + 5];
+        b = from[12]; to[704] = T[a + (b << 2) + 5];
+        a = from[376]; to[705] = T[b + (a << 2) + 5];
+        b = from[11]; to[706] = T[a + (b << 2) + 5];
+        a = from[375]; to[707] = T[b + (a << 2) + 5];
+        b = from[10]; to[708] = T[a + (b << 2) + 5];
+        a = from[374]; to[709] = T[b + (a << 2) + 5];
+        b = from[9]; to[710] = T[a + (b << 2) + 5];
+        a = from[373]; to[711] = T[b + (a << 2) + 5];
+        b = from[8]; to[712] = T[a + (b << 2) + 5];
+        a = from[372]; to[713] = T[b + (a << 2) + 5];
+        b = from[7]; to[714] = T[a + (b << 2) + 5];
+        a = from[371]; to[715] = T[b + (a << 2) + 5];
+        b = from[6]; to[716] = T[a + (b << 2) + 5];
+        a = from[370]; to[717] = T[b + (a << 2) + 5];
+        b = from[5]; to[718] = T[a + (b << 2) + 5];
+        a = from[369]; to[719] = T[b + (a << 2) + 5];
+        b = from[4]; to[720] = T[a + (b << 2) + 5];
+        a = from[368]; to[721] = T[b + (a << 2) + 5];
+        b = from[3]; to[722] = T[a + (b << 2) + 5];
+        a = from[367]; to[723] = T[b + (a << 2) + 5];
+        b = from[2]; to[724] = T[a + (b << 2) + 5];
+        a = from[366]; to[725] = T[b + (a << 2) + 5];
+        b = from[1]; to[726] = T[a + (b << 2) + 5];
+        a = from[365]; to[727] = T[b + (a << 2) + 5];
+        b = from[0]; to[728] = T[a + (b << 2) + 5];
+    }
+}
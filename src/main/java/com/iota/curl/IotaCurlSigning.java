@@ -0,0 +1,532 @@
+package com.iota.curl;
+
+import java.util.Arrays;
+
+/**
+ * Winternitz one-time signatures on Curl: subseeds, keys, addresses, signatures
+ * and the addresses signatures resolve to. All the values are trits (-1, 0, 1).
+ *
+ * A key is made of security fragments of FRAGMENT_CHUNKS chunks of 243 trits.
+ * Its address hashes every chunk 26 times, signing hashes it 13 - n times and
+ * verifying n + 13 times, n the tryte of the normalized bundle hash matching the
+ * chunk. These hash chains are independent of each other, so the batch methods
+ * run 64 of them at once, one per lane of the IotaCurlMiner64 transform: the
+ * keys of 64 seeds or indices side by side for keys() and addresses(), the
+ * chunks of a signature for signature() and signatureAddress().
+ *
+ * A chain step transforms a chunk followed by 0s and keeps the first 243 trits,
+ * so the cells 1 to 243 of its first round, which only read the 0s, are the same
+ * on every step, and its last rounds are pruned as for a minWeightMagnitude of 243,
+ * see IotaCurlMiner.pruningCone.
+ *
+ * subseed(), key(), digests(), address(), signatureFragment() and digest() hash
+ * one chain at a time with IotaCurlHash, they are the reference of the batch ones.
+ * Every method is thread safe.
+ */
+public final class IotaCurlSigning {
+
+    // The chunks of 243 trits of a key fragment.
+    public static final int FRAGMENT_CHUNKS = 27;
+
+    // The length of a key fragment, and of a signature fragment, in trits.
+    public static final int FRAGMENT_LENGTH = FRAGMENT_CHUNKS * IotaCurlMiner.HASH_SIZE;
+
+    // The fragments of the largest key, one per third of the bundle hash.
+    public static final int MAX_SECURITY = 3;
+
+    private static final int HASH_SIZE = IotaCurlMiner.HASH_SIZE;
+    private static final int STATE_SIZE = IotaCurlMiner.STATE_SIZE;
+    private static final int LANES = IotaCurlMiner64.PARALLEL64;
+
+    private static final int MIN_TRYTE_VALUE = -13;
+    private static final int MAX_TRYTE_VALUE = 13;
+
+    // The hashes of a chunk from the key to the digest.
+    private static final int CHAIN_LENGTH = MAX_TRYTE_VALUE - MIN_TRYTE_VALUE;
+
+    // The normalized trytes of a third of the bundle hash, one per chunk of a fragment.
+    private static final int NORMALIZED_FRAGMENT_LENGTH = FRAGMENT_CHUNKS;
+
+    // The cells 1 to HASH_SIZE of the first round of a state of 0s, see IotaCurlMiner.firstRound.
+    private static final long[] ZERO_FIRST_ROUND = new long[HASH_SIZE + 1];
+
+    // The cells computed by the last rounds of a chain step.
+    private static final int[][] CHAIN_CONE = IotaCurlMiner.pruningCone(HASH_SIZE);
+
+    static {
+        final long[] zero = new long[STATE_SIZE];
+        Arrays.fill(zero, IotaCurlMiner.MAP[1]);
+        IotaCurlMiner.firstRound(zero, ZERO_FIRST_ROUND);
+    }
+
+    // The buffers of the batch methods, reused by every call of a thread.
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private static final class Scratch {
+        // The chunks of the chains, their HASH_SIZE first cells only.
+        final long[] chainLow = new long[HASH_SIZE];
+        final long[] chainHigh = new long[HASH_SIZE];
+        final int[] counts = new int[LANES];
+        // The state of a chain step.
+        final long[] low = new long[STATE_SIZE];
+        final long[] high = new long[STATE_SIZE];
+        // The sponges of the keys, of the fragment digests and of the addresses.
+        final long[] keyLow = new long[STATE_SIZE];
+        final long[] keyHigh = new long[STATE_SIZE];
+        final long[] digestLow = new long[STATE_SIZE];
+        final long[] digestHigh = new long[STATE_SIZE];
+        final long[] addressLow = new long[STATE_SIZE];
+        final long[] addressHigh = new long[STATE_SIZE];
+        final long[] lowScratch = new long[STATE_SIZE];
+        final long[] highScratch = new long[STATE_SIZE];
+        final int[] trits = new int[HASH_SIZE];
+    }
+
+    private IotaCurlSigning() {
+    }
+
+    /**
+     * @return the subseed of seed at index: the hash of seed plus index.
+     */
+    public static int[] subseed(final int[] seed, final int index) {
+        checkIndex(index);
+        final int[] preimage = seed.clone();
+        IotaCurlUtils.iotaCurlTritsAdd(preimage, preimage.length, index);
+        final int[] subseed = new int[HASH_SIZE];
+        final IotaCurlHash hash = new IotaCurlHash();
+        hash.absorb(preimage, 0, preimage.length);
+        hash.squeeze(subseed, 0, HASH_SIZE);
+        return subseed;
+    }
+
+    /**
+     * @return the key of subseed, security fragments squeezed from it.
+     */
+    public static int[] key(final int[] subseed, final int security) {
+        checkSecurity(security);
+        final int[] key = new int[security * FRAGMENT_LENGTH];
+        final IotaCurlHash hash = new IotaCurlHash();
+        hash.absorb(subseed, 0, subseed.length);
+        hash.squeeze(key, 0, key.length);
+        return key;
+    }
+
+    /**
+     * @return the digest of every fragment of key, each chunk hashed CHAIN_LENGTH times.
+     */
+    public static int[] digests(final int[] key) {
+        checkFragments(key);
+        final int fragments = key.length / FRAGMENT_LENGTH;
+        final int[] digests = new int[fragments * HASH_SIZE];
+        for (int i = 0; i < fragments; i++) {
+            final int[] buffer = Arrays.copyOfRange(key, i * FRAGMENT_LENGTH, (i + 1) * FRAGMENT_LENGTH);
+            final int[] counts = new int[FRAGMENT_CHUNKS];
+            Arrays.fill(counts, CHAIN_LENGTH);
+            hashChunksOneByOne(buffer, counts);
+            final IotaCurlHash hash = new IotaCurlHash();
+            hash.absorb(buffer, 0, buffer.length);
+            hash.squeeze(digests, i * HASH_SIZE, HASH_SIZE);
+        }
+        return digests;
+    }
+
+    /**
+     * @return the address of the key whose fragments hash to digests.
+     */
+    public static int[] address(final int[] digests) {
+        final int[] address = new int[HASH_SIZE];
+        final IotaCurlHash hash = new IotaCurlHash();
+        hash.absorb(digests, 0, digests.length);
+        hash.squeeze(address, 0, HASH_SIZE);
+        return address;
+    }
+
+    /**
+     * Splits bundle in three fragments of 27 trytes (-13 to 13), each moved one
+     * tryte at a time, from the first one, until they sum to 0.
+     *
+     * @return the 81 normalized trytes of bundle, 243 trits.
+     */
+    public static int[] normalizedBundle(final int[] bundle) {
+        if (bundle.length != HASH_SIZE) {
+            throw new IllegalArgumentException("bundle (" + bundle.length + " trits) should be " + HASH_SIZE + " trits long.");
+        }
+        final int[] normalized = new int[HASH_SIZE / 3];
+        for (int i = 0; i < MAX_SECURITY; i++) {
+            final int first = i * NORMALIZED_FRAGMENT_LENGTH;
+            final int last = first + NORMALIZED_FRAGMENT_LENGTH;
+            int sum = 0;
+            for (int j = first; j < last; j++) {
+                normalized[j] = bundle[3 * j] + 3 * bundle[3 * j + 1] + 9 * bundle[3 * j + 2];
+                sum += normalized[j];
+            }
+            for (; sum > 0; sum--) {
+                for (int j = first; j < last; j++) {
+                    if (normalized[j] > MIN_TRYTE_VALUE) {
+                        normalized[j]--;
+                        break;
+                    }
+                }
+            }
+            for (; sum < 0; sum++) {
+                for (int j = first; j < last; j++) {
+                    if (normalized[j] < MAX_TRYTE_VALUE) {
+                        normalized[j]++;
+                        break;
+                    }
+                }
+            }
+        }
+        return normalized;
+    }
+
+    /**
+     * @param normalizedBundleFragment the 27 normalized trytes signed, from offset.
+     * @return keyFragment, every chunk hashed 13 - n times, n its normalized tryte.
+     */
+    public static int[] signatureFragment(final int[] normalizedBundleFragment, final int offset, final int[] keyFragment) {
+        final int[] signatureFragment = Arrays.copyOf(keyFragment, FRAGMENT_LENGTH);
+        final int[] counts = new int[FRAGMENT_CHUNKS];
+        for (int j = 0; j < FRAGMENT_CHUNKS; j++) {
+            counts[j] = MAX_TRYTE_VALUE - normalizedBundleFragment[offset + j];
+        }
+        hashChunksOneByOne(signatureFragment, counts);
+        return signatureFragment;
+    }
+
+    /**
+     * @return the digest of the key fragment signatureFragment was signed with,
+     * every chunk hashed n + 13 more times, n its normalized tryte.
+     */
+    public static int[] digest(final int[] normalizedBundleFragment, final int offset, final int[] signatureFragment) {
+        final int[] buffer = Arrays.copyOf(signatureFragment, FRAGMENT_LENGTH);
+        final int[] counts = new int[FRAGMENT_CHUNKS];
+        for (int j = 0; j < FRAGMENT_CHUNKS; j++) {
+            counts[j] = normalizedBundleFragment[offset + j] - MIN_TRYTE_VALUE;
+        }
+        hashChunksOneByOne(buffer, counts);
+        final int[] digest = new int[HASH_SIZE];
+        final IotaCurlHash hash = new IotaCurlHash();
+        hash.absorb(buffer, 0, buffer.length);
+        hash.squeeze(digest, 0, HASH_SIZE);
+        return digest;
+    }
+
+    // Hashes the chunk j of trits counts[j] times, one chain after the other.
+    private static void hashChunksOneByOne(final int[] trits, final int[] counts) {
+        final IotaCurlHash hash = new IotaCurlHash();
+        for (int j = 0; j < counts.length; j++) {
+            for (int k = 0; k < counts[j]; k++) {
+                hash.reset();
+                hash.absorb(trits, j * HASH_SIZE, HASH_SIZE);
+                hash.squeeze(trits, j * HASH_SIZE, HASH_SIZE);
+            }
+        }
+    }
+
+    /**
+     * @return the keys of seeds[i] at indices[i], as key(subseed(seeds[i], indices[i]), security),
+     * 64 of them squeezed at once.
+     */
+    public static int[][] keys(final int[][] seeds, final int[] indices, final int security) {
+        final int[][] keys = new int[seeds.length][];
+        generate(seeds, indices, security, keys, null);
+        return keys;
+    }
+
+    /**
+     * @return the addresses of seeds[i] at indices[i], as address(digests(key(...))),
+     * 64 of them at once, their chains side by side.
+     */
+    public static int[][] addresses(final int[][] seeds, final int[] indices, final int security) {
+        final int[][] addresses = new int[seeds.length][];
+        generate(seeds, indices, security, null, addresses);
+        return addresses;
+    }
+
+    /**
+     * @param seed 81 trytes.
+     * @return the addresses of seed at the count indices from index, 81 trytes each.
+     */
+    public static String[] addresses(final String seed, final int index, final int count, final int security) {
+        if (seed.length() != IotaCurlHash.IOTACURL_HASH_SZ) {
+            throw new IllegalArgumentException("seed (" + seed.length() + " trytes) should be "
+                    + IotaCurlHash.IOTACURL_HASH_SZ + " trytes long.");
+        }
+        checkIndex(index);
+        if (count < 0 || index + (long) count - 1 > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("count (" + count + ") out of range.");
+        }
+        final int[] trits = new int[HASH_SIZE];
+        IotaCurlUtils.iotaCurlTrytes2Trits(trits, 0, seed.toCharArray(), IotaCurlHash.IOTACURL_HASH_SZ);
+        final int[][] seeds = new int[count][];
+        final int[] indices = new int[count];
+        for (int i = 0; i < count; i++) {
+            seeds[i] = trits;
+            indices[i] = index + i;
+        }
+        final int[][] addresses = addresses(seeds, indices, security);
+        final String[] trytes = new String[count];
+        final char[] chars = new char[IotaCurlHash.IOTACURL_HASH_SZ];
+        for (int i = 0; i < count; i++) {
+            IotaCurlUtils.iotaCurlTrits2Trytes(chars, 0, addresses[i], HASH_SIZE);
+            trytes[i] = new String(chars);
+        }
+        return trytes;
+    }
+
+    /**
+     * Signs bundle with key, its fragment i with the third i % 3 of the normalized bundle,
+     * as signatureFragment() does, the chains of all the fragments side by side.
+     *
+     * @return the signature, as long as key.
+     */
+    public static int[] signature(final int[] bundle, final int[] key) {
+        checkFragments(key);
+        final int[] normalized = normalizedBundle(bundle);
+        final int[] signature = key.clone();
+        final int[] counts = new int[key.length / HASH_SIZE];
+        for (int c = 0; c < counts.length; c++) {
+            counts[c] = MAX_TRYTE_VALUE - normalized[normalizedIndex(c)];
+        }
+        hashChunks(signature, counts);
+        return signature;
+    }
+
+    /**
+     * @return the address of the key signature was made with, if it signs bundle:
+     * as address() of the digest() of every fragment, the chains side by side.
+     */
+    public static int[] signatureAddress(final int[] bundle, final int[] signature) {
+        checkFragments(signature);
+        final int[] normalized = normalizedBundle(bundle);
+        final int[] buffer = signature.clone();
+        final int[] counts = new int[signature.length / HASH_SIZE];
+        for (int c = 0; c < counts.length; c++) {
+            counts[c] = normalized[normalizedIndex(c)] - MIN_TRYTE_VALUE;
+        }
+        hashChunks(buffer, counts);
+
+        // The digests of the fragments, one per lane.
+        final Scratch s = SCRATCH.get();
+        final int fragments = signature.length / FRAGMENT_LENGTH;
+        final int[] digests = new int[fragments * HASH_SIZE];
+        for (int first = 0; first < fragments; first += LANES) {
+            final int lanes = IotaCurlUtils.smin(fragments - first, LANES);
+            zero(s.digestLow, s.digestHigh);
+            for (int j = 0; j < FRAGMENT_CHUNKS; j++) {
+                Arrays.fill(s.chainLow, 0L);
+                Arrays.fill(s.chainHigh, 0L);
+                for (int lane = 0; lane < lanes; lane++) {
+                    toLane(buffer, (first + lane) * FRAGMENT_LENGTH + j * HASH_SIZE, s.chainLow, s.chainHigh, lane);
+                }
+                absorb(s, s.digestLow, s.digestHigh, j == FRAGMENT_CHUNKS - 1);
+            }
+            for (int lane = 0; lane < lanes; lane++) {
+                fromLane(s.digestLow, s.digestHigh, lane, digests, (first + lane) * HASH_SIZE);
+            }
+        }
+        return address(digests);
+    }
+
+    // The normalized tryte of the chunk c of a key, its fragments signing the thirds of the bundle in turn.
+    private static int normalizedIndex(final int c) {
+        return (c / FRAGMENT_CHUNKS) % MAX_SECURITY * NORMALIZED_FRAGMENT_LENGTH + c % FRAGMENT_CHUNKS;
+    }
+
+    /**
+     * Squeezes the keys of up to 64 seeds at once, then, for the addresses, chains
+     * each chunk right away and absorbs it into the digest of its fragment: all the
+     * lanes of every sponge hold the same step of their own key.
+     */
+    private static void generate(final int[][] seeds, final int[] indices, final int security,
+                                 final int[][] keys, final int[][] addresses) {
+        checkSecurity(security);
+        if (seeds.length != indices.length) {
+            throw new IllegalArgumentException("seeds (" + seeds.length + ") and indices (" + indices.length
+                    + ") should have the same length.");
+        }
+        for (int i = 0; i < seeds.length; i++) {
+            if (seeds[i].length != HASH_SIZE) {
+                throw new IllegalArgumentException("seed " + i + " (" + seeds[i].length + " trits) should be "
+                        + HASH_SIZE + " trits long.");
+            }
+            checkIndex(indices[i]);
+        }
+        final Scratch s = SCRATCH.get();
+        final int chunks = security * FRAGMENT_CHUNKS;
+
+        for (int first = 0; first < seeds.length; first += LANES) {
+            final int lanes = IotaCurlUtils.smin(seeds.length - first, LANES);
+
+            // The subseeds: a step of the chains of seed plus index.
+            Arrays.fill(s.chainLow, 0L);
+            Arrays.fill(s.chainHigh, 0L);
+            for (int lane = 0; lane < lanes; lane++) {
+                System.arraycopy(seeds[first + lane], 0, s.trits, 0, HASH_SIZE);
+                IotaCurlUtils.iotaCurlTritsAdd(s.trits, HASH_SIZE, indices[first + lane]);
+                toLane(s.trits, 0, s.chainLow, s.chainHigh, lane);
+            }
+            Arrays.fill(s.counts, 0, lanes, 1);
+            Arrays.fill(s.counts, lanes, LANES, 0);
+            hashChains(s);
+
+            zero(s.keyLow, s.keyHigh);
+            absorb(s, s.keyLow, s.keyHigh, false);
+            if (keys != null) {
+                for (int lane = 0; lane < lanes; lane++) {
+                    keys[first + lane] = new int[chunks * HASH_SIZE];
+                }
+            }
+            zero(s.addressLow, s.addressHigh);
+            Arrays.fill(s.counts, 0, lanes, CHAIN_LENGTH);
+
+            for (int c = 0; c < chunks; c++) {
+                // Squeezes the chunk c of the keys.
+                System.arraycopy(s.keyLow, 0, s.chainLow, 0, HASH_SIZE);
+                System.arraycopy(s.keyHigh, 0, s.chainHigh, 0, HASH_SIZE);
+                if (c < chunks - 1) {
+                    IotaCurlMiner64.doPowTransform(s.keyLow, s.keyHigh, s.lowScratch, s.highScratch);
+                }
+                if (keys != null) {
+                    for (int lane = 0; lane < lanes; lane++) {
+                        fromLane(s.chainLow, s.chainHigh, lane, keys[first + lane], c * HASH_SIZE);
+                    }
+                }
+                if (addresses == null) {
+                    continue;
+                }
+
+                final int j = c % FRAGMENT_CHUNKS;
+                if (j == 0) {
+                    zero(s.digestLow, s.digestHigh);
+                }
+                hashChains(s);
+                absorb(s, s.digestLow, s.digestHigh, j == FRAGMENT_CHUNKS - 1);
+                if (j == FRAGMENT_CHUNKS - 1) {
+                    System.arraycopy(s.digestLow, 0, s.chainLow, 0, HASH_SIZE);
+                    System.arraycopy(s.digestHigh, 0, s.chainHigh, 0, HASH_SIZE);
+                    absorb(s, s.addressLow, s.addressHigh, c == chunks - 1);
+                }
+            }
+            if (addresses != null) {
+                for (int lane = 0; lane < lanes; lane++) {
+                    addresses[first + lane] = new int[HASH_SIZE];
+                    fromLane(s.addressLow, s.addressHigh, lane, addresses[first + lane], 0);
+                }
+            }
+        }
+    }
+
+    /**
+     * Hashes the chunk c of trits counts[c] times, 64 chains at once, the longest ones together.
+     */
+    private static void hashChunks(final int[] trits, final int[] counts) {
+        final Scratch s = SCRATCH.get();
+        final int chunks = counts.length;
+        final long[] order = new long[chunks];
+        for (int c = 0; c < chunks; c++) {
+            order[c] = ((long) counts[c] << 32) | c;
+        }
+        Arrays.sort(order);
+
+        for (int first = 0; first < chunks; first += LANES) {
+            final int lanes = IotaCurlUtils.smin(chunks - first, LANES);
+            Arrays.fill(s.chainLow, 0L);
+            Arrays.fill(s.chainHigh, 0L);
+            for (int lane = 0; lane < lanes; lane++) {
+                final int c = (int) order[chunks - 1 - first - lane];
+                toLane(trits, c * HASH_SIZE, s.chainLow, s.chainHigh, lane);
+                s.counts[lane] = counts[c];
+            }
+            Arrays.fill(s.counts, lanes, LANES, 0);
+            hashChains(s);
+            for (int lane = 0; lane < lanes; lane++) {
+                final int c = (int) order[chunks - 1 - first - lane];
+                fromLane(s.chainLow, s.chainHigh, lane, trits, c * HASH_SIZE);
+            }
+        }
+    }
+
+    /**
+     * Hashes the chunk of every lane of chainLow/chainHigh counts[lane] times,
+     * as IotaCurlHash absorbing then squeezing it would.
+     */
+    private static void hashChains(final Scratch s) {
+        int steps = 0;
+        for (final int count : s.counts) {
+            steps = Math.max(steps, count);
+        }
+        for (int step = 0; step < steps; step++) {
+            long active = 0;
+            for (int lane = 0; lane < LANES; lane++) {
+                active |= (s.counts[lane] > step) ? 1L << lane : 0L;
+            }
+            System.arraycopy(s.chainLow, 0, s.low, 0, HASH_SIZE);
+            System.arraycopy(s.chainHigh, 0, s.high, 0, HASH_SIZE);
+            Arrays.fill(s.low, HASH_SIZE, STATE_SIZE, -1L);
+            Arrays.fill(s.high, HASH_SIZE, STATE_SIZE, 0L);
+            IotaCurlMiner64.doPowTransformFirst(s.low, s.high, s.lowScratch, s.highScratch, ZERO_FIRST_ROUND, CHAIN_CONE);
+            for (int j = 0; j < HASH_SIZE; j++) {
+                s.chainLow[j] = (s.chainLow[j] & ~active) | (s.low[j] & active);
+                s.chainHigh[j] = (s.chainHigh[j] & ~active) | (s.high[j] & active);
+            }
+        }
+    }
+
+    /**
+     * Absorbs the chunks of chainLow/chainHigh into the sponge low/high,
+     * computing only its HASH_SIZE first cells if last.
+     */
+    private static void absorb(final Scratch s, final long[] low, final long[] high, final boolean last) {
+        System.arraycopy(s.chainLow, 0, low, 0, HASH_SIZE);
+        System.arraycopy(s.chainHigh, 0, high, 0, HASH_SIZE);
+        IotaCurlMiner64.doPowTransform(low, high, s.lowScratch, s.highScratch,
+                last ? CHAIN_CONE : IotaCurlMiner.FULL_TRANSFORM);
+    }
+
+    // All the trits of all the lanes to 0.
+    private static void zero(final long[] low, final long[] high) {
+        Arrays.fill(low, -1L);
+        Arrays.fill(high, 0L);
+    }
+
+    // Writes HASH_SIZE trits of trits from offset into the lane of low/high, cleared before.
+    private static void toLane(final int[] trits, final int offset, final long[] low, final long[] high, final int lane) {
+        final long bit = 1L << lane;
+        for (int j = 0; j < HASH_SIZE; j++) {
+            // MAP: -1 is 0b11, 0 is 0b01 and 1 is 0b10.
+            final int trit = trits[offset + j];
+            low[j] |= (trit != 1) ? bit : 0L;
+            high[j] |= (trit != 0) ? bit : 0L;
+        }
+    }
+
+    // Reads the HASH_SIZE first trits of the lane of low/high into trits from offset.
+    private static void fromLane(final long[] low, final long[] high, final int lane, final int[] trits, final int offset) {
+        for (int j = 0; j < HASH_SIZE; j++) {
+            final long l = (low[j] >>> lane) & 1L;
+            final long h = (high[j] >>> lane) & 1L;
+            trits[offset + j] = (h == 0) ? 0 : (l == 0 ? 1 : -1);
+        }
+    }
+
+    private static void checkSecurity(final int security) {
+        if (security < 1 || security > MAX_SECURITY) {
+            throw new IllegalArgumentException("security (" + security + ") should be between 1 and " + MAX_SECURITY + ".");
+        }
+    }
+
+    private static void checkIndex(final int index) {
+        if (index < 0) {
+            throw new IllegalArgumentException("index (" + index + ") should not be negative.");
+        }
+    }
+
+    private static void checkFragments(final int[] trits) {
+        if (trits.length == 0 || trits.length % FRAGMENT_LENGTH != 0) {
+            throw new IllegalArgumentException("key or signature (" + trits.length + " trits) should be made of "
+                    + FRAGMENT_LENGTH + " trit fragments.");
+        }
+    }
+}
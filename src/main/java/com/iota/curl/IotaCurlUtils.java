@@ -2,6 +2,7 @@ package com.iota.curl;
 
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
+import java.util.Random;
 
 /**
  * Utility functions.
@@ -25,6 +26,40 @@ public class IotaCurlUtils {
 
     public static final int[] TRUTH_TABLE = {1, 0, -1, 0, 1, -1, 0, 0, -1, 1, 0};
 
+    public static final char[] TRYTE_ALPHABET = "9ABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+
+    // The trits packed in a byte of the 5-trits-per-byte format, t0 + 3*t1 + 9*t2 + 27*t3 + 81*t4.
+    public static final int TRITS_PER_BYTE = 5;
+
+    // IOTACURL_TRYTE2TRITS_TBL flattened: the trits of the tryte value v are at 3*v, 3*v+1, 3*v+2.
+    static final byte[] TRYTE_TRITS = new byte[3 * 27];
+
+    // The trits of every packed byte: the trit k of the byte b is at 5*(b & 0xFF) + k.
+    static final byte[] PACKED_TRITS = new byte[TRITS_PER_BYTE * 256];
+
+    private static final int[] POW3 = { 1, 3, 9, 27, 81 };
+
+    static {
+        for (int v = 0; v < 27; v++) {
+            for (int k = 0; k < 3; k++) {
+                TRYTE_TRITS[3 * v + k] = (byte) IOTACURL_TRYTE2TRITS_TBL[v][k];
+            }
+        }
+        for (int b = 0; b < 256; b++) {
+            int v = (byte) b;
+            for (int k = 0; k < TRITS_PER_BYTE; k++) {
+                int t = ((v % 3) + 3) % 3; // balanced: 2 is -1 and a carry.
+                t = (t == 2) ? -1 : t;
+                PACKED_TRITS[TRITS_PER_BYTE * b + k] = (byte) t;
+                v = (v - t) / 3;
+            }
+        }
+    }
+
+    private static int tryteValue(final char tryte) {
+        return (tryte == '9') ? 0 : tryte - 'A' + 1;
+    }
+
     /**
      * Convert trytes into trits.
      *
@@ -34,10 +69,22 @@ public class IotaCurlUtils {
      */
     public static void iotaCurlTrytes2Trits(int [] trits, final int offset, final char[] trytes, final int len) {
         for(int i=0; i<len; i++) {
-            final int idx = (trytes[i+offset]=='9' ? 0 : trytes[i+offset]-'A'+1);
-            trits[3*i+0] = IOTACURL_TRYTE2TRITS_TBL[idx][0];
-            trits[3*i+1] = IOTACURL_TRYTE2TRITS_TBL[idx][1];
-            trits[3*i+2] = IOTACURL_TRYTE2TRITS_TBL[idx][2];
+            final int idx = 3*tryteValue(trytes[i+offset]);
+            trits[3*i+0] = TRYTE_TRITS[idx];
+            trits[3*i+1] = TRYTE_TRITS[idx+1];
+            trits[3*i+2] = TRYTE_TRITS[idx+2];
+        }
+    }
+
+    /**
+     * Convert trytes into one byte per trit, from trits[tritOffset].
+     */
+    public static void iotaCurlTrytes2Trits(final byte[] trits, final int tritOffset, final char[] trytes, final int offset, final int len) {
+        for(int i=0; i<len; i++) {
+            final int idx = 3*tryteValue(trytes[i+offset]);
+            trits[tritOffset+3*i+0] = TRYTE_TRITS[idx];
+            trits[tritOffset+3*i+1] = TRYTE_TRITS[idx+1];
+            trits[tritOffset+3*i+2] = TRYTE_TRITS[idx+2];
         }
     }
 
@@ -61,7 +108,165 @@ public class IotaCurlUtils {
             if(j < 0) {
                 j += 27;
             }
-            trytes[i/3+offset] = "9ABCDEFGHIJKLMNOPQRSTUVWXYZ".charAt(j);
+            trytes[i/3+offset] = TRYTE_ALPHABET[j];
+        }
+    }
+
+    /**
+     * Convert len trits, one byte each from trits[tritOffset], into trytes.
+     */
+    public static void iotaCurlTrits2Trytes(final char[] trytes, final int offset, final byte[] trits, final int tritOffset, final int len) {
+        for(int i=0; i<len; i+=3) {
+            int j = trits[tritOffset+i];
+            if(i+1 < len) {
+                j += 3 * trits[tritOffset+i+1];
+            }
+            if(i+2 < len) {
+                j += 9 * trits[tritOffset+i+2];
+            }
+            trytes[i/3+offset] = TRYTE_ALPHABET[j < 0 ? j + 27 : j];
+        }
+    }
+
+    /**
+     * @return the bytes holding len trits in the 5-trits-per-byte format.
+     */
+    public static int iotaCurlPackedLength(final int len) {
+        return (len + TRITS_PER_BYTE - 1) / TRITS_PER_BYTE;
+    }
+
+    /**
+     * Packs len trits of trits, from offset, into packed starting at its trit tritOffset.
+     * The other trits of packed are left untouched.
+     */
+    public static void iotaCurlPackTrits(final byte[] packed, final int tritOffset, final byte[] trits, final int offset, final int len) {
+        int i = 0;
+        while (i < len) {
+            final int p = tritOffset + i;
+            if (p % TRITS_PER_BYTE == 0 && len - i >= TRITS_PER_BYTE) {
+                final int t = offset + i;
+                packed[p / TRITS_PER_BYTE] = (byte) (trits[t] + 3 * trits[t+1] + 9 * trits[t+2] + 27 * trits[t+3] + 81 * trits[t+4]);
+                i += TRITS_PER_BYTE;
+            } else {
+                final int k = p % TRITS_PER_BYTE;
+                final int old = PACKED_TRITS[TRITS_PER_BYTE * (packed[p / TRITS_PER_BYTE] & 0xFF) + k];
+                packed[p / TRITS_PER_BYTE] += (byte) ((trits[offset + i] - old) * POW3[k]);
+                i++;
+            }
+        }
+    }
+
+    /**
+     * As iotaCurlPackTrits(byte[], int, byte[], int, int), from int trits.
+     */
+    public static void iotaCurlPackTrits(final byte[] packed, final int tritOffset, final int[] trits, final int offset, final int len) {
+        for (int i = 0; i < len; i++) {
+            final int p = tritOffset + i;
+            final int k = p % TRITS_PER_BYTE;
+            final int old = PACKED_TRITS[TRITS_PER_BYTE * (packed[p / TRITS_PER_BYTE] & 0xFF) + k];
+            packed[p / TRITS_PER_BYTE] += (byte) ((trits[offset + i] - old) * POW3[k]);
+        }
+    }
+
+    /**
+     * Unpacks len trits of packed, from its trit tritOffset, into trits from offset.
+     */
+    public static void iotaCurlUnpackTrits(final byte[] trits, final int offset, final byte[] packed, final int tritOffset, final int len) {
+        int i = 0;
+        // Up to the first whole byte, then a byte at a time.
+        for (; i < len && (tritOffset + i) % TRITS_PER_BYTE != 0; i++) {
+            final int p = tritOffset + i;
+            trits[offset + i] = PACKED_TRITS[TRITS_PER_BYTE * (packed[p / TRITS_PER_BYTE] & 0xFF) + p % TRITS_PER_BYTE];
+        }
+        for (int b = (tritOffset + i) / TRITS_PER_BYTE; i + TRITS_PER_BYTE <= len; i += TRITS_PER_BYTE, b++) {
+            final int idx = TRITS_PER_BYTE * (packed[b] & 0xFF);
+            trits[offset + i] = PACKED_TRITS[idx];
+            trits[offset + i + 1] = PACKED_TRITS[idx + 1];
+            trits[offset + i + 2] = PACKED_TRITS[idx + 2];
+            trits[offset + i + 3] = PACKED_TRITS[idx + 3];
+            trits[offset + i + 4] = PACKED_TRITS[idx + 4];
+        }
+        for (; i < len; i++) {
+            final int p = tritOffset + i;
+            trits[offset + i] = PACKED_TRITS[TRITS_PER_BYTE * (packed[p / TRITS_PER_BYTE] & 0xFF) + p % TRITS_PER_BYTE];
+        }
+    }
+
+    /**
+     * As iotaCurlUnpackTrits(byte[], int, byte[], int, int), into int trits.
+     */
+    public static void iotaCurlUnpackTrits(final int[] trits, final int offset, final byte[] packed, final int tritOffset, final int len) {
+        int i = 0;
+        // Up to the first whole byte, then a byte at a time.
+        for (; i < len && (tritOffset + i) % TRITS_PER_BYTE != 0; i++) {
+            final int p = tritOffset + i;
+            trits[offset + i] = PACKED_TRITS[TRITS_PER_BYTE * (packed[p / TRITS_PER_BYTE] & 0xFF) + p % TRITS_PER_BYTE];
+        }
+        for (int b = (tritOffset + i) / TRITS_PER_BYTE; i + TRITS_PER_BYTE <= len; i += TRITS_PER_BYTE, b++) {
+            final int idx = TRITS_PER_BYTE * (packed[b] & 0xFF);
+            trits[offset + i] = PACKED_TRITS[idx];
+            trits[offset + i + 1] = PACKED_TRITS[idx + 1];
+            trits[offset + i + 2] = PACKED_TRITS[idx + 2];
+            trits[offset + i + 3] = PACKED_TRITS[idx + 3];
+            trits[offset + i + 4] = PACKED_TRITS[idx + 4];
+        }
+        for (; i < len; i++) {
+            final int p = tritOffset + i;
+            trits[offset + i] = PACKED_TRITS[TRITS_PER_BYTE * (packed[p / TRITS_PER_BYTE] & 0xFF) + p % TRITS_PER_BYTE];
+        }
+    }
+
+    /**
+     * @return the first len trytes in the 5-trits-per-byte format.
+     */
+    public static byte[] iotaCurlTrytes2Packed(final String trytes, final int len) {
+        final byte[] trits = new byte[3 * len];
+        final char[] chars = new char[len];
+        trytes.getChars(0, len, chars, 0);
+        iotaCurlTrytes2Trits(trits, 0, chars, 0, len);
+        final byte[] packed = new byte[iotaCurlPackedLength(trits.length)];
+        iotaCurlPackTrits(packed, 0, trits, 0, trits.length);
+        return packed;
+    }
+
+    /**
+     * @return the trytes of the first len trits of packed, in the 5-trits-per-byte format.
+     */
+    public static String iotaCurlPacked2Trytes(final byte[] packed, final int len) {
+        final byte[] trits = new byte[len];
+        iotaCurlUnpackTrits(trits, 0, packed, 0, len);
+        final char[] trytes = new char[(len + 2) / 3];
+        iotaCurlTrits2Trytes(trytes, 0, trits, 0, len);
+        return new String(trytes);
+    }
+
+    /**
+     * @return len trytes drawn uniformly from TRYTE_ALPHABET, e.g. a random transaction of TX_RECORD_SZ trytes.
+     */
+    public static String iotaCurlRandomTrytes(final Random random, final int len) {
+        final char[] trytes = new char[len];
+        for (int i = 0; i < len; i++) {
+            trytes[i] = TRYTE_ALPHABET[random.nextInt(TRYTE_ALPHABET.length)];
+        }
+        return new String(trytes);
+    }
+
+    /**
+     * Writes len trits into the given lane of the miner 2-bit lane encoding, the other lanes are left untouched.
+     */
+    public static void iotaCurlTrits2Lanes(final long[] lanes, final int lane, final byte[] trits, final int offset, final int len) {
+        final long mask = ~(IotaCurlMiner.MAP[0] << (2 * lane));
+        for (int i = 0; i < len; i++) {
+            lanes[i] = (lanes[i] & mask) | (IotaCurlMiner.MAP[trits[offset + i] + 1] << (2 * lane));
+        }
+    }
+
+    /**
+     * Reads len trits from the given lane of the miner 2-bit lane encoding.
+     */
+    public static void iotaCurlLanes2Trits(final byte[] trits, final int offset, final long[] lanes, final int lane, final int len) {
+        for (int i = 0; i < len; i++) {
+            trits[offset + i] = (byte) IotaCurlMiner.laneTrit(lanes[i], lane);
         }
     }
 
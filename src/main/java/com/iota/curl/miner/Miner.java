@@ -1,10 +1,27 @@
 
 package com.iota.curl.miner;
 
+import com.iota.curl.IotaCurlBulkHash;
 import com.iota.curl.IotaCurlHash;
 import com.iota.curl.IotaCurlMiner;
-
+import com.iota.curl.IotaCurlPowCoordinator;
+import com.iota.curl.IotaCurlPowEngines;
+import com.iota.curl.IotaCurlPowService;
+import com.iota.curl.IotaCurlPowWorker;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ExecutionException;
 
 /**
  * Miner class.
@@ -19,8 +36,45 @@ public class Miner {
 
     public static void main(final String ... args) {
 
+        if (args != null && args.length > 0 && args[0].equals("hash")) {
+            hash(args);
+            return;
+        }
+
+        if (args != null && args.length > 0 && args[0].equals("worker")) {
+            worker(args);
+            return;
+        }
+
+        if (args != null && args.length > 0 && args[0].equals("coordinate")) {
+            coordinate(args);
+            return;
+        }
+
+        if (args != null && args.length > 0 && args[0].equals("calibrate")) {
+            final long millis = (args.length > 1 ? Long.parseLong(args[1]) : 200L);
+            stdout("%s", IotaCurlPowEngines.calibrate(millis));
+            return;
+        }
+
+        if (args != null && args.length > 0 && args[0].equals("daemon")) {
+            try {
+                MinerDaemon.main(Arrays.copyOfRange(args, 1, args.length));
+            } catch (IOException e) {
+                stderr("%s", e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return;
+        }
+
         if (args == null || args.length < 2) {
-            stderr("usage: TX_TRYTES [minWeightMagnitude=13]\n");
+            stderr("usage: TX_TRYTES [minWeightMagnitude=13]\n" +
+                    "       hash FILE|- [recordLength=" + TX_LENGTH + "]\n" +
+                    "       worker [port=" + IotaCurlPowWorker.DEFAULT_PORT + "] [bindAddress=loopback]\n" +
+                    "       coordinate HOST:PORT[,HOST:PORT...] TX_TRYTES [minWeightMagnitude=13]\n" +
+                    "       daemon [warmUpSeconds=0] [maxJobs=2*threads] [timeoutSeconds=0] < jobs > results\n" +
+                    "       calibrate [millis=200]\n");
             stderr("TX_TRYTES:\n" +
                     "\tThe raw transaction data expressed in trytes-encoded string.\n" +
                     "\tShould be " + TX_LENGTH + " letters long and must only include letters [9A-Z].\n" +
@@ -67,6 +121,86 @@ public class Miner {
         stdout("hash: %s", hash);
     }
 
+    /**
+     * hash FILE|- [recordLength]: prints the hash of every record of FILE, or of the standard input, one per line.
+     */
+    private static void hash(final String ... args) {
+        if (args.length < 2) {
+            stderr("usage: hash FILE|- [recordLength=%d]", TX_LENGTH);
+            return;
+        }
+        final int recordLength = (args.length > 2 ? Integer.parseInt(args[2]) : TX_LENGTH);
+
+        final OutputStream out = new BufferedOutputStream(System.out, 1 << 16);
+        try (final IotaCurlBulkHash bulk = new IotaCurlBulkHash(recordLength, Runtime.getRuntime().availableProcessors())) {
+            if (args[1].equals("-")) {
+                bulk.hash(System.in, out);
+            } else {
+                try (final FileChannel file = FileChannel.open(Paths.get(args[1]), StandardOpenOption.READ)) {
+                    bulk.hash(file, out);
+                }
+            }
+        } catch (IOException e) {
+            stderr("%s", e.getMessage());
+        }
+    }
+
+    /**
+     * worker [port] [bindAddress]: searches the nonce ranges of the coordinators connecting to port,
+     * on the loopback interface unless bindAddress is given, until killed.
+     */
+    private static void worker(final String ... args) {
+        final int port = (args.length > 1 ? Integer.parseInt(args[1]) : IotaCurlPowWorker.DEFAULT_PORT);
+        final IotaCurlPowService pow = new IotaCurlPowService();
+        try {
+            final InetAddress bindAddress = (args.length > 2 ? InetAddress.getByName(args[2]) : InetAddress.getLoopbackAddress());
+            if (!bindAddress.isLoopbackAddress()) {
+                stdout("W: the worker protocol is unauthenticated, any host reaching %s can mine on this one.", bindAddress.getHostAddress());
+            }
+            final IotaCurlPowWorker worker = new IotaCurlPowWorker(new InetSocketAddress(bindAddress, port), pow);
+            worker.start();
+            stdout("I: listening on %s:%d with %d mining threads.", worker.getAddress().getHostString(), worker.getAddress().getPort(), pow.getThreads());
+            Thread.currentThread().join(); // until killed.
+        } catch (IOException e) {
+            stderr("%s", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * coordinate HOST:PORT[,HOST:PORT...] TX_TRYTES [minWeightMagnitude]: mines TX_TRYTES on the given workers.
+     */
+    private static void coordinate(final String ... args) {
+        if (args.length < 3) {
+            stderr("usage: coordinate HOST:PORT[,HOST:PORT...] TX_TRYTES [minWeightMagnitude=13]");
+            return;
+        }
+        final List<InetSocketAddress> workers = new ArrayList<>();
+        for (final String worker : args[1].split(",")) {
+            final int colon = worker.lastIndexOf(':');
+            workers.add(new InetSocketAddress(worker.substring(0, colon), Integer.parseInt(worker.substring(colon + 1))));
+        }
+        final String tx = args[2];
+        if (tx.length() != TX_LENGTH || !tx.matches("[9A-Z]*")) {
+            stderr("TX_TRYTES should be %d letters long and must only include letters [9A-Z].", TX_LENGTH);
+            return;
+        }
+        final int minWeightMagnitude = (args.length > 3 ? Integer.parseInt(args[3]) : 13);
+
+        try (final IotaCurlPowCoordinator pow = new IotaCurlPowCoordinator(workers)) {
+            final long start = System.nanoTime();
+            final String mined = pow.submit(tx, minWeightMagnitude).get();
+            stdout("I: mined on %d workers in %d ms.", workers.size(), (System.nanoTime() - start) / 1000000);
+            stdout("txTrytes: %s", mined);
+            stdout("hash: %s", IotaCurlHash.iotaCurlHash(mined, TX_LENGTH));
+        } catch (IOException | ExecutionException e) {
+            stderr("%s", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     private static final void stdout(String str, Object ... args) {
         final String formattedStr = String.format(Locale.ENGLISH, str, args);
         System.out.println(formattedStr);
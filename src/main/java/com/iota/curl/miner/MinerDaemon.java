@@ -0,0 +1,194 @@
+package com.iota.curl.miner;
+
+import com.iota.curl.IotaCurlPowService;
+import com.iota.curl.IotaCurlUtils;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Long running miner over the standard input and output, for scripts mining many transactions.
+ *
+ * A single JVM, with its miner compiled and its IotaCurlPowService pool
+ * started once, mines the jobs read one per line:
+ *
+ * [ID] TX_TRYTES [minWeightMagnitude=13]
+ *
+ * ID is any word, the line number by default. Up to maxJobs jobs are mined
+ * at once, the next lines being read as soon as one of them completes, and
+ * every result is written as soon as it is mined, one per line:
+ *
+ * ID MINED_TX_TRYTES
+ * ID ERROR message
+ *
+ * Empty lines and lines starting with # are skipped. The daemon ends once
+ * the input is over and the jobs still running are written.
+ */
+public class MinerDaemon {
+
+    static final int DEFAULT_MIN_WEIGHT_MAGNITUDE = 13;
+
+    // The difficulty of the warm up jobs, a few thousand nonces each.
+    private static final int WARM_UP_MIN_WEIGHT_MAGNITUDE = 8;
+
+    private final IotaCurlPowService pow;
+    private final int maxJobs;
+    private final long timeoutMillis;
+
+    /**
+     * @param pow the pool doing the proof of work, left open.
+     * @param maxJobs the jobs mined at once, beyond which no line is read.
+     * @param timeoutMillis the maximum time to mine a transaction, 0 for no deadline.
+     */
+    public MinerDaemon(final IotaCurlPowService pow, final int maxJobs, final long timeoutMillis) {
+        if (maxJobs <= 0) {
+            throw new IllegalArgumentException("maxJobs (" + maxJobs + ") should be greater than zero.");
+        }
+        this.pow = pow;
+        this.maxJobs = maxJobs;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * Mines random transactions for the given time, so that the first jobs run on the compiled miner.
+     *
+     * @return the transactions mined.
+     */
+    public int warmUp(final long millis) {
+        final Random random = new Random();
+        final long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+        int mined = 0;
+        while (System.nanoTime() < end) {
+            final String tx = IotaCurlUtils.iotaCurlRandomTrytes(random, Miner.TX_LENGTH);
+            pow.submit(tx, WARM_UP_MIN_WEIGHT_MAGNITUDE).join();
+            mined++;
+        }
+        return mined;
+    }
+
+    /**
+     * Mines the jobs of in until its end, writing their results to out.
+     *
+     * @return the jobs read, malformed ones included.
+     */
+    public long run(final InputStream in, final OutputStream out) throws IOException, InterruptedException {
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.US_ASCII));
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.US_ASCII));
+        final Semaphore running = new Semaphore(maxJobs);
+        final AtomicReference<IOException> failure = new AtomicReference<>();
+
+        long lines = 0;
+        long jobs = 0;
+        for (String line; (line = reader.readLine()) != null && failure.get() == null; ) {
+            lines++;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            jobs++;
+            running.acquire();
+            final String[] words = line.split("\\s+");
+            // The ID is the word before the transaction, if any.
+            final boolean named = words.length > 1 && words[0].length() != Miner.TX_LENGTH;
+            final String id = named ? words[0] : String.valueOf(lines);
+            final CompletableFuture<String> mined = mine(words, named ? 1 : 0);
+            mined.whenComplete((tx, t) -> {
+                try {
+                    write(writer, id + " " + ((t == null) ? tx : "ERROR " + message(t)));
+                } catch (IOException e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    running.release();
+                }
+            });
+        }
+        // Waits for the jobs still running.
+        running.acquire(maxJobs);
+        running.release(maxJobs);
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+        return jobs;
+    }
+
+    private CompletableFuture<String> mine(final String[] words, final int first) {
+        try {
+            if (words.length - first > 2) {
+                throw new IllegalArgumentException("Expected [ID] TX_TRYTES [minWeightMagnitude].");
+            }
+            final String tx = words[first];
+            if (tx.length() != Miner.TX_LENGTH || !tx.matches("[9A-Z]*")) {
+                throw new IllegalArgumentException("TX_TRYTES should be " + Miner.TX_LENGTH + " letters long and must only include letters [9A-Z].");
+            }
+            final int minWeightMagnitude;
+            try {
+                minWeightMagnitude = (words.length - first > 1) ? Integer.parseInt(words[first + 1]) : DEFAULT_MIN_WEIGHT_MAGNITUDE;
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid minWeightMagnitude " + words[first + 1] + ".");
+            }
+            return pow.submit(tx, minWeightMagnitude, timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (IllegalArgumentException e) {
+            final CompletableFuture<String> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+    }
+
+    private static String message(final Throwable t) {
+        final Throwable cause = (t instanceof CompletionException) ? t.getCause() : t;
+        if (cause instanceof TimeoutException) {
+            return "Timeout.";
+        }
+        if (cause instanceof CancellationException) {
+            return "Cancelled.";
+        }
+        return String.valueOf(cause.getMessage()).replace('\n', ' ');
+    }
+
+    private static void write(final Writer writer, final String line) throws IOException {
+        synchronized (writer) {
+            writer.write(line);
+            writer.write('\n');
+            writer.flush();
+        }
+    }
+
+    public static void main(final String... args) throws IOException, InterruptedException {
+        if (args.length > 0 && (args[0].equals("-h") || args[0].equals("--help"))) {
+            System.err.println("usage: [warmUpSeconds=0] [maxJobs=2*threads] [timeoutSeconds=0] < jobs > results\n"
+                    + "Every line of jobs is [ID] TX_TRYTES [minWeightMagnitude=" + DEFAULT_MIN_WEIGHT_MAGNITUDE + "].\n"
+                    + "The mining threads are set with -D" + IotaCurlPowService.THREADS_PROPERTY + "=N.");
+            return;
+        }
+        final IotaCurlPowService pow = IotaCurlPowService.shared();
+        final long warmUpMillis = (args.length > 0) ? TimeUnit.SECONDS.toMillis(Long.parseLong(args[0])) : 0L;
+        final int maxJobs = (args.length > 1) ? Integer.parseInt(args[1]) : 2 * pow.getThreads();
+        final long timeoutMillis = (args.length > 2) ? TimeUnit.SECONDS.toMillis(Long.parseLong(args[2])) : 0L;
+
+        final MinerDaemon daemon = new MinerDaemon(pow, maxJobs, timeoutMillis);
+        if (warmUpMillis > 0) {
+            final int warmedUp = daemon.warmUp(warmUpMillis);
+            System.err.println(String.format(Locale.ENGLISH, "I: warmed up on %d transactions.", warmedUp));
+        }
+        final long start = System.nanoTime();
+        final long jobs = daemon.run(System.in, System.out);
+        System.err.println(String.format(Locale.ENGLISH, "I: %d jobs in %d ms on %d mining threads.", jobs,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), pow.getThreads()));
+    }
+}
@@ -0,0 +1,511 @@
+package com.iota.curl.miner;
+
+import com.iota.curl.IotaCurlPowService;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local proof of work HTTP service, compatible with the attachToTangle command of the IRI API.
+ *
+ * A single warmed up JVM mines for many local clients, all the requests sharing
+ * one IotaCurlPowService pool:
+ *
+ * curl -X POST http://localhost:14265 -d '{"command": "attachToTangle", "trunkTransaction": "...",
+ *      "branchTransaction": "...", "minWeightMagnitude": 13, "trytes": ["...", ...]}'
+ *
+ * As in IRI, the trytes are mined in the given order: the first transaction
+ * approves trunkTransaction and branchTransaction, every other one approves the
+ * transaction mined before it (as trunk) and trunkTransaction (as branch).
+ * The answer is {"trytes": [...], "duration": ms}, in the same order.
+ * The interruptAttachingToTangle command cancels all the jobs, running or queued.
+ *
+ * At most maxConcurrent bundles are mined at once and maxQueued more wait for
+ * their turn, in arrival order. Any request past them is rejected at once with
+ * 503 and a Retry-After header, without waiting for the mining pool.
+ */
+public class MinerServer implements AutoCloseable {
+
+    // The port of the IRI API.
+    public static final int DEFAULT_PORT = 14265;
+
+    // The largest request body accepted, about 1500 transactions.
+    static final int MAX_BODY_SZ = 4 << 20;
+
+    private static final int IO_THREADS = 2;
+
+    private final HttpServer server;
+    private final ExecutorService io;
+    private final IotaCurlPowService pow;
+
+    private final int maxConcurrent;
+    private final long timeoutMillis;
+
+    // The requests admitted, either mining or queued.
+    private final Semaphore admitted;
+    private final Queue<Attach> pending = new ArrayDeque<>();
+    private int running;
+
+    private final Set<CompletableFuture<List<String>>> jobs = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+    /**
+     * @param address the address to listen on, usually a loopback one.
+     * @param pow the pool doing the proof of work, left open on close.
+     * @param maxConcurrent the bundles mined at once.
+     * @param maxQueued the bundles waiting to be mined, beyond which requests are rejected.
+     * @param timeoutMillis the maximum time to mine a bundle, 0 for no deadline.
+     */
+    public MinerServer(final InetSocketAddress address, final IotaCurlPowService pow,
+                       final int maxConcurrent, final int maxQueued, final long timeoutMillis) throws IOException {
+        if (maxConcurrent <= 0 || maxQueued < 0) {
+            throw new IllegalArgumentException("maxConcurrent (" + maxConcurrent + ") should be greater than zero"
+                    + " and maxQueued (" + maxQueued + ") not negative.");
+        }
+        this.pow = pow;
+        this.maxConcurrent = maxConcurrent;
+        this.timeoutMillis = timeoutMillis;
+        this.admitted = new Semaphore(maxConcurrent + maxQueued);
+
+        final AtomicInteger count = new AtomicInteger();
+        this.io = Executors.newFixedThreadPool(IO_THREADS, r -> {
+            final Thread t = new Thread(r, "iota-curl-http-" + count.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.server = HttpServer.create(address, 0);
+        this.server.setExecutor(io);
+        this.server.createContext("/", this::handle);
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    /**
+     * @return the bundles being mined.
+     */
+    public int getRunning() {
+        synchronized (pending) {
+            return running;
+        }
+    }
+
+    /**
+     * @return the bundles waiting for their turn.
+     */
+    public int getQueued() {
+        synchronized (pending) {
+            return pending.size();
+        }
+    }
+
+    /**
+     * Stops listening and cancels the jobs still running or queued. The pow service is left open.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        interrupt();
+        io.shutdownNow();
+    }
+
+    /**
+     * Answers the queued requests as interrupted, then cancels the running ones:
+     * in this order, the queued ones are not started in place of the cancelled ones.
+     */
+    private void interrupt() {
+        final List<Attach> queued;
+        synchronized (pending) {
+            queued = new ArrayList<>(pending);
+            pending.clear();
+        }
+        admitted.release(queued.size());
+        for (final Attach attach : queued) {
+            try {
+                respond(attach.exchange, 400, error("Attaching to tangle interrupted."));
+            } catch (IOException e) {
+                // The client went away, nothing left to do.
+            }
+        }
+        for (final CompletableFuture<List<String>> job : jobs) {
+            job.cancel(true);
+        }
+    }
+
+    // An admitted attachToTangle request.
+    private static final class Attach {
+        final HttpExchange exchange;
+        final String trunk;
+        final String branch;
+        final int minWeightMagnitude;
+        final List<String> trytes;
+        final long start = System.nanoTime();
+
+        Attach(final HttpExchange exchange, final String trunk, final String branch,
+               final int minWeightMagnitude, final List<String> trytes) {
+            this.exchange = exchange;
+            this.trunk = trunk;
+            this.branch = branch;
+            this.minWeightMagnitude = minWeightMagnitude;
+            this.trytes = trytes;
+        }
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            exchange.getResponseHeaders().set("Allow", "POST");
+            respond(exchange, 405, error("Only POST is supported."));
+            return;
+        }
+        try {
+            final Map<String, Object> request = Json.parseObject(readBody(exchange.getRequestBody()));
+            final Object command = request.get("command");
+            if ("interruptAttachingToTangle".equals(command)) {
+                interrupt();
+                respond(exchange, 200, "{}");
+            } else if ("attachToTangle".equals(command)) {
+                final Attach attach = parseAttach(exchange, request);
+                if (admitted.tryAcquire()) {
+                    enqueue(attach);
+                } else {
+                    exchange.getResponseHeaders().set("Retry-After", "1");
+                    respond(exchange, 503, error("Too many requests, retry later."));
+                }
+            } else {
+                respond(exchange, 400, error("Command [" + command + "] is unknown."));
+            }
+        } catch (IllegalArgumentException e) {
+            respond(exchange, 400, error(e.getMessage()));
+        }
+    }
+
+    private static Attach parseAttach(final HttpExchange exchange, final Map<String, Object> request) {
+        final String trunk = hash(request, "trunkTransaction");
+        final String branch = hash(request, "branchTransaction");
+
+        final Object mwm = request.get("minWeightMagnitude");
+        if (!(mwm instanceof Long) || (Long) mwm <= 0 || (Long) mwm > 243) {
+            throw new IllegalArgumentException("Invalid minWeightMagnitude input.");
+        }
+
+        final Object trytes = request.get("trytes");
+        if (!(trytes instanceof List) || ((List<?>) trytes).isEmpty()) {
+            throw new IllegalArgumentException("Invalid trytes input.");
+        }
+        final List<String> txs = new ArrayList<>();
+        for (final Object tx : (List<?>) trytes) {
+            if (!isTrytes(tx, Miner.TX_LENGTH)) {
+                throw new IllegalArgumentException("Invalid trytes input.");
+            }
+            txs.add((String) tx);
+        }
+        return new Attach(exchange, trunk, branch, ((Long) mwm).intValue(), txs);
+    }
+
+    private static String hash(final Map<String, Object> request, final String field) {
+        final Object hash = request.get(field);
+        if (!isTrytes(hash, 81)) {
+            throw new IllegalArgumentException("Invalid " + field + " input.");
+        }
+        return (String) hash;
+    }
+
+    private static boolean isTrytes(final Object value, final int length) {
+        return (value instanceof String) && ((String) value).length() == length && ((String) value).matches("[9A-Z]*");
+    }
+
+    private void enqueue(final Attach attach) {
+        synchronized (pending) {
+            pending.add(attach);
+        }
+        drain();
+    }
+
+    // Starts the queued requests while there is room, in arrival order.
+    private void drain() {
+        while (true) {
+            final Attach attach;
+            synchronized (pending) {
+                if (running >= maxConcurrent || pending.isEmpty()) {
+                    return;
+                }
+                attach = pending.poll();
+                running++;
+            }
+            mine(attach);
+        }
+    }
+
+    private void mine(final Attach attach) {
+        // IotaCurlPowService takes the bundle in bundle order, the last transaction approving trunk and branch.
+        final List<String> bundle = new ArrayList<>(attach.trytes);
+        Collections.reverse(bundle);
+
+        final CompletableFuture<List<String>> job = pow.submitBundle(bundle, attach.trunk, attach.branch,
+                attach.minWeightMagnitude, timeoutMillis, TimeUnit.MILLISECONDS);
+        jobs.add(job);
+        job.whenCompleteAsync((mined, t) -> {
+            // Makes room first, a client answered can be admitted again at once.
+            jobs.remove(job);
+            synchronized (pending) {
+                running--;
+            }
+            admitted.release();
+            drain();
+
+            try {
+                if (t == null) {
+                    final List<String> trytes = new ArrayList<>(mined);
+                    Collections.reverse(trytes);
+                    final long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - attach.start);
+                    respond(attach.exchange, 200, "{\"trytes\":" + Json.toArray(trytes) + ",\"duration\":" + duration + "}");
+                } else {
+                    final Throwable cause = (t instanceof CompletionException) ? t.getCause() : t;
+                    if (cause instanceof CancellationException) {
+                        respond(attach.exchange, 400, error("Attaching to tangle interrupted."));
+                    } else if (cause instanceof TimeoutException) {
+                        respond(attach.exchange, 503, error(cause.getMessage()));
+                    } else if (cause instanceof IllegalArgumentException) {
+                        respond(attach.exchange, 400, error(cause.getMessage()));
+                    } else {
+                        respond(attach.exchange, 500, error(String.valueOf(cause)));
+                    }
+                }
+            } catch (IOException e) {
+                // The client went away, nothing left to do.
+            }
+        }, io);
+    }
+
+    private static String readBody(final InputStream in) throws IOException {
+        final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[8192];
+        for (int n; (n = in.read(buffer)) > 0; ) {
+            body.write(buffer, 0, n);
+            if (body.size() > MAX_BODY_SZ) {
+                throw new IllegalArgumentException("Request too large.");
+            }
+        }
+        return new String(body.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static String error(final String message) {
+        return "{\"error\":" + Json.toString(message) + "}";
+    }
+
+    private static void respond(final HttpExchange exchange, final int status, final String json) throws IOException {
+        final byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (final OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+        exchange.close();
+    }
+
+    /**
+     * The minimal JSON support needed by the IRI API: objects, arrays, strings, integers, booleans and null.
+     */
+    static final class Json {
+
+        private final String s;
+        private int pos;
+
+        private Json(final String s) {
+            this.s = s;
+        }
+
+        @SuppressWarnings("unchecked")
+        static Map<String, Object> parseObject(final String s) {
+            final Json json = new Json(s);
+            final Object value = json.value();
+            json.skipSpaces();
+            if (!(value instanceof Map) || json.pos != s.length()) {
+                throw new IllegalArgumentException("Invalid JSON object.");
+            }
+            return (Map<String, Object>) value;
+        }
+
+        static String toString(final String value) {
+            final StringBuilder sb = new StringBuilder(value.length() + 2).append('"');
+            for (int i = 0; i < value.length(); i++) {
+                final char c = value.charAt(i);
+                if (c == '"' || c == '\\') {
+                    sb.append('\\').append(c);
+                } else if (c < 0x20) {
+                    sb.append(String.format(Locale.ENGLISH, "\\u%04x", (int) c));
+                } else {
+                    sb.append(c);
+                }
+            }
+            return sb.append('"').toString();
+        }
+
+        static String toArray(final List<String> values) {
+            final StringBuilder sb = new StringBuilder("[");
+            for (int i = 0; i < values.size(); i++) {
+                sb.append(i == 0 ? "" : ",").append(toString(values.get(i)));
+            }
+            return sb.append(']').toString();
+        }
+
+        private Object value() {
+            skipSpaces();
+            if (pos >= s.length()) {
+                throw new IllegalArgumentException("Unexpected end of JSON.");
+            }
+            final char c = s.charAt(pos);
+            if (c == '{') {
+                final Map<String, Object> object = new LinkedHashMap<>();
+                pos++;
+                if (!consume('}')) {
+                    do {
+                        skipSpaces();
+                        final String key = string();
+                        expect(':');
+                        object.put(key, value());
+                    } while (consume(','));
+                    expect('}');
+                }
+                return object;
+            }
+            if (c == '[') {
+                final List<Object> array = new ArrayList<>();
+                pos++;
+                if (!consume(']')) {
+                    do {
+                        array.add(value());
+                    } while (consume(','));
+                    expect(']');
+                }
+                return array;
+            }
+            if (c == '"') {
+                return string();
+            }
+            if (c == '-' || (c >= '0' && c <= '9')) {
+                final int start = pos++;
+                while (pos < s.length() && Character.isDigit(s.charAt(pos))) {
+                    pos++;
+                }
+                try {
+                    return Long.parseLong(s.substring(start, pos));
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid JSON number.");
+                }
+            }
+            for (final String literal : new String[] { "true", "false", "null" }) {
+                if (s.startsWith(literal, pos)) {
+                    pos += literal.length();
+                    return literal.equals("null") ? null : Boolean.valueOf(literal);
+                }
+            }
+            throw new IllegalArgumentException("Unexpected character in JSON at " + pos + ".");
+        }
+
+        private String string() {
+            if (pos >= s.length() || s.charAt(pos) != '"') {
+                throw new IllegalArgumentException("JSON string expected at " + pos + ".");
+            }
+            final StringBuilder sb = new StringBuilder();
+            for (pos++; pos < s.length(); pos++) {
+                char c = s.charAt(pos);
+                if (c == '"') {
+                    pos++;
+                    return sb.toString();
+                }
+                if (c == '\\' && ++pos < s.length()) {
+                    c = s.charAt(pos);
+                    switch (c) {
+                        case 'n': c = '\n'; break;
+                        case 't': c = '\t'; break;
+                        case 'r': c = '\r'; break;
+                        case 'b': c = '\b'; break;
+                        case 'f': c = '\f'; break;
+                        case 'u':
+                            if (pos + 4 >= s.length()) {
+                                throw new IllegalArgumentException("Invalid JSON escape.");
+                            }
+                            c = (char) Integer.parseInt(s.substring(pos + 1, pos + 5), 16);
+                            pos += 4;
+                            break;
+                        default: break; // '"', '\\' and '/' stand for themselves.
+                    }
+                }
+                sb.append(c);
+            }
+            throw new IllegalArgumentException("Unterminated JSON string.");
+        }
+
+        private void skipSpaces() {
+            while (pos < s.length() && Character.isWhitespace(s.charAt(pos))) {
+                pos++;
+            }
+        }
+
+        private boolean consume(final char c) {
+            skipSpaces();
+            if (pos < s.length() && s.charAt(pos) == c) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(final char c) {
+            if (!consume(c)) {
+                throw new IllegalArgumentException("'" + c + "' expected in JSON at " + pos + ".");
+            }
+        }
+    }
+
+    public static void main(final String... args) throws IOException, InterruptedException {
+        if (args.length > 0 && (args[0].equals("-h") || args[0].equals("--help"))) {
+            System.err.println("usage: [port=" + DEFAULT_PORT + "] [maxConcurrent=1] [maxQueued=16] [timeoutSeconds=0]\n"
+                    + "Listens on the loopback interface only. The mining threads are set with -D"
+                    + IotaCurlPowService.THREADS_PROPERTY + "=N.");
+            return;
+        }
+        final int port = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        final int maxConcurrent = (args.length > 1) ? Integer.parseInt(args[1]) : 1;
+        final int maxQueued = (args.length > 2) ? Integer.parseInt(args[2]) : 16;
+        final long timeoutMillis = (args.length > 3) ? TimeUnit.SECONDS.toMillis(Long.parseLong(args[3])) : 0L;
+
+        final IotaCurlPowService pow = new IotaCurlPowService();
+        final MinerServer server = new MinerServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), port),
+                pow, maxConcurrent, maxQueued, timeoutMillis);
+        server.start();
+        System.out.println("I: listening on " + server.getAddress() + " with " + pow.getThreads() + " mining threads.");
+        Thread.currentThread().join(); // until killed.
+    }
+}
@@ -0,0 +1,118 @@
+package com.iota.curl;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class DistributedPowTest {
+
+    private static final String in = TestTransactions.IN;
+
+    private static final IotaCurlPowService pow1 = new IotaCurlPowService(1, new IotaCurlMiner64());
+    private static final IotaCurlPowService pow2 = new IotaCurlPowService(1, new IotaCurlMiner64());
+
+    @AfterClass
+    public static void close() {
+        pow1.close();
+        pow2.close();
+    }
+
+    private static IotaCurlPowWorker start(final IotaCurlPowService pow) throws Exception {
+        final IotaCurlPowWorker worker = new IotaCurlPowWorker(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), pow);
+        worker.start();
+        return worker;
+    }
+
+    private static void assertMined(final String mined, final int minWeightMagnitude) {
+        Assert.assertTrue(IotaCurlHash.iotaCurlVerify(mined, minWeightMagnitude));
+        Assert.assertEquals(in.substring(0, 2430), mined.substring(0, 2430));
+        Assert.assertEquals(in.substring(2511), mined.substring(2511));
+    }
+
+    // The ranges submitted but neither found, exhausted nor cancelled.
+    private static long running(final IotaCurlPowService pow) {
+        final IotaCurlPowServiceMXBean metrics = pow.getMetrics();
+        return metrics.getJobsSubmitted() - metrics.getJobsCompleted() - metrics.getJobsCancelled()
+                - metrics.getJobsTimedOut() - metrics.getJobsFailed() - metrics.getJobsExhausted();
+    }
+
+    @Test
+    public void shouldMineOnSeveralWorkers() throws Exception {
+        try (final IotaCurlPowWorker worker1 = start(pow1); final IotaCurlPowWorker worker2 = start(pow2);
+             final IotaCurlPowCoordinator coordinator = new IotaCurlPowCoordinator(Arrays.asList(worker1.getAddress(), worker2.getAddress()))) {
+            Assert.assertEquals(2, coordinator.getWorkers());
+            assertMined(coordinator.submit(in, 9).get(60, TimeUnit.SECONDS), 9);
+
+            // The first solution cancels the ranges of every worker.
+            for (int i = 0; i < 500 && running(pow1) + running(pow2) > 0; i++) {
+                Thread.sleep(10);
+            }
+            Assert.assertEquals(0, running(pow1));
+            Assert.assertEquals(0, running(pow2));
+            Assert.assertTrue(pow1.getMetrics().getNonces() > 0);
+            Assert.assertTrue(pow2.getMetrics().getNonces() > 0);
+
+            assertMined(coordinator.submit(in, 7).get(60, TimeUnit.SECONDS), 7);
+        }
+    }
+
+    @Test
+    public void shouldOutliveWorkersGoingAway() throws Exception {
+        final IotaCurlPowWorker worker1 = start(pow1);
+        try (final IotaCurlPowWorker worker2 = start(pow2);
+             final IotaCurlPowCoordinator coordinator = new IotaCurlPowCoordinator(Arrays.asList(worker1.getAddress(), worker2.getAddress()))) {
+            worker1.close();
+            assertMined(coordinator.submit(in, 8).get(60, TimeUnit.SECONDS), 8);
+            Assert.assertEquals(1, coordinator.getWorkers());
+
+            worker2.close();
+            try {
+                coordinator.submit(in, 200).get(60, TimeUnit.SECONDS);
+                Assert.fail();
+            } catch (ExecutionException e) {
+                Assert.assertEquals("No worker left.", e.getCause().getMessage());
+            }
+        }
+    }
+
+    @Test
+    public void shouldMineOnWorkerJvms() throws Exception {
+        final String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        final Pattern listening = Pattern.compile("I: listening on (\\S+):(\\d+) ");
+        final List<Process> processes = new ArrayList<>();
+        try {
+            final List<InetSocketAddress> workers = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                final Process process = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                        "-D" + IotaCurlPowService.THREADS_PROPERTY + "=1", "com.iota.curl.miner.Miner", "worker", "0")
+                        .redirectError(ProcessBuilder.Redirect.INHERIT).start();
+                processes.add(process);
+                final BufferedReader out = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.US_ASCII));
+                final Matcher matcher = listening.matcher(String.valueOf(out.readLine()));
+                Assert.assertTrue(matcher.lookingAt());
+                workers.add(new InetSocketAddress(matcher.group(1), Integer.parseInt(matcher.group(2))));
+            }
+            try (final IotaCurlPowCoordinator coordinator = new IotaCurlPowCoordinator(workers)) {
+                assertMined(coordinator.submit(in, 9).get(60, TimeUnit.SECONDS), 9);
+            }
+        } finally {
+            for (final Process process : processes) {
+                process.destroy();
+            }
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.iota.curl;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class EngineTest {
+
+    private static String randomTx(final Random random) {
+        final String trytes = "9ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < IotaCurlBulkHash.TX_RECORD_SZ; i++) {
+            sb.append(trytes.charAt(random.nextInt(trytes.length())));
+        }
+        return sb.toString();
+    }
+
+    // Tries the nonces from approvalNonce + from to approvalNonce + to, excluded, batch by batch.
+    private static long search(final IotaCurlPowEngine engine, final IotaCurlPowContext ctx, final int minWeightMagnitude,
+                               final long from, final long to) {
+        for (long offset = from; offset < to; offset += engine.getParallel()) {
+            final long result = engine.doWork(ctx, minWeightMagnitude, offset);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0L;
+    }
+
+    @Test
+    public void shouldFindTheSameNonceOnEveryEngine() {
+        final Random random = new Random(21);
+        for (int minWeightMagnitude : new int[] {1, 5, 9}) {
+            final IotaCurlPowContext ctx = new IotaCurlPowContext(randomTx(random));
+            final long expected = search(new IotaCurlMiner(), ctx, minWeightMagnitude, 0, Long.MAX_VALUE);
+            Assert.assertNotEquals(0L, expected);
+            for (final IotaCurlPowEngine engine : IotaCurlPowEngines.available()) {
+                Assert.assertEquals(engine.getName(), expected, search(engine, ctx, minWeightMagnitude, 0, Long.MAX_VALUE));
+            }
+        }
+    }
+
+    @Test
+    public void shouldSearchOnlyTheRange() {
+        final IotaCurlPowContext ctx = new IotaCurlPowContext(randomTx(new Random(5)));
+        final IotaCurlPowEngine engine = new IotaCurlMiner64();
+        final long found = search(engine, ctx, 9, 0, Long.MAX_VALUE);
+        final long batch = found - found % engine.getParallel();
+        Assert.assertEquals(0L, search(engine, ctx, 9, 0, batch));
+        Assert.assertEquals(found, search(engine, ctx, 9, batch, batch + engine.getParallel()));
+    }
+
+    @Test
+    public void shouldRebuildTheContextFromItsGetters() {
+        final IotaCurlPowContext ctx = new IotaCurlPowContext(randomTx(new Random(3)));
+        final IotaCurlPowContext copy = new IotaCurlPowContext(ctx.getMidState(), ctx.getApprovalNonce(),
+                ctx.getTrunkTransaction(), ctx.getBranchTransaction());
+        final IotaCurlPowEngine engine = new IotaCurlMiner64();
+        Assert.assertEquals(search(engine, ctx, 7, 0, Long.MAX_VALUE), search(engine, copy, 7, 0, Long.MAX_VALUE));
+    }
+
+    @Test
+    public void shouldCountNoncesAsIfLaidOutAgain() {
+        final Random random = new Random(22);
+        final IotaCurlPowContext ctx = new IotaCurlPowContext(randomTx(random));
+        for (final int[] layout : new int[][] {{1, 1}, {4, 1}, {1, 2}}) {
+            final IotaCurlNonceCounter counter = new IotaCurlNonceCounter(layout[0], layout[1]);
+            long offset = random.nextInt(1000);
+            for (int i = 0; i < 200; i++) {
+                counter.moveTo(ctx, offset);
+                final IotaCurlNonceCounter expected = new IotaCurlNonceCounter(layout[0], layout[1]);
+                expected.moveTo(ctx, offset);
+                Assert.assertArrayEquals("offset " + offset, expected.low, counter.low);
+                Assert.assertArrayEquals("offset " + offset, expected.high, counter.high);
+
+                switch (i % 4) {
+                    case 0: offset += 64; break;
+                    case 1: offset += 1 + random.nextInt(1 << 12); break;
+                    case 2: offset += (long) random.nextInt(Integer.MAX_VALUE) << random.nextInt(30); break;
+                    default: offset -= random.nextInt(1 << 8); break;
+                }
+            }
+        }
+    }
+
+    @Test
+    public void shouldFindTheSameNonceOnInterleavedContexts() {
+        final Random random = new Random(23);
+        final IotaCurlPowContext[] contexts = new IotaCurlPowContext[IotaCurlNonceCounter.COUNTERS_PER_THREAD + 2];
+        for (int i = 0; i < contexts.length; i++) {
+            contexts[i] = new IotaCurlPowContext(randomTx(random));
+        }
+        for (final IotaCurlPowEngine engine : IotaCurlPowEngines.available()) {
+            final int parallel = engine.getParallel();
+            final long[] offsets = new long[contexts.length];
+            for (int batch = 0; batch < 300; batch++) {
+                final int i = random.nextInt(contexts.length);
+                final long found = engine.doWork(contexts[i], 7, offsets[i]);
+                // The same batch on a fresh thread, laying the nonces out from scratch.
+                final long[] expected = new long[1];
+                final int c = i;
+                final long offset = offsets[i];
+                final Thread fresh = new Thread(() -> expected[0] = engine.doWork(contexts[c], 7, offset));
+                fresh.start();
+                try {
+                    fresh.join();
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+                Assert.assertEquals(engine.getName(), expected[0], found);
+                offsets[i] += parallel * (1 + random.nextInt(3));
+            }
+        }
+    }
+
+    @Test
+    public void shouldCalibrate() {
+        final IotaCurlPowEngines.Calibration calibration = IotaCurlPowEngines.calibrate(20);
+        System.err.println("Calibration: " + calibration);
+        Assert.assertTrue(calibration.getRates().containsKey("IotaCurlMiner"));
+        Assert.assertTrue(calibration.getRates().containsKey("IotaCurlMiner64"));
+        Assert.assertTrue(calibration.getHashrate() > 0);
+        Assert.assertTrue(calibration.getThreads() >= 1);
+        Assert.assertTrue(calibration.getThreads() <= Runtime.getRuntime().availableProcessors());
+    }
+
+    @Test
+    public void shouldPinTheEngineAndTheThreads() {
+        final IotaCurlPowEngines.Calibration pinned = IotaCurlPowEngines.calibrate(20, "IotaCurlMiner", 3);
+        Assert.assertEquals("IotaCurlMiner", pinned.getEngine().getName());
+        Assert.assertEquals(3, pinned.getThreads());
+        Assert.assertTrue(pinned.getRates().isEmpty());
+
+        final IotaCurlPowEngines.Calibration engineOnly = IotaCurlPowEngines.calibrate(20, "IotaCurlMiner64", 0);
+        Assert.assertEquals("IotaCurlMiner64", engineOnly.getEngine().getName());
+        Assert.assertTrue(engineOnly.getHashrate() > 0);
+
+        final IotaCurlPowEngines.Calibration threadsOnly = IotaCurlPowEngines.calibrate(20, null, 2);
+        Assert.assertEquals(2, threadsOnly.getThreads());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectUnknownEngines() {
+        IotaCurlPowEngines.forName("IotaCurlMinerQuantum");
+    }
+
+    @Test
+    public void shouldMineOnAPinnedEngine() throws Exception {
+        final String tx = randomTx(new Random(8));
+        try (final IotaCurlPowService pow = new IotaCurlPowService(2, IotaCurlPowEngines.forName("IotaCurlMiner"))) {
+            Assert.assertEquals(new IotaCurlMiner64().doCurlPowSingleThread(tx, 9), pow.submit(tx, 9).get());
+        }
+    }
+
+    @Test
+    public void shouldSwitchToTheCalibratedEngine() throws Exception {
+        final String tx = randomTx(new Random(9));
+        try (final IotaCurlPowService pow = new IotaCurlPowService(2)) {
+            // Mines at once, on the widest engine until calibrated.
+            Assert.assertEquals(new IotaCurlMiner64().doCurlPowSingleThread(tx, 9), pow.submit(tx, 9).get());
+            final IotaCurlPowEngine engine = IotaCurlPowEngines.engineCalibration().get().getEngine();
+            while (!engine.getName().equals(pow.getMetrics().getEngine())) {
+                Thread.sleep(10);
+            }
+            Assert.assertEquals(2, pow.getThreads());
+            Assert.assertEquals(new IotaCurlMiner64().doCurlPowSingleThread(tx, 9), pow.submit(tx, 9).get());
+        }
+    }
+}
@@ -3,7 +3,15 @@ package com.iota.curl;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.stream.IntStream;
 
 /**
@@ -11,8 +19,8 @@ import java.util.stream.IntStream;
  */
 public class HashTest {
 
-    private static String in = "XWGITHVPWBSPFRNQUEYLQETIVCJKRIIDKUZ9CSXBH9BKKUZCOGNLPKZXZHEGGPPWLMQHKDDAHZBSFQTNCOEJMSOLMHRPRHNWEUUAEHJURKTFWZQPSBOJGCJHWUPQSYKTVLVFKFMNQWQ9DJPBFJGXKKPYRDXDRYFBY9BIGHEYNTX9VGJTCIRVYIQHPCMCIESIUCGKMMIWHBLNC9BC9JR9CLYCPZTXPNQJOXPUDJUZEQTGWVOIEWCHPAY9EPZYCHFRQPHRZ9UZACWRJBSMRKBC9JJQSHJHPPEEYBFPHTZRGVVLJHDZ9JGLXJARNHMLWIYSUXNXRALYCMPMYOAMCKWHKNNWZPYNFTOUQORGVJRTVUYG9MX9DHLGHXFATETWQJUFPL9FLVRKEXDMVWQJOLTIXHJKBDGAJPJAHPQHT9TMWIL9QNIUQ9FBIIFDA9GUPVKXRPDRHG9IAHPJI9JRMTBJYOGVP9HZM9PNWXNFKKBSFQCOEDPDAUNEZRAYCAMBZBDVTDCANUNGZTAOAXFEUMQMSCOQF9EEVXXTXEB9IVY9DVGHBEXHMDHGJXUMIDIDIPDIAPAOGEKLVBTUFTFRRSKSAXTONHVCLGYOUUKORNGKABDQBTDSPZOWK9QD9VCKTOGMYGIHZ9YT9WYHDONULDLLSILTEUGRLKRAQFXAXNDRGECKTAERXMYOMDADLSPIVLWWNMQQBY9FHRB9LOKZNVUNVHT9I9IOLGHXOTBGAVNMR9QFCDPLDGVFGTLAEOEIDXAPSFNHJIBLMXEDLQQBGEUYKLMKRGVFFJ9AFEFILQBRWHWOOVECRMRQTSEIUHDGXRJFVZXBXSTMQA9KDIEUF9HZXYRZVZYVVEPSKDGEYWBVSEVMUDJSGYIHTPNSPWWDFII9VHAPTJHWXOWTWWSVEEKIXXUPRTTIIOEOQHHROGJIZ9Y9DSQRUVDTDHFBZMIAFTYOBJUBCOFMDTOVDWRSGCIEE9YKJCTJFZGLTFNZHNNPSKDHZZUCNDSJN9RBUOR9MYHNVLTZR9ZPHLCGXUOMGLRXCNKYMPKUFITURZCHHRKNGUZHWV9EQGNEBEXPMIRAZC9JMQL9BMDWK9NXRDEVUETPKINKDQNIJ9GJNQZJEPBDIVBJIXQWYAZCMEKFD9RFA9HUXCUBHAAVPOBRVFXRNEXDNTAIFTYEZADSWMXWEHSUKDVCCMATIDCIOFUVQYNMOXKVIDNXLGUCKQN9WVJDMHRXTHVRSHJTYFUOGKTSTDXYLM9EGYYUPMBA9JASZKKPDATFKNGLUD9IQLWFRPYQYSENKYIVXICCIOTATRVUSDKCYUA9JRUMSTMMBBHFZVCPJICNRGQZIGHEFGFMXV9VBMBMLEFJSGRDNBVODMLKCOIGDIYGCQCAUDJNVBFZGMFBV9TGOWKIFIPUOKIMJNQEBWPYVFXHCKOULMPMBN9QKWGXNM9HOJOSBJDNJJKDJWKJUWVAHNJIORACILRICNHQOQNAA9UIUTABUYOCRHLSNEKKF9BJZKX9VCAOPXOUGYFLWDZYXRVMHAXTCGJFQFOMJMSHRICSYVLSHKYWPTRLXMN9TTNBZLUTLXIDHUDTOIJAYPJ9I9JRFAHT9WOLXSJ9LOKCFXGQFZWJKNEJWURGSNBVCZYAUOBDVANKBTDCEU9W9JDIYAYVGPNGAF9WFFJL9NEYEPMJQLIMDWDVNRXOSZQAGISZIBUKTNDUHVNHOCQ9EIMWSKLREYSAKEVPUYZKMSCEGCRZVBNXXXJSEBSESONCZDNKVKSPSUUYBTDRVAIFGFYXKYRSBOFHYSQNYBQWPRQV99GBRNXWNHBEWTEECUTWPYCEGNQVBXDHLTFLVROOWHYX9TVGZVVFAZJZONCLNTEFZRBPCWPGPIKNQLQMZE9Q9CPPROOMR9QSRSRBSGMFMQ9NX9DNOOGSYRECEADHOVEBOBJTVARVDQYV9PHSDFFQODUISDRWUTAFLGQJNFIAOHOMBNPVTILCSMRTZUTPHYV9NGLXCJKKUPBOJDBDG9OSBCFHUJDXZBSBNLEKWCYPVINVRNWSDDMDPRTYHOSTSADVDRWEXPROSUYPVYNVKOBZDXUAKKVIJQKZE9JZN9EVUG9LTFDANQMUBRXBHAPL9USL9INWZCVCBFPKACSNYSOITLJAWIMCTNSCHQ9JZMYMPRGKQLABOLIEORLCNBJQMFMEAUONZMWKAT9ECRHNIRFSFRIHMGZISIJMOT9HLMOVUOGNTBXHHFZNGFLITAQRCAGBFBFOBBSTYSZMQPV99999999999999999999DOMIOTATESTWOW9999999999999PUPOYVD99A99999999C99999999MZWEZVBGFKSBSHDXAVGAJEUHCSKSRJSHCGRGGOKIPWMPTKSIHRFBEBWWYOSUGME9THEKAFFOORCRADGAK999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999";
-    private static String tx = "XWGITHVPWBSPFRNQUEYLQETIVCJKRIIDKUZ9CSXBH9BKKUZCOGNLPKZXZHEGGPPWLMQHKDDAHZBSFQTNCOEJMSOLMHRPRHNWEUUAEHJURKTFWZQPSBOJGCJHWUPQSYKTVLVFKFMNQWQ9DJPBFJGXKKPYRDXDRYFBY9BIGHEYNTX9VGJTCIRVYIQHPCMCIESIUCGKMMIWHBLNC9BC9JR9CLYCPZTXPNQJOXPUDJUZEQTGWVOIEWCHPAY9EPZYCHFRQPHRZ9UZACWRJBSMRKBC9JJQSHJHPPEEYBFPHTZRGVVLJHDZ9JGLXJARNHMLWIYSUXNXRALYCMPMYOAMCKWHKNNWZPYNFTOUQORGVJRTVUYG9MX9DHLGHXFATETWQJUFPL9FLVRKEXDMVWQJOLTIXHJKBDGAJPJAHPQHT9TMWIL9QNIUQ9FBIIFDA9GUPVKXRPDRHG9IAHPJI9JRMTBJYOGVP9HZM9PNWXNFKKBSFQCOEDPDAUNEZRAYCAMBZBDVTDCANUNGZTAOAXFEUMQMSCOQF9EEVXXTXEB9IVY9DVGHBEXHMDHGJXUMIDIDIPDIAPAOGEKLVBTUFTFRRSKSAXTONHVCLGYOUUKORNGKABDQBTDSPZOWK9QD9VCKTOGMYGIHZ9YT9WYHDONULDLLSILTEUGRLKRAQFXAXNDRGECKTAERXMYOMDADLSPIVLWWNMQQBY9FHRB9LOKZNVUNVHT9I9IOLGHXOTBGAVNMR9QFCDPLDGVFGTLAEOEIDXAPSFNHJIBLMXEDLQQBGEUYKLMKRGVFFJ9AFEFILQBRWHWOOVECRMRQTSEIUHDGXRJFVZXBXSTMQA9KDIEUF9HZXYRZVZYVVEPSKDGEYWBVSEVMUDJSGYIHTPNSPWWDFII9VHAPTJHWXOWTWWSVEEKIXXUPRTTIIOEOQHHROGJIZ9Y9DSQRUVDTDHFBZMIAFTYOBJUBCOFMDTOVDWRSGCIEE9YKJCTJFZGLTFNZHNNPSKDHZZUCNDSJN9RBUOR9MYHNVLTZR9ZPHLCGXUOMGLRXCNKYMPKUFITURZCHHRKNGUZHWV9EQGNEBEXPMIRAZC9JMQL9BMDWK9NXRDEVUETPKINKDQNIJ9GJNQZJEPBDIVBJIXQWYAZCMEKFD9RFA9HUXCUBHAAVPOBRVFXRNEXDNTAIFTYEZADSWMXWEHSUKDVCCMATIDCIOFUVQYNMOXKVIDNXLGUCKQN9WVJDMHRXTHVRSHJTYFUOGKTSTDXYLM9EGYYUPMBA9JASZKKPDATFKNGLUD9IQLWFRPYQYSENKYIVXICCIOTATRVUSDKCYUA9JRUMSTMMBBHFZVCPJICNRGQZIGHEFGFMXV9VBMBMLEFJSGRDNBVODMLKCOIGDIYGCQCAUDJNVBFZGMFBV9TGOWKIFIPUOKIMJNQEBWPYVFXHCKOULMPMBN9QKWGXNM9HOJOSBJDNJJKDJWKJUWVAHNJIORACILRICNHQOQNAA9UIUTABUYOCRHLSNEKKF9BJZKX9VCAOPXOUGYFLWDZYXRVMHAXTCGJFQFOMJMSHRICSYVLSHKYWPTRLXMN9TTNBZLUTLXIDHUDTOIJAYPJ9I9JRFAHT9WOLXSJ9LOKCFXGQFZWJKNEJWURGSNBVCZYAUOBDVANKBTDCEU9W9JDIYAYVGPNGAF9WFFJL9NEYEPMJQLIMDWDVNRXOSZQAGISZIBUKTNDUHVNHOCQ9EIMWSKLREYSAKEVPUYZKMSCEGCRZVBNXXXJSEBSESONCZDNKVKSPSUUYBTDRVAIFGFYXKYRSBOFHYSQNYBQWPRQV99GBRNXWNHBEWTEECUTWPYCEGNQVBXDHLTFLVROOWHYX9TVGZVVFAZJZONCLNTEFZRBPCWPGPIKNQLQMZE9Q9CPPROOMR9QSRSRBSGMFMQ9NX9DNOOGSYRECEADHOVEBOBJTVARVDQYV9PHSDFFQODUISDRWUTAFLGQJNFIAOHOMBNPVTILCSMRTZUTPHYV9NGLXCJKKUPBOJDBDG9OSBCFHUJDXZBSBNLEKWCYPVINVRNWSDDMDPRTYHOSTSADVDRWEXPROSUYPVYNVKOBZDXUAKKVIJQKZE9JZN9EVUG9LTFDANQMUBRXBHAPL9USL9INWZCVCBFPKACSNYSOITLJAWIMCTNSCHQ9JZMYMPRGKQLABOLIEORLCNBJQMFMEAUONZMWKAT9ECRHNIRFSFRIHMGZISIJMOT9HLMOVUOGNTBXHHFZNGFLITAQRCAGBFBFOBBSTYSZMQPV99999999999999999999DOMIOTATESTWOW9999999999999PUPOYVD99A99999999C99999999MZWEZVBGFKSBSHDXAVGAJEUHCSKSRJSHCGRGGOKIPWMPTKSIHRFBEBWWYOSUGME9THEKAFFOORCRADGAKAUA999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999999";
+    private static final String in = TestTransactions.IN;
+    private static final String tx = TestTransactions.MINED;
     private static String hash = "COIVKVQTQEHKZVAGBUFURRUG9CVXHWHCBIPKWNMIZDSSSRENFYYFOGTOTFMCEHLQKJ9PHKLWOH9XRHR99";
 
     @Test
@@ -23,6 +31,182 @@ public class HashTest {
         Assert.assertEquals(hash, hashed);
     }
 
+    @Test
+    public void shouldReuseSponge() {
+        final IotaCurlHash ctx = new IotaCurlHash();
+        final char[] trytes = tx.toCharArray();
+        final char[] hashed = new char[IotaCurlHash.IOTACURL_HASH_SZ];
+        for (int i = 0; i < 2; i++) {
+            ctx.reset();
+            ctx.absorb(trytes, 0, 2430);
+            ctx.absorb(trytes, 2430, 2673 - 2430);
+            ctx.squeeze(hashed, 0, hashed.length);
+            Assert.assertEquals(hash, new String(hashed));
+        }
+    }
+
+    @Test
+    public void shouldCacheMidStates() {
+        final IotaCurlMidStateCache cache = new IotaCurlMidStateCache(4);
+        Assert.assertEquals(hash, IotaCurlHash.iotaCurlHash(tx, 2673, cache));
+        Assert.assertEquals(hash, IotaCurlHash.iotaCurlHash(tx, 2673, cache));
+        // Same header, another approvalNonce.
+        Assert.assertEquals(IotaCurlHash.iotaCurlHash(in, 2673), IotaCurlHash.iotaCurlHash(in, 2673, cache));
+        Assert.assertEquals(1, cache.getMisses());
+        Assert.assertEquals(2, cache.getHits());
+        Assert.assertEquals(1, cache.size());
+
+        // Up to the prefix the cache is not used.
+        Assert.assertEquals(IotaCurlHash.iotaCurlHash(tx, 2430), IotaCurlHash.iotaCurlHash(tx, 2430, cache));
+        Assert.assertEquals(3, cache.getHits() + cache.getMisses());
+    }
+
+    @Test
+    public void shouldHashBatch() {
+        final String[] txs = new String[35];
+        for (int i = 0; i < txs.length; i++) {
+            txs[i] = tx.substring(i) + tx.substring(0, i);
+        }
+        final String[] hashed = IotaCurlHash.iotaCurlHashBatch(txs, 2673);
+        Assert.assertEquals(hash, hashed[0]);
+        for (int i = 0; i < txs.length; i++) {
+            Assert.assertEquals(IotaCurlHash.iotaCurlHash(txs[i], 2673), hashed[i]);
+        }
+        // Not a multiple of IOTACURL_HASH_SZ.
+        Assert.assertEquals(IotaCurlHash.iotaCurlHash(txs[3], 100), IotaCurlHash.iotaCurlHashBatch(txs, 100)[3]);
+    }
+
+    @Test
+    public void shouldVerifyBatch() {
+        final String[] txs = new String[70];
+        for (int i = 0; i < txs.length; i++) {
+            txs[i] = tx.substring(i) + tx.substring(0, i);
+        }
+        txs[5] = null;
+        txs[6] = tx.substring(1);
+        txs[7] = tx.substring(0, 2000) + "a" + tx.substring(2001);
+        for (final int minWeightMagnitude : new int[] { 0, 1, 2, 3, 5, 9, 243 }) {
+            final BitSet verified = IotaCurlHash.iotaCurlVerifyBatch(txs, minWeightMagnitude);
+            for (int i = 0; i < txs.length; i++) {
+                final boolean expected = (i < 5 || i > 7) && trailingZeros(IotaCurlHash.iotaCurlHash(txs[i], 2673)) >= minWeightMagnitude;
+                Assert.assertEquals("tx " + i + " mwm " + minWeightMagnitude, expected, verified.get(i));
+            }
+        }
+        Assert.assertTrue(IotaCurlHash.iotaCurlVerify(tx, 6));
+        Assert.assertFalse(IotaCurlHash.iotaCurlVerify(tx, 9));
+    }
+
+    private static int trailingZeros(final String hash) {
+        final int[] trits = new int[3 * hash.length()];
+        IotaCurlUtils.iotaCurlTrytes2Trits(trits, 0, hash.toCharArray(), hash.length());
+        int zeros = 0;
+        while (zeros < trits.length && trits[trits.length - 1 - zeros] == 0) {
+            zeros++;
+        }
+        return zeros;
+    }
+
+    @Test
+    public void shouldHashInBulk() throws IOException {
+        final StringBuilder records = new StringBuilder();
+        final StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 2 * IotaCurlBulkHash.BLOCK_RECORDS + 70; i++) {
+            final String record = tx.substring(i) + tx.substring(0, i);
+            records.append(record).append(i % 2 == 0 ? "\n" : "\r\n");
+            expected.append(IotaCurlHash.iotaCurlHash(record, 2673)).append('\n');
+        }
+        final byte[] bytes = records.toString().getBytes(StandardCharsets.US_ASCII);
+
+        try (final IotaCurlBulkHash bulk = new IotaCurlBulkHash(2673, 3)) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            Assert.assertEquals(2 * IotaCurlBulkHash.BLOCK_RECORDS + 70, bulk.hash(new ByteArrayInputStream(bytes), out));
+            Assert.assertEquals(expected.toString(), out.toString("US-ASCII"));
+
+            final Path file = Files.createTempFile("records", ".txt");
+            try {
+                Files.write(file, bytes);
+                out.reset();
+                try (final FileChannel channel = FileChannel.open(file)) {
+                    bulk.hash(channel, out);
+                }
+                Assert.assertEquals(expected.toString(), out.toString("US-ASCII"));
+            } finally {
+                Files.delete(file);
+            }
+        }
+
+        // Records not a multiple of IOTACURL_HASH_SZ, without separators.
+        try (final IotaCurlBulkHash bulk = new IotaCurlBulkHash(100, 1)) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            bulk.hash(new ByteArrayInputStream(tx.substring(0, 300).getBytes(StandardCharsets.US_ASCII)), out);
+            Assert.assertEquals(IotaCurlHash.iotaCurlHash(tx.substring(200), 100) + "\n",
+                    out.toString("US-ASCII").substring(2 * 82));
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void shouldRejectTruncatedRecords() throws IOException {
+        try (final IotaCurlBulkHash bulk = new IotaCurlBulkHash(2673, 1)) {
+            bulk.hash(new ByteArrayInputStream((tx + "\n" + in.substring(1)).getBytes(StandardCharsets.US_ASCII)),
+                    new ByteArrayOutputStream());
+        }
+    }
+
+    @Test
+    public void shouldPackTrits() {
+        final byte[] packed = IotaCurlUtils.iotaCurlTrytes2Packed(tx, 2673);
+        Assert.assertEquals(IotaCurlUtils.iotaCurlPackedLength(3 * 2673), packed.length);
+        Assert.assertEquals(tx, IotaCurlUtils.iotaCurlPacked2Trytes(packed, 3 * 2673));
+
+        final byte[] hashed = IotaCurlHash.iotaCurlHashPacked(packed, 3 * 2673);
+        Assert.assertEquals(hash, IotaCurlUtils.iotaCurlPacked2Trytes(hashed, 3 * IotaCurlHash.IOTACURL_HASH_SZ));
+
+        // Unaligned trit offsets leave the surrounding trits untouched.
+        final byte[] trits = new byte[3 * 2673];
+        IotaCurlUtils.iotaCurlTrytes2Trits(trits, 0, tx.toCharArray(), 0, 2673);
+        final byte[] shifted = new byte[IotaCurlUtils.iotaCurlPackedLength(trits.length + 7)];
+        IotaCurlUtils.iotaCurlPackTrits(shifted, 7, trits, 0, trits.length);
+        IotaCurlUtils.iotaCurlPackTrits(shifted, 3, trits, 0, 4);
+        final byte[] unpacked = new byte[trits.length];
+        IotaCurlUtils.iotaCurlUnpackTrits(unpacked, 0, shifted, 7, unpacked.length);
+        Assert.assertArrayEquals(trits, unpacked);
+
+        // Miner lane encoding.
+        final long[] lanes = new long[3 * 2673];
+        IotaCurlUtils.iotaCurlTrits2Lanes(lanes, 5, trits, 0, trits.length);
+        IotaCurlUtils.iotaCurlTrits2Lanes(lanes, 6, unpacked, 0, trits.length);
+        Arrays.fill(unpacked, (byte) 0);
+        IotaCurlUtils.iotaCurlLanes2Trits(unpacked, 0, lanes, 5, unpacked.length);
+        Assert.assertArrayEquals(trits, unpacked);
+    }
+
+    @Test
+    public void shouldAbsorbTrits() {
+        final int[] trits = new int[3 * 2673];
+        IotaCurlUtils.iotaCurlTrytes2Trits(trits, 0, tx.toCharArray(), 2673);
+        final byte[] bytes = new byte[trits.length];
+        for (int i = 0; i < trits.length; i++) {
+            bytes[i] = (byte) trits[i];
+        }
+
+        final IotaCurlHash ctx = new IotaCurlHash();
+        final int[] hashed = new int[3 * IotaCurlHash.IOTACURL_HASH_SZ];
+        ctx.absorb(trits, 0, trits.length);
+        ctx.squeeze(hashed, 0, hashed.length);
+
+        final byte[] hashedBytes = new byte[hashed.length];
+        ctx.reset();
+        ctx.absorb(bytes, 0, bytes.length);
+        ctx.squeeze(hashedBytes, 0, hashedBytes.length);
+
+        final char[] trytes = new char[IotaCurlHash.IOTACURL_HASH_SZ];
+        IotaCurlUtils.iotaCurlTrits2Trytes(trytes, 0, hashed, hashed.length);
+        Assert.assertEquals(hash, new String(trytes));
+        for (int i = 0; i < hashed.length; i++) {
+            Assert.assertEquals(hashed[i], hashedBytes[i]);
+        }
+    }
+
     @Test
     public void shouldDoHashTransform() {
         IotaCurlHash hash = new IotaCurlHash();
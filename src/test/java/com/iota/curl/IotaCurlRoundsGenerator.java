@@ -0,0 +1,90 @@
+package com.iota.curl;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Generates IotaCurlRounds, the unrolled Curl rounds.
+ *
+ * Every cell of a round becomes one statement with constant indices, in the
+ * order of the index chain INDICES, so every source cell is loaded once and
+ * reused by the next statement. A round is split into methods of
+ * CELLS_PER_METHOD cells, small enough for the JIT to compile them.
+ *
+ * To regenerate it after changing this class, from the project directory:
+ *
+ * mvn test-compile
+ * java -cp target/classes:target/test-classes com.iota.curl.IotaCurlRoundsGenerator
+ *
+ * RoundsTest fails while the checked in source is not the generated one.
+ */
+public final class IotaCurlRoundsGenerator {
+
+    static final Path SOURCE = Paths.get("src/main/java/com/iota/curl/IotaCurlRounds.java");
+
+    // The index chain of a round, 0, 364, 728, 363, 727, ...: the cell d reads
+    // INDICES[d] and INDICES[d + 1], that is sourceA(d) and sourceB(d).
+    static final int[] INDICES = new int[IotaCurlMiner.STATE_SIZE + 1];
+
+    static {
+        for (int d = 0; d < IotaCurlMiner.STATE_SIZE; d++) {
+            INDICES[d + 1] = INDICES[d] + (INDICES[d] < 365 ? 364 : -365);
+        }
+    }
+
+    // Under the 8000 bytecodes the JIT compiles, with some margin.
+    private static final int CELLS_PER_METHOD = 243;
+
+    private IotaCurlRoundsGenerator() {
+    }
+
+    public static void main(final String[] args) throws IOException {
+        Files.write(SOURCE, generate().getBytes(StandardCharsets.US_ASCII));
+    }
+
+    static String generate() {
+        final StringBuilder out = new StringBuilder();
+        out.append("package com.iota.curl;\n\n");
+        out.append("/**\n");
+        out.append(" * The Curl round, unrolled: every cell is computed by a statement with\n");
+        out.append(" * constant indices, every source cell is loaded once, and there is no\n");
+        out.append(" * loop nor index arithmetic left for the JIT to optimize.\n");
+        out.append(" *\n");
+        out.append(" * Generated by IotaCurlRoundsGenerator (src/test/java), do not edit.\n");
+        out.append(" */\n");
+        out.append("final class IotaCurlRounds {\n\n");
+        out.append("    private static final int[] T = IotaCurlUtils.TRUTH_TABLE;\n\n");
+        out.append("    private IotaCurlRounds() {\n");
+        out.append("    }\n");
+
+        final int methods = (IotaCurlMiner.STATE_SIZE + CELLS_PER_METHOD - 1) / CELLS_PER_METHOD;
+        out.append("\n    /**\n");
+        out.append("     * One round of IotaCurlHash.doHashTransform, from one trit per int.\n");
+        out.append("     */\n");
+        out.append("    static void hashRound(final int[] from, final int[] to) {\n");
+        for (int m = 0; m < methods; m++) {
+            out.append("        hashRound").append(m).append("(from, to);\n");
+        }
+        out.append("    }\n");
+        for (int m = 0; m < methods; m++) {
+            final int first = m * CELLS_PER_METHOD;
+            final int last = Math.min(first + CELLS_PER_METHOD, IotaCurlMiner.STATE_SIZE);
+            out.append("\n    private static void hashRound").append(m).append("(final int[] from, final int[] to) {\n");
+            // The cell d reads the source a of d and the source b, which is the source a of d + 1.
+            out.append("        int a = from[").append(INDICES[first]).append("], b;\n");
+            for (int d = first; d < last; d++) {
+                final String x = ((d - first) & 1) == 0 ? "a" : "b";
+                final String y = ((d - first) & 1) == 0 ? "b" : "a";
+                out.append("        ").append(y).append(" = from[").append(INDICES[d + 1]).append("]; ");
+                out.append("to[").append(d).append("] = T[").append(x).append(" + (").append(y).append(" << 2) + 5];\n");
+            }
+            out.append("    }\n");
+        }
+
+        out.append("}\n");
+        return out.toString();
+    }
+}
@@ -0,0 +1,312 @@
+package com.iota.curl;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+public class PowServiceTest {
+
+    private static final String in = TestTransactions.IN;
+
+    private static final IotaCurlPowService pow = new IotaCurlPowService(2);
+
+    @AfterClass
+    public static void close() {
+        pow.close();
+    }
+
+    @Test
+    public void shouldMineAsTheSingleThreadMiner() throws Exception {
+        final String expected = new IotaCurlMiner().doCurlPowSingleThread(in, 9);
+        Assert.assertEquals(expected, pow.submit(in, 9).get(60, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void shouldMineTheSameNonceOnAnyThreadCount() throws Exception {
+        final String expected = new IotaCurlMiner().doCurlPowSingleThread(in, 8);
+        for (final int threads : new int[] { 1, 3, 5 }) {
+            try (final IotaCurlPowService service = new IotaCurlPowService(threads, new IotaCurlMiner64())) {
+                Assert.assertEquals(expected, service.submit(in, 8).get(60, TimeUnit.SECONDS));
+            }
+        }
+    }
+
+    @Test
+    public void shouldMinePackedTransactions() throws Exception {
+        final byte[] mined = pow.submitPacked(IotaCurlUtils.iotaCurlTrytes2Packed(in, in.length()), 6).get(60, TimeUnit.SECONDS);
+        Assert.assertEquals(new IotaCurlMiner().doCurlPowSingleThread(in, 6), IotaCurlUtils.iotaCurlPacked2Trytes(mined, 3 * in.length()));
+    }
+
+    @Test
+    public void shouldRunConcurrentJobs() throws Exception {
+        final CompletableFuture<String> mined5 = pow.submit(in, 5);
+        final CompletableFuture<String> mined7 = pow.submit(in, 7);
+        Assert.assertEquals(new IotaCurlMiner().doCurlPowSingleThread(in, 5), mined5.get(60, TimeUnit.SECONDS));
+        Assert.assertEquals(new IotaCurlMiner().doCurlPowSingleThread(in, 7), mined7.get(60, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void shouldMineSmallJobsWhileALargeOneRuns() throws Exception {
+        try (final IotaCurlPowService service = new IotaCurlPowService(1, new IotaCurlMiner64())) {
+            final CompletableFuture<String> large = service.submit(in, 200);
+            Assert.assertEquals(new IotaCurlMiner().doCurlPowSingleThread(in, 8), service.submit(in, 8, 4, 1, 0, TimeUnit.SECONDS).get(60, TimeUnit.SECONDS));
+            Assert.assertFalse(large.isDone());
+            large.cancel(true);
+        }
+    }
+
+    @Test
+    public void shouldMineTheSameNonceOnAnyShare() throws Exception {
+        try (final IotaCurlPowService service = new IotaCurlPowService(3, new IotaCurlMiner64())) {
+            final CompletableFuture<String> mined6 = service.submit(in, 6, 1, 1, 0, TimeUnit.SECONDS);
+            final CompletableFuture<String> mined8 = service.submit(in, 8, 3, 2, 0, TimeUnit.SECONDS);
+            final CompletableFuture<String> mined9 = service.submit(in, 9, IotaCurlPowService.MAX_WEIGHT, 5, 0, TimeUnit.SECONDS);
+            Assert.assertEquals(new IotaCurlMiner().doCurlPowSingleThread(in, 6), mined6.get(60, TimeUnit.SECONDS));
+            Assert.assertEquals(new IotaCurlMiner().doCurlPowSingleThread(in, 8), mined8.get(60, TimeUnit.SECONDS));
+            Assert.assertEquals(new IotaCurlMiner().doCurlPowSingleThread(in, 9), mined9.get(60, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void shouldOutliveFailingJobs() throws Exception {
+        final IotaCurlPowEngine failing = new IotaCurlPowEngine() {
+            @Override
+            public int getParallel() {
+                return IotaCurlMiner64.PARALLEL64;
+            }
+
+            @Override
+            public long doWork(final IotaCurlPowContext ctx, final int minWeightMagnitude, final long offset) {
+                throw new IllegalStateException("failing");
+            }
+        };
+        try (final IotaCurlPowService service = new IotaCurlPowService(1, new IotaCurlMiner64())) {
+            try {
+                service.submit(failing, in, 5).get(60, TimeUnit.SECONDS);
+                Assert.fail();
+            } catch (ExecutionException e) {
+                Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+            }
+            // The only worker is still there.
+            Assert.assertEquals(new IotaCurlMiner().doCurlPowSingleThread(in, 5), service.submit(in, 5).get(60, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectZeroWeights() throws Throwable {
+        try {
+            pow.submit(in, 5, 0, 1, 0, TimeUnit.SECONDS).get(60, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        }
+    }
+
+    @Test
+    public void shouldReuseMidStates() throws Exception {
+        pow.submit(in, 5).get(60, TimeUnit.SECONDS);
+        final long hits = pow.getMidStateCache().getHits();
+        Assert.assertEquals(new IotaCurlMiner().doCurlPowSingleThread(in, 5), pow.submit(in, 5).get(60, TimeUnit.SECONDS));
+        Assert.assertEquals(hits + 1, pow.getMidStateCache().getHits());
+    }
+
+    @Test
+    public void shouldTimeout() throws Exception {
+        final CompletableFuture<String> mined = pow.submit(in, 200, 100, TimeUnit.MILLISECONDS);
+        try {
+            mined.get(60, TimeUnit.SECONDS);
+            Assert.fail();
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof TimeoutException);
+        }
+        // The workers are free again.
+        Assert.assertNotNull(pow.submit(in, 5).get(60, TimeUnit.SECONDS));
+    }
+
+    @Test(expected = CancellationException.class)
+    public void shouldCancel() throws Exception {
+        final CompletableFuture<String> mined = pow.submit(in, 200);
+        mined.cancel(true);
+        Assert.assertNotNull(pow.submit(in, 5).get(60, TimeUnit.SECONDS));
+        mined.get();
+    }
+
+    @Test
+    public void shouldFailPendingJobsOnClose() throws Exception {
+        final CompletableFuture<String> running;
+        final CompletableFuture<String> queued;
+        final CompletableFuture<List<String>> bundle;
+        try (final IotaCurlPowService service = new IotaCurlPowService(1, new IotaCurlMiner64())) {
+            running = service.submit(in, 200);
+            queued = service.submit(in, 200);
+            bundle = service.submitBundle(Arrays.asList(in, in), in.substring(0, 81), in.substring(81, 162), 200, 0, TimeUnit.SECONDS);
+        }
+        for (final CompletableFuture<String> mined : Arrays.asList(running, queued)) {
+            try {
+                mined.get(60, TimeUnit.SECONDS);
+                Assert.fail();
+            } catch (CancellationException e) {
+                // closed.
+            }
+        }
+        try {
+            bundle.get(60, TimeUnit.SECONDS);
+            Assert.fail();
+        } catch (CancellationException e) {
+            // closed while mining its last transaction.
+        } catch (ExecutionException e) {
+            // closed before its headers were absorbed.
+            Assert.assertTrue(e.getCause() instanceof RejectedExecutionException);
+        }
+    }
+
+    @Test
+    public void shouldMineBundles() throws Exception {
+        final String trunk = in.substring(0, 81);
+        final String branch = in.substring(81, 162);
+        final List<String> txs = Arrays.asList("A" + in.substring(1), "B" + in.substring(1), "C" + in.substring(1));
+
+        final List<String> mined = pow.submitBundle(txs, trunk, branch, 7).get(60, TimeUnit.SECONDS);
+        Assert.assertEquals(txs.size(), mined.size());
+
+        final IotaCurlMiner miner = new IotaCurlMiner();
+        String approvedTrunk = trunk, approvedBranch = branch;
+        for (int i = txs.size() - 1; i >= 0; i--) {
+            final String tx = txs.get(i).substring(0, 2511) + approvedTrunk + approvedBranch;
+            Assert.assertEquals(miner.doCurlPowSingleThread(tx, 7), mined.get(i));
+            approvedTrunk = IotaCurlHash.iotaCurlHash(mined.get(i), 2673);
+            approvedBranch = trunk;
+        }
+    }
+
+    @Test
+    public void shouldResumeFromCheckpoints() throws Exception {
+        final Path directory = Files.createTempDirectory("iota-curl-checkpoints");
+        final IotaCurlPowCheckpoints checkpoints = new IotaCurlPowCheckpoints(directory, 10, TimeUnit.MILLISECONDS);
+        final String digest = IotaCurlPowCheckpoints.digest(in.toCharArray());
+        final String expected = new IotaCurlMiner().doCurlPowSingleThread(in, 9);
+
+        try (final IotaCurlPowService service = new IotaCurlPowService(2, new IotaCurlMiner64(), null, checkpoints)) {
+            // A search interrupted at a lower minWeightMagnitude is resumed, past the lowest nonce.
+            checkpoints.save(digest, 8, 1L << 20);
+            final String resumed = service.submit(in, 9).get(60, TimeUnit.SECONDS);
+            Assert.assertNotEquals(expected, resumed);
+            Assert.assertTrue(IotaCurlHash.iotaCurlHash(resumed, 2673).endsWith("999"));
+            Assert.assertFalse(Files.exists(checkpoints.file(digest)));
+
+            // One at a higher minWeightMagnitude is not.
+            checkpoints.save(digest, 10, 1L << 20);
+            Assert.assertEquals(expected, service.submit(in, 9).get(60, TimeUnit.SECONDS));
+
+            // A cancelled search keeps its progress.
+            final CompletableFuture<String> mined = service.submit(in, 200);
+            while (checkpoints.load(digest, 200) == 0) {
+                Thread.sleep(10);
+            }
+            mined.cancel(true);
+            final long watermark = checkpoints.load(digest, 200);
+            Assert.assertTrue(watermark > 0);
+            Assert.assertEquals(0, watermark % IotaCurlMiner64.PARALLEL64);
+            Assert.assertEquals(0, checkpoints.load(digest, 199));
+        } finally {
+            Files.deleteIfExists(checkpoints.file(digest));
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    @Test
+    public void shouldLeaveNoTemporaryCheckpointOnFailure() throws Exception {
+        final Path directory = Files.createTempDirectory("iota-curl-checkpoints");
+        final IotaCurlPowCheckpoints checkpoints = new IotaCurlPowCheckpoints(directory, 10, TimeUnit.MILLISECONDS);
+        final String digest = IotaCurlPowCheckpoints.digest(in.toCharArray());
+        // A non empty directory in the way of the checkpoint cannot be replaced.
+        final Path blocker = Files.createFile(Files.createDirectory(checkpoints.file(digest)).resolve("blocker"));
+        try {
+            checkpoints.save(digest, 9, 1L << 20);
+            Assert.fail("The checkpoint should not have been written.");
+        } catch (IOException e) {
+            try (final Stream<Path> files = Files.list(directory)) {
+                Assert.assertEquals(1, files.count());
+            }
+        } finally {
+            Files.deleteIfExists(blocker);
+            Files.deleteIfExists(checkpoints.file(digest));
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    @Test
+    public void shouldPublishMetrics() throws Exception {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName name;
+        try (final IotaCurlPowService service = new IotaCurlPowService(2, new IotaCurlMiner64())) {
+            final IotaCurlPowServiceMXBean metrics = service.getMetrics();
+            name = ((IotaCurlPowMetrics) metrics).getObjectName();
+            Assert.assertEquals(2, server.getAttribute(name, "Threads"));
+
+            service.submit(in, 8).get(60, TimeUnit.SECONDS);
+            service.submit(in, 200).cancel(true);
+            try {
+                service.submit(in, 200, 50, TimeUnit.MILLISECONDS).get(60, TimeUnit.SECONDS);
+                Assert.fail();
+            } catch (ExecutionException e) {
+                Assert.assertTrue(e.getCause() instanceof TimeoutException);
+            }
+            for (int i = 0; i < 100 && metrics.getJobsTimedOut() == 0; i++) {
+                Thread.sleep(10);
+            }
+
+            Assert.assertEquals(3, metrics.getJobsSubmitted());
+            Assert.assertEquals(1, metrics.getJobsCompleted());
+            Assert.assertEquals(1, metrics.getJobsCancelled());
+            Assert.assertEquals(1, metrics.getJobsTimedOut());
+            Assert.assertEquals(0, metrics.getJobsFailed());
+            Assert.assertTrue(metrics.getNonces() > 0);
+            Assert.assertEquals(metrics.getNonces(), Arrays.stream(metrics.getNoncesPerWorker()).sum());
+            Assert.assertEquals(1, Arrays.stream(metrics.getTimeToSolutionHistogram(8)).sum());
+            Assert.assertTrue(metrics.getTimeToSolutionPercentileMillis(8, 99) > 0);
+            Assert.assertEquals(0, metrics.getTimeToSolutionPercentileMillis(9, 50));
+
+            final long hashes = (Long) server.getAttribute(new ObjectName("com.iota.curl:type=IotaCurlHash"), "Hashes");
+            IotaCurlHash.iotaCurlHash(in, 2673);
+            Assert.assertTrue((Long) server.getAttribute(new ObjectName("com.iota.curl:type=IotaCurlHash"), "Hashes") > hashes);
+        }
+        Assert.assertFalse(server.isRegistered(name));
+    }
+
+    @Test
+    public void shouldCountExhaustedRanges() throws Exception {
+        try (final IotaCurlPowService service = new IotaCurlPowService(2, new IotaCurlMiner64())) {
+            final IotaCurlPowContext ctx = new IotaCurlPowContext(in);
+            Assert.assertEquals(0L, (long) service.submitRange(ctx, 200, 0, 4 * IotaCurlMiner64.PARALLEL64).get(60, TimeUnit.SECONDS));
+            final IotaCurlPowServiceMXBean metrics = service.getMetrics();
+            // Counted by the worker right after completing the range.
+            for (int i = 0; i < 100 && metrics.getJobsExhausted() == 0; i++) {
+                Thread.sleep(10);
+            }
+            Assert.assertEquals(1, metrics.getJobsSubmitted());
+            Assert.assertEquals(1, metrics.getJobsExhausted());
+            Assert.assertEquals(0, metrics.getJobsCompleted());
+        }
+    }
+
+    @Test(expected = ExecutionException.class)
+    public void shouldRejectShortTransactions() throws Exception {
+        pow.submit("ABC", 5).get(60, TimeUnit.SECONDS);
+    }
+}
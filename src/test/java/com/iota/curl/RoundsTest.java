@@ -0,0 +1,111 @@
+package com.iota.curl;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Random;
+
+public class RoundsTest {
+
+    @Test
+    public void shouldChainTheRoundIndices() {
+        for (int d = 0; d < IotaCurlMiner.STATE_SIZE; d++) {
+            Assert.assertEquals(IotaCurlMiner.sourceA(d), IotaCurlRoundsGenerator.INDICES[d]);
+            Assert.assertEquals(IotaCurlMiner.sourceB(d), IotaCurlRoundsGenerator.INDICES[d + 1]);
+        }
+    }
+
+    @Test
+    public void shouldReadTheNonceOutsideTheFirstRoundCells() {
+        final boolean[] nonce = new boolean[IotaCurlMiner.STATE_SIZE];
+        for (int d = 0; d < IotaCurlMiner.STATE_SIZE; d++) {
+            nonce[d] = IotaCurlMiner.sourceA(d) < IotaCurlMiner.HASH_SIZE || IotaCurlMiner.sourceB(d) < IotaCurlMiner.HASH_SIZE;
+            Assert.assertEquals("cell " + d, d < 1 || d > IotaCurlMiner.HASH_SIZE, nonce[d]);
+        }
+        // No cell of the second round is left to precompute.
+        for (int d = 0; d < IotaCurlMiner.STATE_SIZE; d++) {
+            Assert.assertTrue("cell " + d, nonce[IotaCurlMiner.sourceA(d)] || nonce[IotaCurlMiner.sourceB(d)]);
+        }
+    }
+
+    @Test
+    public void shouldPowTransformFirstAsTheLoop() {
+        final Random random = new Random(23);
+        final int size = IotaCurlMiner.STATE_SIZE;
+        for (int n = 0; n < 4; n++) {
+            // The nonce on 32 different lanes, a midstate common to all of them.
+            final long[] state = new long[size];
+            for (int i = 0; i < size; i++) {
+                state[i] = (i < IotaCurlMiner.HASH_SIZE) ? lanes32(random) : IotaCurlMiner.MAP_EX[random.nextInt(3)];
+            }
+            final long[] firstRound = new long[IotaCurlMiner.HASH_SIZE + 1];
+            IotaCurlMiner.firstRound(state, firstRound);
+
+            final long[] expected = state.clone();
+            IotaCurlMiner.doPowTransform(expected, new long[size]);
+            final long[] first = state.clone();
+            IotaCurlMiner.doPowTransformFirst(first, new long[size], firstRound);
+            Assert.assertArrayEquals(expected, first);
+
+            // The same lanes on the planes of IotaCurlMiner64.
+            final long[] low = new long[size], high = new long[size];
+            for (int i = 0; i < size; i++) {
+                for (int lane = 0; lane < 32; lane++) {
+                    low[i] |= ((state[i] >>> (2 * lane)) & 1) << lane;
+                    high[i] |= ((state[i] >>> (2 * lane + 1)) & 1) << lane;
+                }
+            }
+            final long[] expectedLow = low.clone(), expectedHigh = high.clone();
+            IotaCurlMiner64.doPowTransform(expectedLow, expectedHigh, new long[size], new long[size]);
+            IotaCurlMiner64.doPowTransformFirst(low, high, new long[size], new long[size], firstRound);
+            // Only the 32 lanes of state are meaningful: the others hold the midstate and a 0 nonce.
+            for (int i = 0; i < size; i++) {
+                Assert.assertEquals(expectedLow[i] & 0xFFFFFFFFL, low[i] & 0xFFFFFFFFL);
+                Assert.assertEquals(expectedHigh[i] & 0xFFFFFFFFL, high[i] & 0xFFFFFFFFL);
+            }
+        }
+    }
+
+    // Any trit on each of the 32 2-bit lanes of a long.
+    private static long lanes32(final Random random) {
+        long word = 0;
+        for (int lane = 0; lane < 32; lane++) {
+            word |= IotaCurlMiner.MAP[random.nextInt(3)] << (2 * lane);
+        }
+        return word;
+    }
+
+    @Test
+    public void shouldBeGenerated() throws Exception {
+        // Run from the project directory, as Maven does.
+        Assert.assertEquals("IotaCurlRounds.java is stale, run IotaCurlRoundsGenerator.",
+                IotaCurlRoundsGenerator.generate(),
+                new String(Files.readAllBytes(IotaCurlRoundsGenerator.SOURCE), StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    public void shouldHashAsTheLoop() {
+        final Random random = new Random(17);
+        final IotaCurlHash ctx = new IotaCurlHash();
+        for (int n = 0; n < 8; n++) {
+            final int[] expected = randomTrits(random);
+            final int[] unrolled = expected.clone();
+            final int[] current = expected.clone();
+            IotaCurlHash.doHashTransformLoop(expected, new int[expected.length]);
+            ctx.doHashTransform(current);
+            IotaCurlHash.doHashTransformUnrolled(unrolled, new int[unrolled.length]);
+            Assert.assertArrayEquals(expected, current);
+            Assert.assertArrayEquals(expected, unrolled);
+        }
+    }
+
+    private static int[] randomTrits(final Random random) {
+        final int[] trits = new int[IotaCurlMiner.STATE_SIZE];
+        for (int i = 0; i < trits.length; i++) {
+            trits[i] = random.nextInt(3) - 1;
+        }
+        return trits;
+    }
+}
@@ -0,0 +1,187 @@
+package com.iota.curl;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class SigningTest {
+
+    private static int[] randomTrits(final Random random, final int length) {
+        final int[] trits = new int[length];
+        for (int i = 0; i < length; i++) {
+            trits[i] = random.nextInt(3) - 1;
+        }
+        return trits;
+    }
+
+    private static int[] referenceAddress(final int[] seed, final int index, final int security) {
+        return IotaCurlSigning.address(IotaCurlSigning.digests(IotaCurlSigning.key(IotaCurlSigning.subseed(seed, index), security)));
+    }
+
+    // Computed by an independent implementation of Curl and of the Curl-era signing of
+    // the IOTA libraries, checked against the transaction hash of HashTest.
+    private static final String KNOWN_SEED = "ABCDEFGHIJKLMNOPQRSTUVWXYZ9ABCDEFGHIJKLMNOPQRSTUVWXYZ9ABCDEFGHIJKLMNOPQRSTUVWXYZ9";
+    private static final String KNOWN_BUNDLE = "KNOWN9ANSWER9BUNDLE99999999999999999999999999999999999999999999999999999999999999";
+
+    // The addresses of KNOWN_SEED at the indices 0 and 2, by security.
+    private static final String[][] KNOWN_ADDRESSES = {
+        {"BPBICVABFKULZWGTUUXKPLMGXMRBUWERSEELHWZSDALDFUJPBHBFF9GVMFPHXVDNFDHHYQWXBDWDCQWOX",
+         "QZKQGFBLXSMOFWGNSTPVKHDFXRKSBPXMXFBDBYYZMDBEUKJRLNDCKWEGDAFBCDNXSKJP9XTT9TJBAULVW"},
+        {"GVYRJQUIPVNFUOQACJIWNDGASG9EEJJTAAFRZAHMOEZXNZDHNHVFBTPYYMPO9DMJCJPFQTPUPIXYMEFIE",
+         "RLDPAYRMZVQKMYRHZXJBJBUZEXMCRDMIPSYDMUWPABHSUEVHAAAQURMKBJVDALZWLIKPFNJPPTZIRYGYV"},
+        {"EVIOUILJB9MWTVVXREFJEGWCCASQVAGMKXSGCIICLMOJOI99AIGHHBJTSJEHFSIECHSPBDGGTPMROKNCO",
+         "KDMQRJVVYG9WXS9KKHUVBIERVSDATTWCQPSBQKGCZMFCVVOZGM9FOH9WRMPUGLDHPRYBCKJHQR9PLGKDQ"},
+    };
+
+    // The Curl hashes of the signatures of KNOWN_BUNDLE by the key of KNOWN_SEED at index 0, by security.
+    private static final String[] KNOWN_SIGNATURE_HASHES = {
+        "CBIFUT9UUUOESQWDFXXNHFYXNKRUAPJLPXJGGMPYMBSSURZZQGRCSDSXTJKCWS9CKWMJUVHPSAPDZFQOC",
+        "ZLINKEEQGSJDQLSGBKKFVSLOWVZHLODGWCVXOOSKIHDZIJTZOKBWFFWKWBOTKQZKZJMNYRKYJWBSE9ELB",
+        "WCXYTECODCHBAFOCES9UZPDPZ9BSIKPTHPGFGAZEJLHXZWZCKWKNQDULVOQBHWEFJDFFXZACR9UIVCNOY",
+    };
+
+    private static int[] trits(final String trytes) {
+        final int[] trits = new int[3 * trytes.length()];
+        IotaCurlUtils.iotaCurlTrytes2Trits(trits, 0, trytes.toCharArray(), trytes.length());
+        return trits;
+    }
+
+    private static String trytes(final int[] trits) {
+        final char[] trytes = new char[trits.length / 3];
+        IotaCurlUtils.iotaCurlTrits2Trytes(trytes, 0, trits, trits.length);
+        return new String(trytes);
+    }
+
+    @Test
+    public void shouldGenerateTheKnownAddresses() {
+        for (int security = 1; security <= IotaCurlSigning.MAX_SECURITY; security++) {
+            final String[] addresses = IotaCurlSigning.addresses(KNOWN_SEED, 0, 3, security);
+            Assert.assertEquals("security " + security, KNOWN_ADDRESSES[security - 1][0], addresses[0]);
+            Assert.assertEquals("security " + security, KNOWN_ADDRESSES[security - 1][1], addresses[2]);
+            Assert.assertEquals("security " + security, KNOWN_ADDRESSES[security - 1][1],
+                    trytes(referenceAddress(trits(KNOWN_SEED), 2, security)));
+        }
+    }
+
+    @Test
+    public void shouldSignAsTheKnownSignatures() {
+        final int[] bundle = trits(KNOWN_BUNDLE);
+        for (int security = 1; security <= IotaCurlSigning.MAX_SECURITY; security++) {
+            final int[] key = IotaCurlSigning.keys(new int[][] {trits(KNOWN_SEED)}, new int[] {0}, security)[0];
+            final int[] signature = IotaCurlSigning.signature(bundle, key);
+            final IotaCurlHash hash = new IotaCurlHash();
+            hash.absorb(signature, 0, signature.length);
+            final int[] signatureHash = new int[243];
+            hash.squeeze(signatureHash, 0, signatureHash.length);
+            Assert.assertEquals("security " + security, KNOWN_SIGNATURE_HASHES[security - 1], trytes(signatureHash));
+            Assert.assertEquals("security " + security, KNOWN_ADDRESSES[security - 1][0],
+                    trytes(IotaCurlSigning.signatureAddress(bundle, signature)));
+        }
+    }
+
+    @Test
+    public void shouldGenerateTheKeysOfTheReference() {
+        final Random random = new Random(25);
+        final int[][] seeds = new int[70][];
+        final int[] indices = new int[seeds.length];
+        for (int i = 0; i < seeds.length; i++) {
+            seeds[i] = randomTrits(random, 243);
+            indices[i] = random.nextInt(1000);
+        }
+        final int[][] keys = IotaCurlSigning.keys(seeds, indices, 2);
+        for (int i = 0; i < seeds.length; i++) {
+            Assert.assertArrayEquals("key " + i, IotaCurlSigning.key(IotaCurlSigning.subseed(seeds[i], indices[i]), 2), keys[i]);
+        }
+    }
+
+    @Test
+    public void shouldGenerateTheAddressesOfTheReference() {
+        final Random random = new Random(26);
+        for (int security = 1; security <= IotaCurlSigning.MAX_SECURITY; security++) {
+            final int[][] seeds = new int[3][];
+            final int[] indices = new int[seeds.length];
+            for (int i = 0; i < seeds.length; i++) {
+                seeds[i] = randomTrits(random, 243);
+                indices[i] = i;
+            }
+            final int[][] addresses = IotaCurlSigning.addresses(seeds, indices, security);
+            for (int i = 0; i < seeds.length; i++) {
+                Assert.assertArrayEquals("security " + security, referenceAddress(seeds[i], indices[i], security), addresses[i]);
+            }
+        }
+    }
+
+    @Test
+    public void shouldGenerateTheAddressesOfATrytesSeed() {
+        final String seed = "SEED99999999999999999999999999999999999999999999999999999999999999999999999999999";
+        final int[] trits = new int[243];
+        IotaCurlUtils.iotaCurlTrytes2Trits(trits, 0, seed.toCharArray(), 81);
+        final String[] addresses = IotaCurlSigning.addresses(seed, 7, 66, 1);
+        Assert.assertEquals(66, addresses.length);
+        for (final int i : new int[] {0, 63, 64, 65}) {
+            final char[] expected = new char[81];
+            IotaCurlUtils.iotaCurlTrits2Trytes(expected, 0, referenceAddress(trits, 7 + i, 1), 243);
+            Assert.assertEquals(new String(expected), addresses[i]);
+        }
+    }
+
+    @Test
+    public void shouldNormalizeTheBundle() {
+        final Random random = new Random(27);
+        for (int n = 0; n < 100; n++) {
+            final int[] normalized = IotaCurlSigning.normalizedBundle(randomTrits(random, 243));
+            for (int i = 0; i < 3; i++) {
+                int sum = 0;
+                for (int j = 0; j < 27; j++) {
+                    Assert.assertTrue(Math.abs(normalized[27 * i + j]) <= 13);
+                    sum += normalized[27 * i + j];
+                }
+                Assert.assertEquals(0, sum);
+            }
+        }
+    }
+
+    @Test
+    public void shouldSignAsTheReference() {
+        final Random random = new Random(28);
+        final int[] key = IotaCurlSigning.key(randomTrits(random, 243), 3);
+        final int[] bundle = randomTrits(random, 243);
+        final int[] normalized = IotaCurlSigning.normalizedBundle(bundle);
+        final int[] signature = IotaCurlSigning.signature(bundle, key);
+        final int[] digests = new int[3 * 243];
+        for (int i = 0; i < 3; i++) {
+            final int[] keyFragment = new int[IotaCurlSigning.FRAGMENT_LENGTH];
+            System.arraycopy(key, i * keyFragment.length, keyFragment, 0, keyFragment.length);
+            final int[] signatureFragment = IotaCurlSigning.signatureFragment(normalized, 27 * i, keyFragment);
+            for (int j = 0; j < signatureFragment.length; j++) {
+                Assert.assertEquals(signatureFragment[j], signature[i * signatureFragment.length + j]);
+            }
+            System.arraycopy(IotaCurlSigning.digest(normalized, 27 * i, signatureFragment), 0, digests, i * 243, 243);
+        }
+        Assert.assertArrayEquals(IotaCurlSigning.address(IotaCurlSigning.digests(key)), IotaCurlSigning.address(digests));
+    }
+
+    @Test
+    public void shouldVerifyOnlyTheBundleSigned() {
+        final Random random = new Random(29);
+        final int[] seed = randomTrits(random, 243);
+        final int[] key = IotaCurlSigning.keys(new int[][] {seed}, new int[] {4}, 2)[0];
+        final int[] address = IotaCurlSigning.addresses(new int[][] {seed}, new int[] {4}, 2)[0];
+        final int[] bundle = randomTrits(random, 243);
+        final int[] signature = IotaCurlSigning.signature(bundle, key);
+        Assert.assertArrayEquals(address, IotaCurlSigning.signatureAddress(bundle, signature));
+
+        // Normalizing moves the first trytes, so one changed there may be moved back.
+        final int[] normalized = IotaCurlSigning.normalizedBundle(bundle);
+        bundle[3 * 13] = (bundle[3 * 13] == 1) ? -1 : bundle[3 * 13] + 1;
+        Assert.assertFalse(Arrays.equals(normalized, IotaCurlSigning.normalizedBundle(bundle)));
+        Assert.assertFalse(Arrays.equals(address, IotaCurlSigning.signatureAddress(bundle, signature)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectAnUnknownSecurity() {
+        IotaCurlSigning.addresses(new int[][] {new int[243]}, new int[] {0}, 4);
+    }
+}
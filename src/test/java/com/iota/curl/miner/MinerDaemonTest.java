@@ -0,0 +1,66 @@
+package com.iota.curl.miner;
+
+import com.iota.curl.IotaCurlHash;
+import com.iota.curl.IotaCurlMiner;
+import com.iota.curl.IotaCurlMiner64;
+import com.iota.curl.IotaCurlPowService;
+import com.iota.curl.TestTransactions;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+public class MinerDaemonTest {
+
+    private static final String in = TestTransactions.IN;
+
+    private static final IotaCurlPowService pow = new IotaCurlPowService(1, new IotaCurlMiner64());
+
+    @AfterClass
+    public static void close() {
+        pow.close();
+    }
+
+    // The results by ID.
+    private static Map<String, String> run(final MinerDaemon daemon, final String jobs) throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        daemon.run(new ByteArrayInputStream(jobs.getBytes(StandardCharsets.US_ASCII)), out);
+        final Map<String, String> results = new HashMap<>();
+        for (final String line : new String(out.toByteArray(), StandardCharsets.US_ASCII).split("\n")) {
+            final int space = line.indexOf(' ');
+            Assert.assertNull(results.put(line.substring(0, space), line.substring(space + 1)));
+        }
+        return results;
+    }
+
+    @Test
+    public void shouldMineEveryLine() throws Exception {
+        final String other = "A" + in.substring(1);
+        final Map<String, String> results = run(new MinerDaemon(pow, 2, 0L),
+                "# comment\n" + in + " 7\n\nsecond " + other + " 5\nthird " + in + " 6\n" + in.substring(1) + "\n");
+
+        Assert.assertEquals(4, results.size());
+        final IotaCurlMiner miner = new IotaCurlMiner();
+        Assert.assertEquals(miner.doCurlPowSingleThread(in, 7), results.get("2"));
+        Assert.assertEquals(miner.doCurlPowSingleThread(other, 5), results.get("second"));
+        Assert.assertEquals(miner.doCurlPowSingleThread(in, 6), results.get("third"));
+        Assert.assertTrue(results.get("6").startsWith("ERROR "));
+    }
+
+    @Test
+    public void shouldReportTimeouts() throws Exception {
+        final Map<String, String> results = run(new MinerDaemon(pow, 4, 50L), "slow " + in + " 200\nfast " + in + " 3\n");
+        Assert.assertEquals("ERROR Timeout.", results.get("slow"));
+        Assert.assertTrue(IotaCurlHash.iotaCurlVerify(results.get("fast"), 3));
+    }
+
+    @Test
+    public void shouldWarmUp() {
+        Assert.assertTrue(new MinerDaemon(pow, 1, 0L).warmUp(100L) > 0);
+    }
+}
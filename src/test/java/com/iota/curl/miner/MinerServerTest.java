@@ -0,0 +1,163 @@
+package com.iota.curl.miner;
+
+import com.iota.curl.IotaCurlHash;
+import com.iota.curl.IotaCurlMiner64;
+import com.iota.curl.IotaCurlPowService;
+import com.iota.curl.TestTransactions;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class MinerServerTest {
+
+    private static final String in = TestTransactions.IN;
+
+    private static final String trunk = "MZWEZVBGFKSBSHDXAVGAJEUHCSKSRJSHCGRGGOKIPWMPTKSIHRFBEBWWYOSUGME9THEKAFFOORCRADGAK";
+    private static final String branch = "PUPOYVD99A99999999C99999999MZWEZVBGFKSBSHDXAVGAJEUHCSKSRJSHCGRGGOKIPWMPTKSIHRFBEB";
+
+    private static final IotaCurlPowService pow = new IotaCurlPowService(1, new IotaCurlMiner64());
+
+    @AfterClass
+    public static void close() {
+        pow.close();
+    }
+
+    private static String attach(final int minWeightMagnitude, final String... trytes) {
+        final StringBuilder sb = new StringBuilder("{\"command\": \"attachToTangle\", \"trunkTransaction\": \"").append(trunk)
+                .append("\", \"branchTransaction\": \"").append(branch)
+                .append("\", \"minWeightMagnitude\": ").append(minWeightMagnitude).append(", \"trytes\": [");
+        for (int i = 0; i < trytes.length; i++) {
+            sb.append(i == 0 ? "\"" : ", \"").append(trytes[i]).append('"');
+        }
+        return sb.append("]}").toString();
+    }
+
+    // Returns the status code followed by the body.
+    private static String[] post(final MinerServer server, final String json) throws IOException {
+        final InetSocketAddress address = server.getAddress();
+        final HttpURLConnection connection = (HttpURLConnection) new URL("http", address.getHostString(), address.getPort(), "/").openConnection();
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        try (final OutputStream out = connection.getOutputStream()) {
+            out.write(json.getBytes(StandardCharsets.UTF_8));
+        }
+        final int status = connection.getResponseCode();
+        final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try (final InputStream in = (status < 400) ? connection.getInputStream() : connection.getErrorStream()) {
+            final byte[] buffer = new byte[8192];
+            for (int n; (n = in.read(buffer)) > 0; ) {
+                body.write(buffer, 0, n);
+            }
+        }
+        return new String[] { String.valueOf(status), new String(body.toByteArray(), StandardCharsets.UTF_8) };
+    }
+
+    private static MinerServer start(final int maxConcurrent, final int maxQueued) throws IOException {
+        final MinerServer server = new MinerServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+                pow, maxConcurrent, maxQueued, 0L);
+        server.start();
+        return server;
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldAttachToTangle() throws Exception {
+        try (final MinerServer server = start(1, 4)) {
+            final String[] response = post(server, attach(5, in, in));
+            Assert.assertEquals("200", response[0]);
+
+            final List<Object> mined = (List<Object>) MinerServer.Json.parseObject(response[1]).get("trytes");
+            Assert.assertEquals(2, mined.size());
+
+            // As in IRI, the first transaction approves trunk and branch, the next one the first one and trunk.
+            final String first = (String) mined.get(0);
+            final String second = (String) mined.get(1);
+            Assert.assertEquals(trunk + branch, first.substring(2511, 2673));
+            Assert.assertEquals(IotaCurlHash.iotaCurlHash(first, 2673) + trunk, second.substring(2511, 2673));
+
+            final List<String> expected = pow.submitBundle(Arrays.asList(in, in), trunk, branch, 5).get(60, TimeUnit.SECONDS);
+            Assert.assertEquals(Arrays.asList(second, first), expected);
+        }
+    }
+
+    @Test
+    public void shouldRejectInvalidRequests() throws Exception {
+        try (final MinerServer server = start(1, 0)) {
+            Assert.assertEquals("400", post(server, "{\"command\": \"getNodeInfo\"}")[0]);
+            Assert.assertEquals("400", post(server, "{\"command\": ")[0]);
+            Assert.assertEquals("400", post(server, attach(5, in.substring(1)))[0]);
+            Assert.assertEquals("400", post(server, attach(0, in))[0]);
+        }
+    }
+
+    @Test
+    public void shouldRejectOnOverloadAndInterrupt() throws Exception {
+        try (final MinerServer server = start(1, 0)) {
+            // Practically never found.
+            final CompletableFuture<String[]> busy = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return post(server, attach(60, in));
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+
+            while (server.getRunning() == 0) {
+                Thread.sleep(10);
+            }
+            final String[] rejected = post(server, attach(1, in));
+            Assert.assertEquals("503", rejected[0]);
+            final Map<String, Object> error = MinerServer.Json.parseObject(rejected[1]);
+            Assert.assertTrue(error.containsKey("error"));
+
+            Assert.assertEquals("200", post(server, "{\"command\": \"interruptAttachingToTangle\"}")[0]);
+            Assert.assertEquals("400", busy.get(60, TimeUnit.SECONDS)[0]);
+
+            // Admitted again once the job is over.
+            Assert.assertEquals("200", post(server, attach(1, in))[0]);
+        }
+    }
+
+    @Test
+    public void shouldInterruptTheQueuedRequests() throws Exception {
+        try (final MinerServer server = start(1, 2)) {
+            // Practically never found.
+            final List<CompletableFuture<String[]>> attached = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                attached.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return post(server, attach(60, in));
+                    } catch (IOException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }));
+            }
+            while (server.getRunning() + server.getQueued() < 3) {
+                Thread.sleep(10);
+            }
+
+            Assert.assertEquals("200", post(server, "{\"command\": \"interruptAttachingToTangle\"}")[0]);
+            for (final CompletableFuture<String[]> response : attached) {
+                Assert.assertEquals("400", response.get(60, TimeUnit.SECONDS)[0]);
+            }
+            Assert.assertEquals(0, server.getRunning());
+            Assert.assertEquals(0, server.getQueued());
+        }
+    }
+}